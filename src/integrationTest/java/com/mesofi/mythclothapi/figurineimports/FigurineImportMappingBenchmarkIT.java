@@ -0,0 +1,142 @@
+package com.mesofi.mythclothapi.figurineimports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
+import com.mesofi.mythclothapi.catalogs.CatalogService;
+import com.mesofi.mythclothapi.catalogs.model.CatalogContext;
+import com.mesofi.mythclothapi.common.Descriptive;
+import com.mesofi.mythclothapi.figurines.mapper.AnniversaryNumberType;
+import com.mesofi.mythclothapi.figurines.mapper.FigurineCsv;
+import com.mesofi.mythclothapi.figurines.mapper.FigurineMapper;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+
+/**
+ * Measures the throughput of mapping {@value #ROWS} CSV rows into figurines
+ * against the seeded catalog, and compares the indexed reference resolution of
+ * {@link CatalogContext} against scanning its lists, as the mapper did before.
+ *
+ * <p>
+ * This benchmark is excluded from the regular integration test run. Execute it
+ * with {@code ./gradlew benchmark} and read the figures from the test log.
+ */
+@Tag("benchmark")
+@ActiveProfiles("integration")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class FigurineImportMappingBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(FigurineImportMappingBenchmarkIT.class);
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private FigurineMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private CatalogContext context;
+    private List<FigurineCsv> rows;
+
+    @BeforeAll
+    void seedCatalog() {
+        new ResourceDatabasePopulator(new ClassPathResource("seed-catalogs.sql"))
+                .execute(jdbcTemplate.getDataSource());
+        context = catalogService.loadCatalogContext();
+
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            FigurineCsv csv = new FigurineCsv();
+            csv.setBaseName("Benchmark " + i);
+            csv.setPriceJPY(10_000.0 + i);
+            csv.setPriceMXN(i % 3 == 0 ? 2_000.0 : null);
+            csv.setDistributionString(pick(context.distributions(), i).getDescription());
+            csv.setLineupString(pick(context.lineUps(), i).getDescription());
+            csv.setSeriesString(pick(context.series(), i).getDescription());
+            csv.setGroupString(pick(context.groups(), i).getDescription());
+            Anniversary anniversary = pick(context.anniversaries(), i);
+            csv.setAnniversaryNumberType(i % 4 == 0
+                    ? new AnniversaryNumberType(anniversary.getType(), anniversary.getYear())
+                    : null);
+            rows.add(csv);
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup-figurine-it.sql"))
+                .execute(jdbcTemplate.getDataSource());
+    }
+
+    @Test
+    void toFigurine_shouldResolveEveryReference_whenMappingImportRows() {
+        List<Figurine> figurines = rows.stream().map(csv -> mapper.toFigurine(csv, context)).toList();
+        assertThat(figurines).allSatisfy(figurine -> {
+            assertThat(figurine.getLineup()).isNotNull();
+            assertThat(figurine.getSeries()).isNotNull();
+            assertThat(figurine.getGroup()).isNotNull();
+            assertThat(figurine.getDistributors()).isNotEmpty();
+        });
+
+        long mapping = measure(csv -> mapper.toFigurine(csv, context));
+        long indexed = measure(csv -> context.findLineUp(csv.getLineupString())
+                .flatMap(lineUp -> context.findSeries(csv.getSeriesString()))
+                .flatMap(series -> context.findGroup(csv.getGroupString()))
+                .flatMap(group -> context.findDistribution(csv.getDistributionString())).orElseThrow());
+        long scanned = measure(csv -> scan(context.lineUps(), csv.getLineupString())
+                + scan(context.series(), csv.getSeriesString()) + scan(context.groups(), csv.getGroupString())
+                + scan(context.distributions(), csv.getDistributionString()));
+
+        log.info("Import mapping of {} rows: {} rows/s; reference resolution: indexed {} rows/s, list scan {} rows/s",
+                ROWS, mapping, indexed, scanned);
+    }
+
+    /**
+     * Measures the number of rows processed per second by an operation.
+     */
+    private long measure(Function<FigurineCsv, Object> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            rows.forEach(operation::apply);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            rows.forEach(operation::apply);
+        }
+        long nanos = System.nanoTime() - start;
+        return (long) ROWS * MEASURED_ITERATIONS * 1_000_000_000L / Math.max(nanos, 1);
+    }
+
+    private static int scan(List<Descriptive> entries, String description) {
+        return entries.stream().filter(entry -> Objects.equals(description, entry.getDescription())).findFirst()
+                .map(entry -> 1).orElseThrow();
+    }
+
+    private static <T> T pick(List<T> entries, int i) {
+        return entries.get(i % entries.size());
+    }
+}
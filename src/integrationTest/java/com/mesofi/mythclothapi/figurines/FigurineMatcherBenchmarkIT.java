@@ -0,0 +1,136 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mesofi.mythclothapi.figurines.model.CachedFigurine;
+
+/**
+ * Compares the candidate-indexed {@link FigurineMatcher} against scoring every
+ * figurine of a line-up of {@value #LINEUP_SIZE} figurines, for
+ * {@value #LISTINGS} store listing names with typos, extra words or unrelated
+ * content.
+ *
+ * <p>
+ * This benchmark is excluded from the regular integration test run. Execute it
+ * with {@code ./gradlew benchmark} and read the timings from the test log.
+ */
+@Tag("benchmark")
+public class FigurineMatcherBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(FigurineMatcherBenchmarkIT.class);
+
+    private static final int LINEUP_SIZE = 600;
+    private static final int LISTINGS = 2_000;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final double THRESHOLD = 0.7;
+
+    private static final List<String> CONSTELLATIONS = List.of("Pegasus", "Dragon", "Cygnus", "Andromeda", "Phoenix",
+            "Aries", "Taurus", "Gemini", "Cancer", "Leo", "Virgo", "Libra", "Scorpio", "Sagittarius", "Capricorn",
+            "Aquarius", "Pisces", "Wyvern", "Garuda", "Griffon");
+    private static final List<String> NAMES = List.of("Seiya", "Shiryu", "Hyoga", "Shun", "Ikki", "Mu", "Aldebaran",
+            "Saga", "Deathmask", "Aiolia", "Shaka", "Dohko", "Milo", "Aiolos", "Shura", "Camus", "Aphrodite",
+            "Rhadamanthys", "Aiacos", "Minos");
+    private static final List<String> EDITIONS = List.of("", " ~Final Bronze Cloth~", " (God Cloth)",
+            " ~Original Color Edition~", " <Revival>", " ~Legend of Sanctuary~", " -Soul of Gold-",
+            " 20th Anniversary", " Early Bronze Cloth", " (Manga Version)");
+
+    @Test
+    void findBestMatch_shouldMatchBruteForce_whenMatchingStoreListings() {
+        Random random = new Random(7);
+        List<CachedFigurine> lineUp = lineUp(random);
+        List<String> listings = listings(lineUp, random);
+        FigurineMatcher matcher = new FigurineMatcher(lineUp);
+
+        List<Optional<CachedFigurine>> indexed = listings.stream()
+                .map(listing -> matcher.findBestMatch(listing, THRESHOLD)).toList();
+        List<Optional<CachedFigurine>> bruteForce = listings.stream().map(listing -> bruteForce(lineUp, listing))
+                .toList();
+        assertThat(indexed).isEqualTo(bruteForce);
+
+        long indexedNanos = measure(listings, listing -> matcher.findBestMatch(listing, THRESHOLD));
+        long bruteForceNanos = measure(listings, listing -> bruteForce(lineUp, listing));
+        long matched = indexed.stream().filter(Optional::isPresent).count();
+
+        log.info("Matching {} listings ({} matched) against {} figurines: indexed {} µs/op, brute force {} µs/op",
+                LISTINGS, matched, LINEUP_SIZE, indexedNanos / 1_000, bruteForceNanos / 1_000);
+    }
+
+    private long measure(List<String> listings, Function<String, Optional<CachedFigurine>> matcher) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            listings.forEach(matcher::apply);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            listings.forEach(matcher::apply);
+        }
+        return (System.nanoTime() - start) / ((long) MEASURED_ITERATIONS * listings.size());
+    }
+
+    /**
+     * Scores every figurine, as {@code FigurineService} did before the matcher.
+     */
+    private static Optional<CachedFigurine> bruteForce(List<CachedFigurine> lineUp, String listing) {
+        double bestSimilarity = THRESHOLD;
+        CachedFigurine best = null;
+        for (CachedFigurine figurine : lineUp) {
+            double similarity = FigurineSimilarityUtils.calculateSimilarity(figurine.displayName(), listing);
+            if (similarity >= bestSimilarity) {
+                bestSimilarity = similarity;
+                best = figurine;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static List<CachedFigurine> lineUp(Random random) {
+        List<CachedFigurine> lineUp = new ArrayList<>(LINEUP_SIZE);
+        for (int i = 0; i < LINEUP_SIZE; i++) {
+            String name = pick(CONSTELLATIONS, random) + " " + pick(NAMES, random) + pick(EDITIONS, random);
+            lineUp.add(new CachedFigurine((long) i + 1, name));
+        }
+        return lineUp;
+    }
+
+    private static List<String> listings(List<CachedFigurine> lineUp, Random random) {
+        List<String> listings = new ArrayList<>(LISTINGS);
+        for (int i = 0; i < LISTINGS; i++) {
+            String name = pick(lineUp, random).displayName();
+            listings.add(switch (i % 4) {
+                case 0 -> typos(name, random, 2);
+                case 1 -> typos(name, random, 6);
+                case 2 -> name + " Myth Cloth";
+                default -> pick(NAMES, random) + " " + pick(EDITIONS, random).strip() + " figure";
+            });
+        }
+        return listings;
+    }
+
+    private static String typos(String name, Random random, int edits) {
+        StringBuilder builder = new StringBuilder(name);
+        for (int i = 0; i < edits && builder.length() > 1; i++) {
+            int position = random.nextInt(builder.length());
+            switch (random.nextInt(3)) {
+                case 0 -> builder.deleteCharAt(position);
+                case 1 -> builder.insert(position, (char) ('a' + random.nextInt(26)));
+                default -> builder.setCharAt(position, (char) ('a' + random.nextInt(26)));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static <T> T pick(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
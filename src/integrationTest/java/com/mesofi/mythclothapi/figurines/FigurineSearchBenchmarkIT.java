@@ -0,0 +1,243 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mesofi.mythclothapi.figurinedistributions.model.CurrencyCode;
+import com.mesofi.mythclothapi.figurines.mapper.FigurineMapper;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.figurines.repository.CollectablePageImpl;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepositoryImpl;
+
+/**
+ * Compares the single round-trip paginated search against the three-query
+ * search, the in-memory bitmap index against the database, and the projection
+ * queries of the summary endpoints against loading entities, on a catalog of
+ * {@value #CATALOG_SIZE} figurines.
+ *
+ * <p>
+ * This benchmark is excluded from the regular integration test run. Execute it
+ * with {@code ./gradlew benchmark} and read the timings from the test log.
+ */
+@Tag("benchmark")
+@ActiveProfiles("integration")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class FigurineSearchBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(FigurineSearchBenchmarkIT.class);
+
+    private static final int CATALOG_SIZE = 100_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 100;
+    private static final int FULL_SCAN_ITERATIONS = 5;
+
+    private static final ReleaseStatus[] STATUSES = ReleaseStatus.values();
+
+    @Autowired
+    private FigurineRepositoryImpl repository;
+
+    @Autowired
+    private FigurineRepository figurineRepository;
+
+    @Autowired
+    private FigurineBitmapIndex bitmapIndex;
+
+    @Autowired
+    private FigurineMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seedCatalog() {
+        new ResourceDatabasePopulator(new ClassPathResource("seed-catalogs.sql"))
+                .execute(jdbcTemplate.getDataSource());
+        jdbcTemplate.update("INSERT INTO distributors (name, country, creation_date, update_date) "
+                + "VALUES ('BANDAI', 'JP', NOW(), NOW())");
+
+        Long lineUpId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM lineups", Long.class);
+        Long seriesId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM series", Long.class);
+        Long distributorId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM distributors", Long.class);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        LocalDate baseDate = LocalDate.of(2003, 1, 1);
+
+        List<Object[]> figurines = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            figurines.add(new Object[]{"benchmark-" + i, "benchmark " + i, "Benchmark " + i, lineUpId, seriesId,
+                    STATUSES[i % STATUSES.length].name(), i % 2 == 0, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO figurines (legacy_name, normalized_name, display_name, lineup_id, series_id,
+                    current_release_status, is_oce, creation_date, update_date)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, figurines);
+
+        List<Object[]> distributors = new ArrayList<>(CATALOG_SIZE);
+        jdbcTemplate.query("SELECT id FROM figurines", rs -> {
+            long id = rs.getLong(1);
+            distributors.add(new Object[]{id, distributorId, CurrencyCode.JPY.ordinal(),
+                    Date.valueOf(baseDate.plusDays(id % 8_000)), now, now});
+        });
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO figurine_distributor (figurine_id, distributor_id, currency, release_date,
+                    release_date_confirmed, creation_date, update_date)
+                VALUES (?, ?, ?, ?, TRUE, ?, ?)
+                """, distributors);
+
+        transactionTemplate.executeWithoutResult(status -> figurineRepository.refreshFirstDistributorColumns());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup-figurine-it.sql"))
+                .execute(jdbcTemplate.getDataSource());
+    }
+
+    @Test
+    void findPaginated_shouldReturnSameCounts_whenComparingBothModes() {
+        FigurineFilter filter = oceFilter();
+
+        CollectablePageImpl<?> windowed = search(true, filter, 3);
+        CollectablePageImpl<?> counted = search(false, filter, 3);
+
+        assertThat(windowed.getTotalElements()).isEqualTo(counted.getTotalElements()).isEqualTo(CATALOG_SIZE / 2);
+        assertThat(windowed.getTotalCollectables()).isEqualTo(counted.getTotalCollectables());
+        assertThat(windowed.getContent()).hasSameSizeAs(counted.getContent());
+
+        long windowedNanos = measure(true, filter);
+        long countedNanos = measure(false, filter);
+
+        log.info("Paginated search over {} figurines: single statement {} µs/op, three statements {} µs/op",
+                CATALOG_SIZE, windowedNanos / 1_000, countedNanos / 1_000);
+    }
+
+    @Test
+    void bitmapIndex_shouldMatchDatabase_whenFilteringWholeCatalog() {
+        FigurineFilter filter = oceFilter();
+        bitmapIndex.rebuild();
+
+        FigurineIdPage indexed = bitmapIndex.search(filter, 3, 20).orElseThrow();
+        CollectablePageImpl<?> counted = search(true, filter, 3);
+
+        assertThat(indexed.totalElements()).isEqualTo(counted.getTotalElements());
+        assertThat(indexed.totalCollectables()).isEqualTo(counted.getTotalCollectables());
+        assertThat(indexed.ids()).hasSameSizeAs(counted.getContent());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            bitmapIndex.search(filter, i % 10, 20);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            bitmapIndex.search(filter, i % 10, 20);
+        }
+        long indexNanos = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+
+        log.info("Filtered search over {} figurines: bitmap index {} µs/op, database {} µs/op", CATALOG_SIZE,
+                indexNanos / 1_000, measure(true, filter) / 1_000);
+    }
+
+    @Test
+    void collectableProjections_shouldMatchEntities_whenReadingWholeCatalog() {
+        FigurineFilter filter = oceFilter();
+        Supplier<List<Figurine>> collectableEntities = () -> repository.findAll(filter).stream()
+                .filter(figurine -> figurine.getCurrentReleaseStatus() == ReleaseStatus.ANNOUNCED
+                        || figurine.getCurrentReleaseStatus() == ReleaseStatus.RELEASED)
+                .toList();
+
+        List<Long> entityIds = transactionTemplate
+                .execute(status -> collectableEntities.get().stream().map(Figurine::getId).toList());
+        assertThat(transactionTemplate.execute(status -> repository.findCollectableIds(filter)))
+                .containsExactlyElementsOf(entityIds);
+
+        Cost entitySummaries = measureFullScan(
+                () -> collectableEntities.get().stream().map(mapper::toFigurineSummaryResp).toList());
+        Cost projectedSummaries = measureFullScan(() -> repository.findCollectableSummaries(filter).stream()
+                .map(mapper::toFigurineSummaryResp).toList());
+        Cost entityIdScan = measureFullScan(
+                () -> collectableEntities.get().stream().map(Figurine::getId).toList());
+        Cost projectedIdScan = measureFullScan(() -> repository.findCollectableIds(filter));
+
+        log.info("Summaries of {} collectable figurines: entities {} ms/op {} MB/op, projection {} ms/op {} MB/op",
+                entityIds.size(), entitySummaries.millis(), entitySummaries.megabytes(), projectedSummaries.millis(),
+                projectedSummaries.megabytes());
+        log.info("Selectable ids of {} collectable figurines: entities {} ms/op {} MB/op, projection {} ms/op {} MB/op",
+                entityIds.size(), entityIdScan.millis(), entityIdScan.megabytes(), projectedIdScan.millis(),
+                projectedIdScan.megabytes());
+    }
+
+    /**
+     * Measures the average latency and the bytes allocated by the current thread
+     * for an operation reading the whole catalog.
+     */
+    private Cost measureFullScan(Supplier<List<?>> operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        transactionTemplate.execute(status -> operation.get());
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < FULL_SCAN_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> operation.get());
+        }
+        long nanos = (System.nanoTime() - start) / FULL_SCAN_ITERATIONS;
+        long bytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / FULL_SCAN_ITERATIONS;
+
+        return new Cost(nanos / 1_000_000, bytes / (1024 * 1024));
+    }
+
+    private record Cost(long millis, long megabytes) {
+    }
+
+    private long measure(boolean windowCounts, FigurineFilter filter) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            search(windowCounts, filter, i % 10);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            search(windowCounts, filter, i % 10);
+        }
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    private CollectablePageImpl<?> search(boolean windowCounts, FigurineFilter filter, int page) {
+        ReflectionTestUtils.setField(repository, "windowCounts", windowCounts);
+        return transactionTemplate.execute(status -> repository.findPaginated(filter, PageRequest.of(page, 20)));
+    }
+
+    private FigurineFilter oceFilter() {
+        return new FigurineFilter(null, null, null, null, null, null, null, null, true, null, null, null, null, null,
+                null, null, null, null, null);
+    }
+}
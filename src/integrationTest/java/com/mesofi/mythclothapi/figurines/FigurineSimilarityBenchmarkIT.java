@@ -0,0 +1,129 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleBiFunction;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the similarity kernel of {@link FigurineSimilarityUtils}, unbounded
+ * and bounded by the matching threshold, against the commons-text
+ * {@link LevenshteinDistance} it replaced, on a match-heavy workload of names
+ * with a few typos and a miss-heavy workload of unrelated names.
+ *
+ * <p>
+ * The time and the bytes allocated by the current thread are reported per
+ * comparison. This benchmark is excluded from the regular integration test run.
+ * Execute it with {@code ./gradlew benchmark} and read the figures from the test
+ * log.
+ */
+@Tag("benchmark")
+public class FigurineSimilarityBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(FigurineSimilarityBenchmarkIT.class);
+
+    private static final int PAIRS = 20_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+    private static final double THRESHOLD = 0.7;
+
+    private static final LevenshteinDistance LEVENSHTEIN = new LevenshteinDistance();
+
+    private static final List<String> NAMES = List.of("Pegasus Seiya", "Dragon Shiryu ~Final Bronze Cloth~",
+            "Cygnus Hyoga (God Cloth)", "Andromeda Shun ~Original Color Edition~", "Phoenix Ikki <Revival>",
+            "Gemini Saga ~Legend of Sanctuary~", "Leo Aiolia -Soul of Gold-", "Virgo Shaka 20th Anniversary",
+            "Sagittarius Aiolos Early Bronze Cloth", "Wyvern Rhadamanthys (Manga Version)");
+
+    @Test
+    void calculateSimilarity_shouldMatchCommonsText_whenMatchingOrMissing() {
+        Random random = new Random(5);
+        List<String[]> matching = pairs(random, true);
+        List<String[]> missing = pairs(random, false);
+
+        for (List<String[]> pairs : List.of(matching, missing)) {
+            for (String[] pair : pairs) {
+                double expected = commonsText(pair[0], pair[1]);
+                assertThat(FigurineSimilarityUtils.calculateSimilarity(pair[0], pair[1])).isEqualTo(expected);
+                assertThat(FigurineSimilarityUtils.calculateSimilarity(pair[0], pair[1], THRESHOLD))
+                        .isEqualTo(expected >= THRESHOLD ? expected : FigurineSimilarityUtils.BELOW_MINIMUM);
+            }
+        }
+
+        for (String workload : List.of("match-heavy", "miss-heavy")) {
+            List<String[]> pairs = workload.equals("match-heavy") ? matching : missing;
+            Cost commonsText = measure(pairs, FigurineSimilarityBenchmarkIT::commonsText);
+            Cost unbounded = measure(pairs, FigurineSimilarityUtils::calculateSimilarity);
+            Cost bounded = measure(pairs,
+                    (left, right) -> FigurineSimilarityUtils.calculateSimilarity(left, right, THRESHOLD));
+
+            log.info("Similarity of {} {} pairs: commons-text {} ns/op {} B/op, kernel {} ns/op {} B/op, "
+                    + "bounded kernel {} ns/op {} B/op", PAIRS, workload, commonsText.nanos(), commonsText.bytes(),
+                    unbounded.nanos(), unbounded.bytes(), bounded.nanos(), bounded.bytes());
+        }
+    }
+
+    /**
+     * Measures the average time and the bytes allocated by the current thread per
+     * comparison.
+     */
+    private Cost measure(List<String[]> pairs, ToDoubleBiFunction<String, String> similarity) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        double sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (String[] pair : pairs) {
+                sink += similarity.applyAsDouble(pair[0], pair[1]);
+            }
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            for (String[] pair : pairs) {
+                sink += similarity.applyAsDouble(pair[0], pair[1]);
+            }
+        }
+        long operations = (long) MEASURED_ITERATIONS * pairs.size();
+        long nanos = (System.nanoTime() - start) / operations;
+        long bytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / operations;
+
+        assertThat(sink).isNotNaN();
+        return new Cost(nanos, bytes);
+    }
+
+    private record Cost(long nanos, long bytes) {
+    }
+
+    private static double commonsText(String left, String right) {
+        int maxLength = Math.max(left.length(), right.length());
+        return 1.0 - ((double) LEVENSHTEIN.apply(left, right) / maxLength);
+    }
+
+    private static List<String[]> pairs(Random random, boolean matching) {
+        List<String[]> pairs = new ArrayList<>(PAIRS);
+        for (int i = 0; i < PAIRS; i++) {
+            String name = NAMES.get(random.nextInt(NAMES.size()));
+            String other = matching ? typos(name, random, 1 + random.nextInt(3))
+                    : NAMES.get(random.nextInt(NAMES.size()));
+            pairs.add(new String[]{name, other});
+        }
+        return pairs;
+    }
+
+    private static String typos(String name, Random random, int edits) {
+        StringBuilder builder = new StringBuilder(name);
+        for (int i = 0; i < edits; i++) {
+            builder.setCharAt(random.nextInt(builder.length()), (char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+}
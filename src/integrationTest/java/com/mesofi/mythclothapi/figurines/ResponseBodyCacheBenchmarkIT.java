@@ -0,0 +1,185 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.config.ResponseBodyCacheFilter;
+import com.mesofi.mythclothapi.config.ResponseCacheProperties;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+
+/**
+ * Compares serving the figurine summaries of a catalog of
+ * {@value #CATALOG_SIZE} figurines from the service cache, which serializes the
+ * cached object graph on every request, against replaying the serialized bytes
+ * from the response cache, with and without compression.
+ *
+ * <p>
+ * The CPU time and the bytes allocated by the request thread are reported per
+ * request. This benchmark is excluded from the regular integration test run.
+ * Execute it with {@code ./gradlew benchmark} and read the figures from the test
+ * log.
+ */
+@Tag("benchmark")
+@ActiveProfiles("integration")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ResponseBodyCacheBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseBodyCacheBenchmarkIT.class);
+
+    private static final int CATALOG_SIZE = 10_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+    private static final String SUMMARY_PATH = "/figurines/summary";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ResponseBodyCacheFilter responseBodyCacheFilter;
+
+    @Autowired
+    private ResponseCacheProperties properties;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    void seedCatalog() {
+        new ResourceDatabasePopulator(new ClassPathResource("seed-catalogs.sql"))
+                .execute(jdbcTemplate.getDataSource());
+
+        Long lineUpId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM lineups", Long.class);
+        Long seriesId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM series", Long.class);
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> figurines = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            ReleaseStatus status = i % 2 == 0 ? ReleaseStatus.RELEASED : ReleaseStatus.ANNOUNCED;
+            figurines.add(new Object[]{"benchmark-" + i, "benchmark " + i, "Benchmark " + i, lineUpId, seriesId,
+                    status.name(), i % 3 == 0, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO figurines (legacy_name, normalized_name, display_name, lineup_id, series_id,
+                    current_release_status, is_oce, creation_date, update_date)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, figurines);
+
+        // entries cached before seeding must not be replayed
+        catalogVersion.bump();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(responseBodyCacheFilter).build();
+    }
+
+    @AfterEach
+    void restoreProperties() {
+        properties.setEnabled(false);
+        properties.setCompress(true);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup-figurine-it.sql"))
+                .execute(jdbcTemplate.getDataSource());
+    }
+
+    @Test
+    void summaries_shouldReplaySameBody_whenServedFromResponseCache() throws Exception {
+        properties.setEnabled(false);
+        String serialized = summaries(false).getResponse().getContentAsString();
+        Cost serializing = measure(false);
+
+        properties.setEnabled(true);
+        properties.setCompress(false);
+        catalogVersion.bump();
+        summaries(false);
+        assertThat(summaries(false).getResponse().getContentAsString()).isEqualTo(serialized);
+        Cost plain = measure(false);
+
+        properties.setCompress(true);
+        catalogVersion.bump();
+        summaries(true);
+        MvcResult compressed = summaries(true);
+        assertThat(compressed.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(compressed.getResponse().getContentAsByteArray())).isEqualTo(serialized);
+        Cost gzip = measure(true);
+
+        log.info("Summaries of {} figurines ({} KB, {} KB gzip): serialized {} µs/op {} KB/op, "
+                + "cached {} µs/op {} KB/op, cached gzip {} µs/op {} KB/op", CATALOG_SIZE,
+                serialized.length() / 1024, compressed.getResponse().getContentAsByteArray().length / 1024,
+                serializing.micros(), serializing.kilobytes(), plain.micros(), plain.kilobytes(), gzip.micros(),
+                gzip.kilobytes());
+    }
+
+    /**
+     * Measures the CPU time and the bytes allocated by the current thread per
+     * summary request.
+     */
+    private Cost measure(boolean acceptGzip) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            summaries(acceptGzip);
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            summaries(acceptGzip);
+        }
+        long nanos = (threads.getCurrentThreadCpuTime() - cpuBefore) / MEASURED_ITERATIONS;
+        long bytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / MEASURED_ITERATIONS;
+
+        return new Cost(nanos / 1_000, bytes / 1024);
+    }
+
+    private record Cost(long micros, long kilobytes) {
+    }
+
+    private MvcResult summaries(boolean acceptGzip) throws Exception {
+        return mockMvc
+                .perform(get(SUMMARY_PATH).header(HttpHeaders.ACCEPT_ENCODING, acceptGzip ? "gzip" : "identity"))
+                .andReturn();
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -68,9 +68,12 @@ public class FigurineStoreServiceIT extends ControllerBaseIT {
 
     @BeforeEach
     public void setUp() {
-        Cache cache = cacheManager.getCache("stores");
-        if (cache != null) {
-            cache.clear();
+        for (String cacheName : List.of("stores", FigurineMatchMemo.MATCH_DECISION_CACHE,
+                StoreListingDeduplicator.FINGERPRINT_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
         }
     }
 
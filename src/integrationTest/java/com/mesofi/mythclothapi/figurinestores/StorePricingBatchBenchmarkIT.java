@@ -0,0 +1,176 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.figurines.FigurineService;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+/**
+ * Compares the throughput of store pricing ingestion when listings are
+ * processed one at a time, as by the single message consumer, and in batches of
+ * {@value #BATCH_SIZE}, as by the batch consumer, on {@value #LISTINGS} listings
+ * of {@value #FIGURINES} figurines.
+ *
+ * <p>
+ * Each mode starts from an empty set of store mappings: the first pass matches
+ * and maps every listing, the second pass receives the same listings again and
+ * only refreshes their prices. This benchmark is excluded from the regular
+ * integration test run. Execute it with {@code ./gradlew benchmark} and read the
+ * listings per second from the test log.
+ */
+@Tag("benchmark")
+@ActiveProfiles("integration")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StorePricingBatchBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(StorePricingBatchBenchmarkIT.class);
+
+    private static final int FIGURINES = 200;
+    private static final int LISTINGS = 2_000;
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private FigurineStoreService figurineStoreService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedCatalog() {
+        new ResourceDatabasePopulator(new ClassPathResource("seed-catalogs.sql"))
+                .execute(jdbcTemplate.getDataSource());
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO stores (name, code, website, logo_url, currency, country, active, creation_date,
+                    update_date)
+                VALUES ('Myth Supplies', 'MYTH_SUPPLIES', 'https://example.com', 'https://example.com/logo.png',
+                    'USD', 'US', TRUE, ?, ?)
+                """, now, now);
+
+        Long lineUpId = jdbcTemplate.queryForObject("SELECT id FROM lineups WHERE description = 'Myth Cloth'",
+                Long.class);
+        Long seriesId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM series", Long.class);
+        List<Object[]> figurines = new ArrayList<>(FIGURINES);
+        for (int i = 0; i < FIGURINES; i++) {
+            figurines.add(new Object[]{"benchmark-" + i, name(i), name(i), lineUpId, seriesId,
+                    ReleaseStatus.RELEASED.name(), now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO figurines (legacy_name, normalized_name, display_name, lineup_id, series_id,
+                    current_release_status, is_oce, creation_date, update_date)
+                VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)
+                """, figurines);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup-store-it.sql"))
+                .execute(jdbcTemplate.getDataSource());
+    }
+
+    @Test
+    void processStorePricings_shouldPersistSameRows_whenComparingBothModes() {
+        Consumer<List<StoreListing>> single = listings -> listings.forEach(figurineStoreService::processStorePricing);
+        Consumer<List<StoreListing>> batched = listings -> {
+            for (int from = 0; from < listings.size(); from += BATCH_SIZE) {
+                figurineStoreService
+                        .processStorePricings(listings.subList(from, Math.min(from + BATCH_SIZE, listings.size())));
+            }
+        };
+
+        long[] singleRates = measure(single);
+        long[] batchRates = measure(batched);
+
+        log.info("Store pricing of {} listings, first pass: one at a time {} listings/s, batches of {} {} listings/s",
+                LISTINGS, singleRates[0], BATCH_SIZE, batchRates[0]);
+        log.info("Store pricing of {} listings, repeated pass: one at a time {} listings/s, batches of {} {} listings/s",
+                LISTINGS, singleRates[1], BATCH_SIZE, batchRates[1]);
+    }
+
+    /**
+     * Processes every listing twice from an empty set of store mappings, and
+     * returns the listings per second of both passes.
+     */
+    private long[] measure(Consumer<List<StoreListing>> mode) {
+        reset();
+        long[] rates = new long[2];
+        for (int pass = 0; pass < rates.length; pass++) {
+            List<StoreListing> listings = listings(Instant.parse("2025-03-11T12:00:00Z").plusSeconds(pass));
+            long start = System.nanoTime();
+            mode.accept(listings);
+            rates[pass] = LISTINGS * 1_000_000_000L / Math.max(System.nanoTime() - start, 1);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM figurine_stores", Long.class))
+                .isEqualTo(LISTINGS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM figurine_store_pricings", Long.class))
+                .isEqualTo(LISTINGS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM figurine_stores_unmatched", Long.class))
+                .isZero();
+        return rates;
+    }
+
+    private void reset() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        for (String table : List.of("figurine_store_pricings", "figurine_stores", "figurine_stores_unmatched",
+                "figurine_match_decisions", "price_observations", "price_rollups")) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+        }
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        for (String cacheName : List.of("stores", FigurineService.FIGURINE_CACHE,
+                FigurineMatchMemo.MATCH_DECISION_CACHE, StoreListingDeduplicator.FINGERPRINT_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private static List<StoreListing> listings(Instant checkedAt) {
+        List<StoreListing> listings = new ArrayList<>(LISTINGS);
+        for (int i = 0; i < LISTINGS; i++) {
+            String name = name(i % FIGURINES);
+            listings.add(new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, name + " #" + i, name,
+                    "https://example.com/" + i + ".jpg", "https://example.com/" + i,
+                    BigDecimal.valueOf(100 + i % 50, 0), null, null, Currency.getInstance("USD"),
+                    ListingStatus.IN_STOCK, false, checkedAt));
+        }
+        return listings;
+    }
+
+    private static String name(int figurine) {
+        return "Benchmark Saint " + figurine;
+    }
+}
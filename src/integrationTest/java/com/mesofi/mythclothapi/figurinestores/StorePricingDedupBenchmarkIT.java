@@ -0,0 +1,171 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.figurines.FigurineService;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+/**
+ * Measures the statements executed to process {@value #LISTINGS} store
+ * listings already mapped to {@value #FIGURINES} figurines, when a growing share
+ * of them is received unchanged and absorbed by the
+ * {@link StoreListingDeduplicator}.
+ *
+ * <p>
+ * Each pass changes the price of the listings outside the duplicate share and
+ * reports the listings per second and the statements per listing, including the
+ * bulk updates of the check times. This benchmark is excluded from the regular
+ * integration test run. Execute it with {@code ./gradlew benchmark} and read the
+ * figures from the test log.
+ */
+@Tag("benchmark")
+@ActiveProfiles("integration")
+@SpringBootTest(properties = "myth-cloth.figurine-stores.dedup.flush-interval=1h")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StorePricingDedupBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(StorePricingDedupBenchmarkIT.class);
+
+    private static final int FIGURINES = 200;
+    private static final int LISTINGS = 2_000;
+    private static final int[] DUPLICATE_PERCENTAGES = {0, 50, 90, 99};
+
+    @Autowired
+    private FigurineStoreService figurineStoreService;
+
+    @Autowired
+    private StoreListingDeduplicator storeListingDeduplicator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedCatalog() {
+        new ResourceDatabasePopulator(new ClassPathResource("seed-catalogs.sql"))
+                .execute(jdbcTemplate.getDataSource());
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO stores (name, code, website, logo_url, currency, country, active, creation_date,
+                    update_date)
+                VALUES ('Myth Supplies', 'MYTH_SUPPLIES', 'https://example.com', 'https://example.com/logo.png',
+                    'USD', 'US', TRUE, ?, ?)
+                """, now, now);
+
+        Long lineUpId = jdbcTemplate.queryForObject("SELECT id FROM lineups WHERE description = 'Myth Cloth'",
+                Long.class);
+        Long seriesId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM series", Long.class);
+        List<Object[]> figurines = new ArrayList<>(FIGURINES);
+        for (int i = 0; i < FIGURINES; i++) {
+            figurines.add(new Object[]{"dedup-" + i, name(i), name(i), lineUpId, seriesId,
+                    ReleaseStatus.RELEASED.name(), now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO figurines (legacy_name, normalized_name, display_name, lineup_id, series_id,
+                    current_release_status, is_oce, creation_date, update_date)
+                VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)
+                """, figurines);
+
+        for (String cacheName : List.of("stores", FigurineService.FIGURINE_CACHE,
+                FigurineMatchMemo.MATCH_DECISION_CACHE, StoreListingDeduplicator.FINGERPRINT_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup-store-it.sql"))
+                .execute(jdbcTemplate.getDataSource());
+    }
+
+    @Test
+    void processStorePricing_shouldExecuteFewerStatements_whenMoreListingsAreUnchanged() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        Instant checkedAt = Instant.parse("2025-03-11T12:00:00Z");
+        int[] prices = new int[LISTINGS];
+        listings(prices, checkedAt).forEach(figurineStoreService::processStorePricing);
+
+        long previousStatements = Long.MAX_VALUE;
+        for (int pass = 1; pass <= DUPLICATE_PERCENTAGES.length; pass++) {
+            int duplicatePercentage = DUPLICATE_PERCENTAGES[pass - 1];
+            for (int i = 0; i < LISTINGS; i++) {
+                if (i % 100 >= duplicatePercentage) {
+                    prices[i] = pass;
+                }
+            }
+            List<StoreListing> listings = listings(prices, checkedAt.plusSeconds(pass));
+
+            statistics.clear();
+            long start = System.nanoTime();
+            listings.forEach(figurineStoreService::processStorePricing);
+            storeListingDeduplicator.flush();
+            long rate = LISTINGS * 1_000_000_000L / Math.max(System.nanoTime() - start, 1);
+            long statements = statistics.getPrepareStatementCount();
+
+            log.info("Store pricing of {} listings with {}% unchanged: {} listings/s, {} statements per 100 listings",
+                    LISTINGS, duplicatePercentage, rate, statements * 100 / LISTINGS);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM figurine_store_pricings WHERE checked_at = ?",
+                    Long.class, Timestamp.from(checkedAt.plusSeconds(pass)))).isEqualTo(LISTINGS);
+            assertThat(statements).isLessThan(previousStatements);
+            previousStatements = statements;
+        }
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private static List<StoreListing> listings(int[] prices, Instant checkedAt) {
+        List<StoreListing> listings = new ArrayList<>(LISTINGS);
+        for (int i = 0; i < LISTINGS; i++) {
+            String name = name(i % FIGURINES);
+            listings.add(new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, name + " #" + i, name,
+                    "https://example.com/" + i + ".jpg", "https://example.com/" + i,
+                    BigDecimal.valueOf(100 + prices[i], 0), null, null, Currency.getInstance("USD"),
+                    ListingStatus.IN_STOCK, false, checkedAt));
+        }
+        return listings;
+    }
+
+    private static String name(int figurine) {
+        return "Dedup Saint " + figurine;
+    }
+}
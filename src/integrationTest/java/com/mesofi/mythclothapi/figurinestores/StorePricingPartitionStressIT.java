@@ -0,0 +1,182 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.figurines.FigurineService;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.messaging.pricing.PartitionedMessageConsumer;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+/**
+ * Processes duplicate-heavy store listings concurrently, dispatched to one
+ * thread per partition as the partition queues are consumed, and verifies that
+ * no listing fails on a unique constraint and that every store product is
+ * mapped and priced exactly once.
+ */
+@ActiveProfiles("integration")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StorePricingPartitionStressIT {
+
+    private static final int PARTITIONS = 8;
+    private static final int FIGURINES = 30;
+    private static final int NAMES_PER_FIGURINE = 3;
+    private static final int UNMATCHED = 20;
+    private static final int REPEATS = 10;
+    private static final int PRICES = 4;
+
+    @Autowired
+    private FigurineStoreService figurineStoreService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedCatalog() {
+        new ResourceDatabasePopulator(new ClassPathResource("seed-catalogs.sql"))
+                .execute(jdbcTemplate.getDataSource());
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update("""
+                INSERT INTO stores (name, code, website, logo_url, currency, country, active, creation_date,
+                    update_date)
+                VALUES ('Myth Supplies', 'MYTH_SUPPLIES', 'https://example.com', 'https://example.com/logo.png',
+                    'USD', 'US', TRUE, ?, ?)
+                """, now, now);
+
+        Long lineUpId = jdbcTemplate.queryForObject("SELECT id FROM lineups WHERE description = 'Myth Cloth'",
+                Long.class);
+        Long seriesId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM series", Long.class);
+        List<Object[]> figurines = new ArrayList<>(FIGURINES);
+        for (int i = 0; i < FIGURINES; i++) {
+            figurines.add(new Object[]{"stress-" + i, name(i), name(i), lineUpId, seriesId,
+                    ReleaseStatus.RELEASED.name(), now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO figurines (legacy_name, normalized_name, display_name, lineup_id, series_id,
+                    current_release_status, is_oce, creation_date, update_date)
+                VALUES (?, ?, ?, ?, ?, ?, FALSE, ?, ?)
+                """, figurines);
+
+        for (String cacheName : List.of("stores", FigurineService.FIGURINE_CACHE,
+                FigurineMatchMemo.MATCH_DECISION_CACHE, StoreListingDeduplicator.FINGERPRINT_CACHE)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    @AfterAll
+    void cleanUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup-store-it.sql"))
+                .execute(jdbcTemplate.getDataSource());
+    }
+
+    @Test
+    void processStorePricing_shouldMapEveryStoreProductOnce_whenPartitionsRunConcurrently()
+            throws InterruptedException {
+        List<StoreListing> listings = listings();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        List<ExecutorService> partitions = new ArrayList<>(PARTITIONS);
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions.add(Executors.newSingleThreadExecutor());
+        }
+        for (StoreListing listing : listings) {
+            int partition = PartitionedMessageConsumer.partitionOf(listing.store(), listing.originalProductName(),
+                    PARTITIONS);
+            partitions.get(partition).execute(() -> {
+                try {
+                    figurineStoreService.processStorePricing(listing);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+        for (ExecutorService partition : partitions) {
+            assertThat(partition.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        }
+
+        assertThat(failures).isEmpty();
+        int mapped = FIGURINES * NAMES_PER_FIGURINE;
+        assertThat(count("figurine_stores")).isEqualTo(mapped);
+        assertThat(count("figurine_store_pricings")).isEqualTo(mapped * PRICES);
+        assertThat(count("figurine_stores_unmatched")).isEqualTo(UNMATCHED);
+        assertThat(count("figurine_match_decisions")).isEqualTo(FIGURINES + UNMATCHED);
+    }
+
+    /**
+     * Builds the listings: every figurine is published under several original
+     * names normalizing to its display name, every listing is received many times
+     * with alternating prices, and some listings match no figurine.
+     */
+    private static List<StoreListing> listings() {
+        List<StoreListing> listings = new ArrayList<>();
+        Instant checkedAt = Instant.parse("2025-03-11T12:00:00Z");
+        for (int repeat = 0; repeat < REPEATS; repeat++) {
+            BigDecimal price = BigDecimal.valueOf(100 + 10 * (repeat % PRICES));
+            for (int i = 0; i < FIGURINES; i++) {
+                for (int n = 0; n < NAMES_PER_FIGURINE; n++) {
+                    listings.add(listing(name(i) + " [edition " + n + "]", name(i), price,
+                            checkedAt.plusSeconds(repeat)));
+                }
+            }
+            for (int i = 0; i < UNMATCHED; i++) {
+                listings.add(listing("Qwxz Accessory " + i, "Qwxz Accessory " + i, price,
+                        checkedAt.plusSeconds(repeat)));
+            }
+        }
+        Collections.shuffle(listings, new Random(42));
+        return listings;
+    }
+
+    private static StoreListing listing(String originalName, String name, BigDecimal price, Instant checkedAt) {
+        return new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, originalName, name,
+                "https://example.com/image.jpg", "https://example.com/" + originalName.hashCode(), price, null, null,
+                Currency.getInstance("USD"), ListingStatus.IN_STOCK, false, checkedAt);
+    }
+
+    private static String name(int figurine) {
+        return "Stress Saint " + figurine;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Compares the {@link StoreListingMessageConverter} against the conversion it
+ * replaced, where the generic JSON converter produced a map that was then
+ * converted field by field, on crawler messages with prices published as JSON
+ * numbers.
+ *
+ * <p>
+ * The time and the bytes allocated by the current thread are reported per
+ * message, together with the number of prices the map conversion altered. This
+ * benchmark is excluded from the regular integration test run. Execute it with
+ * {@code ./gradlew benchmark} and read the figures from the test log.
+ */
+@Tag("benchmark")
+public class StoreListingConversionBenchmarkIT {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreListingConversionBenchmarkIT.class);
+
+    private static final int MESSAGES = 10_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    private final StoreListingMessageConverter typed = new StoreListingMessageConverter(new SimpleMeterRegistry());
+    private final JacksonJsonMessageConverter generic = new JacksonJsonMessageConverter();
+
+    @Test
+    void fromMessage_shouldReadListingsOfMapConversion() {
+        List<Message> messages = messages(new Random(23));
+
+        int alteredPrices = 0;
+        for (Message message : messages) {
+            StoreListing expected = typed.fromMessage(message);
+            StoreListing legacy = viaMap(message);
+            assertThat(legacy.store()).isEqualTo(expected.store());
+            assertThat(legacy.originalProductName()).isEqualTo(expected.originalProductName());
+            assertThat(legacy.checkedAt()).isEqualTo(expected.checkedAt());
+            assertThat(legacy.price()).isCloseTo(expected.price(), Offset.offset(BigDecimal.ONE));
+            if (legacy.price().compareTo(expected.price()) != 0) {
+                alteredPrices++;
+            }
+        }
+
+        Cost map = measure(messages, this::viaMap);
+        Cost record = measure(messages, typed::fromMessage);
+
+        log.info("Conversion of {} store listing messages: map {} ns/op {} B/op, record {} ns/op {} B/op; "
+                + "prices altered by the map conversion: {}", MESSAGES, map.nanos(), map.bytes(), record.nanos(),
+                record.bytes(), alteredPrices);
+    }
+
+    /**
+     * Measures the average time and the bytes allocated by the current thread per
+     * message.
+     */
+    private Cost measure(List<Message> messages, Function<Message, StoreListing> conversion) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            for (Message message : messages) {
+                sink += conversion.apply(message).checkedAt().getEpochSecond();
+            }
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            for (Message message : messages) {
+                sink += conversion.apply(message).checkedAt().getEpochSecond();
+            }
+        }
+        long operations = (long) MEASURED_ITERATIONS * messages.size();
+        long nanos = (System.nanoTime() - start) / operations;
+        long bytes = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / operations;
+
+        assertThat(sink).isPositive();
+        return new Cost(nanos, bytes);
+    }
+
+    private record Cost(long nanos, long bytes) {
+    }
+
+    /**
+     * Converts a message as the consumer did before binding to the record: the
+     * generic converter reads a map, whose values are then parsed one by one.
+     */
+    private StoreListing viaMap(Message message) {
+        message.getMessageProperties().setInferredArgumentType(Map.class);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> payload = (Map<String, Object>) generic.fromMessage(message);
+
+        return new StoreListing(StoreName.valueOf((String) payload.get("store")),
+                LineUpType.valueOf((String) payload.get("lineUp")), (String) payload.get("originalProductName"),
+                (String) payload.get("productName"), (String) payload.get("productImageUrl"),
+                (String) payload.get("productUrl"), bigDecimal(payload.get("price")),
+                bigDecimal(payload.get("discount")), bigDecimal(payload.get("discountedPrice")),
+                Currency.getInstance((String) payload.get("currency")),
+                ListingStatus.valueOf((String) payload.get("status")), (Boolean) payload.get("preorder"),
+                Instant.parse((String) payload.get("checkedAt")));
+    }
+
+    private static BigDecimal bigDecimal(Object number) {
+        return switch (number) {
+            case Integer i -> new BigDecimal(i);
+            case String s -> new BigDecimal(s);
+            case Double d -> new BigDecimal(d);
+            case null -> null;
+            default -> throw new IllegalArgumentException("Unsupported price type: " + number.getClass());
+        };
+    }
+
+    private List<Message> messages(Random random) {
+        List<Message> messages = new ArrayList<>(MESSAGES);
+        Instant checkedAt = Instant.parse("2025-03-11T12:00:00Z");
+        for (int i = 0; i < MESSAGES; i++) {
+            BigDecimal price = BigDecimal.valueOf(1_000 + random.nextInt(90_000), 2);
+            boolean discounted = random.nextBoolean();
+            StoreListing listing = new StoreListing(StoreName.values()[i % StoreName.values().length],
+                    LineUpType.MYTH_CLOTH, "Saint Cloth Myth Pegasus Seiya " + i, "Pegasus Seiya " + i,
+                    "https://example.com/" + i + ".jpg", "https://example.com/products/" + i, price,
+                    discounted ? BigDecimal.TEN : null, discounted ? price.multiply(new BigDecimal("0.9")) : null,
+                    Currency.getInstance("USD"), ListingStatus.IN_STOCK, random.nextBoolean(),
+                    checkedAt.plusSeconds(i));
+            messages.add(typed.toMessage(listing, new MessageProperties()));
+        }
+        return messages;
+    }
+}
@@ -15,5 +15,9 @@ TRUNCATE TABLE public.figurine_events RESTART IDENTITY;
 TRUNCATE TABLE public.figurine_stores_unmatched RESTART IDENTITY;
 TRUNCATE TABLE public.figurine_stores RESTART IDENTITY;
 TRUNCATE TABLE public.figurine_store_pricings RESTART IDENTITY;
+TRUNCATE TABLE public.figurine_match_decisions RESTART IDENTITY;
+TRUNCATE TABLE public.figurine_match_generations RESTART IDENTITY;
+TRUNCATE TABLE public.price_observations RESTART IDENTITY;
+TRUNCATE TABLE public.price_rollups RESTART IDENTITY;
 
 SET REFERENTIAL_INTEGRITY TRUE;
@@ -1,10 +1,10 @@
 package com.mesofi.mythclothapi.anniversaries;
 
-import static com.mesofi.mythclothapi.catalogs.CatalogService.CATALOG_CONTEXT_CACHE;
+import static com.mesofi.mythclothapi.catalogs.CatalogService.REFERENCE_DATA_CACHES;
 
 import java.util.List;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.mesofi.mythclothapi.anniversaries.dto.AnniversaryReq;
 import com.mesofi.mythclothapi.anniversaries.dto.AnniversaryResp;
 import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,15 +24,16 @@ public class AnniversaryService {
 
     private final AnniversaryRepository repository;
     private final AnniversaryMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public AnniversaryResp createAnniversary(AnniversaryReq request) {
         log.info("Creating anniversary: {} - {}", request.description(), request.year());
 
         Anniversary entity = mapper.toAnniversary(request);
 
         var saved = repository.save(entity);
+        eventPublisher.publishEvent(new CatalogChangedEvent("anniversaries", REFERENCE_DATA_CACHES));
         return mapper.toAnniversaryResp(saved);
     }
 
@@ -47,7 +49,6 @@ public class AnniversaryService {
     }
 
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public AnniversaryResp updateAnniversary(Long id, AnniversaryReq request) {
         log.info("Updating anniversary {} to {}", id, request.description());
         var existing = repository.findById(id).orElseThrow(() -> new AnniversaryNotFoundException(id));
@@ -57,11 +58,11 @@ public class AnniversaryService {
         existing.setType(request.type());
 
         var saved = repository.save(existing);
+        eventPublisher.publishEvent(new CatalogChangedEvent("anniversaries", REFERENCE_DATA_CACHES));
         return mapper.toAnniversaryResp(saved);
     }
 
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public void removeAnniversary(Long id) {
         log.warn("Removing anniversary {}", id);
 
@@ -69,5 +70,6 @@ public class AnniversaryService {
             throw new AnniversaryNotFoundException(id);
         }
         repository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent("anniversaries", REFERENCE_DATA_CACHES));
     }
 }
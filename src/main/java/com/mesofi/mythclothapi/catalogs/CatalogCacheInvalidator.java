@@ -0,0 +1,41 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import java.util.Objects;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Clears the caches holding reference data after it changes.
+ *
+ * <p>
+ * Caches are cleared once the change has committed, so that a concurrent read
+ * cannot cache the previous state again after the eviction.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Clears the caches named by the event.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogVersion.INVALIDATION_ORDER)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        event.caches().stream().map(cacheManager::getCache).filter(Objects::nonNull).forEach(Cache::clear);
+        log.debug("Cleared caches {} after '{}' changed", event.caches(), event.resource());
+    }
+}
@@ -0,0 +1,39 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Application event published when reference data exposed by the public catalog
+ * endpoints changes, such as catalogs, distributors, anniversaries or stores.
+ *
+ * <p>
+ * Figurine writes, imports, and changes to the images and events of a figurine
+ * publish
+ * {@link com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent}
+ * instead. Listeners should react once the publishing transaction has
+ * committed.
+ * </p>
+ *
+ * @param resource
+ *            name of the resource that changed, used for logging
+ * @param caches
+ *            names of the caches holding the resource, cleared by
+ *            {@link CatalogCacheInvalidator}
+ */
+public record CatalogChangedEvent(String resource, Set<String> caches) {
+
+    public CatalogChangedEvent {
+        caches = Objects.isNull(caches) ? Set.of() : Set.copyOf(caches);
+    }
+
+    /**
+     * Creates an event for a resource that is not cached on its own.
+     *
+     * @param resource
+     *            name of the resource that changed
+     */
+    public CatalogChangedEvent(String resource) {
+        this(resource, Set.of());
+    }
+}
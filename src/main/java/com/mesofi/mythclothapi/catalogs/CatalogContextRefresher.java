@@ -0,0 +1,30 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import static com.mesofi.mythclothapi.catalogs.CatalogService.CATALOG_CONTEXT_CACHE;
+
+import org.springframework.stereotype.Component;
+
+import com.mesofi.mythclothapi.config.CacheRefresher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reloads the {@value CatalogService#CATALOG_CONTEXT_CACHE} cache when it is
+ * configured with a refresh-after-write policy.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogContextRefresher implements CacheRefresher {
+
+    private final CatalogService catalogService;
+
+    @Override
+    public String cacheName() {
+        return CATALOG_CONTEXT_CACHE;
+    }
+
+    @Override
+    public Object reload(Object key) {
+        return catalogService.loadCatalogContext();
+    }
+}
@@ -1,16 +1,20 @@
 package com.mesofi.mythclothapi.catalogs;
 
+import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_CACHE;
+import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_SUMMARY_CACHE;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,11 +44,19 @@ public class CatalogService {
 
     public static final String CATALOG_CONTEXT_CACHE = "catalogContext";
 
+    /**
+     * Caches cleared when reference data changes: the catalog context, and the
+     * figurine responses embedding catalog, distributor and anniversary names.
+     */
+    public static final Set<String> REFERENCE_DATA_CACHES = Set.of(CATALOG_CONTEXT_CACHE, FIGURINE_CACHE,
+            FIGURINE_SUMMARY_CACHE);
+
     private final Map<String, IdDescRepository<?, Long>> repositories;
     private final CatalogMapper mapper;
 
     private final DistributorRepository distributorRepository;
     private final AnniversaryRepository anniversaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** Maps resource names to entity-conversion functions. */
     private Map<CatalogType, Function<CatalogReq, Descriptive>> entityFactories;
@@ -56,9 +68,9 @@ public class CatalogService {
     }
 
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public CatalogResp createCatalog(@NotEmpty String catalogName, @NotNull CatalogReq request) {
         Descriptive saved = saveEntry(catalogName, mapToEntity(catalogName, request));
+        eventPublisher.publishEvent(new CatalogChangedEvent(catalogName, REFERENCE_DATA_CACHES));
         return mapper.toCatalogResp(saved);
     }
 
@@ -82,6 +94,17 @@ public class CatalogService {
     @Transactional(readOnly = true)
     @Cacheable(value = CATALOG_CONTEXT_CACHE)
     public CatalogContext retrieveCatalogContext() {
+        return loadCatalogContext();
+    }
+
+    /**
+     * Loads the catalog context from the database, bypassing the
+     * {@value #CATALOG_CONTEXT_CACHE} cache.
+     *
+     * @return the current catalog context
+     */
+    @Transactional(readOnly = true)
+    public CatalogContext loadCatalogContext() {
 
         List<Distributor> distributors = distributorRepository.findAll();
         List<Descriptive> distributions = findAll(CatalogType.distributions.name());
@@ -94,20 +117,21 @@ public class CatalogService {
     }
 
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public CatalogResp updateCatalog(@NotEmpty String catalogName, @NotNull Long id, @NotNull CatalogReq request) {
         Descriptive existing = findByIdEntry(catalogName, id);
         // updates the description
         existing.setDescription(request.description());
 
-        return mapper.toCatalogResp(saveEntry(catalogName, existing));
+        Descriptive saved = saveEntry(catalogName, existing);
+        eventPublisher.publishEvent(new CatalogChangedEvent(catalogName, REFERENCE_DATA_CACHES));
+        return mapper.toCatalogResp(saved);
     }
 
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public void deleteCatalog(@NotEmpty String catalogName, @NotNull Long id) {
         Descriptive existing = findByIdEntry(catalogName, id);
         deleteEntry(catalogName, existing);
+        eventPublisher.publishEvent(new CatalogChangedEvent(catalogName, REFERENCE_DATA_CACHES));
     }
 
     private Descriptive mapToEntity(String catalogName, CatalogReq request) {
@@ -0,0 +1,134 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mesofi.mythclothapi.catalogs.model.CatalogRevision;
+import com.mesofi.mythclothapi.catalogs.repository.CatalogRevisionRepository;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.messaging.invalidation.CacheInvalidationBroadcaster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks the version of the public catalog, used to validate HTTP responses
+ * with entity tags.
+ *
+ * <p>
+ * The version is the {@link CatalogRevision} shared by every node, so that
+ * each node issues the same tag for the same catalog and tags survive
+ * restarts. It is incremented once a figurine, catalog, anniversary or store
+ * change has committed on the node that made it; the other nodes only read it
+ * again when the change is replayed by the
+ * {@link CacheInvalidationBroadcaster}. A response computed before the
+ * increment may carry the previous version, but never the other way around.
+ * The tag is prefixed with the creation time of the revision, so that tags
+ * issued before the database was recreated are not reused for a different
+ * catalog.
+ * </p>
+ *
+ * <p>
+ * The tag is weak, since responses are compressed after the tag is set and the
+ * same tag then describes both the compressed and the identity
+ * representations.
+ * </p>
+ *
+ * <p>
+ * The increment runs after the listeners ordered at {@link #INVALIDATION_ORDER},
+ * so that content cached under the new version is never computed from evicted
+ * entries or stale indexes.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogVersion {
+
+    /**
+     * Order of the listeners that evict caches or rebuild indexes after a change;
+     * they run before the version is bumped.
+     */
+    public static final int INVALIDATION_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final CatalogRevisionRepository repository;
+
+    /** The tag of the last revision read; {@code null} until first requested. */
+    private final AtomicReference<String> etag = new AtomicReference<>();
+
+    /**
+     * Returns the current version as a weak entity tag.
+     *
+     * @return the entity tag
+     */
+    public String etag() {
+        String current = etag.get();
+        return Objects.nonNull(current) ? current : refresh();
+    }
+
+    /**
+     * Marks the catalog as changed, invalidating every entity tag issued so far.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void bump() {
+        if (repository.increment() == 0) {
+            CatalogRevision created = new CatalogRevision();
+            created.setRevision(1);
+            repository.save(created);
+        }
+        log.debug("Catalog version bumped to {}", refresh());
+    }
+
+    /**
+     * Bumps the version once figurines have been created, updated, deleted or
+     * imported.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onFigurineCatalogChanged(FigurineCatalogChangedEvent event) {
+        apply();
+    }
+
+    /**
+     * Bumps the version once reference data has changed.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.debug("Catalog resource '{}' changed", event.resource());
+        apply();
+    }
+
+    private void apply() {
+        if (CacheInvalidationBroadcaster.isReplaying()) {
+            refresh();
+        } else {
+            bump();
+        }
+    }
+
+    private String refresh() {
+        String current = repository.findFirstByOrderByIdAsc()
+                .map(revision -> "W/\"%s-%d\"".formatted(
+                        Long.toString(revision.getCreationDate().toEpochMilli(), Character.MAX_RADIX),
+                        revision.getRevision()))
+                .orElse("W/\"0\"");
+        etag.set(current);
+        return current;
+    }
+}
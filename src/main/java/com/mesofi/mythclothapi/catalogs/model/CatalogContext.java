@@ -1,9 +1,18 @@
 package com.mesofi.mythclothapi.catalogs.model;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
+import com.mesofi.mythclothapi.anniversaries.model.AnniversaryType;
 import com.mesofi.mythclothapi.common.Descriptive;
+import com.mesofi.mythclothapi.distributors.model.CountryCode;
 import com.mesofi.mythclothapi.distributors.model.Distributor;
 
 /**
@@ -14,19 +23,286 @@ import com.mesofi.mythclothapi.distributors.model.Distributor;
  * attributes during figurine import and mapping operations.
  * </p>
  *
- * @param distributors
- *            the available distributors
- * @param distributions
- *            the available distributions
- * @param lineUps
- *            the available figurine lineups
- * @param series
- *            the available series
- * @param groups
- *            the available figurine groups
- * @param anniversaries
- *            the available anniversaries
+ * <p>
+ * The context is immutable and indexes its entries when it is created, so that
+ * mappers resolve a reference by identifier, description, distributor country
+ * or anniversary year in constant time instead of scanning the lists for every
+ * imported row. When several entries share a key, the first one in list order
+ * wins, as a linear search would.
+ * </p>
  */
-public record CatalogContext(List<Distributor> distributors, List<Descriptive> distributions, List<Descriptive> lineUps,
-        List<Descriptive> series, List<Descriptive> groups, List<Anniversary> anniversaries) {
+public final class CatalogContext {
+
+    private final List<Distributor> distributors;
+    private final List<Descriptive> distributions;
+    private final List<Descriptive> lineUps;
+    private final List<Descriptive> series;
+    private final List<Descriptive> groups;
+    private final List<Anniversary> anniversaries;
+
+    private final Map<Long, Distributor> distributorsById;
+    private final Map<CountryCode, Distributor> distributorsByCountry;
+    private final DescriptiveIndex distributionIndex;
+    private final DescriptiveIndex lineUpIndex;
+    private final DescriptiveIndex seriesIndex;
+    private final DescriptiveIndex groupIndex;
+    private final Map<Long, Anniversary> anniversariesById;
+    private final Map<Integer, Anniversary> anniversariesByYear;
+    private final Map<YearType, Anniversary> anniversariesByYearAndType;
+
+    /**
+     * Creates a context over the supplied catalog entries.
+     *
+     * @param distributors
+     *            the available distributors
+     * @param distributions
+     *            the available distributions
+     * @param lineUps
+     *            the available figurine lineups
+     * @param series
+     *            the available series
+     * @param groups
+     *            the available figurine groups
+     * @param anniversaries
+     *            the available anniversaries
+     */
+    public CatalogContext(List<Distributor> distributors, List<Descriptive> distributions, List<Descriptive> lineUps,
+            List<Descriptive> series, List<Descriptive> groups, List<Anniversary> anniversaries) {
+        this.distributors = List.copyOf(distributors);
+        this.distributions = List.copyOf(distributions);
+        this.lineUps = List.copyOf(lineUps);
+        this.series = List.copyOf(series);
+        this.groups = List.copyOf(groups);
+        this.anniversaries = List.copyOf(anniversaries);
+
+        this.distributorsById = index(this.distributors, Distributor::getId);
+        Map<CountryCode, Distributor> byCountry = new EnumMap<>(CountryCode.class);
+        this.distributors.stream().filter(distributor -> Objects.nonNull(distributor.getCountry()))
+                .forEach(distributor -> byCountry.putIfAbsent(distributor.getCountry(), distributor));
+        this.distributorsByCountry = Collections.unmodifiableMap(byCountry);
+
+        this.distributionIndex = new DescriptiveIndex(this.distributions);
+        this.lineUpIndex = new DescriptiveIndex(this.lineUps);
+        this.seriesIndex = new DescriptiveIndex(this.series);
+        this.groupIndex = new DescriptiveIndex(this.groups);
+
+        this.anniversariesById = index(this.anniversaries, Anniversary::getId);
+        this.anniversariesByYear = index(this.anniversaries, Anniversary::getYear);
+        this.anniversariesByYearAndType = index(this.anniversaries,
+                anniversary -> new YearType(anniversary.getYear(), anniversary.getType()));
+    }
+
+    /** @return the available distributors */
+    public List<Distributor> distributors() {
+        return distributors;
+    }
+
+    /** @return the available distributions */
+    public List<Descriptive> distributions() {
+        return distributions;
+    }
+
+    /** @return the available figurine lineups */
+    public List<Descriptive> lineUps() {
+        return lineUps;
+    }
+
+    /** @return the available series */
+    public List<Descriptive> series() {
+        return series;
+    }
+
+    /** @return the available figurine groups */
+    public List<Descriptive> groups() {
+        return groups;
+    }
+
+    /** @return the available anniversaries */
+    public List<Anniversary> anniversaries() {
+        return anniversaries;
+    }
+
+    /**
+     * Finds a distributor by its identifier.
+     *
+     * @param id
+     *            the distributor identifier
+     * @return the distributor, if any
+     */
+    public Optional<Distributor> findDistributor(Long id) {
+        return Optional.ofNullable(distributorsById.get(id));
+    }
+
+    /**
+     * Finds the first distributor of a country.
+     *
+     * @param country
+     *            the distributor country
+     * @return the distributor, if any
+     */
+    public Optional<Distributor> findDistributor(CountryCode country) {
+        return Objects.isNull(country) ? Optional.empty() : Optional.ofNullable(distributorsByCountry.get(country));
+    }
+
+    /**
+     * Finds a distribution by its identifier.
+     *
+     * @param id
+     *            the distribution identifier
+     * @return the distribution, if any
+     */
+    public Optional<Descriptive> findDistribution(Long id) {
+        return distributionIndex.byId(id);
+    }
+
+    /**
+     * Finds a distribution by its exact description.
+     *
+     * @param description
+     *            the distribution description
+     * @return the distribution, if any
+     */
+    public Optional<Descriptive> findDistribution(String description) {
+        return distributionIndex.byDescription(description);
+    }
+
+    /**
+     * Finds a lineup by its identifier.
+     *
+     * @param id
+     *            the lineup identifier
+     * @return the lineup, if any
+     */
+    public Optional<Descriptive> findLineUp(Long id) {
+        return lineUpIndex.byId(id);
+    }
+
+    /**
+     * Finds a lineup by its exact description.
+     *
+     * @param description
+     *            the lineup description
+     * @return the lineup, if any
+     */
+    public Optional<Descriptive> findLineUp(String description) {
+        return lineUpIndex.byDescription(description);
+    }
+
+    /**
+     * Finds a series by its identifier.
+     *
+     * @param id
+     *            the series identifier
+     * @return the series, if any
+     */
+    public Optional<Descriptive> findSeries(Long id) {
+        return seriesIndex.byId(id);
+    }
+
+    /**
+     * Finds a series by its exact description.
+     *
+     * @param description
+     *            the series description
+     * @return the series, if any
+     */
+    public Optional<Descriptive> findSeries(String description) {
+        return seriesIndex.byDescription(description);
+    }
+
+    /**
+     * Finds a group by its identifier.
+     *
+     * @param id
+     *            the group identifier
+     * @return the group, if any
+     */
+    public Optional<Descriptive> findGroup(Long id) {
+        return groupIndex.byId(id);
+    }
+
+    /**
+     * Finds a group by its exact description.
+     *
+     * @param description
+     *            the group description
+     * @return the group, if any
+     */
+    public Optional<Descriptive> findGroup(String description) {
+        return groupIndex.byDescription(description);
+    }
+
+    /**
+     * Finds an anniversary by its identifier.
+     *
+     * @param id
+     *            the anniversary identifier
+     * @return the anniversary, if any
+     */
+    public Optional<Anniversary> findAnniversary(Long id) {
+        return Optional.ofNullable(anniversariesById.get(id));
+    }
+
+    /**
+     * Finds the first anniversary of a year, restricted to a type when one is
+     * supplied.
+     *
+     * @param year
+     *            the anniversary year
+     * @param type
+     *            the anniversary type; {@code null} to match any type
+     * @return the anniversary, if any
+     */
+    public Optional<Anniversary> findAnniversary(int year, AnniversaryType type) {
+        return Optional.ofNullable(Objects.isNull(type)
+                ? anniversariesByYear.get(year)
+                : anniversariesByYearAndType.get(new YearType(year, type)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof CatalogContext that && distributors.equals(that.distributors)
+                && distributions.equals(that.distributions) && lineUps.equals(that.lineUps)
+                && series.equals(that.series) && groups.equals(that.groups)
+                && anniversaries.equals(that.anniversaries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(distributors, distributions, lineUps, series, groups, anniversaries);
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogContext[distributors=%d, distributions=%d, lineUps=%d, series=%d, groups=%d, anniversaries=%d]"
+                .formatted(distributors.size(), distributions.size(), lineUps.size(), series.size(), groups.size(),
+                        anniversaries.size());
+    }
+
+    /**
+     * Indexes entries by a key, keeping the first entry of every key.
+     */
+    private static <K, T> Map<K, T> index(List<T> entries, Function<T, K> key) {
+        Map<K, T> index = HashMap.newHashMap(entries.size());
+        entries.forEach(entry -> index.putIfAbsent(key.apply(entry), entry));
+        return Collections.unmodifiableMap(index);
+    }
+
+    private record YearType(int year, AnniversaryType type) {
+    }
+
+    private record DescriptiveIndex(Map<Long, Descriptive> ids, Map<String, Descriptive> descriptions) {
+
+        DescriptiveIndex(List<Descriptive> entries) {
+            this(index(entries, Descriptive::getId), index(entries, Descriptive::getDescription));
+        }
+
+        Optional<Descriptive> byId(Long id) {
+            return Optional.ofNullable(ids.get(id));
+        }
+
+        Optional<Descriptive> byDescription(String description) {
+            return Optional.ofNullable(descriptions.get(description));
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.mesofi.mythclothapi.catalogs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import com.mesofi.mythclothapi.common.Auditable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Counts the changes of the public catalog, shared by every node through the
+ * database.
+ *
+ * <p>
+ * A single row is kept. Its creation date tells catalogs apart when the
+ * database is recreated, and its revision is incremented once per committed
+ * change.
+ * </p>
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "catalog_revisions")
+public class CatalogRevision extends Auditable {
+
+    @Column(nullable = false)
+    private long revision;
+}
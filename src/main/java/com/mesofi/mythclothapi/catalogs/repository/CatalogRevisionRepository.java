@@ -0,0 +1,30 @@
+package com.mesofi.mythclothapi.catalogs.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.mesofi.mythclothapi.catalogs.model.CatalogRevision;
+
+@Repository
+public interface CatalogRevisionRepository extends JpaRepository<CatalogRevision, Long> {
+
+    Optional<CatalogRevision> findFirstByOrderByIdAsc();
+
+    /**
+     * Increments the catalog revision in a single statement, so that concurrent
+     * changes on different nodes are never lost.
+     *
+     * @return the number of incremented revisions; {@code 0} until the first
+     *         change creates the revision
+     */
+    @Modifying
+    @Query("""
+            UPDATE CatalogRevision r
+            SET r.revision = r.revision + 1
+            """)
+    int increment();
+}
@@ -229,7 +229,7 @@ public class CollectorCollectionFigurineService {
      *             if the collection does not exist or is not owned by the collector
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = COLLECTOR_SUMMARY_CACHE, key = "T(java.util.Objects).hash(#collectorId, #collectionId, #includeRestocks)")
+    @Cacheable(value = COLLECTOR_SUMMARY_CACHE, key = "{#collectorId, #collectionId, #includeRestocks}", sync = true)
     public CollectorCollectionSummaryResp retrieveCollectionSummary(@Positive Long collectorId,
             @Positive Long collectionId, boolean includeRestocks) {
 
@@ -282,7 +282,7 @@ public class CollectorCollectionFigurineService {
      *             collector
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = COLLECTOR_FIGURINE_CACHE, key = "T(java.util.Objects).hash(#collectorId, #collectionId, #includeRestocks, #page, #size)")
+    @Cacheable(value = COLLECTOR_FIGURINE_CACHE, key = "{#collectorId, #collectionId, #includeRestocks, #page, #size}", sync = true)
     public Page<CollectorCollectionFigurineResp> retrieveCollectionFigurines(@Positive Long collectorId,
             @Positive Long collectionId, boolean includeRestocks, @PositiveOrZero int page, @PositiveOrZero int size) {
 
@@ -418,7 +418,7 @@ public class CollectorCollectionFigurineService {
      *             if the collector does not exist
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = COLLECTION_SUMMARY_CACHE, key = "T(java.util.Objects).hash(#collectorId)")
+    @Cacheable(value = COLLECTION_SUMMARY_CACHE, key = "#collectorId", sync = true)
     public List<CollectorCollectionResp> retrieveCollections(final Long collectorId) {
         log.info("Retrieving all collections for collector [{}]", collectorId);
 
@@ -0,0 +1,85 @@
+package com.mesofi.mythclothapi.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Externalized Caffeine policies of the application caches.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.cache} prefix. Every cache listed
+ * under {@code caches} is created at startup with its own policy, so that its
+ * statistics are published from the start; other caches are created on first
+ * use with the {@code defaults} policy.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.cache")
+public class CachePolicyProperties {
+
+    /** Policy of the caches without a dedicated entry in {@link #caches}. */
+    private Policy defaults = new Policy(1000L, null, Duration.ofDays(15), null, null);
+
+    /** Policies by cache name. */
+    private Map<String, Policy> caches = new LinkedHashMap<>();
+
+    /**
+     * Returns the policy of a cache, completing the unset attributes with the
+     * {@link #defaults}.
+     *
+     * @param cacheName
+     *            the cache name
+     * @return the effective policy
+     */
+    public Policy policyOf(String cacheName) {
+        Policy policy = caches.get(cacheName);
+        if (Objects.isNull(policy)) {
+            return defaults;
+        }
+        boolean bounded = Objects.nonNull(policy.getMaximumSize()) || Objects.nonNull(policy.getMaximumWeight());
+        return new Policy(bounded ? policy.getMaximumSize() : defaults.getMaximumSize(),
+                bounded ? policy.getMaximumWeight() : defaults.getMaximumWeight(),
+                Objects.requireNonNullElse(policy.getExpireAfterWrite(), defaults.getExpireAfterWrite()),
+                Objects.requireNonNullElse(policy.getExpireAfterAccess(), defaults.getExpireAfterAccess()),
+                policy.getRefreshAfterWrite());
+    }
+
+    /**
+     * Bounds and expiry of a single cache. Unset attributes are not applied.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+
+        /** Maximum number of entries. */
+        private Long maximumSize;
+
+        /**
+         * Maximum total weight, where an entry holding a list or a page weighs its
+         * number of elements and any other entry weighs one. Takes precedence over
+         * {@link #maximumSize}.
+         */
+        private Long maximumWeight;
+
+        /** Time after which an entry expires once written. */
+        private Duration expireAfterWrite;
+
+        /** Time after which an entry expires once last read or written. */
+        private Duration expireAfterAccess;
+
+        /**
+         * Time after which a read triggers an asynchronous reload of the entry, while
+         * the current value keeps being served. Only applies to caches with a
+         * {@link CacheRefresher}.
+         */
+        private Duration refreshAfterWrite;
+    }
+}
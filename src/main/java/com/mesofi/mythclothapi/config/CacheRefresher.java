@@ -0,0 +1,28 @@
+package com.mesofi.mythclothapi.config;
+
+/**
+ * Reloads the entries of a cache configured with a refresh-after-write policy.
+ *
+ * <p>
+ * Implementations must compute the value without going through the cache,
+ * since the refreshed entry is still present while it is reloaded.
+ */
+public interface CacheRefresher {
+
+    /**
+     * Returns the name of the refreshed cache.
+     *
+     * @return the cache name
+     */
+    String cacheName();
+
+    /**
+     * Computes the current value of a cache entry.
+     *
+     * @param key
+     *            the cache key
+     * @return the value, or {@code null} to drop the entry and let the next read
+     *         load it
+     */
+    Object reload(Object key);
+}
@@ -0,0 +1,154 @@
+package com.mesofi.mythclothapi.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.mesofi.mythclothapi.catalogs.CatalogService;
+import com.mesofi.mythclothapi.figurines.FigurineFilter;
+import com.mesofi.mythclothapi.figurines.FigurineFilterFactory;
+import com.mesofi.mythclothapi.figurines.FigurineService;
+import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Preloads the hottest caches once the application is ready.
+ *
+ * <p>
+ * The catalog context, the stores, the available figurines of each line-up,
+ * the figurine summary list and the leading unfiltered search pages are loaded
+ * in parallel through the cached services. As a health indicator included in
+ * the readiness group, the warm-up keeps the instance out of service until it
+ * completes or the configured timeout elapses, so that the first requests and
+ * pricing messages after a deploy do not pay for cold caches.
+ * </p>
+ *
+ * <p>
+ * The duration of each step and of the whole warm-up is published as the
+ * {@value #DURATION_METRIC} timer, tagged by task and outcome.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUp implements HealthIndicator {
+
+    static final String DURATION_METRIC = "cache.warmup.duration";
+
+    private final CacheWarmUpProperties properties;
+    private final CatalogService catalogService;
+    private final FigurineService figurineService;
+    private final FigurineStoreService figurineStoreService;
+    private final MeterRegistry meterRegistry;
+
+    private volatile State state = State.PENDING;
+
+    /** Progress of the warm-up. */
+    enum State {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED;
+
+        boolean isServing() {
+            return this == COMPLETED || this == TIMED_OUT || this == DISABLED;
+        }
+    }
+
+    /**
+     * Starts the warm-up in the background.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        start();
+    }
+
+    /**
+     * Starts the warm-up in the background.
+     *
+     * @return the state reached once the warm-up completes or times out
+     */
+    CompletableFuture<State> start() {
+        if (!properties.isEnabled()) {
+            state = State.DISABLED;
+            return CompletableFuture.completedFuture(state);
+        }
+        state = State.RUNNING;
+        log.info("Warming up caches");
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getParallelism());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<?>[] steps = tasks().entrySet().stream()
+                .map(task -> CompletableFuture.runAsync(() -> run(task.getKey(), task.getValue()), executor))
+                .toArray(CompletableFuture[]::new);
+
+        // running steps are not interrupted on timeout; queued ones still run
+        CompletableFuture<Void> all = CompletableFuture.allOf(steps);
+        all.whenComplete((result, error) -> executor.shutdown());
+        return all.orTimeout(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS).handle((result, error) -> {
+            boolean timedOut = error instanceof TimeoutException;
+            long nanos = sample.stop(timer("all", timedOut ? "timeout" : "success"));
+            log.info("Cache warm-up {} after {} ms", timedOut ? "timed out" : "completed", nanos / 1_000_000);
+            state = timedOut ? State.TIMED_OUT : State.COMPLETED;
+            return state;
+        });
+    }
+
+    @Override
+    public Health health() {
+        State current = state;
+        return (current.isServing() ? Health.up() : Health.outOfService()).withDetail("state", current).build();
+    }
+
+    /**
+     * Returns the warm-up steps by name.
+     */
+    private Map<String, Runnable> tasks() {
+        FigurineFilter unfiltered = FigurineFilterFactory.build(null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, (String) null, null);
+
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        tasks.put("catalogContext", catalogService::retrieveCatalogContext);
+        tasks.put("stores", figurineStoreService::warmUpStores);
+        tasks.put("lineUps", figurineService::warmUpAvailableFigurines);
+        tasks.put("summary", () -> figurineService.retrieveFigurineSummaries(unfiltered));
+
+        List<Runnable> searchPages = new ArrayList<>();
+        for (int size : properties.getSearchPageSizes()) {
+            for (int page = 0; page < properties.getSearchPages(); page++) {
+                int current = page;
+                searchPages.add(() -> figurineService.filterFigurines(unfiltered, current, size));
+            }
+        }
+        tasks.put("searchPages", () -> searchPages.forEach(Runnable::run));
+        return tasks;
+    }
+
+    private void run(String name, Runnable task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            task.run();
+            sample.stop(timer(name, "success"));
+        } catch (RuntimeException e) {
+            sample.stop(timer(name, "failure"));
+            log.warn("Unable to warm up '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private Timer timer(String task, String outcome) {
+        return Timer.builder(DURATION_METRIC).tag("task", task).tag("outcome", outcome).register(meterRegistry);
+    }
+}
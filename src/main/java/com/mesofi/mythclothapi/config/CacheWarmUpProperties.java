@@ -0,0 +1,38 @@
+package com.mesofi.mythclothapi.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Externalized settings of the cache warm-up run at startup.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.cache.warm-up} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.cache.warm-up")
+public class CacheWarmUpProperties {
+
+    /** Whether the caches are preloaded once the application is ready. */
+    private boolean enabled = true;
+
+    /** Number of caches preloaded concurrently. */
+    private int parallelism = 4;
+
+    /**
+     * Maximum time the instance stays out of service while warming up; the
+     * warm-up keeps running in the background afterwards.
+     */
+    private Duration timeout = Duration.ofMinutes(2);
+
+    /** Page sizes of the unfiltered search pages to preload. */
+    private List<Integer> searchPageSizes = new ArrayList<>(List.of(10));
+
+    /** Number of leading unfiltered search pages to preload for each page size. */
+    private int searchPages = 1;
+}
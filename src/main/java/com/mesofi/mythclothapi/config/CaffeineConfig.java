@@ -1,38 +1,116 @@
 package com.mesofi.mythclothapi.config;
 
-import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mesofi.mythclothapi.config.CachePolicyProperties.Policy;
+
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Configures the in-memory cache manager used by Spring cache annotations.
  *
  * <p>
- * The cache is bounded and time-based, with statistics enabled for actuator
- * exposure and cache monitoring.
+ * Each cache declared under {@code myth-cloth.cache.caches} gets its own size or
+ * weight bound, expiry and optional refresh-after-write policy; the remaining
+ * caches share the {@code myth-cloth.cache.defaults} policy. Statistics are
+ * enabled on every cache, and the declared caches are created eagerly so that
+ * the actuator registers their metrics at startup.
  */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties({CachePolicyProperties.class, CacheWarmUpProperties.class})
 public class CaffeineConfig {
 
     /**
      * Creates the application's {@link CacheManager}.
      *
-     * @return a Caffeine-backed cache manager with bounded size, 15-day expiry, and
+     * @param properties
+     *            the cache policies
+     * @param refreshers
+     *            the reloaders of the caches configured with refresh-after-write
+     * @return a Caffeine-backed cache manager with per-cache policies and
      *         statistics enabled
      */
     @Bean
-    CacheManager cacheManager() {
+    CacheManager cacheManager(CachePolicyProperties properties, ObjectProvider<CacheRefresher> refreshers) {
 
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(builder(properties.getDefaults()));
 
-        cacheManager.setCaffeine(
-                Caffeine.newBuilder().maximumSize(1000).expireAfterWrite(Duration.ofDays(15)).recordStats());
+        Map<String, CacheRefresher> refresherByCache = refreshers.orderedStream()
+                .collect(Collectors.toMap(CacheRefresher::cacheName, Function.identity()));
+        properties.getCaches().keySet().forEach(cacheName -> cacheManager.registerCustomCache(cacheName,
+                buildCache(cacheName, properties.policyOf(cacheName), refresherByCache.get(cacheName))));
 
         return cacheManager;
     }
+
+    /**
+     * Builds a cache applying the supplied policy.
+     *
+     * @param cacheName
+     *            the cache name, used for logging
+     * @param policy
+     *            the effective policy of the cache
+     * @param refresher
+     *            the reloader of the cache entries; may be {@code null}
+     * @return the native cache
+     */
+    static Cache<Object, Object> buildCache(String cacheName, Policy policy, CacheRefresher refresher) {
+        Caffeine<Object, Object> builder = builder(policy);
+        if (Objects.isNull(policy.getRefreshAfterWrite())) {
+            return builder.build();
+        }
+        if (Objects.isNull(refresher)) {
+            log.warn("Cache '{}' has a refresh-after-write policy but no refresher; entries will not be refreshed",
+                    cacheName);
+            return builder.build();
+        }
+        return builder.refreshAfterWrite(policy.getRefreshAfterWrite()).build(refresher::reload);
+    }
+
+    private static Caffeine<Object, Object> builder(Policy policy) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (Objects.nonNull(policy.getMaximumWeight())) {
+            builder.maximumWeight(policy.getMaximumWeight()).weigher(CaffeineConfig::weigh);
+        } else if (Objects.nonNull(policy.getMaximumSize())) {
+            builder.maximumSize(policy.getMaximumSize());
+        }
+        if (Objects.nonNull(policy.getExpireAfterWrite())) {
+            builder.expireAfterWrite(policy.getExpireAfterWrite());
+        }
+        if (Objects.nonNull(policy.getExpireAfterAccess())) {
+            builder.expireAfterAccess(policy.getExpireAfterAccess());
+        }
+        return builder;
+    }
+
+    /**
+     * Weighs an entry by the number of elements it holds, so that weight-bounded
+     * caches account for large pages and lists. Serialized responses are weighed
+     * by their size in kibibytes.
+     */
+    private static int weigh(Object key, Object value) {
+        int elements = switch (value) {
+            case Collection<?> collection -> collection.size();
+            case Page<?> page -> page.getNumberOfElements();
+            case ResponseBodyCacheFilter.CachedResponse response -> response.weight();
+            default -> 1;
+        };
+        return Math.max(elements, 1);
+    }
 }
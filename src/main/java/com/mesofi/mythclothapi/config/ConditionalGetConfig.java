@@ -0,0 +1,63 @@
+package com.mesofi.mythclothapi.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registers the conditional GET support and the serialized response cache of
+ * the public catalog endpoints.
+ *
+ * <p>
+ * Both filters run after the security filter chain, so only requests permitted
+ * by {@code SecurityConfig} reach them. The response cache runs inside the
+ * conditional GET filter, so responses replayed from the cache are tagged as
+ * well.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties({ConditionalGetProperties.class, ResponseCacheProperties.class})
+public class ConditionalGetConfig {
+
+    /**
+     * Creates the filter answering conditional GET requests.
+     *
+     * @param properties
+     *            the conditional GET settings
+     * @param catalogVersion
+     *            the version of the catalog
+     * @param meterRegistry
+     *            the registry of the savings metrics
+     * @return the conditional GET filter
+     */
+    @Bean
+    ConditionalGetFilter conditionalGetFilter(ConditionalGetProperties properties, CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry) {
+        return new ConditionalGetFilter(properties, catalogVersion, meterRegistry);
+    }
+
+    /**
+     * Creates the filter serving the serialized responses of the catalog
+     * endpoints.
+     *
+     * @param properties
+     *            the response cache settings
+     * @param catalogVersion
+     *            the version of the catalog
+     * @param cacheManager
+     *            the manager of the response cache
+     * @param meterRegistry
+     *            the registry of the hit and miss metrics
+     * @return the response cache filter
+     */
+    @Bean
+    ResponseBodyCacheFilter responseBodyCacheFilter(ResponseCacheProperties properties,
+            CatalogVersion catalogVersion, CacheManager cacheManager, MeterRegistry meterRegistry) {
+        return new ResponseBodyCacheFilter(properties, catalogVersion, cacheManager, meterRegistry);
+    }
+}
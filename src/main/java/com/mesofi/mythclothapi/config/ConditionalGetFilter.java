@@ -0,0 +1,241 @@
+package com.mesofi.mythclothapi.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Answers conditional GET requests to the public catalog endpoints.
+ *
+ * <p>
+ * Anonymous {@code GET} and {@code HEAD} requests to the configured paths are
+ * validated against the weak {@link CatalogVersion} entity tag: a matching
+ * {@code If-None-Match} header is answered with {@code 304 Not Modified}
+ * before the request reaches any controller, service or database. Successful
+ * responses carry the entity tag and the configured {@code Cache-Control}
+ * header; error responses carry neither, so they are never revalidated.
+ * Authenticated requests are left untouched, as the figurine listing depends on
+ * the collections of the caller.
+ * </p>
+ *
+ * <p>
+ * The savings are published per path pattern: the
+ * {@value #NOT_MODIFIED_METRIC} counter counts the short-circuited requests,
+ * the {@value #RESPONSE_SIZE_METRIC} summary records the size of the full
+ * responses, and the {@value #BYTES_SAVED_METRIC} counter accumulates the mean
+ * full response size for every short-circuited request. The latency saved can
+ * be read from the {@code http.server.requests} timer, comparing its
+ * {@code 304} and {@code 200} outcomes.
+ * </p>
+ */
+public class ConditionalGetFilter extends OncePerRequestFilter implements Ordered {
+
+    /** Runs after the security filter chain. */
+    static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    static final String NOT_MODIFIED_METRIC = "catalog.http.not-modified";
+    static final String RESPONSE_SIZE_METRIC = "catalog.http.response.size";
+    static final String BYTES_SAVED_METRIC = "catalog.http.bytes.saved";
+
+    private final ConditionalGetProperties properties;
+    private final CatalogVersion catalogVersion;
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> patterns;
+    private final String cacheControl;
+
+    public ConditionalGetFilter(ConditionalGetProperties properties, CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.catalogVersion = catalogVersion;
+        this.meterRegistry = meterRegistry;
+        this.patterns = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.cacheControl = CacheControl.maxAge(properties.getMaxAge()).cachePublic().mustRevalidate()
+                .getHeaderValue();
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        boolean safeMethod = HttpMethod.GET.matches(request.getMethod())
+                || HttpMethod.HEAD.matches(request.getMethod());
+        return !properties.isEnabled() || !safeMethod
+                || Objects.nonNull(request.getHeader(HttpHeaders.AUTHORIZATION)) || matchingPattern(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String pattern = matchingPattern(request).orElseThrow();
+        String etag = catalogVersion.etag();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        if (isNotModified(request, etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            meterRegistry.counter(NOT_MODIFIED_METRIC, "uri", pattern).increment();
+            meterRegistry.counter(BYTES_SAVED_METRIC, "uri", pattern).increment(responseSize(pattern).mean());
+            return;
+        }
+
+        TaggingResponse tagging = new TaggingResponse(response, etag, cacheControl);
+        chain.doFilter(request, tagging);
+        tagging.tag();
+
+        if (HttpMethod.GET.matches(request.getMethod()) && tagging.getStatus() == HttpStatus.OK.value()) {
+            responseSize(pattern).record(tagging.bytesWritten());
+        }
+    }
+
+    private Optional<String> matchingPattern(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        return patterns.stream().filter(pattern -> pattern.matches(path)).map(PathPattern::getPatternString)
+                .findFirst();
+    }
+
+    private DistributionSummary responseSize(String pattern) {
+        return DistributionSummary.builder(RESPONSE_SIZE_METRIC).baseUnit("bytes").tag("uri", pattern)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indicates whether an {@code If-None-Match} header matches the entity tag,
+     * using the weak comparison required for conditional GET requests.
+     */
+    private static boolean isNotModified(HttpServletRequest request, String etag) {
+        String opaqueTag = opaqueTag(etag);
+        return Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH)).stream()
+                .flatMap(header -> Arrays.stream(header.split(","))).map(String::strip)
+                .anyMatch(tag -> tag.equals("*") || opaqueTag(tag).equals(opaqueTag));
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * Adds the validation headers once the status of the response is known, that
+     * is when its body starts, and counts the bytes of the body.
+     */
+    private static final class TaggingResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+        private final String cacheControl;
+        private boolean tagged;
+        private CountingOutputStream outputStream;
+
+        TaggingResponse(HttpServletResponse response, String etag, String cacheControl) {
+            super(response);
+            this.etag = etag;
+            this.cacheControl = cacheControl;
+        }
+
+        void tag() {
+            if (!tagged && !isCommitted() && HttpStatusCode.valueOf(getStatus()).is2xxSuccessful()) {
+                setHeader(HttpHeaders.ETAG, etag);
+                setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            tagged = true;
+        }
+
+        long bytesWritten() {
+            return Objects.isNull(outputStream) ? 0 : outputStream.count;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            tag();
+            if (Objects.isNull(outputStream)) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            tag();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            tag();
+            super.flushBuffer();
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mesofi.mythclothapi.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Externalized settings of the conditional GET support of the public catalog
+ * endpoints.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.http.conditional-get} prefix.
+ * Responses of the listed paths carry an entity tag derived from the catalog
+ * version and are answered with {@code 304 Not Modified} while it does not
+ * change.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.http.conditional-get")
+public class ConditionalGetProperties {
+
+    /** Whether entity tags are issued and validated. */
+    private boolean enabled = true;
+
+    /**
+     * Path patterns, relative to the context path, of the endpoints whose
+     * responses only depend on the catalog.
+     */
+    private List<String> paths = new ArrayList<>();
+
+    /**
+     * How long clients may reuse a response before revalidating it; zero forces a
+     * revalidation on every use.
+     */
+    private Duration maxAge = Duration.ZERO;
+}
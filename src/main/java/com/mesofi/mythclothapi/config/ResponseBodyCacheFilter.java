@@ -0,0 +1,215 @@
+package com.mesofi.mythclothapi.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Serves the public catalog endpoints from their serialized responses.
+ *
+ * <p>
+ * Even when the service layer answers from its caches, every request maps and
+ * serializes the cached object graph again, which for the summary endpoint
+ * means the whole catalog. This filter stores the bytes of the successful
+ * responses to anonymous {@code GET} requests of the configured paths in the
+ * {@value #RESPONSE_CACHE} cache, optionally gzip-compressed, and writes them
+ * back as is on later requests, without reaching any controller.
+ * </p>
+ *
+ * <p>
+ * Entries are keyed by the {@link CatalogVersion} entity tag, the path and the
+ * query string with its parameters sorted, so a catalog change makes every
+ * entry unreachable; the stale entries are then evicted by the weight bound of
+ * the cache. Hits and misses are published as the {@value #REQUESTS_METRIC}
+ * counter, tagged by path pattern and result.
+ * </p>
+ */
+public class ResponseBodyCacheFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final String RESPONSE_CACHE = "responses";
+
+    /** Runs right after {@link ConditionalGetFilter}, so cache hits are tagged. */
+    static final int ORDER = ConditionalGetFilter.ORDER + 1;
+
+    static final String REQUESTS_METRIC = "catalog.http.response-cache.requests";
+
+    private static final String GZIP = "gzip";
+
+    private final ResponseCacheProperties properties;
+    private final CatalogVersion catalogVersion;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final List<PathPattern> patterns;
+
+    public ResponseBodyCacheFilter(ResponseCacheProperties properties, CatalogVersion catalogVersion,
+            CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.catalogVersion = catalogVersion;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.patterns = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !HttpMethod.GET.matches(request.getMethod())
+                || Objects.nonNull(request.getHeader(HttpHeaders.AUTHORIZATION)) || matchingPattern(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Cache cache = cacheManager.getCache(RESPONSE_CACHE);
+        if (Objects.isNull(cache)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String pattern = matchingPattern(request).orElseThrow();
+        ResponseKey key = new ResponseKey(catalogVersion.etag(),
+                UrlPathHelper.defaultInstance.getPathWithinApplication(request), sortedQuery(request.getQueryString()));
+        if (properties.isCompress()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        CachedResponse cached = cache.get(key, CachedResponse.class);
+        if (Objects.nonNull(cached)) {
+            meterRegistry.counter(REQUESTS_METRIC, "uri", pattern, "result", "hit").increment();
+            write(cached, acceptsGzip(request), response);
+            return;
+        }
+
+        meterRegistry.counter(REQUESTS_METRIC, "uri", pattern, "result", "miss").increment();
+        ContentCachingResponseWrapper caching = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, caching);
+        if (caching.getStatus() == HttpStatus.OK.value() && Objects.nonNull(caching.getContentType())) {
+            byte[] body = caching.getContentAsByteArray();
+            cache.put(key, properties.isCompress()
+                    ? new CachedResponse(caching.getContentType(), gzip(body), true)
+                    : new CachedResponse(caching.getContentType(), body, false));
+        }
+        caching.copyBodyToResponse();
+    }
+
+    private Optional<String> matchingPattern(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        return patterns.stream().filter(pattern -> pattern.matches(path)).map(PathPattern::getPatternString)
+                .findFirst();
+    }
+
+    private static void write(CachedResponse cached, boolean acceptsGzip, HttpServletResponse response)
+            throws IOException {
+        byte[] body = cached.gzip() && !acceptsGzip ? gunzip(cached.body()) : cached.body();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(cached.contentType());
+        if (cached.gzip() && acceptsGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Indicates whether the client accepts gzip-encoded responses, ignoring the
+     * codings it explicitly refuses with a zero quality.
+     */
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        return Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING)).stream()
+                .flatMap(header -> Arrays.stream(header.split(","))).map(String::strip)
+                .map(coding -> coding.split(";", 2))
+                .anyMatch(coding -> coding[0].strip().equalsIgnoreCase(GZIP)
+                        && (coding.length == 1 || !coding[1].replace(" ", "").matches("q=0(\\.0*)?")));
+    }
+
+    /**
+     * Sorts the parameters of a query string, so that equivalent URLs share the
+     * same entry.
+     */
+    static String sortedQuery(String query) {
+        if (Objects.isNull(query) || query.isEmpty()) {
+            return null;
+        }
+        String[] parameters = query.split("&");
+        Arrays.sort(parameters);
+        return String.join("&", parameters);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    /**
+     * Identifies a response by the catalog version it was computed from and the
+     * requested URL.
+     */
+    record ResponseKey(String version, String path, String query) {
+    }
+
+    /**
+     * Serialized response stored in the cache.
+     *
+     * @param contentType
+     *            the content type of the response
+     * @param body
+     *            the bytes of the body, gzip-compressed when {@code gzip} is set
+     * @param gzip
+     *            whether the body is gzip-compressed
+     */
+    record CachedResponse(String contentType, byte[] body, boolean gzip) {
+
+        /**
+         * Weighs the response by its size in kibibytes, rounded up.
+         *
+         * @return the weight of the response in the cache
+         */
+        int weight() {
+            return Math.max((body.length + 1023) / 1024, 1);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mesofi.mythclothapi.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Externalized settings of the serialized response cache of the public catalog
+ * endpoints.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.http.response-cache} prefix.
+ * Successful responses of the listed paths are stored as the bytes written to
+ * the client, keyed by catalog version and request URL, and replayed without
+ * running the controller or serializing the response again.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.http.response-cache")
+public class ResponseCacheProperties {
+
+    /** Whether serialized responses are cached; disabled by default. */
+    private boolean enabled = false;
+
+    /**
+     * Path patterns, relative to the context path, of the endpoints whose
+     * responses only depend on the catalog and the query string.
+     */
+    private List<String> paths = new ArrayList<>();
+
+    /**
+     * Whether cached bodies are stored gzip-compressed and sent as is to clients
+     * accepting that encoding.
+     */
+    private boolean compress = true;
+}
@@ -1,13 +1,14 @@
 package com.mesofi.mythclothapi.distributors;
 
-import static com.mesofi.mythclothapi.catalogs.CatalogService.CATALOG_CONTEXT_CACHE;
+import static com.mesofi.mythclothapi.catalogs.CatalogService.REFERENCE_DATA_CACHES;
 
 import java.util.List;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
 import com.mesofi.mythclothapi.distributors.dto.DistributorReq;
 import com.mesofi.mythclothapi.distributors.dto.DistributorResp;
 import com.mesofi.mythclothapi.distributors.exceptions.DistributorAlreadyExistsException;
@@ -32,6 +33,7 @@ public class DistributorService {
 
     private final DistributorRepository repository;
     private final DistributorMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new distributor.
@@ -48,7 +50,6 @@ public class DistributorService {
      *             if a distributor with the same name and country already exists
      */
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public DistributorResp createDistributor(DistributorReq request) {
         log.info("Creating distributor: {} - {}", request.name(), request.countryCode());
 
@@ -60,6 +61,7 @@ public class DistributorService {
         }
 
         var saved = repository.save(entity);
+        eventPublisher.publishEvent(new CatalogChangedEvent("distributors", REFERENCE_DATA_CACHES));
         return mapper.toDistributorResp(saved);
     }
 
@@ -108,7 +110,6 @@ public class DistributorService {
      *             distributor
      */
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public DistributorResp updateDistributor(Long id, DistributorReq request) {
         log.info("Updating distributor {} to {} - {}", id, request.name(), request.countryCode());
         var existing = repository.findById(id).orElseThrow(() -> new DistributorNotFoundException(id));
@@ -127,6 +128,7 @@ public class DistributorService {
         mapper.updateDistributor(request, existing);
 
         var saved = repository.save(existing);
+        eventPublisher.publishEvent(new CatalogChangedEvent("distributors", REFERENCE_DATA_CACHES));
         return mapper.toDistributorResp(saved);
     }
 
@@ -139,7 +141,6 @@ public class DistributorService {
      *             if no distributor with the given ID exists
      */
     @Transactional
-    @CacheEvict(value = CATALOG_CONTEXT_CACHE, allEntries = true)
     public void removeDistributor(Long id) {
         log.warn("Removing distributor {}", id);
 
@@ -147,5 +148,6 @@ public class DistributorService {
             throw new DistributorNotFoundException(id);
         }
         repository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent("distributors", REFERENCE_DATA_CACHES));
     }
 }
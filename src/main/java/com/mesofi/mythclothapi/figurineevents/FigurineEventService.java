@@ -7,6 +7,7 @@ import java.util.Optional;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +15,7 @@ import org.springframework.validation.annotation.Validated;
 import com.mesofi.mythclothapi.figurineevents.dto.FigurineEventReq;
 import com.mesofi.mythclothapi.figurineevents.dto.FigurineEventResp;
 import com.mesofi.mythclothapi.figurineevents.model.FigurineEvent;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
 import com.mesofi.mythclothapi.figurines.FigurineNotFoundException;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
@@ -44,6 +46,7 @@ public class FigurineEventService {
     private final FigurineRepository figurineRepository;
     private final FigurineEventRepository repository;
     private final FigurineEventMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new event for the specified figurine.
@@ -69,6 +72,7 @@ public class FigurineEventService {
         linkReferences(figurineEvent, request.getFigurineId());
 
         var saved = repository.save(figurineEvent);
+        eventPublisher.publishEvent(FigurineCatalogChangedEvent.detailsOf(saved.getFigurine()));
         return mapper.toFigurineEventResp(saved);
     }
 
@@ -158,9 +162,11 @@ public class FigurineEventService {
         figurineEvent.setDetails(newRequest.getDescription());
         if (!Objects.equals(figurine.getId(), figurineId)) {
             // there was a change ... the new figureId is different from the existing one.
+            eventPublisher.publishEvent(FigurineCatalogChangedEvent.detailsOf(figurineEvent.getFigurine()));
             figurineEvent.setFigurine(figurine);
         }
         var updated = repository.save(figurineEvent);
+        eventPublisher.publishEvent(FigurineCatalogChangedEvent.detailsOf(figurine));
         return mapper.toFigurineEventResp(updated);
     }
 
@@ -179,6 +185,7 @@ public class FigurineEventService {
      *             if no event with the given {@code eventId} exists for the
      *             specified figurine
      */
+    @Transactional
     public void removeFigurineEvent(@NotNull Long figurineId, @NotNull Long eventId) {
         log.warn("Removing event: {} for figurine: {}", eventId, figurineId);
 
@@ -186,5 +193,6 @@ public class FigurineEventService {
                 .orElseThrow(() -> new FigurineEventNotFoundException(eventId));
 
         repository.delete(figurineEvent);
+        eventPublisher.publishEvent(FigurineCatalogChangedEvent.detailsOf(figurineEvent.getFigurine()));
     }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +15,7 @@ import com.mesofi.mythclothapi.figurineimages.dto.FigurineImageReq;
 import com.mesofi.mythclothapi.figurineimages.dto.FigurineImageResp;
 import com.mesofi.mythclothapi.figurineimages.exceptions.ImageAlreadyExistsException;
 import com.mesofi.mythclothapi.figurineimages.exceptions.ImageNotFoundException;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
 import com.mesofi.mythclothapi.figurines.FigurineNotFoundException;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
@@ -48,6 +50,7 @@ import lombok.extern.slf4j.Slf4j;
 public class FigurineImageService {
 
     private final FigurineRepository figurineRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Adds a new image URL to a figurine.
@@ -90,6 +93,7 @@ public class FigurineImageService {
         existingImages.add(normalizedUrl);
 
         figurineRepository.save(existing);
+        eventPublisher.publishEvent(FigurineCatalogChangedEvent.detailsOf(existing));
 
         return new FigurineImageResp(List.copyOf(existingImages));
     }
@@ -161,6 +165,7 @@ public class FigurineImageService {
 
         if (images.remove(normalizedUrl)) {
             figurineRepository.save(existing);
+            eventPublisher.publishEvent(FigurineCatalogChangedEvent.detailsOf(existing));
         } else {
             log.warn("Image {} not found in figurine {}", normalizedUrl, figurineId);
             throw new ImageNotFoundException(imageUrl);
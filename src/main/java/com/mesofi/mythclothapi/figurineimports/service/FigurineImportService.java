@@ -1,10 +1,5 @@
 package com.mesofi.mythclothapi.figurineimports.service;
 
-import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_FIGURINE_CACHE;
-import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_SUMMARY_CACHE;
-import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_CACHE;
-import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_SUMMARY_CACHE;
-
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
@@ -16,7 +11,7 @@ import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
@@ -27,6 +22,7 @@ import com.mesofi.mythclothapi.figurineimports.FigurineImportException;
 import com.mesofi.mythclothapi.figurineimports.FigurineImportRepository;
 import com.mesofi.mythclothapi.figurineimports.FigurineImportResp;
 import com.mesofi.mythclothapi.figurineimports.csvsource.FigurineImportCsvSource;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
 import com.mesofi.mythclothapi.figurines.FigurineService;
 import com.mesofi.mythclothapi.figurines.mapper.FigurineCsv;
 import com.mesofi.mythclothapi.figurines.mapper.FigurineMapper;
@@ -49,8 +45,8 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>
  * After the figurines are persisted, restock history is rebuilt for the
- * imported records. Relevant application caches are evicted whenever an import
- * is executed to ensure subsequent requests use the latest figurine data.
+ * imported records. Once the import commits, the figurine-related caches are
+ * evicted to ensure subsequent requests use the latest figurine data.
  * </p>
  *
  * <p>
@@ -72,6 +68,7 @@ public class FigurineImportService {
     private final FigurineImportCsvSource figurineImportCsvSource;
     private final FigurineImportHistoryService figurineImportHistoryService;
     private final FigurineImportRepository figurineImportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Imports all figurines from the configured public CSV source.
@@ -91,8 +88,9 @@ public class FigurineImportService {
      *
      * <p>
      * After a successful import, restock history is rebuilt for all imported
-     * figurines. Figurine-related caches are evicted when the import operation
-     * begins.
+     * figurines. Figurine-related caches are evicted by
+     * {@link com.mesofi.mythclothapi.figurines.FigurineCacheInvalidator} once the
+     * import commits.
      * </p>
      *
      * @throws FigurineImportException
@@ -100,8 +98,6 @@ public class FigurineImportService {
      *             the import
      */
     @Transactional
-    @CacheEvict(value = {FIGURINE_CACHE, FIGURINE_SUMMARY_CACHE, COLLECTOR_SUMMARY_CACHE,
-            COLLECTOR_FIGURINE_CACHE}, allEntries = true)
     public void importAllFigurinesFromPublicDrive() {
         log.info("Importing all figurines from public drive...");
 
@@ -141,6 +137,11 @@ public class FigurineImportService {
 
             importedFigurines = figurineRepository.saveAllAndFlush(allFigurines);
 
+            // Distributor-only changes do not trigger the figurine listener, so the
+            // first distributor columns are recalculated in bulk.
+            int refreshed = figurineRepository.refreshFirstDistributorColumns();
+            log.info("Refreshed first distributor columns for {} figurines.", refreshed);
+
         } catch (IOException ex) {
             log.error("Error while reading csv file.", ex);
             errorMessage = "Unable to load all figurines: " + ex.getMessage();
@@ -157,6 +158,8 @@ public class FigurineImportService {
 
         // Rebuild restock history for all imported figurines.
         figurineService.rebuildRestockHistory(importedFigurines);
+
+        eventPublisher.publishEvent(new FigurineCatalogChangedEvent(null));
     }
 
     /**
@@ -0,0 +1,363 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static com.mesofi.mythclothapi.figurines.model.ReleaseStatus.ANNOUNCED;
+import static com.mesofi.mythclothapi.figurines.model.ReleaseStatus.RELEASED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineIndexEntry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory bitmap index answering {@link FigurineFilter} searches without
+ * querying the database.
+ *
+ * <p>
+ * Figurines are laid out in the default search ordering, so the position of a
+ * figurine in that ordering is also its bit in every bitmap. The index keeps
+ * one bitmap per lineup, series, group, distribution, anniversary, release
+ * status, and boolean attribute value. A search intersects the bitmaps of the
+ * requested values and walks the resulting set bits, which are already sorted.
+ * </p>
+ *
+ * <p>
+ * The index is disabled by default and is enabled with
+ * {@code myth-cloth.figurines.search.bitmap-index.enabled}. It is built when the
+ * application starts and rebuilt after every committed
+ * {@link FigurineCatalogChangedEvent}. Each build produces a new immutable
+ * snapshot, so searches never observe a partially built index.
+ * </p>
+ *
+ * <p>
+ * Name searches are matched by substring, like the SQL {@code LIKE} predicate.
+ * Names containing {@code LIKE} wildcards are not supported and are left to the
+ * database.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FigurineBitmapIndex {
+
+    private static final String LIKE_SPECIAL_CHARACTERS = "%_\\";
+
+    private final FigurineRepository repository;
+
+    @Value("${myth-cloth.figurines.search.bitmap-index.enabled:false}")
+    private boolean enabled;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Builds the index once the application has started.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the index after figurines have changed.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogVersion.INVALIDATION_ORDER)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(FigurineCatalogChangedEvent event) {
+        if (enabled) {
+            log.debug("Rebuilding figurine bitmap index after change of figurine '{}'", event.figurineId());
+            rebuild();
+        }
+    }
+
+    /**
+     * Loads the searchable attributes of every figurine and replaces the current
+     * snapshot.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+
+        List<FigurineIndexEntry> entries = repository.findIndexEntries();
+        snapshot = new Snapshot(entries);
+
+        log.info("Built figurine bitmap index with {} figurines in {} ms", entries.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indicates whether the index has been built and can serve searches.
+     *
+     * @return {@code true} if a snapshot is available
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * Resolves a page of figurine identifiers matching the supplied filter.
+     *
+     * @param filter
+     *            the filter criteria; may be {@code null}
+     * @param page
+     *            the page number to retrieve (zero-based)
+     * @param size
+     *            the number of items per page
+     * @return the page of identifiers with the total and collectable counts, or
+     *         {@link Optional#empty()} when the index cannot serve the search
+     */
+    public Optional<FigurineIdPage> search(FigurineFilter filter, int page, int size) {
+        Snapshot current = snapshot;
+        if (Objects.isNull(current) || !supports(filter)) {
+            return Optional.empty();
+        }
+
+        BitSet matches = current.match(filter);
+        long total = matches.cardinality();
+
+        BitSet collectables = (BitSet) matches.clone();
+        collectables.and(current.collectables);
+
+        long offset = (long) page * size;
+        List<Long> ids = new ArrayList<>();
+        if (offset < total) {
+            long skipped = 0;
+            for (int position = matches.nextSetBit(0); position >= 0
+                    && ids.size() < size; position = matches.nextSetBit(position + 1)) {
+                if (skipped++ >= offset) {
+                    ids.add(current.ids[position]);
+                }
+            }
+        }
+
+        return Optional.of(new FigurineIdPage(ids, total, collectables.cardinality()));
+    }
+
+    /**
+     * Resolves the identifiers of the collectable figurines matching the supplied
+     * filter.
+     *
+     * @param filter
+     *            the filter criteria; may be {@code null}
+     * @return the identifiers in the default search ordering, or
+     *         {@link Optional#empty()} when the index cannot serve the search
+     */
+    public Optional<List<Long>> findCollectableIds(FigurineFilter filter) {
+        Snapshot current = snapshot;
+        if (Objects.isNull(current) || !supports(filter)) {
+            return Optional.empty();
+        }
+
+        BitSet matches = current.match(filter);
+        matches.and(current.collectables);
+
+        return Optional.of(matches.stream().mapToObj(position -> current.ids[position]).toList());
+    }
+
+    private boolean supports(FigurineFilter filter) {
+        if (Objects.isNull(filter) || !StringUtils.hasLength(filter.name())) {
+            return true;
+        }
+        return filter.name().chars().noneMatch(c -> LIKE_SPECIAL_CHARACTERS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Immutable set of bitmaps built from a single read of the catalog.
+     */
+    private static final class Snapshot {
+
+        private final long[] ids;
+        private final String[] names;
+        private final Map<Long, Integer> positions = new HashMap<>();
+
+        private final BitSet all = new BitSet();
+        private final BitSet collectables = new BitSet();
+        private final BitSet restocks = new BitSet();
+
+        private final Map<Long, BitSet> lineUps = new HashMap<>();
+        private final Map<Long, BitSet> series = new HashMap<>();
+        private final Map<Long, BitSet> groups = new HashMap<>();
+        private final Map<Long, BitSet> distributions = new HashMap<>();
+        private final Map<Long, BitSet> anniversaries = new HashMap<>();
+        private final Map<ReleaseStatus, BitSet> statuses = new EnumMap<>(ReleaseStatus.class);
+
+        private final FlagBits metalBody = new FlagBits();
+        private final FlagBits oce = new FlagBits();
+        private final FlagBits revival = new FlagBits();
+        private final FlagBits plainCloth = new FlagBits();
+        private final FlagBits broken = new FlagBits();
+        private final FlagBits golden = new FlagBits();
+        private final FlagBits gold = new FlagBits();
+        private final FlagBits manga = new FlagBits();
+        private final FlagBits set = new FlagBits();
+        private final FlagBits articulable = new FlagBits();
+
+        Snapshot(List<FigurineIndexEntry> entries) {
+            ids = new long[entries.size()];
+            names = new String[entries.size()];
+
+            for (int position = 0; position < entries.size(); position++) {
+                FigurineIndexEntry entry = entries.get(position);
+
+                ids[position] = entry.id();
+                names[position] = Objects.toString(entry.normalizedName(), "").toLowerCase(Locale.ROOT);
+                positions.put(entry.id(), position);
+
+                all.set(position);
+                if (entry.releaseStatus() == ANNOUNCED || entry.releaseStatus() == RELEASED) {
+                    collectables.set(position);
+                }
+                if (entry.restock()) {
+                    restocks.set(position);
+                }
+
+                add(lineUps, entry.lineUpId(), position);
+                add(series, entry.seriesId(), position);
+                add(groups, entry.groupId(), position);
+                add(distributions, entry.distributionId(), position);
+                add(anniversaries, entry.anniversaryId(), position);
+                statuses.computeIfAbsent(entry.releaseStatus(), status -> new BitSet()).set(position);
+
+                metalBody.add(entry.metalBody(), position);
+                oce.add(entry.oce(), position);
+                revival.add(entry.revival(), position);
+                plainCloth.add(entry.plainCloth(), position);
+                broken.add(entry.broken(), position);
+                golden.add(entry.golden(), position);
+                gold.add(entry.gold(), position);
+                manga.add(entry.manga(), position);
+                set.add(entry.set(), position);
+                articulable.add(entry.articulable(), position);
+            }
+        }
+
+        /**
+         * Computes the positions of the figurines matching the filter. The predicates
+         * mirror those generated by the SQL search, including {@code NULL} columns
+         * never matching an equality predicate.
+         */
+        BitSet match(FigurineFilter filter) {
+            BitSet result = (BitSet) all.clone();
+            if (Objects.isNull(filter)) {
+                return result;
+            }
+
+            if (Objects.nonNull(filter.figurineIds()) && !filter.figurineIds().isEmpty()) {
+                BitSet requested = new BitSet();
+                filter.figurineIds().stream().map(positions::get).filter(Objects::nonNull).forEach(requested::set);
+                result.and(requested);
+            }
+            and(result, lineUps, filter.lineUpId());
+            and(result, series, filter.seriesId());
+            and(result, groups, filter.groupId());
+            and(result, distributions, filter.distributionId());
+            and(result, anniversaries, filter.anniversaryId());
+
+            metalBody.and(result, filter.metalBody());
+            oce.and(result, filter.oce());
+            revival.and(result, filter.revival());
+            plainCloth.and(result, filter.plainCloth());
+            broken.and(result, filter.broken());
+            golden.and(result, filter.golden());
+            gold.and(result, filter.gold());
+            manga.and(result, filter.manga());
+            set.and(result, filter.set());
+            articulable.and(result, filter.articulable());
+
+            if (Objects.nonNull(filter.releaseStatuses()) && !filter.releaseStatuses().isEmpty()) {
+                BitSet requested = new BitSet();
+                Arrays.stream(ReleaseStatus.values()).filter(status -> filter.releaseStatuses().contains(status.name()))
+                        .map(statuses::get).filter(Objects::nonNull).forEach(requested::or);
+                result.and(requested);
+            }
+            if (Objects.nonNull(filter.restocks())) {
+                if (filter.restocks()) {
+                    result.and(restocks);
+                } else {
+                    result.andNot(restocks);
+                }
+            }
+
+            // Substring matching is the only per-figurine check, so it runs last on the
+            // smallest candidate set.
+            if (StringUtils.hasLength(filter.name())) {
+                String name = filter.name().toLowerCase(Locale.ROOT);
+                for (int position = result.nextSetBit(0); position >= 0; position = result
+                        .nextSetBit(position + 1)) {
+                    if (!names[position].contains(name)) {
+                        result.clear(position);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static void add(Map<Long, BitSet> bitmaps, Long value, int position) {
+            if (Objects.nonNull(value)) {
+                bitmaps.computeIfAbsent(value, key -> new BitSet()).set(position);
+            }
+        }
+
+        private static void and(BitSet result, Map<Long, BitSet> bitmaps, Long value) {
+            if (Objects.isNull(value)) {
+                return;
+            }
+            BitSet bitmap = bitmaps.get(value);
+            if (Objects.isNull(bitmap)) {
+                result.clear();
+            } else {
+                result.and(bitmap);
+            }
+        }
+    }
+
+    /**
+     * Bitmaps of the figurines whose boolean attribute is {@code true} and
+     * {@code false}. Figurines without a value are in neither.
+     */
+    private static final class FlagBits {
+
+        private final BitSet yes = new BitSet();
+        private final BitSet no = new BitSet();
+
+        void add(Boolean value, int position) {
+            if (Objects.nonNull(value)) {
+                (value ? yes : no).set(position);
+            }
+        }
+
+        void and(BitSet result, Boolean value) {
+            if (Objects.nonNull(value)) {
+                result.and(value ? yes : no);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_FIGURINE_CACHE;
+import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_SUMMARY_CACHE;
+import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_CACHE;
+import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_SUMMARY_CACHE;
+import static com.mesofi.mythclothapi.stats.StatisticsService.PRICING_SUMMARY_CACHE;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.catalogs.repository.LineUpRepository;
+import com.mesofi.mythclothapi.collectorscollections.dto.CollectorCollectionFigurineResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
+import com.mesofi.mythclothapi.figurines.repository.CursorPage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts the cached entries depending on a figurine after it changes.
+ *
+ * <p>
+ * Entries are evicted once the change has committed, according to the scope
+ * described by the {@link FigurineCatalogChangedEvent}:
+ * </p>
+ * <ul>
+ * <li>the available figurines used by the store listing matcher are evicted
+ * only for the line-ups the figurine belonged to;</li>
+ * <li>search pages, summaries and price statistics are evicted when their
+ * filter may include those line-ups. Unless the change affects listings, search
+ * pages and summaries are only evicted when they contain the figurine;</li>
+ * <li>collector summaries only count figurines by release status, so they are
+ * evicted only when listings change;</li>
+ * <li>collector figurine pages list the whole catalog, so they are evicted
+ * entirely when listings change, and otherwise only when they contain the
+ * figurine.</li>
+ * </ul>
+ *
+ * <p>
+ * Changes of unknown scope, such as imports, clear every cache. The number of
+ * evicted entries is published as the {@code figurine.cache.evictions} counter,
+ * tagged by cache and scope.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FigurineCacheInvalidator {
+
+    static final String EVICTIONS_METRIC = "figurine.cache.evictions";
+
+    private static final List<String> CACHES = List.of(FIGURINE_CACHE, FIGURINE_SUMMARY_CACHE,
+            COLLECTOR_SUMMARY_CACHE, COLLECTOR_FIGURINE_CACHE, PRICING_SUMMARY_CACHE);
+
+    private final CacheManager cacheManager;
+    private final LineUpRepository lineUpRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Evicts the entries depending on the figurines that changed.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogVersion.INVALIDATION_ORDER)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(FigurineCatalogChangedEvent event) {
+        if (event.isCatalogWide()) {
+            CACHES.forEach(this::clear);
+            return;
+        }
+
+        long figurineId = event.figurineId();
+        Set<Long> lineUpIds = event.lineUpIds();
+        boolean listingsChanged = event.listingsChanged();
+        Set<String> lineUpKeys = lineUpRepository.findAllById(lineUpIds).stream().map(LineUp::getDescription)
+                .map(FigurineService::lineUpCacheKey).flatMap(Optional::stream).collect(Collectors.toSet());
+
+        evict(FIGURINE_CACHE, (key, value) -> switch (key) {
+            case String lineUpKey -> lineUpKeys.contains(lineUpKey);
+            case List<?> searchKey when searchKey.getFirst() instanceof FigurineFilter filter ->
+                mayInclude(filter, lineUpIds) && (listingsChanged || containsFigurine(value, figurineId));
+            default -> true;
+        });
+        evict(FIGURINE_SUMMARY_CACHE, (key, value) -> !(key instanceof FigurineFilter filter)
+                || (mayInclude(filter, lineUpIds) && (listingsChanged || containsFigurine(value, figurineId))));
+        evict(PRICING_SUMMARY_CACHE,
+                (key, value) -> !(key instanceof FigurineFilter filter) || mayInclude(filter, lineUpIds));
+
+        if (listingsChanged) {
+            clear(COLLECTOR_SUMMARY_CACHE);
+            clear(COLLECTOR_FIGURINE_CACHE);
+        } else {
+            evict(COLLECTOR_FIGURINE_CACHE, (key, value) -> containsFigurine(value, figurineId));
+        }
+    }
+
+    /**
+     * Indicates whether a filter may match figurines of the supplied line-ups.
+     */
+    private static boolean mayInclude(FigurineFilter filter, Set<Long> lineUpIds) {
+        return Objects.isNull(filter.lineUpId()) || lineUpIds.contains(filter.lineUpId());
+    }
+
+    /**
+     * Indicates whether a cached value includes the figurine, either directly or
+     * in the restock history of another figurine. Unknown values are assumed to
+     * include it.
+     */
+    private static boolean containsFigurine(Object value, long figurineId) {
+        List<?> content = switch (value) {
+            case Page<?> page -> page.getContent();
+            case CursorPage<?> page -> page.content();
+            case List<?> list -> list;
+            default -> null;
+        };
+        if (Objects.isNull(content)) {
+            return true;
+        }
+        return content.stream().anyMatch(item -> switch (item) {
+            case FigurineResp figurine -> figurine.id() == figurineId || Objects.nonNull(figurine.restocks())
+                    && figurine.restocks().stream().anyMatch(restock -> restock.id() == figurineId);
+            case FigurineSummaryResp summary -> summary.id() == figurineId;
+            case CollectorCollectionFigurineResp figurine -> figurine.id() == figurineId;
+            default -> true;
+        });
+    }
+
+    private void evict(String cacheName, BiPredicate<Object, Object> affected) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            clear(cacheName);
+            return;
+        }
+
+        LongAdder evicted = new LongAdder();
+        nativeCache.asMap().entrySet().removeIf(entry -> {
+            boolean evict = affected.test(entry.getKey(), entry.getValue());
+            if (evict) {
+                evicted.increment();
+            }
+            return evict;
+        });
+        count(cacheName, "targeted", evicted.sum());
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        long before = cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache
+                ? nativeCache.estimatedSize()
+                : 0;
+        cache.clear();
+        count(cacheName, "full", before);
+    }
+
+    private void count(String cacheName, String scope, long evicted) {
+        log.debug("Evicted {} entries from cache '{}' ({})", evicted, cacheName, scope);
+        meterRegistry.counter(EVICTIONS_METRIC, "cache", cacheName, "scope", scope).increment(evicted);
+    }
+}
@@ -0,0 +1,96 @@
+package com.mesofi.mythclothapi.figurines;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import com.mesofi.mythclothapi.common.BaseId;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+
+/**
+ * Application event published when figurines are created, updated, deleted, or
+ * imported, or when their images or events change.
+ *
+ * <p>
+ * Listeners should react once the publishing transaction has committed, so that
+ * they observe the persisted state of the catalog.
+ * </p>
+ *
+ * <p>
+ * Besides the figurine, the event describes the scope of the change, which lets
+ * {@link FigurineCacheInvalidator} evict only the cached entries depending on
+ * it.
+ * </p>
+ *
+ * @param figurineId
+ *            identifier of the figurine that changed; {@code null} when several
+ *            figurines changed at once, as during an import
+ * @param lineUpIds
+ *            line-ups the figurine belonged to before and after the change;
+ *            empty when unknown
+ * @param listingsChanged
+ *            whether the change may add, remove or move figurines in filtered
+ *            listings, i.e. the figurine was created or deleted, or its release
+ *            status, release dates or restock characteristics changed
+ * @param matchingChanged
+ *            whether store listings may now match another figurine, i.e. the
+ *            figurine was created or deleted, or its display name, release
+ *            status or line-up changed
+ */
+public record FigurineCatalogChangedEvent(Long figurineId, Set<Long> lineUpIds, boolean listingsChanged,
+        boolean matchingChanged) {
+
+    public FigurineCatalogChangedEvent {
+        lineUpIds = Objects.isNull(lineUpIds) ? Set.of() : Set.copyOf(lineUpIds);
+    }
+
+    /**
+     * Creates an event that affects store listing matching whenever it affects
+     * filtered listings.
+     *
+     * @param figurineId
+     *            identifier of the figurine that changed
+     * @param lineUpIds
+     *            line-ups the figurine belonged to before and after the change
+     * @param listingsChanged
+     *            whether filtered listings and store listing matching may change
+     */
+    public FigurineCatalogChangedEvent(Long figurineId, Set<Long> lineUpIds, boolean listingsChanged) {
+        this(figurineId, lineUpIds, listingsChanged, listingsChanged);
+    }
+
+    /**
+     * Creates an event for a change whose scope is unknown, which invalidates
+     * everything depending on the catalog.
+     *
+     * @param figurineId
+     *            identifier of the figurine that changed; {@code null} when several
+     *            figurines changed at once
+     */
+    public FigurineCatalogChangedEvent(Long figurineId) {
+        this(figurineId, Set.of(), true, true);
+    }
+
+    /**
+     * Creates an event for a change to the details of a figurine, such as its
+     * images or events, which does not move it in filtered listings.
+     *
+     * @param figurine
+     *            the figurine whose details changed
+     * @return the event evicting the entries containing the figurine
+     */
+    public static FigurineCatalogChangedEvent detailsOf(Figurine figurine) {
+        Set<Long> lineUpIds = Optional.ofNullable(figurine.getLineup()).map(BaseId::getId).map(Set::of)
+                .orElseGet(Set::of);
+        return new FigurineCatalogChangedEvent(figurine.getId(), lineUpIds, false, false);
+    }
+
+    /**
+     * Indicates whether the whole catalog must be considered changed.
+     *
+     * @return {@code true} when the changed figurine or its line-ups are unknown
+     */
+    public boolean isCatalogWide() {
+        return Objects.isNull(figurineId) || lineUpIds.isEmpty();
+    }
+}
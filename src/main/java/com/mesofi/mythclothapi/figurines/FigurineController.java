@@ -8,11 +8,13 @@ import java.util.Optional;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,10 +29,12 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.mesofi.mythclothapi.figurines.dto.FigurineReq;
 import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSuggestionResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
 import com.mesofi.mythclothapi.figurines.dto.PaginatedResp;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.CollectablePageImpl;
+import com.mesofi.mythclothapi.figurines.repository.CursorPage;
 import com.mesofi.mythclothapi.security.permissions.model.Permissions;
 
 import lombok.RequiredArgsConstructor;
@@ -49,8 +53,8 @@ import lombok.extern.slf4j.Slf4j;
  * and deletion
  * <li>Providing filtered, paginated retrieval with support for name, catalog,
  * characteristic, and release-status filters
- * <li>Exposing lightweight summary and selectable-id projections for UI
- * consumption
+ * <li>Exposing lightweight summary, name suggestion, and selectable-id
+ * projections for UI consumption
  * <li>Retrieving the history of past figurine imports
  * <li>Triggering Jakarta Bean Validation for incoming request payloads
  * <li>Delegating all business logic to {@link FigurineService}
@@ -145,6 +149,12 @@ public class FigurineController {
      * </ul>
      *
      * <p>
+     * Every page carries a {@code nextCursor} token. Clients that scroll through
+     * the results may send it back as the {@code cursor} parameter instead of
+     * {@code page}; the next figurines are then located with a seek predicate, so
+     * deep pages cost the same as the first one.
+     *
+     * <p>
      * This endpoint is publicly accessible; however, collection-ownership data in
      * the response is only populated when the request carries a valid JWT.
      *
@@ -191,7 +201,11 @@ public class FigurineController {
      * @param restocks
      *            optional filter to include only restock figurines
      * @param page
-     *            zero-based page index; must be {@code 0} or greater
+     *            zero-based page index; must be {@code 0} or greater. Ignored when
+     *            a cursor is supplied
+     * @param cursor
+     *            optional continuation token returned as {@code nextCursor} by a
+     *            previous request
      * @param size
      *            number of elements per page; must be between {@code 1} and
      *            {@code 100}
@@ -210,6 +224,7 @@ public class FigurineController {
             @RequestParam(required = false) Boolean manga, @RequestParam(required = false) Boolean set,
             @RequestParam(required = false) Boolean articulable, @RequestParam(required = false) String releaseStatus,
             @RequestParam(required = false) Boolean restocks, @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size) {
         CollectablePageImpl<FigurineResp> result;
 
@@ -221,11 +236,21 @@ public class FigurineController {
                 distributionId, anniversaryId, metalBody, oce, revival, plainCloth, broken, golden, gold, manga, set,
                 articulable, releaseStatus, restocks);
 
+        if (StringUtils.hasText(cursor)) {
+            CursorPage<FigurineResp> slice = service.filterFigurinesAfter(figurineFilter, cursor, size);
+
+            log.info("Total figurines retrieved after cursor: {}", slice.content().size());
+            return ResponseEntity.ok(new PaginatedResp(slice.content(), -1, size, slice.totalElements(),
+                    slice.totalCollectables(), (int) Math.ceil((double) slice.totalElements() / size),
+                    slice.nextCursor()));
+        }
+
         result = service.filterFigurines(figurineFilter, page, size);
 
         log.info("Total figurines retrieved: {}", result.getContent().size());
         return ResponseEntity.ok(new PaginatedResp(result.getContent(), result.getNumber(), result.getSize(),
-                result.getTotalElements(), result.getTotalCollectables(), result.getTotalPages()));
+                result.getTotalElements(), result.getTotalCollectables(), result.getTotalPages(),
+                result.getNextCursor()));
     }
 
     private Optional<Long> getCollectorId(Authentication authentication) {
@@ -260,6 +285,30 @@ public class FigurineController {
         return service.retrieveFigurineSummaries(figurineFilter);
     }
 
+    /**
+     * Suggests figurines while the user types a name.
+     *
+     * <p>
+     * Each word of the query is matched against the beginning of the words of the
+     * figurine normalized and display names. Suggestions are served from an
+     * in-memory index and ranked with exact and leading matches first.
+     *
+     * <p>
+     * This endpoint is publicly accessible.
+     *
+     * @param query
+     *            the text typed so far
+     * @param limit
+     *            maximum number of suggestions; must be between {@code 1} and
+     *            {@code 50}
+     * @return list of {@link FigurineSuggestionResp} records, most relevant first
+     */
+    @GetMapping("/suggest")
+    public List<FigurineSuggestionResp> suggestFigurines(@RequestParam("q") @NotBlank String query,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return service.suggestFigurines(query, limit);
+    }
+
     /**
      * Retrieves the ids of figurines that match the supplied filter criteria.
      *
@@ -0,0 +1,124 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+
+/**
+ * Position of a figurine within the default search ordering, used to continue a
+ * search after that figurine without an {@code OFFSET}.
+ *
+ * <p>
+ * The default ordering groups figurines by release status and then sorts each
+ * group by a status-specific date followed by the figurine id:
+ * </p>
+ * <ul>
+ * <li>{@code ANNOUNCED} and {@code RELEASED}: first release date,
+ * descending.</li>
+ * <li>{@code PROTOTYPE} and {@code UNRELEASED}: first announcement date,
+ * descending.</li>
+ * <li>{@code RUMORED}: creation date, ascending.</li>
+ * </ul>
+ *
+ * <p>
+ * Within each status, figurines without the sort date come last.
+ * </p>
+ *
+ * <p>
+ * The cursor is exchanged with clients as an opaque, URL-safe token produced
+ * by {@link #encode()} and parsed back by {@link #decode(String)}.
+ * </p>
+ *
+ * @param status
+ *            release status of the last figurine returned
+ * @param sortValue
+ *            ISO-8601 representation of the status-specific sort date; empty
+ *            when the figurine has no such date
+ * @param id
+ *            identifier of the last figurine returned
+ */
+public record FigurineCursor(ReleaseStatus status, String sortValue, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Creates the cursor pointing at the supplied figurine.
+     *
+     * @param figurine
+     *            the last figurine of a page
+     * @return the cursor positioned on the figurine
+     */
+    public static FigurineCursor from(Figurine figurine) {
+        ReleaseStatus status = figurine.getCurrentReleaseStatus();
+        Object sortValue = switch (status) {
+            case ANNOUNCED, RELEASED -> figurine.getFirstReleaseDate();
+            case PROTOTYPE, UNRELEASED -> figurine.getFirstAnnouncementDate();
+            case RUMORED -> figurine.getCreationDate();
+        };
+        return new FigurineCursor(status, Objects.toString(sortValue, ""), figurine.getId());
+    }
+
+    /**
+     * Parses a token previously produced by {@link #encode()}.
+     *
+     * @param token
+     *            the opaque cursor token
+     * @return the decoded cursor
+     * @throws IllegalArgumentException
+     *             if the token is not a valid cursor
+     */
+    public static FigurineCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), UTF_8).split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            FigurineCursor cursor = new FigurineCursor(ReleaseStatus.valueOf(parts[0]), parts[1],
+                    Long.parseLong(parts[2]));
+            cursor.sortParameter(); // validates the sort value
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, ex);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe token.
+     *
+     * @return the cursor token
+     */
+    public String encode() {
+        String raw = status.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+
+    /**
+     * Indicates whether the cursor carries a sort date.
+     *
+     * @return {@code true} if {@link #sortValue()} is not empty
+     */
+    public boolean hasSortValue() {
+        return !sortValue.isEmpty();
+    }
+
+    /**
+     * Converts the sort value to the type of the column it was read from.
+     *
+     * @return a {@link LocalDate} for release and announcement dates, an
+     *         {@link Instant} for creation dates, or {@code null} when the cursor
+     *         carries no sort value
+     */
+    public Object sortParameter() {
+        if (!hasSortValue()) {
+            return null;
+        }
+        return status == ReleaseStatus.RUMORED ? Instant.parse(sortValue) : LocalDate.parse(sortValue);
+    }
+}
@@ -1,6 +1,8 @@
 package com.mesofi.mythclothapi.figurines;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Filter criteria used to search and narrow figurine results.
@@ -46,4 +48,52 @@ public record FigurineFilter(List<Long> figurineIds, String name, Long lineUpId,
         Long distributionId, Long anniversaryId, Boolean metalBody, Boolean oce, Boolean revival, Boolean plainCloth,
         Boolean broken, Boolean golden, Boolean gold, Boolean manga, Boolean set, Boolean articulable,
         List<String> releaseStatuses, Boolean restocks) {
+
+    /**
+     * Returns a copy of this filter where the name criterion is replaced by the
+     * identifiers of the figurines whose name matches it.
+     *
+     * <p>
+     * When this filter already restricts the figurine ids, only the ids present in
+     * both lists are kept. An empty result therefore means that no figurine can
+     * match.
+     * </p>
+     *
+     * @param nameMatches
+     *            ids of the figurines whose name matches {@link #name()}
+     * @return the filter without name criterion
+     */
+    public FigurineFilter withNameMatches(List<Long> nameMatches) {
+        List<Long> ids = Objects.isNull(figurineIds) || figurineIds.isEmpty() ? nameMatches
+                : figurineIds.stream().filter(new HashSet<>(nameMatches)::contains).toList();
+
+        return new FigurineFilter(ids, null, lineUpId, seriesId, groupId, distributionId, anniversaryId, metalBody,
+                oce, revival, plainCloth, broken, golden, gold, manga, set, articulable, releaseStatuses, restocks);
+    }
+
+    /**
+     * Returns the canonical form of this filter, used as cache key.
+     *
+     * <p>
+     * Filters selecting the same figurines share the same canonical form: empty
+     * lists and names are replaced by {@code null}, as they do not restrict the
+     * search, and the figurine ids and release statuses are sorted without
+     * duplicates, as their order is irrelevant.
+     * </p>
+     *
+     * @return the canonical filter
+     */
+    public FigurineFilter canonical() {
+        return new FigurineFilter(canonical(figurineIds), Objects.isNull(name) || name.isEmpty() ? null : name,
+                lineUpId, seriesId, groupId, distributionId, anniversaryId, metalBody, oce, revival, plainCloth,
+                broken, golden, gold, manga, set, articulable, canonical(releaseStatuses), restocks);
+    }
+
+    private static <T extends Comparable<T>> List<T> canonical(List<T> values) {
+        if (Objects.isNull(values)) {
+            return null;
+        }
+        List<T> distinct = values.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        return distinct.isEmpty() ? null : distinct;
+    }
 }
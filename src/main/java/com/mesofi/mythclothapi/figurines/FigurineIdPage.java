@@ -0,0 +1,17 @@
+package com.mesofi.mythclothapi.figurines;
+
+import java.util.List;
+
+/**
+ * Page of figurine identifiers resolved by the {@link FigurineBitmapIndex}.
+ *
+ * @param ids
+ *            identifiers of the figurines in the page, in the default search
+ *            ordering
+ * @param totalElements
+ *            total number of figurines matching the search criteria
+ * @param totalCollectables
+ *            total number of matching figurines considered collectable
+ */
+public record FigurineIdPage(List<Long> ids, long totalElements, long totalCollectables) {
+}
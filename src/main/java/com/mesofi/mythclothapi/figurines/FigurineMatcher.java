@@ -0,0 +1,177 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static com.mesofi.mythclothapi.figurines.FigurineSimilarityUtils.calculateSimilarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.mesofi.mythclothapi.figurines.model.CachedFigurine;
+
+/**
+ * Finds the figurine of a line-up whose display name best matches a store
+ * listing name.
+ *
+ * <p>
+ * The result is the one of a brute-force scan scoring every figurine with
+ * {@link FigurineSimilarityUtils#calculateSimilarity(String, String)}: the
+ * figurine with the highest similarity at or above the threshold, the last one
+ * in list order on ties. Instead of computing the edit distance against every
+ * figurine, the matcher first bounds the similarity each figurine can reach,
+ * and only scores the promising ones:
+ * </p>
+ * <ul>
+ * <li>the edit distance is at least the difference of the name lengths;</li>
+ * <li>two names within an edit distance {@code d} share at least
+ * {@code max(g1, g2) - 3d} trigrams, {@code g1} and {@code g2} being their
+ * trigram counts, so the trigrams shared with the listing name, counted through
+ * an inverted index, bound the distance as well.</li>
+ * </ul>
+ *
+ * <p>
+ * Figurines are scored by decreasing bound, and the scan stops once the bound
+ * falls below the best similarity found; each score gives up as soon as it
+ * cannot reach that similarity either. Both bounds are exact, so the matcher
+ * never misses the match the brute-force scan would return. Instances are
+ * immutable and built from the cached figurines of a line-up.
+ * </p>
+ */
+public final class FigurineMatcher {
+
+    private static final int GRAM = 3;
+
+    private final List<CachedFigurine> figurines;
+    private final String[] names;
+    private final Map<String, int[]> postings;
+
+    /**
+     * Indexes the supplied figurines.
+     *
+     * @param figurines
+     *            the available figurines of a line-up
+     */
+    public FigurineMatcher(List<CachedFigurine> figurines) {
+        this.figurines = figurines;
+        this.names = figurines.stream().map(CachedFigurine::displayName).toArray(String[]::new);
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (Objects.isNull(names[i])) {
+                continue;
+            }
+            int figurine = i;
+            grams(names[i]).forEach((gram, count) -> {
+                List<Integer> posting = positions.computeIfAbsent(gram, key -> new ArrayList<>());
+                posting.add(figurine);
+                posting.add(count);
+            });
+        }
+        this.postings = HashMap.newHashMap(positions.size());
+        positions.forEach((gram, posting) -> postings.put(gram,
+                posting.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Indicates whether this matcher indexes the supplied list, so that a matcher
+     * can be reused as long as the cached figurines are not reloaded.
+     *
+     * @param figurines
+     *            the available figurines of a line-up
+     * @return {@code true} if the matcher was built from that very list
+     */
+    public boolean isBuiltFrom(List<CachedFigurine> figurines) {
+        return this.figurines == figurines;
+    }
+
+    /**
+     * Finds the figurine whose display name best matches the supplied name.
+     *
+     * @param name
+     *            the normalized name of a store listing
+     * @param threshold
+     *            the minimum similarity of a match
+     * @return the best matching figurine, or {@link Optional#empty()} if none
+     *         reaches the threshold
+     */
+    public Optional<CachedFigurine> findBestMatch(String name, double threshold) {
+        if (Objects.isNull(name)) {
+            return Optional.empty();
+        }
+
+        double[] bounds = bounds(name);
+        Integer[] candidates = new Integer[names.length];
+        int size = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (bounds[i] >= threshold) {
+                candidates[size++] = i;
+            }
+        }
+        Arrays.sort(candidates, 0, size,
+                Comparator.comparingDouble((Integer i) -> bounds[i]).thenComparingInt(i -> i).reversed());
+
+        double bestSimilarity = threshold;
+        int best = -1;
+        for (int c = 0; c < size && bounds[candidates[c]] >= bestSimilarity; c++) {
+            int i = candidates[c];
+            double similarity = calculateSimilarity(names[i], name, bestSimilarity);
+            if (similarity > bestSimilarity || similarity == bestSimilarity && i > best) {
+                bestSimilarity = similarity;
+                best = i;
+            }
+        }
+        return best < 0 ? Optional.empty() : Optional.of(figurines.get(best));
+    }
+
+    /**
+     * Computes, for every figurine, an upper bound of its similarity with the
+     * supplied name.
+     */
+    private double[] bounds(String name) {
+        int[] shared = new int[names.length];
+        grams(name).forEach((gram, count) -> {
+            int[] posting = postings.get(gram);
+            if (Objects.nonNull(posting)) {
+                for (int p = 0; p < posting.length; p += 2) {
+                    shared[posting[p]] += Math.min(count, posting[p + 1]);
+                }
+            }
+        });
+
+        double[] bounds = new double[names.length];
+        for (int i = 0; i < names.length; i++) {
+            if (Objects.isNull(names[i])) {
+                continue;
+            }
+            int maxLength = Math.max(names[i].length(), name.length());
+            if (maxLength == 0) {
+                bounds[i] = 1.0;
+                continue;
+            }
+            int maxGrams = Math.max(gramCount(names[i]), gramCount(name));
+            int distance = Math.max(Math.abs(names[i].length() - name.length()),
+                    Math.ceilDiv(Math.max(maxGrams - shared[i], 0), GRAM));
+            bounds[i] = 1.0 - ((double) distance / maxLength);
+        }
+        return bounds;
+    }
+
+    private static int gramCount(String text) {
+        return Math.max(text.length() - GRAM + 1, 0);
+    }
+
+    /**
+     * Counts the occurrences of every trigram of a text.
+     */
+    private static Map<String, Integer> grams(String text) {
+        Map<String, Integer> grams = HashMap.newHashMap(gramCount(text));
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.merge(text.substring(i, i + GRAM), 1, Integer::sum);
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,341 @@
+package com.mesofi.mythclothapi.figurines;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSuggestionResp;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineNameProjection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory trigram index over figurine names.
+ *
+ * <p>
+ * Every word of the normalized and display names is split into trigrams after
+ * padding it with two leading blanks and one trailing blank, so that the first
+ * trigrams of a word also encode its one- and two-character prefixes. The index
+ * maps each trigram to the figurines containing it and serves two lookups:
+ * </p>
+ * <ul>
+ * <li>{@link #suggest(String, int)}: ranked typeahead matches where every word
+ * of the query is the prefix of a word of the figurine name.</li>
+ * <li>{@link #findIdsContaining(String)}: identifiers of the figurines whose
+ * normalized name contains a text, with the same semantics as the {@code LIKE}
+ * predicate of the figurine search.</li>
+ * </ul>
+ *
+ * <p>
+ * The index is built when the application starts. It is then updated one
+ * figurine at a time after each committed {@link FigurineCatalogChangedEvent},
+ * and rebuilt entirely after imports.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FigurineNameIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String LIKE_SPECIAL_CHARACTERS = "%_\\";
+    private static final int GRAM_LENGTH = 3;
+
+    private final FigurineRepository repository;
+
+    /**
+     * Maximum number of figurines a name filter may resolve to before the search
+     * falls back to the {@code LIKE} predicate, which keeps the generated
+     * {@code IN} list short. Together with the padding of {@code IN} lists, it
+     * bounds the number of distinct statements the name filters produce.
+     */
+    @Value("${myth-cloth.figurines.search.name-index.max-filter-matches:200}")
+    private int maxFilterMatches;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private volatile boolean ready;
+
+    /**
+     * Builds the index once the application has started.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Updates the index after figurines have changed.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogVersion.INVALIDATION_ORDER)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(FigurineCatalogChangedEvent event) {
+        if (Objects.isNull(event.figurineId())) {
+            rebuild();
+            return;
+        }
+        repository.findNamesById(event.figurineId()).ifPresentOrElse(this::put, () -> remove(event.figurineId()));
+    }
+
+    /**
+     * Loads the names of every figurine and replaces the indexed content.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<FigurineNameProjection> names = repository.findAllNames();
+
+        int trigrams;
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            names.forEach(this::add);
+            trigrams = postings.size();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Built figurine name index with {} figurines and {} trigrams in {} ms", names.size(), trigrams,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Adds or replaces the names of a single figurine.
+     *
+     * @param names
+     *            the figurine names
+     */
+    public synchronized void put(FigurineNameProjection names) {
+        lock.writeLock().lock();
+        try {
+            unindex(names.getId());
+            add(names);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a figurine from the index.
+     *
+     * @param id
+     *            the figurine identifier
+     */
+    public synchronized void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            unindex(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indicates whether the index has been built.
+     *
+     * @return {@code true} if the index can serve lookups
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the figurines whose names best match a typeahead query.
+     *
+     * <p>
+     * A figurine matches when every word of the query is the prefix of a word of
+     * its normalized or display name. Matches are ranked by exact name first, then
+     * names starting with the query, then by the shortest display name.
+     * </p>
+     *
+     * @param query
+     *            the text typed so far
+     * @param limit
+     *            the maximum number of suggestions
+     * @return the best matches, most relevant first
+     */
+    public List<FigurineSuggestionResp> suggest(String query, int limit) {
+        if (!ready) {
+            rebuild();
+        }
+        String normalizedQuery = Objects.toString(query, "").toLowerCase(Locale.ROOT).strip();
+        List<String> prefixes = words(normalizedQuery);
+        if (prefixes.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> grams = new HashSet<>();
+        prefixes.forEach(prefix -> grams.addAll(grams("  " + prefix)));
+
+        lock.readLock().lock();
+        try {
+            return candidates(grams).stream().map(entries::get)
+                    .filter(entry -> prefixes.stream().allMatch(entry::hasWordStartingWith))
+                    .sorted(Comparator.comparingInt((Entry entry) -> entry.rank(normalizedQuery))
+                            .thenComparingInt(entry -> entry.displayName().length())
+                            .thenComparing(Entry::displayName).thenComparing(Entry::id))
+                    .limit(limit).map(entry -> new FigurineSuggestionResp(entry.id(), entry.displayName())).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves the identifiers of the figurines whose normalized name contains the
+     * supplied text, ignoring case.
+     *
+     * @param name
+     *            the text to look for
+     * @return the matching identifiers, or {@link Optional#empty()} when the index
+     *         is not built, the text contains {@code LIKE} wildcards, or too many
+     *         figurines match
+     */
+    public Optional<List<Long>> findIdsContaining(String name) {
+        if (!ready || name.chars().anyMatch(c -> LIKE_SPECIAL_CHARACTERS.indexOf(c) >= 0)) {
+            return Optional.empty();
+        }
+        String needle = name.toLowerCase(Locale.ROOT);
+
+        // Only trigrams lying inside a single word were indexed.
+        Set<String> grams = new HashSet<>();
+        words(needle).forEach(word -> grams.addAll(grams(word)));
+
+        lock.readLock().lock();
+        try {
+            List<Long> ids = (grams.isEmpty() ? entries.keySet() : candidates(grams)).stream()
+                    .filter(id -> entries.get(id).normalizedName().contains(needle)).toList();
+            return ids.size() > maxFilterMatches ? Optional.empty() : Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersects the posting lists of the supplied trigrams, starting from the
+     * shortest one. Must be called while holding the read lock.
+     */
+    private Set<Long> candidates(Set<String> grams) {
+        List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> list = postings.get(gram);
+            if (Objects.isNull(list)) {
+                return Set.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void add(FigurineNameProjection names) {
+        Entry entry = Entry.of(names);
+        entries.put(entry.id(), entry);
+        entry.trigrams().forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(entry.id()));
+    }
+
+    private void unindex(Long id) {
+        Entry previous = entries.remove(id);
+        if (Objects.isNull(previous)) {
+            return;
+        }
+        for (String gram : previous.trigrams()) {
+            Set<Long> list = postings.get(gram);
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static List<String> words(String text) {
+        return WORD_SEPARATOR.splitAsStream(text).filter(word -> !word.isEmpty()).toList();
+    }
+
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Indexed names of a figurine.
+     *
+     * @param id
+     *            figurine identifier
+     * @param normalizedName
+     *            lower-cased normalized name
+     * @param displayName
+     *            display name as shown to users
+     * @param tokens
+     *            lower-cased words of both names
+     * @param trigrams
+     *            padded trigrams of every word
+     */
+    private record Entry(Long id, String normalizedName, String displayName, Set<String> tokens,
+            Set<String> trigrams) {
+
+        static Entry of(FigurineNameProjection names) {
+            String normalizedName = Objects.toString(names.getNormalizedName(), "").toLowerCase(Locale.ROOT);
+            String displayName = Objects.toString(names.getDisplayName(), "");
+
+            Set<String> tokens = new HashSet<>(words(normalizedName));
+            tokens.addAll(words(displayName.toLowerCase(Locale.ROOT)));
+
+            Set<String> trigrams = new HashSet<>();
+            tokens.forEach(token -> trigrams.addAll(grams("  " + token + " ")));
+
+            return new Entry(names.getId(), normalizedName, displayName, tokens, trigrams);
+        }
+
+        boolean hasWordStartingWith(String prefix) {
+            return tokens.stream().anyMatch(token -> token.startsWith(prefix));
+        }
+
+        int rank(String query) {
+            String display = displayName.toLowerCase(Locale.ROOT);
+            if (normalizedName.equals(query) || display.equals(query)) {
+                return 0;
+            }
+            if (normalizedName.startsWith(query) || display.startsWith(query)) {
+                return 1;
+            }
+            return 2;
+        }
+    }
+}
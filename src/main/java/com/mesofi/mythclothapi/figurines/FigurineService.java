@@ -1,40 +1,43 @@
 package com.mesofi.mythclothapi.figurines;
 
-import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_FIGURINE_CACHE;
-import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_SUMMARY_CACHE;
 import static com.mesofi.mythclothapi.figurineevents.model.FigurineEventType.ANNOUNCEMENT;
 import static com.mesofi.mythclothapi.figurineevents.model.FigurineEventType.PREORDER_OPEN;
 import static com.mesofi.mythclothapi.figurineevents.model.FigurineEventType.RELEASE;
-import static com.mesofi.mythclothapi.figurines.FigurineSimilarityUtils.calculateSimilarity;
 import static com.mesofi.mythclothapi.figurines.model.ReleaseStatus.ANNOUNCED;
 import static com.mesofi.mythclothapi.figurines.model.ReleaseStatus.RELEASED;
 import static com.mesofi.mythclothapi.figurines.utils.FigurineComparisonUtils.isRestock;
-import static com.mesofi.mythclothapi.stats.StatisticsService.PRICING_SUMMARY_CACHE;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
 import com.mesofi.mythclothapi.catalogs.CatalogService;
@@ -55,6 +58,7 @@ import com.mesofi.mythclothapi.figurineevents.model.FigurineEventType;
 import com.mesofi.mythclothapi.figurines.dto.FigurineReq;
 import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineRestockResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSuggestionResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
 import com.mesofi.mythclothapi.figurines.mapper.FigurineMapper;
 import com.mesofi.mythclothapi.figurines.model.CachedFigurine;
@@ -62,6 +66,8 @@ import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.model.FigurineCharacteristics;
 import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
 import com.mesofi.mythclothapi.figurines.repository.CollectablePageImpl;
+import com.mesofi.mythclothapi.figurines.repository.CursorPage;
+import com.mesofi.mythclothapi.figurines.repository.FigurineListener;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
 
 import io.micrometer.core.annotation.Timed;
@@ -123,6 +129,10 @@ public class FigurineService {
     private final CollectorCollectionRepository collectorCollectionRepository;
     private final CacheManager cacheManager;
     private final CatalogService catalogService;
+    private final FigurineBitmapIndex bitmapIndex;
+    private final FigurineNameIndex nameIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<LineUpType, FigurineMatcher> matchers = new ConcurrentHashMap<>();
 
     private final String ANN_MSG = "First announced as a possible future release.";
     private final String PRE_ORDER_MSG = "Pre-orders are officially open.";
@@ -181,8 +191,6 @@ public class FigurineService {
      * @return API response DTO for the created figurine
      */
     @Transactional
-    @CacheEvict(value = {FIGURINE_CACHE, FIGURINE_SUMMARY_CACHE, COLLECTOR_SUMMARY_CACHE, COLLECTOR_FIGURINE_CACHE,
-            PRICING_SUMMARY_CACHE}, allEntries = true)
     public FigurineResp createFigurine(@NotNull @Valid FigurineReq request) {
         log.info("Creating figurine '{}'", request.name());
 
@@ -192,6 +200,7 @@ public class FigurineService {
         var saved = repository.saveAndFlush(newFigurine);
 
         linkToPreviousRelease(saved);
+        eventPublisher.publishEvent(new FigurineCatalogChangedEvent(saved.getId(), lineUpIds(saved), true));
         return mapper.toFigurineResp(saved, this::calculatePriceWithTax, this::buildRestockHistory);
     }
 
@@ -239,7 +248,9 @@ public class FigurineService {
      * This method:
      *
      * <ul>
-     * <li>Applies the specified {@link FigurineFilter} to search for figurines
+     * <li>Applies the specified {@link FigurineFilter} to search for figurines,
+     * using the {@link FigurineBitmapIndex} when it is built and querying the
+     * database otherwise
      * <li>Returns results in a paginated format using the given page and size
      * parameters
      * <li>Maps each {@link Figurine} entity to a {@link FigurineResp} DTO,
@@ -258,19 +269,136 @@ public class FigurineService {
      */
     @Transactional(readOnly = true)
     @Timed(value = "figurine.search", description = "Time spent searching figurines")
-    @Cacheable(value = FIGURINE_CACHE, key = "T(java.util.Objects).hash(#filter, #page, #size)")
+    @Cacheable(value = FIGURINE_CACHE, key = "{#filter.canonical(), #page, #size}", sync = true)
     public CollectablePageImpl<FigurineResp> filterFigurines(@NotNull FigurineFilter filter, @PositiveOrZero int page,
             @Positive int size) {
         log.info("Reading figurines page '{}', size '{}' and filter: {}", page, size, filter);
 
-        CollectablePageImpl<Figurine> figurines = repository.findPaginated(filter, PageRequest.of(page, size));
+        PageRequest pageable = PageRequest.of(page, size);
+        CollectablePageImpl<Figurine> figurines = bitmapIndex.search(filter, page, size)
+                .map(idPage -> toFigurinePage(idPage, pageable))
+                .orElseGet(() -> narrowByName(filter).map(narrowed -> repository.findPaginated(narrowed, pageable))
+                        .orElseGet(() -> new CollectablePageImpl<>(List.of(), pageable, 0, 0)));
 
         List<FigurineResp> list = figurines.getContent().stream().map(
                 figurine -> mapper.toFigurineResp(figurine, this::calculatePriceWithTax, this::buildRestockHistory))
                 .toList();
 
         return new CollectablePageImpl<>(list, figurines.getPageable(), figurines.getTotalElements(),
-                figurines.getTotalCollectables());
+                figurines.getTotalCollectables(), figurines.getNextCursor());
+    }
+
+    /**
+     * Loads the figurines of a page resolved by the {@link FigurineBitmapIndex},
+     * preserving the order of the identifiers.
+     *
+     * @param idPage
+     *            the page of identifiers and counts
+     * @param pageable
+     *            the requested page
+     * @return the page of figurines
+     */
+    private CollectablePageImpl<Figurine> toFigurinePage(FigurineIdPage idPage, PageRequest pageable) {
+        Map<Long, Figurine> byId = repository.findAllById(idPage.ids()).stream()
+                .collect(Collectors.toMap(BaseId::getId, Function.identity()));
+        List<Figurine> content = idPage.ids().stream().map(byId::get).filter(Objects::nonNull).toList();
+
+        boolean hasNext = pageable.getOffset() + content.size() < idPage.totalElements();
+        String nextCursor = hasNext && !content.isEmpty() ? FigurineCursor.from(content.getLast()).encode() : null;
+
+        return new CollectablePageImpl<>(content, pageable, idPage.totalElements(), idPage.totalCollectables(),
+                nextCursor);
+    }
+
+    /**
+     * Retrieves the figurines that follow the supplied continuation cursor.
+     *
+     * <p>
+     * This method:
+     *
+     * <ul>
+     * <li>Decodes the opaque cursor returned by a previous search
+     * <li>Applies the specified {@link FigurineFilter} and seeks past the cursor
+     * position instead of skipping rows with an offset
+     * <li>Maps each {@link Figurine} entity to a {@link FigurineResp} DTO
+     * <li>Stores responses in the {@code figurines} cache using a key derived from
+     * the filter, cursor, and size
+     * </ul>
+     *
+     * @param filter
+     *            the filter criteria to apply when searching for figurines
+     * @param cursor
+     *            the continuation cursor returned by the previous search
+     * @param size
+     *            the number of items to retrieve
+     * @return the next figurines matching the filter and the cursor for the
+     *         following ones
+     * @throws IllegalArgumentException
+     *             if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = "figurine.search.cursor", description = "Time spent searching figurines after a cursor")
+    @Cacheable(value = FIGURINE_CACHE, key = "{#filter.canonical(), #cursor, #size}", sync = true)
+    public CursorPage<FigurineResp> filterFigurinesAfter(@NotNull FigurineFilter filter, @NotBlank String cursor,
+            @Positive int size) {
+        log.info("Reading figurines after cursor '{}', size '{}' and filter: {}", cursor, size, filter);
+
+        FigurineCursor position = FigurineCursor.decode(cursor);
+        CursorPage<Figurine> figurines = narrowByName(filter)
+                .map(narrowed -> repository.findAfter(narrowed, position, size))
+                .orElseGet(() -> new CursorPage<>(List.of(), 0, 0, null));
+
+        List<FigurineResp> list = figurines.content().stream().map(
+                figurine -> mapper.toFigurineResp(figurine, this::calculatePriceWithTax, this::buildRestockHistory))
+                .toList();
+
+        return new CursorPage<>(list, figurines.totalElements(), figurines.totalCollectables(),
+                figurines.nextCursor());
+    }
+
+    /**
+     * Resolves the name criterion of a filter with the {@link FigurineNameIndex}.
+     *
+     * <p>
+     * The database matches names with a leading-wildcard {@code LIKE}, which cannot
+     * use an index. When the name index can resolve the name, the criterion is
+     * replaced by the matching figurine ids instead.
+     * </p>
+     *
+     * @param filter
+     *            the filter criteria
+     * @return the filter to send to the database, or {@link Optional#empty()} when
+     *         no figurine can match the name
+     */
+    private Optional<FigurineFilter> narrowByName(FigurineFilter filter) {
+        if (!StringUtils.hasLength(filter.name())) {
+            return Optional.of(filter);
+        }
+        Optional<List<Long>> nameMatches = nameIndex.findIdsContaining(filter.name());
+        if (nameMatches.isEmpty()) {
+            return Optional.of(filter);
+        }
+        FigurineFilter narrowed = filter.withNameMatches(nameMatches.get());
+        return narrowed.figurineIds().isEmpty() ? Optional.empty() : Optional.of(narrowed);
+    }
+
+    /**
+     * Suggests figurines whose names start with the words typed so far.
+     *
+     * <p>
+     * Suggestions are served from the in-memory {@link FigurineNameIndex}, so this
+     * method never queries the database once the index is built.
+     * </p>
+     *
+     * @param query
+     *            the text typed so far
+     * @param limit
+     *            the maximum number of suggestions
+     * @return the best matching figurines, most relevant first
+     */
+    @Timed(value = "figurine.suggest", description = "Time spent suggesting figurines by name")
+    public List<FigurineSuggestionResp> suggestFigurines(@NotBlank String query, @Positive int limit) {
+        return nameIndex.suggest(query, limit);
     }
 
     private List<FigurineRestockResp> buildRestockHistory(Figurine figurine) {
@@ -329,12 +457,12 @@ public class FigurineService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(FIGURINE_SUMMARY_CACHE)
+    @Cacheable(value = FIGURINE_SUMMARY_CACHE, key = "#filter.canonical()", sync = true)
     public List<FigurineSummaryResp> retrieveFigurineSummaries(@NotNull FigurineFilter filter) {
         log.info("Retrieving figurines summaries '{}'", filter);
 
-        return repository.findAll(filter).stream().filter(figurine -> figurine.getCurrentReleaseStatus() == RELEASED
-                || figurine.getCurrentReleaseStatus() == ANNOUNCED).map(mapper::toFigurineSummaryResp).toList();
+        return narrowByName(filter).map(repository::findCollectableSummaries).orElseGet(List::of).stream()
+                .map(mapper::toFigurineSummaryResp).toList();
     }
 
     /**
@@ -344,15 +472,17 @@ public class FigurineService {
      * <p>
      * Only figurines whose computed {@link ReleaseStatus} is either
      * {@link ReleaseStatus#ANNOUNCED} or {@link ReleaseStatus#RELEASED} are
-     * included in the result.
+     * included in the result. The identifiers are resolved by the
+     * {@link FigurineBitmapIndex} when it is built, and otherwise by a query
+     * selecting only the identifier column.
      *
      * @param filter
      *            filter criteria used to search for figurines
      * @return a list containing the identifiers of selectable figurines
      */
     public List<Long> retrieveSelectableFigurines(@NotNull FigurineFilter filter) {
-        return repository.findAll(filter).stream().filter(figurine -> figurine.getCurrentReleaseStatus() == ANNOUNCED
-                || figurine.getCurrentReleaseStatus() == RELEASED).map(BaseId::getId).toList();
+        return bitmapIndex.findCollectableIds(filter)
+                .orElseGet(() -> narrowByName(filter).map(repository::findCollectableIds).orElseGet(List::of));
     }
 
     /**
@@ -382,12 +512,14 @@ public class FigurineService {
      *             if no figurine exists with the given id
      */
     @Transactional
-    @CacheEvict(value = {FIGURINE_CACHE, FIGURINE_SUMMARY_CACHE, COLLECTOR_SUMMARY_CACHE, COLLECTOR_FIGURINE_CACHE,
-            PRICING_SUMMARY_CACHE}, allEntries = true)
     public FigurineResp updateFigurine(@Positive Long id, @NotNull @Valid FigurineReq request) {
         log.info("Updating figurine with id '{}'. New name: '{}'", id, request.name());
 
         Figurine existing = repository.findById(id).orElseThrow(() -> new FigurineNotFoundException(id));
+        ListingAttributes previousListing = ListingAttributes.of(existing);
+        MatchingAttributes previousMatching = MatchingAttributes.of(existing);
+        Set<Long> lineUpIds = new HashSet<>(lineUpIds(existing));
+
         Figurine incoming = mapper.toFigurine(request, catalogService.retrieveCatalogContext());
         initializeFigurineForUpdate(existing, incoming);
 
@@ -396,9 +528,13 @@ public class FigurineService {
         if (IS_RELEASED_OR_ANNOUNCED.test(updated)) {
             int total = repository.clearPreviousReleases();
             log.info("Cleared previousRelease for {} figurines", total);
-            rebuildRestockHistory(repository.findAll());
+            rebuildRestockHistory();
         }
 
+        lineUpIds.addAll(lineUpIds(updated));
+        eventPublisher.publishEvent(new FigurineCatalogChangedEvent(updated.getId(), lineUpIds,
+                !previousListing.equals(ListingAttributes.of(updated)),
+                !previousMatching.equals(MatchingAttributes.of(updated))));
         return mapper.toFigurineResp(updated, this::calculatePriceWithTax, this::buildRestockHistory);
     }
 
@@ -419,6 +555,25 @@ public class FigurineService {
         List<Figurine> releasedFigurines = repository.findReleasedOrAnnouncedOrderByFirstReleaseDateDesc();
         log.info("Found {} released figurines", releasedFigurines.size());
 
+        linkRestocks(existingFigurines, releasedFigurines);
+    }
+
+    /**
+     * Recalculates the restocking history of the whole catalog.
+     *
+     * <p>
+     * Only figurines present in the restock index can be linked to a previous
+     * release, so the index itself is walked instead of loading every figurine of
+     * the catalog.
+     */
+    public void rebuildRestockHistory() {
+        List<Figurine> releasedFigurines = repository.findReleasedOrAnnouncedOrderByFirstReleaseDateDesc();
+        log.info("Found {} released figurines", releasedFigurines.size());
+
+        linkRestocks(releasedFigurines, releasedFigurines);
+    }
+
+    private void linkRestocks(List<Figurine> existingFigurines, List<Figurine> releasedFigurines) {
         Map<FigurineCharacteristics, List<Figurine>> index = releasedFigurines.stream()
                 .collect(Collectors.groupingBy(FigurineCharacteristics::from));
 
@@ -455,13 +610,74 @@ public class FigurineService {
      *             if no figurine exists with the given id
      */
     @Transactional
-    @CacheEvict(value = {FIGURINE_CACHE, FIGURINE_SUMMARY_CACHE, COLLECTOR_SUMMARY_CACHE, COLLECTOR_FIGURINE_CACHE,
-            PRICING_SUMMARY_CACHE}, allEntries = true)
     public void deleteFigurine(@Positive Long id) {
         log.info("Deleting figurine with id '{}'", id);
         var existing = repository.findById(id).orElseThrow(() -> new FigurineNotFoundException(id));
 
         repository.delete(existing);
+        eventPublisher.publishEvent(new FigurineCatalogChangedEvent(id, lineUpIds(existing), true));
+    }
+
+    /** Returns the identifier of the line-up of a figurine, if any. */
+    private Set<Long> lineUpIds(Figurine figurine) {
+        return Optional.ofNullable(figurine.getLineup()).map(BaseId::getId).map(Set::of).orElseGet(Set::of);
+    }
+
+    /**
+     * Attributes deciding whether and where a figurine appears in filtered
+     * listings: every attribute a {@link FigurineFilter} selects on, and those the
+     * listings are ordered by. When none of them changes, cached listings not
+     * containing the figurine stay valid.
+     *
+     * @param status
+     *            current release status
+     * @param firstReleaseDate
+     *            first distributor release date
+     * @param firstAnnouncementDate
+     *            first distributor announcement date
+     * @param characteristics
+     *            names and flags of the figurine
+     * @param catalogIds
+     *            identifiers of the line-up, series, group, distribution and
+     *            anniversary, in this order
+     * @param previousReleaseId
+     *            identifier of the previous release, if the figurine is a restock
+     */
+    private record ListingAttributes(ReleaseStatus status, LocalDate firstReleaseDate,
+            LocalDate firstAnnouncementDate, FigurineCharacteristics characteristics, List<Long> catalogIds,
+            Long previousReleaseId) {
+
+        static ListingAttributes of(Figurine figurine) {
+            return new ListingAttributes(figurine.getCurrentReleaseStatus(), figurine.getFirstReleaseDate(),
+                    figurine.getFirstAnnouncementDate(), FigurineCharacteristics.from(figurine),
+                    Arrays.asList(id(figurine.getLineup()), id(figurine.getSeries()), id(figurine.getGroup()),
+                            id(figurine.getDistribution()), id(figurine.getAnniversary())),
+                    id(figurine.getPreviousRelease()));
+        }
+
+        private static Long id(BaseId entity) {
+            return Optional.ofNullable(entity).map(BaseId::getId).orElse(null);
+        }
+    }
+
+    /**
+     * Attributes store listings are matched on: only figurines released or
+     * announced are matched, by display name, within their line-up. When none of
+     * them changes, the match decisions recorded for the line-up stay valid.
+     *
+     * @param displayName
+     *            complete figurine name
+     * @param status
+     *            current release status
+     * @param lineUpId
+     *            identifier of the line-up
+     */
+    private record MatchingAttributes(String displayName, ReleaseStatus status, Long lineUpId) {
+
+        static MatchingAttributes of(Figurine figurine) {
+            return new MatchingAttributes(figurine.getDisplayName(), figurine.getCurrentReleaseStatus(),
+                    ListingAttributes.id(figurine.getLineup()));
+        }
     }
 
     /**
@@ -505,17 +721,22 @@ public class FigurineService {
                                 existingDistributors.add(incomingFigurineDist);
                             });
         }
+
+        // distributor-only changes would not trigger the figurine listener.
+        FigurineListener.refreshFirstDistributor(existing);
     }
 
     /**
      * Finds the figurine whose display name best matches the provided normalized
      * name within the specified line up.
      * <p>
-     * The search is performed by comparing the supplied normalized name against the
-     * display name of every available figurine in the given line up using
+     * The supplied normalized name is compared against the display names of the
+     * available figurines in the given line up using
      * {@link FigurineSimilarityUtils#calculateSimilarity(String, String)}. The
      * figurine with the highest similarity score is returned only if its score
-     * meets or exceeds {@code MIN_SIMILARITY_THRESHOLD}.
+     * meets or exceeds {@code MIN_SIMILARITY_THRESHOLD}. A {@link FigurineMatcher}
+     * is kept per line up while its cached figurines are unchanged, so that only
+     * the figurines able to reach the threshold are scored.
      *
      * @param lineUp
      *            the line-up to search within
@@ -532,24 +753,60 @@ public class FigurineService {
             return Optional.empty();
         }
 
-        double bestSimilarity = MIN_SIMILARITY_THRESHOLD;
-        double currentSimilarity = 0;
-        Long bestMatchId = null;
-
-        for (CachedFigurine figurine : availableFigurines) {
-            currentSimilarity = calculateSimilarity(figurine.displayName(), normalizedName);
+        FigurineMatcher matcher = matchers.compute(lineUp,
+                (key, current) -> Objects.nonNull(current) && current.isBuiltFrom(availableFigurines)
+                        ? current
+                        : new FigurineMatcher(availableFigurines));
+        Optional<CachedFigurine> bestMatch = matcher.findBestMatch(normalizedName, MIN_SIMILARITY_THRESHOLD);
 
-            if (currentSimilarity >= bestSimilarity) {
-                bestSimilarity = currentSimilarity;
-                bestMatchId = figurine.id();
-            }
+        if (bestMatch.isEmpty()) {
+            log.info("No suitable match found for '{}' among {} figurines, minimum similarity: {} %.",
+                    normalizedName, availableFigurines.size(),
+                    new BigDecimal(MIN_SIMILARITY_THRESHOLD * 100).setScale(2, RoundingMode.UP));
         }
+        return bestMatch.map(CachedFigurine::id).flatMap(repository::findById);
+    }
 
-        if (bestMatchId == null) {
-            log.info("No suitable match found for '{}', similarity: {} %.", normalizedName,
-                    new BigDecimal(currentSimilarity * 100).setScale(2, RoundingMode.UP));
-        }
-        return Optional.ofNullable(bestMatchId).flatMap(repository::findById);
+    /**
+     * Returns the key under which the available figurines of a line-up are cached
+     * in the {@code figurines} cache.
+     *
+     * @param lineUpDescription
+     *            the line-up description
+     * @return the cache key, or {@link Optional#empty()} if the line-up is not
+     *         matched against store listings
+     */
+    static Optional<String> lineUpCacheKey(String lineUpDescription) {
+        return LINEUP_CONFIG.values().stream()
+                .filter(config -> config.lineUpDescription().equals(lineUpDescription))
+                .map(FigurineLineUpCacheConf::cacheKey).findFirst();
+    }
+
+    /**
+     * Returns the line-up type under which store listings of a line-up are
+     * matched.
+     *
+     * @param lineUpDescription
+     *            the line-up description
+     * @return the line-up type, or {@link Optional#empty()} if the line-up is not
+     *         matched against store listings
+     */
+    public static Optional<LineUpType> matchedLineUpType(String lineUpDescription) {
+        return LINEUP_CONFIG.entrySet().stream()
+                .filter(entry -> entry.getValue().lineUpDescription().equals(lineUpDescription))
+                .map(Map.Entry::getKey).findFirst();
+    }
+
+    /**
+     * Preloads the available figurines of every line-up matched against store
+     * listings, so that the first pricing messages after a startup do not query
+     * the database.
+     *
+     * @return the number of preloaded figurines
+     */
+    @Transactional(readOnly = true)
+    public int warmUpAvailableFigurines() {
+        return LINEUP_CONFIG.keySet().stream().map(this::getAvailableFigurinesByLineUp).mapToInt(List::size).sum();
     }
 
     /**
@@ -1,14 +1,30 @@
 package com.mesofi.mythclothapi.figurines;
 
-import org.apache.commons.text.similarity.LevenshteinDistance;
-
+/**
+ * Similarity between figurine names, based on their Levenshtein distance.
+ *
+ * <p>
+ * The distance is computed by a two-row dynamic programming kernel working on
+ * buffers confined to the calling thread, so no array is allocated per call.
+ * When the caller only needs to know whether the similarity reaches a minimum,
+ * the kernel only fills the diagonal band of the matrix within the matching
+ * distance and gives up as soon as a whole row exceeds it.
+ * </p>
+ */
 public class FigurineSimilarityUtils {
 
-    private static final LevenshteinDistance LEVENSHTEIN = new LevenshteinDistance();
+    /**
+     * Value returned by
+     * {@link #calculateSimilarity(String, String, double)} when the similarity is
+     * below the requested minimum.
+     */
+    public static final double BELOW_MINIMUM = -1.0;
+
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][64]);
 
     /**
      * Calculates percentage similarity between two strings.
-     * 
+     *
      * @return double between 0.0 (completely different) and 1.0 (exact match)
      */
     public static double calculateSimilarity(String s1, String s2) {
@@ -20,8 +36,141 @@ public class FigurineSimilarityUtils {
         }
 
         int maxLength = Math.max(s1.length(), s2.length());
-        int distance = LEVENSHTEIN.apply(s1, s2);
+        int distance = distance(s1, s2, maxLength);
 
         return 1.0 - ((double) distance / maxLength);
     }
+
+    /**
+     * Calculates percentage similarity between two strings, giving up as soon as
+     * it cannot reach the supplied minimum.
+     *
+     * @param s1
+     *            the first string
+     * @param s2
+     *            the second string
+     * @param minSimilarity
+     *            the minimum similarity the caller is interested in
+     * @return the same value as {@link #calculateSimilarity(String, String)} when
+     *         it is at least {@code minSimilarity}; otherwise
+     *         {@link #BELOW_MINIMUM}
+     */
+    public static double calculateSimilarity(String s1, String s2, double minSimilarity) {
+        if (s1 == null || s2 == null) {
+            return 0.0 >= minSimilarity ? 0.0 : BELOW_MINIMUM;
+        }
+        if (s1.isEmpty() && s2.isEmpty()) {
+            return 1.0 >= minSimilarity ? 1.0 : BELOW_MINIMUM;
+        }
+
+        int maxLength = Math.max(s1.length(), s2.length());
+        int maxDistance = maxDistance(maxLength, minSimilarity);
+        if (maxDistance < 0) {
+            return BELOW_MINIMUM;
+        }
+        int distance = distance(s1, s2, maxDistance);
+
+        return distance < 0 ? BELOW_MINIMUM : 1.0 - ((double) distance / maxLength);
+    }
+
+    /**
+     * Returns the greatest distance whose similarity, computed exactly as
+     * {@link #calculateSimilarity(String, String)} does, is at least the minimum;
+     * {@code -1} when even identical strings would not reach it.
+     */
+    static int maxDistance(int maxLength, double minSimilarity) {
+        double estimate = Math.floor((1.0 - minSimilarity) * maxLength);
+        int distance = (int) Math.clamp(estimate, -1, maxLength);
+        while (distance < maxLength && 1.0 - ((double) (distance + 1) / maxLength) >= minSimilarity) {
+            distance++;
+        }
+        while (distance >= 0 && 1.0 - ((double) distance / maxLength) < minSimilarity) {
+            distance--;
+        }
+        return distance;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two strings when it does not
+     * exceed a threshold.
+     *
+     * @param left
+     *            the first string
+     * @param right
+     *            the second string
+     * @param threshold
+     *            the greatest distance of interest
+     * @return the distance, or {@code -1} if it exceeds the threshold
+     */
+    static int distance(String left, String right, int threshold) {
+        if (left.length() > right.length()) {
+            String swap = left;
+            left = right;
+            right = swap;
+        }
+        int n = left.length();
+        int m = right.length();
+        if (m - n > threshold) {
+            return -1;
+        }
+        if (n == 0) {
+            return m;
+        }
+
+        int[][] rows = rows(n + 1);
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        // cells outside the band hold a value exceeding the threshold
+        int exceeded = threshold + 1;
+        int boundary = Math.min(n, threshold);
+        for (int i = 0; i <= n; i++) {
+            previous[i] = i <= boundary ? i : exceeded;
+            current[i] = exceeded;
+        }
+
+        for (int j = 1; j <= m; j++) {
+            char rightChar = right.charAt(j - 1);
+            int from = Math.max(1, j - threshold);
+            int to = Math.min(n, j + threshold);
+            current[0] = j;
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+
+            int rowMinimum = from == 1 ? j : exceeded;
+            for (int i = from; i <= to; i++) {
+                int cost = left.charAt(i - 1) == rightChar
+                        ? previous[i - 1]
+                        : 1 + Math.min(Math.min(current[i - 1], previous[i]), previous[i - 1]);
+                current[i] = Math.min(cost, exceeded);
+                rowMinimum = Math.min(rowMinimum, current[i]);
+            }
+            if (to < n) {
+                current[to + 1] = exceeded;
+            }
+            if (rowMinimum > threshold) {
+                return -1;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[n] <= threshold ? previous[n] : -1;
+    }
+
+    /**
+     * Returns the two rows of the calling thread, grown to the supplied length
+     * when needed.
+     */
+    private static int[][] rows(int length) {
+        int[][] rows = ROWS.get();
+        if (rows[0].length < length) {
+            int capacity = Math.max(length, rows[0].length * 2);
+            rows = new int[][]{new int[capacity], new int[capacity]};
+            ROWS.set(rows);
+        }
+        return rows;
+    }
 }
@@ -0,0 +1,43 @@
+package com.mesofi.mythclothapi.figurines;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Backfills the first distributor columns of the figurines when the application
+ * is ready.
+ *
+ * <p>
+ * The columns are added to existing databases by the schema update with no
+ * values, and are otherwise only recalculated in bulk by imports. The refresh
+ * runs before the other {@link ApplicationReadyEvent} listeners, so the indexes
+ * and caches built at startup already read the backfilled values.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FirstDistributorColumnsInitializer {
+
+    private final FigurineRepository figurineRepository;
+
+    /**
+     * Recalculates the first distributor columns of every figurine.
+     */
+    @Transactional
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshFirstDistributorColumns() {
+        int refreshed = figurineRepository.refreshFirstDistributorColumns();
+        log.info("Refreshed first distributor columns for {} figurines.", refreshed);
+    }
+}
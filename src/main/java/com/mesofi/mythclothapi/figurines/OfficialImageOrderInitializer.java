@@ -0,0 +1,71 @@
+package com.mesofi.mythclothapi.figurines;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.projection.OfficialImageProjection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Numbers the official images stored before their position was kept, once,
+ * when the application is ready.
+ *
+ * <p>
+ * The position column is added to existing databases by the schema update with
+ * no values. The images of each figurine are numbered in the order they are
+ * stored, which is the order the figurine listed them in until then, so the
+ * first image of every figurine stays the same. Duplicate URLs get distinct
+ * positions. Once every image is numbered, startup only checks that none is
+ * left.
+ * </p>
+ *
+ * <p>
+ * The backfill runs before the other {@link ApplicationReadyEvent} listeners,
+ * so figurines loaded at startup already read numbered images. When several
+ * nodes start together, the node that deletes the unnumbered rows first numbers
+ * them and the others leave them alone.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OfficialImageOrderInitializer {
+
+    private final FigurineRepository figurineRepository;
+
+    /**
+     * Numbers the official images that have no position yet.
+     */
+    @Transactional
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void numberOfficialImages() {
+        if (!figurineRepository.existsUnnumberedOfficialImages()) {
+            return;
+        }
+
+        List<OfficialImageProjection> images = figurineRepository.findUnnumberedOfficialImages();
+        if (figurineRepository.deleteUnnumberedOfficialImages() != images.size()) {
+            log.info("Official images are being numbered by another node.");
+            return;
+        }
+
+        Map<Long, Integer> positions = new HashMap<>();
+        for (OfficialImageProjection image : images) {
+            int position = positions.merge(image.getFigurineId(), 1, Integer::sum) - 1;
+            figurineRepository.insertOfficialImage(image.getFigurineId(), image.getUrl(), position);
+        }
+        log.info("Numbered {} official images of {} figurines.", images.size(), positions.size());
+    }
+}
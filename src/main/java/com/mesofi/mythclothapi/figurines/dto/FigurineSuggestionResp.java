@@ -0,0 +1,12 @@
+package com.mesofi.mythclothapi.figurines.dto;
+
+/**
+ * Figurine proposed while the user types a name.
+ *
+ * @param id
+ *            figurine identifier
+ * @param displayableName
+ *            formatted name displayed to users
+ */
+public record FigurineSuggestionResp(long id, String displayableName) {
+}
@@ -2,6 +2,8 @@ package com.mesofi.mythclothapi.figurines.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Represents a paginated response containing figurine data and pagination
  * metadata.
@@ -20,12 +22,14 @@ import java.util.List;
  * <li>The total number of matching figurines.
  * <li>The total number of collectable figurines.
  * <li>The total number of available pages.
+ * <li>The cursor used to fetch the next page without an offset.
  * </ul>
  *
  * @param content
  *            list of figurines included in the current page
  * @param page
- *            current page index (zero-based)
+ *            current page index (zero-based); {@code -1} when the page was
+ *            fetched with a cursor
  * @param size
  *            number of elements requested per page
  * @param totalElements
@@ -34,7 +38,10 @@ import java.util.List;
  *            total number of figurines considered collectable
  * @param totalPages
  *            total number of pages available based on the requested page size
+ * @param nextCursor
+ *            opaque token to pass as the {@code cursor} parameter to fetch the
+ *            next page; {@code null} when there are no more figurines
  */
 public record PaginatedResp(List<FigurineResp> content, int page, int size, long totalElements,
-        long totalCollectableElements, int totalPages) {
+        long totalCollectableElements, int totalPages, @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
 }
@@ -11,7 +11,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.mapstruct.Context;
@@ -23,13 +22,13 @@ import org.springframework.util.StringUtils;
 
 import com.mesofi.mythclothapi.anniversaries.AnniversaryMapper;
 import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
+import com.mesofi.mythclothapi.catalogs.dto.CatalogResp;
 import com.mesofi.mythclothapi.catalogs.exceptions.CatalogNotFoundException;
 import com.mesofi.mythclothapi.catalogs.model.CatalogContext;
 import com.mesofi.mythclothapi.catalogs.model.Distribution;
 import com.mesofi.mythclothapi.catalogs.model.Group;
 import com.mesofi.mythclothapi.catalogs.model.LineUp;
 import com.mesofi.mythclothapi.catalogs.model.Series;
-import com.mesofi.mythclothapi.common.BaseId;
 import com.mesofi.mythclothapi.distributors.dto.DistributorResp;
 import com.mesofi.mythclothapi.distributors.model.CountryCode;
 import com.mesofi.mythclothapi.distributors.model.Distributor;
@@ -46,6 +45,7 @@ import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineRestockResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineSummaryEntry;
 
 /**
  * MapStruct mapper responsible for converting between figurine import models,
@@ -97,7 +97,7 @@ public interface FigurineMapper {
     @Mapping(target = "legacyName", source = "originalName")
     @Mapping(target = "normalizedName", source = "baseName")
     @Mapping(target = "displayName", ignore = true)
-    @Mapping(target = "distributors", expression = "java(toDistributors(csv, catalogs.distributors()))")
+    @Mapping(target = "distributors", expression = "java(toDistributors(csv, catalogs))")
     @Mapping(target = "distribution", source = "distributionString")
     @Mapping(target = "lineup", source = "lineupString")
     @Mapping(target = "series", source = "seriesString")
@@ -110,6 +110,10 @@ public interface FigurineMapper {
     @Mapping(target = "stores", ignore = true)
     @Mapping(target = "previousRelease", ignore = true)
     @Mapping(target = "subsequentReleases", ignore = true)
+    @Mapping(target = "firstReleaseDate", ignore = true)
+    @Mapping(target = "firstAnnouncementDate", ignore = true)
+    @Mapping(target = "firstPrice", ignore = true)
+    @Mapping(target = "firstCurrency", ignore = true)
     Figurine toFigurine(FigurineCsv csv, @Context CatalogContext catalogs);
 
     /**
@@ -129,9 +133,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Distribution not found for description=" + description;
-        return (Distribution) find(catalogs.distributions(),
-                descriptive -> description.equals(descriptive.getDescription()), msg);
+        return (Distribution) catalogs.findDistribution(description).orElseThrow(
+                () -> new CatalogNotFoundException("Distribution not found for description=" + description));
     }
 
     /**
@@ -154,8 +157,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "LineUp not found for description=" + description;
-        return (LineUp) find(catalogs.lineUps(), descriptive -> description.equals(descriptive.getDescription()), msg);
+        return (LineUp) catalogs.findLineUp(description).orElseThrow(
+                () -> new CatalogNotFoundException("LineUp not found for description=" + description));
     }
 
     /**
@@ -174,8 +177,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Series not found for description=" + description;
-        return (Series) find(catalogs.series(), descriptive -> description.equals(descriptive.getDescription()), msg);
+        return (Series) catalogs.findSeries(description).orElseThrow(
+                () -> new CatalogNotFoundException("Series not found for description=" + description));
     }
 
     /**
@@ -194,8 +197,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Group not found for description=" + description;
-        return (Group) find(catalogs.groups(), descriptive -> description.equals(descriptive.getDescription()), msg);
+        return (Group) catalogs.findGroup(description).orElseThrow(
+                () -> new CatalogNotFoundException("Group not found for description=" + description));
     }
 
     /**
@@ -218,15 +221,9 @@ public interface FigurineMapper {
             return null;
         }
 
-        if (anniversaryNumberType.getAnniversaryType() == null) {
-            return catalogs.anniversaries().stream()
-                    .filter(ann -> ann.getYear() == anniversaryNumberType.getAnniversaryNumber()).findFirst()
-                    .orElse(null);
-        }
-
-        return catalogs.anniversaries().stream()
-                .filter(ann -> ann.getYear() == anniversaryNumberType.getAnniversaryNumber())
-                .filter(ann -> ann.getType() == anniversaryNumberType.getAnniversaryType()).findFirst().orElse(null);
+        return catalogs
+                .findAnniversary(anniversaryNumberType.getAnniversaryNumber(), anniversaryNumberType.getAnniversaryType())
+                .orElse(null);
     }
 
     /**
@@ -240,11 +237,11 @@ public interface FigurineMapper {
      *
      * @param csv
      *            CSV figurine data
-     * @param distributors
-     *            available distributors
+     * @param catalogs
+     *            catalog context containing available distributors
      * @return list of distributor entries
      */
-    default List<FigurineDistributor> toDistributors(FigurineCsv csv, @Context List<Distributor> distributors) {
+    default List<FigurineDistributor> toDistributors(FigurineCsv csv, @Context CatalogContext catalogs) {
 
         List<FigurineDistributor> distributorList = new ArrayList<>();
         Optional<LocalDateConfirmed> optJPY = Optional.ofNullable(csv.getReleaseJPY());
@@ -259,7 +256,7 @@ public interface FigurineMapper {
             jpOrHk.setPreorderDate(csv.getPreorderJPY());
             jpOrHk.setReleaseDate(optJPY.map(LocalDateConfirmed::getDate).orElse(null));
             jpOrHk.setReleaseDateConfirmed(optJPY.map(LocalDateConfirmed::isConfirmed).orElse(false));
-            jpOrHk.setDistributor(findDistributorByCountry(distributors, csv.isHk() ? CountryCode.CN : CountryCode.JP));
+            jpOrHk.setDistributor(findDistributorByCountry(catalogs, csv.isHk() ? CountryCode.CN : CountryCode.JP));
             distributorList.add(jpOrHk);
         }
 
@@ -270,7 +267,7 @@ public interface FigurineMapper {
             mx.setPreorderDate(csv.getPreorderMXN());
             mx.setReleaseDate(optMXN.map(LocalDateConfirmed::getDate).orElse(null));
             mx.setReleaseDateConfirmed(optMXN.map(LocalDateConfirmed::isConfirmed).orElse(false));
-            mx.setDistributor(findDistributorByCountry(distributors, CountryCode.MX));
+            mx.setDistributor(findDistributorByCountry(catalogs, CountryCode.MX));
             distributorList.add(mx);
         }
 
@@ -352,6 +349,10 @@ public interface FigurineMapper {
     @Mapping(target = "stores", ignore = true)
     @Mapping(target = "previousRelease", ignore = true)
     @Mapping(target = "subsequentReleases", ignore = true)
+    @Mapping(target = "firstReleaseDate", ignore = true)
+    @Mapping(target = "firstAnnouncementDate", ignore = true)
+    @Mapping(target = "firstPrice", ignore = true)
+    @Mapping(target = "firstCurrency", ignore = true)
     Figurine toFigurine(FigurineReq req, @Context CatalogContext catalogs);
 
     /**
@@ -370,8 +371,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Distribution not found for id=" + id;
-        return (Distribution) find(catalogs.distributions(), descriptive -> descriptive.getId().equals(id), msg);
+        return (Distribution) catalogs.findDistribution(id)
+                .orElseThrow(() -> new CatalogNotFoundException("Distribution not found for id=" + id));
     }
 
     /**
@@ -390,8 +391,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "LineUp not found for id=" + id;
-        return (LineUp) find(catalogs.lineUps(), descriptive -> descriptive.getId().equals(id), msg);
+        return (LineUp) catalogs.findLineUp(id)
+                .orElseThrow(() -> new CatalogNotFoundException("LineUp not found for id=" + id));
     }
 
     /**
@@ -410,8 +411,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Series not found for id=" + id;
-        return (Series) find(catalogs.series(), descriptive -> descriptive.getId().equals(id), msg);
+        return (Series) catalogs.findSeries(id)
+                .orElseThrow(() -> new CatalogNotFoundException("Series not found for id=" + id));
     }
 
     /**
@@ -430,8 +431,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Group not found for id=" + id;
-        return (Group) find(catalogs.groups(), descriptive -> descriptive.getId().equals(id), msg);
+        return (Group) catalogs.findGroup(id)
+                .orElseThrow(() -> new CatalogNotFoundException("Group not found for id=" + id));
     }
 
     /**
@@ -450,8 +451,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Anniversary not found for id=" + id;
-        return find(catalogs.anniversaries(), l -> Objects.equals(l.getId(), id), msg);
+        return catalogs.findAnniversary(id)
+                .orElseThrow(() -> new CatalogNotFoundException("Anniversary not found for id=" + id));
     }
 
     /**
@@ -493,8 +494,8 @@ public interface FigurineMapper {
             return null;
         }
 
-        String msg = "Distributor not found for id=" + id;
-        return find(catalogs.distributors(), l -> Objects.equals(l.getId(), id), msg);
+        return catalogs.findDistributor(id)
+                .orElseThrow(() -> new CatalogNotFoundException("Distributor not found for id=" + id));
     }
 
     /*
@@ -556,6 +557,19 @@ public interface FigurineMapper {
     @Mapping(target = "officialImageUrl", source = "officialImages", qualifiedByName = "firstImage")
     FigurineSummaryResp toFigurineSummaryResp(Figurine figurine);
 
+    /**
+     * Maps a summary projection read by the repository to a condensed API
+     * response, without loading the figurine entity.
+     *
+     * @param entry
+     *            summary columns of a figurine
+     * @return API-facing {@link FigurineSummaryResp}
+     */
+    default FigurineSummaryResp toFigurineSummaryResp(FigurineSummaryEntry entry) {
+        return new FigurineSummaryResp(entry.id(), entry.displayName(),
+                new CatalogResp(entry.lineUpId(), entry.lineUpDescription()), entry.officialImageUrl());
+    }
+
     /**
      * Maps a {@link FigurineDistributor} domain entity to its API response
      * representation.
@@ -636,6 +650,10 @@ public interface FigurineMapper {
     @Mapping(target = "subsequentReleases", ignore = true)
     @Mapping(target = "creationDate", ignore = true)
     @Mapping(target = "updateDate", ignore = true)
+    @Mapping(target = "firstReleaseDate", ignore = true)
+    @Mapping(target = "firstAnnouncementDate", ignore = true)
+    @Mapping(target = "firstPrice", ignore = true)
+    @Mapping(target = "firstCurrency", ignore = true)
     void updateFigurine(@MappingTarget Figurine target, Figurine source);
 
     /**
@@ -726,16 +744,16 @@ public interface FigurineMapper {
     /**
      * Finds the first distributor associated with the specified country.
      *
-     * @param distributors
-     *            available distributors
+     * @param catalogs
+     *            catalog context containing available distributors
      * @param countryCode
      *            country whose distributor should be located
      * @return the first matching distributor
      * @throws IllegalArgumentException
      *             if no distributor exists for the specified country
      */
-    private Distributor findDistributorByCountry(List<Distributor> distributors, CountryCode countryCode) {
-        return distributors.stream().filter(d -> d.getCountry() == countryCode).findFirst().orElseThrow(
+    private Distributor findDistributorByCountry(CatalogContext catalogs, CountryCode countryCode) {
+        return catalogs.findDistributor(countryCode).orElseThrow(
                 () -> new IllegalArgumentException("Distributor not found for code='" + countryCode + "'"));
     }
 
@@ -755,28 +773,4 @@ public interface FigurineMapper {
     default String firstImage(List<String> images) {
         return images == null || images.isEmpty() ? null : images.getFirst();
     }
-
-    /**
-     * Finds the first catalog entry matching the specified predicate.
-     *
-     * <p>
-     * This helper centralizes catalog lookup and provides a consistent exception
-     * when the requested entry cannot be found.
-     *
-     * @param list
-     *            catalog entries to search
-     * @param predicate
-     *            condition used to identify the desired entry
-     * @param errorMessage
-     *            message used when no matching entry is found
-     * @param <T>
-     *            catalog entity type
-     * @return the first matching catalog entry
-     * @throws CatalogNotFoundException
-     *             if no entry satisfies the predicate
-     */
-    private <T extends BaseId> T find(List<T> list, Predicate<T> predicate, String errorMessage) {
-        return list.stream().filter(predicate).findFirst()
-                .orElseThrow(() -> new CatalogNotFoundException(errorMessage));
-    }
 }
@@ -1,14 +1,17 @@
 package com.mesofi.mythclothapi.figurines.model;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityResult;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -17,6 +20,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
 
 import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
@@ -26,6 +31,7 @@ import com.mesofi.mythclothapi.catalogs.model.LineUp;
 import com.mesofi.mythclothapi.catalogs.model.Series;
 import com.mesofi.mythclothapi.collectorscollections.model.CollectorCollectionFigurine;
 import com.mesofi.mythclothapi.common.Auditable;
+import com.mesofi.mythclothapi.figurinedistributions.model.CurrencyCode;
 import com.mesofi.mythclothapi.figurinedistributions.model.FigurineDistributor;
 import com.mesofi.mythclothapi.figurineevents.model.FigurineEvent;
 import com.mesofi.mythclothapi.figurines.repository.FigurineListener;
@@ -67,10 +73,20 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "figurines", indexes = @Index(name = "idx_figurine_normalized_name", columnList = "normalizedName"), comment = "Stores all collectible figurines managed by the application. "
+@SqlResultSetMapping(name = Figurine.PAGE_WITH_COUNTS_MAPPING, entities = @EntityResult(entityClass = Figurine.class), columns = {
+        @ColumnResult(name = "total_count", type = Long.class),
+        @ColumnResult(name = "collectable_count", type = Long.class)})
+@Table(name = "figurines", indexes = {@Index(name = "idx_figurine_normalized_name", columnList = "normalizedName"),
+        @Index(name = "idx_figurine_status_release_date", columnList = "currentReleaseStatus, firstReleaseDate")}, comment = "Stores all collectible figurines managed by the application. "
         + "This is the central repository for all figurine records.")
 public class Figurine extends Auditable {
 
+    /**
+     * Result set mapping for native search queries returning each figurine along
+     * with the {@code total_count} and {@code collectable_count} window aggregates.
+     */
+    public static final String PAGE_WITH_COUNTS_MAPPING = "FigurinePageWithCounts";
+
     /**
      * Original figurine name imported from the initial CSV dataset.
      *
@@ -114,10 +130,12 @@ public class Figurine extends Auditable {
      *
      * <p>
      * Distributor associations are owned by this figurine and are automatically
-     * persisted and removed with it.
+     * persisted and removed with it. They are ordered by id, so the first one is
+     * the distributor whose dates and price are copied onto the figurine.
      * </p>
      */
     @OneToMany(mappedBy = "figurine", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
     private List<FigurineDistributor> distributors = new ArrayList<>();
 
     /**
@@ -188,6 +206,35 @@ public class Figurine extends Auditable {
     @Column(nullable = false, length = 50)
     private ReleaseStatus currentReleaseStatus;
 
+    /**
+     * Release date of the first distributor associated with the figurine.
+     *
+     * <p>
+     * Denormalized from {@link #distributors} by {@link FigurineListener} so that
+     * searches can sort and filter without joining the distributor table.
+     * </p>
+     */
+    @Column(comment = "Release date of the first distributor. Derived from figurine_distributor.")
+    private LocalDate firstReleaseDate;
+
+    /**
+     * Announcement date of the first distributor associated with the figurine.
+     */
+    @Column(comment = "Announcement date of the first distributor. Derived from figurine_distributor.")
+    private LocalDate firstAnnouncementDate;
+
+    /**
+     * Price of the first distributor associated with the figurine.
+     */
+    @Column(comment = "Price of the first distributor. Derived from figurine_distributor.")
+    private Double firstPrice;
+
+    /**
+     * Currency of the first distributor associated with the figurine.
+     */
+    @Column(comment = "Currency of the first distributor. Derived from figurine_distributor.")
+    private CurrencyCode firstCurrency;
+
     /**
      * Indicates whether the figurine has a metal body.
      */
@@ -284,9 +331,11 @@ public class Figurine extends Auditable {
     private List<Figurine> subsequentReleases = new ArrayList<>();
 
     /**
-     * Official images associated with the figurine.
+     * Official images associated with the figurine, kept in the order they were
+     * added; the first one represents the figurine in summaries.
      */
     @ElementCollection
+    @OrderColumn(name = "image_order")
     @CollectionTable(name = "official_images", joinColumns = @JoinColumn(name = "figurine_id"))
     private List<String> officialImages;
 
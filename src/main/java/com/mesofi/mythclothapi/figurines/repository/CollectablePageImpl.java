@@ -29,6 +29,12 @@ public class CollectablePageImpl<T> extends PageImpl<T> {
     /** Total number of collectable items available. */
     private final long totalCollectables;
 
+    /**
+     * Opaque token used to fetch the items after this page without an offset;
+     * {@code null} when this is the last page or cursors are not supported.
+     */
+    private final String nextCursor;
+
     /**
      * Creates a new {@code CollectablePageImpl} instance.
      *
@@ -42,7 +48,28 @@ public class CollectablePageImpl<T> extends PageImpl<T> {
      *            total number of items considered collectable
      */
     public CollectablePageImpl(List<T> content, Pageable pageable, long total, long totalCollectables) {
+        this(content, pageable, total, totalCollectables, null);
+    }
+
+    /**
+     * Creates a new {@code CollectablePageImpl} instance with a continuation
+     * cursor.
+     *
+     * @param content
+     *            the list of items contained in the current page
+     * @param pageable
+     *            pagination information, including page number and size
+     * @param total
+     *            total number of items available across all pages
+     * @param totalCollectables
+     *            total number of items considered collectable
+     * @param nextCursor
+     *            token used to fetch the following items; may be {@code null}
+     */
+    public CollectablePageImpl(List<T> content, Pageable pageable, long total, long totalCollectables,
+            String nextCursor) {
         super(content, pageable, total);
         this.totalCollectables = totalCollectables;
+        this.nextCursor = nextCursor;
     }
 }
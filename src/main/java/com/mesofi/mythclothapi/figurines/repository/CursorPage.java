@@ -0,0 +1,27 @@
+package com.mesofi.mythclothapi.figurines.repository;
+
+import java.util.List;
+
+/**
+ * Slice of a search result fetched with a continuation cursor instead of a page
+ * offset.
+ *
+ * <p>
+ * Unlike {@link CollectablePageImpl}, a cursor page has no page number. The
+ * totals describe the whole filtered result and not only the remaining rows.
+ * </p>
+ *
+ * @param content
+ *            the items contained in this slice
+ * @param totalElements
+ *            total number of items matching the search criteria
+ * @param totalCollectables
+ *            total number of matching items considered collectable
+ * @param nextCursor
+ *            opaque token used to fetch the following slice; {@code null} when
+ *            this slice is the last one
+ * @param <T>
+ *            the type of elements contained in this slice
+ */
+public record CursorPage<T>(List<T> content, long totalElements, long totalCollectables, String nextCursor) {
+}
@@ -1,8 +1,13 @@
 package com.mesofi.mythclothapi.figurines.repository;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 
+import com.mesofi.mythclothapi.figurinedistributions.model.FigurineDistributor;
 import com.mesofi.mythclothapi.figurines.FigurineDisplayNameBuilder;
 import com.mesofi.mythclothapi.figurines.FigurineReleaseStatusResolver;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
@@ -11,9 +16,9 @@ import com.mesofi.mythclothapi.figurines.model.Figurine;
  * JPA entity listener that automatically derives and updates computed figurine
  * properties before the entity is persisted or updated.
  * <p>
- * The listener ensures that the figurine's display name and current release
- * status remain synchronized with its underlying data by recalculating them
- * whenever the entity is saved.
+ * The listener ensures that the figurine's display name, current release
+ * status and first distributor columns remain synchronized with its underlying
+ * data by recalculating them whenever the entity is saved.
  *
  * @see FigurineDisplayNameBuilder
  * @see FigurineReleaseStatusResolver
@@ -29,6 +34,8 @@ public class FigurineListener {
      * <li>The display name, using {@link FigurineDisplayNameBuilder}.</li>
      * <li>The current release status, using
      * {@link FigurineReleaseStatusResolver}.</li>
+     * <li>The release date, announcement date, price and currency copied from the
+     * first distributor.</li>
      * </ul>
      *
      * @param figurine
@@ -39,5 +46,33 @@ public class FigurineListener {
     public void refreshDerivedProperties(Figurine figurine) {
         figurine.setDisplayName(FigurineDisplayNameBuilder.build(figurine));
         figurine.setCurrentReleaseStatus(FigurineReleaseStatusResolver.resolve(figurine));
+        refreshFirstDistributor(figurine);
+    }
+
+    /**
+     * Copies the dates, price and currency of the first distributor onto the
+     * figurine, or clears them when the figurine has no distributors.
+     * <p>
+     * The first distributor is the one with the lowest id, as in
+     * {@link FigurineRepository#refreshFirstDistributorColumns()}; distributors not
+     * persisted yet follow the persisted ones in list order.
+     * <p>
+     * Callers that only change distributors invoke this directly: the figurine
+     * row is then dirty, so the change is flushed even though no figurine
+     * column was updated otherwise.
+     *
+     * @param figurine
+     *            the figurine whose first distributor columns should be refreshed
+     */
+    public static void refreshFirstDistributor(Figurine figurine) {
+        List<FigurineDistributor> distributors = Objects.requireNonNullElse(figurine.getDistributors(), List.of());
+        FigurineDistributor first = distributors.stream()
+                .min(Comparator.comparing(FigurineDistributor::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .orElse(null);
+
+        figurine.setFirstReleaseDate(first == null ? null : first.getReleaseDate());
+        figurine.setFirstAnnouncementDate(first == null ? null : first.getAnnouncementDate());
+        figurine.setFirstPrice(first == null ? null : first.getPrice());
+        figurine.setFirstCurrency(first == null ? null : first.getCurrency());
     }
 }
@@ -1,11 +1,15 @@
 package com.mesofi.mythclothapi.figurines.repository;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Pageable;
 
+import com.mesofi.mythclothapi.figurines.FigurineCursor;
 import com.mesofi.mythclothapi.figurines.FigurineFilter;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineIndexEntry;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineSummaryEntry;
 
 /**
  * Defines query operations for retrieving figurine data.
@@ -21,7 +25,9 @@ import com.mesofi.mythclothapi.figurines.model.Figurine;
  * </p>
  * <ul>
  * <li>Paginated figurine searches with collectable figurine metadata.</li>
+ * <li>Cursor based figurine searches that seek past a known position.</li>
  * <li>Retrieval of figurines matching dynamic filter criteria.</li>
+ * <li>Chunked scans of figurines matching dynamic filter criteria.</li>
  * <li>Retrieval of figurines released during a specific year.</li>
  * </ul>
  *
@@ -50,6 +56,27 @@ public interface FigurineQueryRepository {
      */
     CollectablePageImpl<Figurine> findPaginated(FigurineFilter filter, Pageable pageable);
 
+    /**
+     * Retrieves the figurines that follow the supplied cursor in the default
+     * ordering.
+     *
+     * <p>
+     * The returned slice includes a continuation cursor when more figurines are
+     * available, along with the total number of matching and collectable
+     * figurines.
+     * </p>
+     *
+     * @param filter
+     *            filtering criteria used to restrict the figurine search; may be
+     *            {@code null}
+     * @param cursor
+     *            position of the last figurine already returned
+     * @param size
+     *            maximum number of figurines to return
+     * @return the next slice of figurines
+     */
+    CursorPage<Figurine> findAfter(FigurineFilter filter, FigurineCursor cursor, int size);
+
     /**
      * Retrieves all figurines matching the specified filter criteria.
      *
@@ -65,6 +92,27 @@ public interface FigurineQueryRepository {
      */
     List<Figurine> findAll(FigurineFilter filter);
 
+    /**
+     * Streams the figurines matching the specified filter criteria to a consumer,
+     * a bounded chunk at a time.
+     *
+     * <p>
+     * Figurines are delivered in the same ordering used by
+     * {@link #findAll(FigurineFilter)}. They are read-only and detached from the
+     * persistence context once the consumer returns, so the consumer must extract
+     * what it needs from each chunk, lazy associations included, before returning.
+     * Must be called within a transaction.
+     * </p>
+     *
+     * @param filter
+     *            filtering criteria used to restrict the figurine search; may be
+     *            {@code null}
+     * @param chunkConsumer
+     *            receives each chunk of figurines
+     * @return the number of figurines scanned
+     */
+    long scan(FigurineFilter filter, Consumer<List<Figurine>> chunkConsumer);
+
     /**
      * Retrieves all figurines whose release date falls within the specified year.
      *
@@ -73,4 +121,49 @@ public interface FigurineQueryRepository {
      * @return a list of figurines released during the specified year
      */
     List<Figurine> findAllByYear(int year);
+
+    /**
+     * Retrieves the searchable attributes of every figurine.
+     *
+     * <p>
+     * Entries are returned according to the same ordering used by
+     * {@link #findAll(FigurineFilter)}.
+     * </p>
+     *
+     * @return the index entries of all figurines
+     */
+    List<FigurineIndexEntry> findIndexEntries();
+
+    /**
+     * Retrieves the summary columns of the collectable figurines matching the
+     * specified filter criteria.
+     *
+     * <p>
+     * A figurine is collectable when its release status is {@code ANNOUNCED} or
+     * {@code RELEASED}. Entries are returned according to the same ordering used by
+     * {@link #findAll(FigurineFilter)}.
+     * </p>
+     *
+     * @param filter
+     *            filtering criteria used to restrict the figurine search; may be
+     *            {@code null}
+     * @return the summary entries of the matching collectable figurines
+     */
+    List<FigurineSummaryEntry> findCollectableSummaries(FigurineFilter filter);
+
+    /**
+     * Retrieves the identifiers of the collectable figurines matching the
+     * specified filter criteria.
+     *
+     * <p>
+     * Identifiers are returned according to the same ordering used by
+     * {@link #findAll(FigurineFilter)}.
+     * </p>
+     *
+     * @param filter
+     *            filtering criteria used to restrict the figurine search; may be
+     *            {@code null}
+     * @return the identifiers of the matching collectable figurines
+     */
+    List<Long> findCollectableIds(FigurineFilter filter);
 }
@@ -1,6 +1,7 @@
 package com.mesofi.mythclothapi.figurines.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -11,7 +12,9 @@ import org.springframework.stereotype.Repository;
 import com.mesofi.mythclothapi.catalogs.model.LineUp;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.projection.FigurineCatalogSummaryProjection;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineNameProjection;
 import com.mesofi.mythclothapi.figurines.repository.projection.FigurineReleaseYearSummaryProjection;
+import com.mesofi.mythclothapi.figurines.repository.projection.OfficialImageProjection;
 
 /**
  * Repository for {@link Figurine} persistence and query operations.
@@ -29,6 +32,7 @@ import com.mesofi.mythclothapi.figurines.repository.projection.FigurineReleaseYe
  * <li>Finding figurines by legacy names.</li>
  * <li>Finding figurines updated before a specified timestamp.</li>
  * <li>Retrieving figurines belonging to a specific {@link LineUp}.</li>
+ * <li>Retrieving figurine names for the in-memory name index.</li>
  * <li>Retrieving released or announced figurines ordered by their first release
  * date.</li>
  * <li>Clearing previous-release relationships between figurines.</li>
@@ -59,6 +63,29 @@ public interface FigurineRepository extends JpaRepository<Figurine, Long>, Figur
      */
     List<Figurine> findAllByLineup(LineUp lineUP);
 
+    /**
+     * Retrieves the names of every figurine.
+     *
+     * @return the identifier, normalized name, and display name of all figurines
+     */
+    @Query("SELECT f.id AS id, f.normalizedName AS normalizedName, f.displayName AS displayName FROM Figurine f")
+    List<FigurineNameProjection> findAllNames();
+
+    /**
+     * Retrieves the names of the specified figurine.
+     *
+     * @param id
+     *            the figurine identifier
+     * @return the identifier, normalized name, and display name of the figurine,
+     *         or {@link Optional#empty()} if it does not exist
+     */
+    @Query("""
+            SELECT f.id AS id, f.normalizedName AS normalizedName, f.displayName AS displayName
+            FROM Figurine f
+            WHERE f.id = :id
+            """)
+    Optional<FigurineNameProjection> findNamesById(@Param("id") Long id);
+
     /**
      * Retrieves released or announced figurines that are not associated with an
      * anniversary release.
@@ -127,6 +154,99 @@ public interface FigurineRepository extends JpaRepository<Figurine, Long>, Figur
             """, nativeQuery = true)
     FigurineCatalogSummaryProjection getFigurineCatalogSummary(@Param("restocks") boolean restocks);
 
+    /**
+     * Recalculates the first distributor columns of every figurine from the
+     * {@code figurine_distributor} table.
+     *
+     * <p>
+     * The columns are normally maintained by {@link FigurineListener}. This bulk
+     * update backfills rows persisted before the columns existed and rows whose
+     * distributors changed without the figurine itself being updated. Only rows
+     * whose columns differ from their first distributor are written, so running it
+     * again on an up-to-date catalog updates nothing.
+     * </p>
+     *
+     * @return the number of figurines updated
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE figurines f
+            SET first_release_date = (
+                    SELECT fd.release_date FROM figurine_distributor fd
+                    WHERE fd.id = (SELECT MIN(x.id) FROM figurine_distributor x WHERE x.figurine_id = f.id)),
+                first_announcement_date = (
+                    SELECT fd.announcement_date FROM figurine_distributor fd
+                    WHERE fd.id = (SELECT MIN(x.id) FROM figurine_distributor x WHERE x.figurine_id = f.id)),
+                first_price = (
+                    SELECT fd.price FROM figurine_distributor fd
+                    WHERE fd.id = (SELECT MIN(x.id) FROM figurine_distributor x WHERE x.figurine_id = f.id)),
+                first_currency = (
+                    SELECT fd.currency FROM figurine_distributor fd
+                    WHERE fd.id = (SELECT MIN(x.id) FROM figurine_distributor x WHERE x.figurine_id = f.id))
+            WHERE EXISTS (
+                    SELECT 1 FROM figurine_distributor fd
+                    WHERE fd.id = (SELECT MIN(x.id) FROM figurine_distributor x WHERE x.figurine_id = f.id)
+                        AND (f.first_release_date IS DISTINCT FROM fd.release_date
+                            OR f.first_announcement_date IS DISTINCT FROM fd.announcement_date
+                            OR f.first_price IS DISTINCT FROM fd.price
+                            OR f.first_currency IS DISTINCT FROM fd.currency))
+                OR (NOT EXISTS (SELECT 1 FROM figurine_distributor x WHERE x.figurine_id = f.id)
+                    AND (f.first_release_date IS NOT NULL OR f.first_announcement_date IS NOT NULL
+                        OR f.first_price IS NOT NULL OR f.first_currency IS NOT NULL))
+            """, nativeQuery = true)
+    int refreshFirstDistributorColumns();
+
+    /**
+     * Indicates whether official images stored before their position was kept
+     * remain unnumbered.
+     *
+     * @return {@code true} if at least one official image has no position
+     */
+    @Query(value = "SELECT COUNT(*) > 0 FROM official_images WHERE image_order IS NULL", nativeQuery = true)
+    boolean existsUnnumberedOfficialImages();
+
+    /**
+     * Retrieves the official images that have no position, in the order they are
+     * stored, which is the order figurines listed them in before the position was
+     * kept.
+     *
+     * @return the unnumbered images
+     */
+    @Query(value = """
+            SELECT oi.figurine_id AS figurineId, oi.official_images AS url
+            FROM official_images oi
+            WHERE oi.image_order IS NULL
+            """, nativeQuery = true)
+    List<OfficialImageProjection> findUnnumberedOfficialImages();
+
+    /**
+     * Deletes the official images that have no position.
+     *
+     * @return the number of images deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM official_images WHERE image_order IS NULL", nativeQuery = true)
+    int deleteUnnumberedOfficialImages();
+
+    /**
+     * Stores an official image at the supplied position.
+     *
+     * @param figurineId
+     *            the identifier of the figurine the image belongs to
+     * @param url
+     *            the image URL
+     * @param position
+     *            the zero-based position of the image among the official images
+     *            of the figurine
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO official_images (figurine_id, official_images, image_order)
+            VALUES (:figurineId, :url, :position)
+            """, nativeQuery = true)
+    void insertOfficialImage(@Param("figurineId") Long figurineId, @Param("url") String url,
+            @Param("position") int position);
+
     /**
      * Retrieves a summary of released figurines grouped by release year and lineup.
      * For each figurine, only the first distributor record is considered when
@@ -137,29 +257,15 @@ public interface FigurineRepository extends JpaRepository<Figurine, Long>, Figur
      */
     @Query(value = """
             SELECT
-                CAST(EXTRACT(YEAR FROM fd.release_date) AS INTEGER) AS releaseYear,
+                CAST(EXTRACT(YEAR FROM f.first_release_date) AS INTEGER) AS releaseYear,
                 l.description AS lineupDescription,
                 COUNT(*) AS figurineCount
             FROM figurines f
-            LEFT JOIN (
-                SELECT *
-                FROM (
-                    SELECT
-                        fd.*,
-                        ROW_NUMBER() OVER (
-                            PARTITION BY figurine_id
-                            ORDER BY id
-                        ) AS rn
-                    FROM figurine_distributor fd
-                ) x
-                WHERE rn = 1
-            ) fd
-                ON fd.figurine_id = f.id
             JOIN lineups l
                 ON l.id = f.lineup_id
             WHERE f.current_release_status = 'RELEASED'
             GROUP BY
-                CAST(EXTRACT(YEAR FROM fd.release_date) AS INTEGER),
+                CAST(EXTRACT(YEAR FROM f.first_release_date) AS INTEGER),
                 l.description
             ORDER BY
                 releaseYear,
@@ -1,20 +1,41 @@
 package com.mesofi.mythclothapi.figurines.repository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mesofi.mythclothapi.figurines.FigurineCursor;
 import com.mesofi.mythclothapi.figurines.FigurineFilter;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineIndexEntry;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineSummaryEntry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
  * Custom repository implementation for executing advanced figurine queries.
@@ -30,13 +51,23 @@ import com.mesofi.mythclothapi.figurines.model.Figurine;
  * </p>
  * <ul>
  * <li>Dynamic filtering based on {@link FigurineFilter}.</li>
- * <li>Pagination through Spring Data {@link Pageable}.</li>
+ * <li>Pagination through Spring Data {@link Pageable}, or by seeking past a
+ * {@link FigurineCursor} for cursor based pagination.</li>
  * <li>Custom ordering based on figurine release status and dates.</li>
- * <li>Counting total and collectable figurines.</li>
+ * <li>Counting total and collectable figurines, either with window aggregates
+ * in the page query itself or with dedicated count queries.</li>
  * <li>Filtering figurines by release year.</li>
  * </ul>
  *
  * <p>
+ * The generated SQL only depends on which filter fields are populated, not on
+ * their values. Every statement is therefore built once per combination of
+ * populated fields and cached, which also keeps the set of query strings seen
+ * by Hibernate's query plan cache small. The size and hit rate of the template
+ * cache are published under the {@value #SQL_TEMPLATE_CACHE} name.
+ * </p>
+ *
+ * <p>
  * Figurines are categorized by their calculated release status:
  * </p>
  * <ul>
@@ -53,33 +84,145 @@ import com.mesofi.mythclothapi.figurines.model.Figurine;
  * @see FigurineFilter
  */
 @Repository
-public class FigurineRepositoryImpl implements FigurineQueryRepository {
+public class FigurineRepositoryImpl implements FigurineQueryRepository, MeterBinder {
+
+    /**
+     * Name under which the metrics of the SQL template cache are published.
+     */
+    public static final String SQL_TEMPLATE_CACHE = "figurine.search.sql-templates";
 
     @PersistenceContext
     private EntityManager em;
 
+    /**
+     * Generated SQL statements keyed by statement kind and populated filter
+     * fields. The number of combinations is finite, so the bound is only a
+     * safeguard.
+     */
+    private final Cache<SqlTemplateKey, String> sqlTemplates = Caffeine.newBuilder().maximumSize(2_000)
+            .recordStats().build();
+
+    /**
+     * Whether paginated searches compute the total and collectable counts with
+     * window aggregates in the page query itself.
+     *
+     * <p>
+     * When enabled, a page costs a single database round-trip. When disabled, the
+     * counts are calculated with two additional {@code COUNT(*)} queries, which is
+     * the fallback for databases without window function support.
+     * </p>
+     */
+    @Value("${myth-cloth.figurines.search.window-counts:true}")
+    private boolean windowCounts;
+
+    /**
+     * Number of figurines hydrated at a time by {@link #scan(FigurineFilter,
+     * Consumer)}, which is also the JDBC fetch size of the scan query.
+     */
+    @Value("${myth-cloth.figurines.scan.chunk-size:500}")
+    private int scanChunkSize;
+
+    /**
+     * Projection used when the query results are mapped to {@link Figurine}
+     * entities only.
+     */
+    private static final String ENTITY_PROJECTION = "f.*";
+
+    /**
+     * Projection used by single round-trip searches.
+     *
+     * <p>
+     * Window aggregates are evaluated after the {@code WHERE} clause but before
+     * {@code LIMIT}/{@code OFFSET}, so every returned row carries the totals of the
+     * whole filtered result and not only of the requested page.
+     * </p>
+     */
+    private static final String WINDOWED_PROJECTION = """
+            f.*,
+                COUNT(*) OVER () AS total_count,
+                SUM(CASE WHEN current_release_status IN ('ANNOUNCED', 'RELEASED') THEN 1 ELSE 0 END) OVER () AS collectable_count""";
+
+    /**
+     * Projection computing the total and collectable counts of the filtered rows,
+     * joined to the slices read past a cursor.
+     */
+    private static final String TOTALS_PROJECTION = """
+            COUNT(*) AS total_count,
+                SUM(CASE WHEN current_release_status IN ('ANNOUNCED', 'RELEASED') THEN 1 ELSE 0 END)
+                    AS collectable_count""";
+
+    /**
+     * Projection used to load the in-memory search index, limited to the columns
+     * referenced by {@link FigurineFilter}.
+     */
+    private static final String INDEX_PROJECTION = """
+            f.id, f.normalized_name, f.lineup_id, f.series_id, f.group_id, f.distribution_id, f.anniversary_id,
+                f.is_metal_body, f.is_oce, f.is_revival, f.is_plain_cloth, f.is_broken, f.is_golden, f.is_gold,
+                f.is_manga, f.is_set, f.is_articulable, f.current_release_status, f.previous_release_id""";
+
+    /**
+     * Projection used by figurine summaries. The lineup description and the first
+     * official image, by its position in the collection, are read with scalar
+     * subqueries, which keeps the {@code figurines} table as the only source of
+     * the filtered rows.
+     */
+    private static final String SUMMARY_PROJECTION = """
+            f.id, f.display_name, f.lineup_id,
+                (SELECT l.description FROM lineups l WHERE l.id = f.lineup_id) AS lineup_description,
+                (SELECT oi.official_images FROM official_images oi WHERE oi.figurine_id = f.id
+                    ORDER BY oi.image_order FETCH FIRST 1 ROWS ONLY) AS official_image_url""";
+
+    /**
+     * Projection used when only the figurine identifiers are needed.
+     */
+    private static final String ID_PROJECTION = "f.id";
+
+    /**
+     * SQL expression ranking figurines by release status, used as the leading key
+     * of the default ordering.
+     */
+    private static final String STATUS_RANK = """
+            CASE current_release_status
+                    WHEN 'ANNOUNCED'  THEN 1
+                    WHEN 'RELEASED'   THEN 2
+                    WHEN 'PROTOTYPE'  THEN 3
+                    WHEN 'UNRELEASED' THEN 4
+                    WHEN 'RUMORED'    THEN 5
+                END""";
+
     /**
      * Base SQL query used as the starting point for dynamic figurine queries.
      *
      * <p>
-     * The query calculates the release status for each figurine and retrieves the
-     * first distributor associated with each figurine. Additional filtering,
-     * sorting, and pagination clauses are appended dynamically.
+     * The release status and the first distributor dates are stored on the
+     * {@code figurines} row itself, so the query reads a single table. Additional
+     * filtering, sorting, and pagination clauses are appended dynamically. The
+     * selected columns are supplied through the {@code %s} placeholder.
+     * </p>
+     */
+    private static final String BASE_SQL = """
+            SELECT
+                %s
+            FROM figurines f
+            WHERE 1 = 1
+            """;
+
+    /**
+     * SQL query reading the figurines past a cursor, to which the filtering
+     * conditions and the seek predicate are appended.
+     *
+     * <p>
+     * The totals of the whole filtered result are computed by the aggregate
+     * supplied through the {@code %s} placeholder and joined to every row, so the
+     * seek predicate applies to the {@code figurines} columns directly and can use
+     * the status and release date index.
      * </p>
      */
-    private final String BASE_SQL = """
+    private static final String SEEK_SQL = """
             SELECT
-                f.*
+                f.*, c.total_count, c.collectable_count
             FROM figurines f
-            LEFT JOIN (
-                SELECT *
-                FROM (
-                    SELECT fd.*,
-                        ROW_NUMBER() OVER (PARTITION BY figurine_id ORDER BY id) rn
-                    FROM figurine_distributor fd
-                 ) x
-                 WHERE rn = 1
-            ) fd ON fd.figurine_id = f.id
+            CROSS JOIN (%s) c
             WHERE 1 = 1
             """;
 
@@ -97,6 +240,13 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
      * {@code ANNOUNCED} or {@code RELEASED}.
      * </p>
      *
+     * <p>
+     * By default the page and both counts are resolved by a single statement. The
+     * count queries are only executed when window counts are disabled or when the
+     * requested page lies beyond the last matching row, since an empty result
+     * carries no aggregate values.
+     * </p>
+     *
      * @param filter
      *            the filtering criteria used to restrict the search results
      * @param pageable
@@ -106,20 +256,127 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
      */
     @Override
     public CollectablePageImpl<Figurine> findPaginated(FigurineFilter filter, Pageable pageable) {
+        if (windowCounts) {
+            return findPaginatedWithWindowCounts(filter, pageable);
+        }
+        return findPaginatedWithCountQueries(filter, pageable);
+    }
+
+    /**
+     * Retrieves a page of figurines together with the total and collectable counts
+     * in one round-trip.
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the search results
+     * @param pageable
+     *            the pagination information, including page size and offset
+     * @return a paginated result containing the matching figurines and collectable
+     *         figurine count
+     */
+    @SuppressWarnings("unchecked")
+    private CollectablePageImpl<Figurine> findPaginatedWithWindowCounts(FigurineFilter filter, Pageable pageable) {
         SearchQueryContext queryContext = getSearchQueryContext(filter);
+        String sql = sqlTemplate("windowed-page", queryContext,
+                conditions -> "%s %s".formatted(select(WINDOWED_PROJECTION, conditions), buildOrderByStatement()));
 
-        StringBuilder sqlBuilder = queryContext.sql();
+        Query query = em.createNativeQuery(sql, Figurine.PAGE_WITH_COUNTS_MAPPING);
+        queryContext.params().forEach(query::setParameter);
+
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            if (pageable.getOffset() == 0) {
+                return new CollectablePageImpl<>(List.of(), pageable, 0, 0);
+            }
+            // The page is past the end of the result, so the totals must be counted
+            // separately.
+            return findPaginatedWithCountQueries(filter, pageable);
+        }
+
+        List<Figurine> content = rows.stream().map(row -> (Figurine) row[0]).toList();
+        Object[] firstRow = rows.getFirst();
+        long totalFigurines = ((Number) firstRow[1]).longValue();
+
+        return new CollectablePageImpl<>(content, pageable, totalFigurines, ((Number) firstRow[2]).longValue(),
+                buildNextCursor(content, pageable.getOffset() + content.size() < totalFigurines));
+    }
+
+    /**
+     * Retrieves a page of figurines and calculates the total and collectable
+     * counts with dedicated count queries.
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the search results
+     * @param pageable
+     *            the pagination information, including page size and offset
+     * @return a paginated result containing the matching figurines and collectable
+     *         figurine count
+     */
+    private CollectablePageImpl<Figurine> findPaginatedWithCountQueries(FigurineFilter filter, Pageable pageable) {
+        SearchQueryContext queryContext = getSearchQueryContext(filter);
         Map<String, Object> params = queryContext.params();
 
-        List<Figurine> result = executeAndGetContent("%s %s".formatted(sqlBuilder, buildOrderByStatement()), params,
-                pageable);
+        List<Figurine> result = executeAndGetContent(sqlTemplate("page", queryContext,
+                conditions -> "%s %s".formatted(select(ENTITY_PROJECTION, conditions), buildOrderByStatement())),
+                params, pageable);
 
-        long totalFigurines = executeAndGetTotal(buildCountStatement().formatted(sqlBuilder), params);
+        long totalFigurines = countTotal(queryContext);
+        long totalCollectableFigurines = countCollectables(queryContext);
 
-        long totalCollectableFigurines = executeAndGetTotal(
-                buildCountStatement().formatted("%s %s".formatted(sqlBuilder, buildCollectablePredicate())), params);
+        return new CollectablePageImpl<>(result, pageable, totalFigurines, totalCollectableFigurines,
+                buildNextCursor(result, pageable.getOffset() + result.size() < totalFigurines));
+    }
 
-        return new CollectablePageImpl<>(result, pageable, totalFigurines, totalCollectableFigurines);
+    /**
+     * Retrieves the figurines that follow the supplied cursor in the default
+     * ordering.
+     *
+     * <p>
+     * Instead of skipping rows with an {@code OFFSET}, the query seeks directly
+     * past the cursor position, so the cost of a slice does not depend on how deep
+     * into the result it is. The totals are computed by an aggregate over the
+     * filtered rows without the seek predicate, which keeps them identical to
+     * those of the first page.
+     * </p>
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the search results
+     * @param cursor
+     *            the position of the last figurine already returned
+     * @param size
+     *            the maximum number of figurines to return
+     * @return the next slice of figurines with the total and collectable counts
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public CursorPage<Figurine> findAfter(FigurineFilter filter, FigurineCursor cursor, int size) {
+        SearchQueryContext queryContext = getSearchQueryContext(filter);
+        Map<String, Object> params = queryContext.params();
+        addSeekParameters(cursor, params);
+
+        String statement = "seek-%s-%s".formatted(cursor.status(), cursor.hasSortValue());
+        String sql = sqlTemplate(statement, queryContext,
+                conditions -> "%s%s AND %s %s".formatted(SEEK_SQL.formatted(select(TOTALS_PROJECTION, conditions)),
+                        conditions, buildSeekPredicate(cursor), buildOrderByStatement()));
+
+        Query query = em.createNativeQuery(sql, Figurine.PAGE_WITH_COUNTS_MAPPING);
+        params.forEach(query::setParameter);
+        // One extra row tells whether another slice follows.
+        query.setMaxResults(size + 1);
+
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            SearchQueryContext countContext = getSearchQueryContext(filter);
+            return new CursorPage<>(List.of(), countTotal(countContext), countCollectables(countContext), null);
+        }
+
+        List<Figurine> content = rows.stream().limit(size).map(row -> (Figurine) row[0]).toList();
+        Object[] firstRow = rows.getFirst();
+
+        return new CursorPage<>(content, ((Number) firstRow[1]).longValue(), ((Number) firstRow[2]).longValue(),
+                buildNextCursor(content, rows.size() > size));
     }
 
     /**
@@ -137,15 +394,83 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
     @Override
     @SuppressWarnings("unchecked")
     public List<Figurine> findAll(FigurineFilter filter) {
-        SearchQueryContext queryContext = getSearchQueryContext(filter);
+        return createAllQuery(filter).getResultList();
+    }
 
-        StringBuilder sql = queryContext.sql();
-        sql.append(" ").append(buildOrderByStatement());
+    /**
+     * Streams the figurines matching the specified filter in chunks.
+     *
+     * <p>
+     * Rows are read through a forward-only cursor with a fetch size of
+     * {@link #scanChunkSize} and hydrated as read-only entities. Once the consumer
+     * returns, the chunk is discarded and the persistence context cleared, so the
+     * memory held by the scan is bounded by one chunk rather than the catalog
+     * size.
+     * </p>
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the results
+     * @param chunkConsumer
+     *            receives each chunk; the list and its figurines are only valid
+     *            during the call
+     * @return the number of figurines scanned
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public long scan(FigurineFilter filter, Consumer<List<Figurine>> chunkConsumer) {
+        Query query = createAllQuery(filter);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, scanChunkSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
 
-        Query query = em.createNativeQuery(sql.toString(), Figurine.class);
-        queryContext.params().forEach(query::setParameter);
+        long scanned = 0;
+        List<Figurine> chunk = new ArrayList<>(scanChunkSize);
+        try (Stream<Figurine> figurines = query.getResultStream()) {
+            for (Iterator<Figurine> iterator = figurines.iterator(); iterator.hasNext();) {
+                chunk.add(iterator.next());
+                if (chunk.size() == scanChunkSize) {
+                    scanned += consumeChunk(chunk, chunkConsumer);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            scanned += consumeChunk(chunk, chunkConsumer);
+        }
+        return scanned;
+    }
 
-        return query.getResultList();
+    /**
+     * Hands a chunk over to the consumer, then detaches its figurines.
+     *
+     * @param chunk
+     *            the figurines read since the previous chunk
+     * @param chunkConsumer
+     *            the consumer of the chunk
+     * @return the number of figurines in the chunk
+     */
+    private int consumeChunk(List<Figurine> chunk, Consumer<List<Figurine>> chunkConsumer) {
+        int size = chunk.size();
+        chunkConsumer.accept(Collections.unmodifiableList(chunk));
+        chunk.clear();
+        em.clear();
+        return size;
+    }
+
+    /**
+     * Builds the query selecting the figurines matching the filter, in the default
+     * ordering.
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the results
+     * @return the query, ready to be executed
+     */
+    private Query createAllQuery(FigurineFilter filter) {
+        SearchQueryContext queryContext = getSearchQueryContext(filter);
+        String sql = sqlTemplate("all", queryContext,
+                conditions -> "%s %s".formatted(select(ENTITY_PROJECTION, conditions), buildOrderByStatement()));
+
+        Query query = em.createNativeQuery(sql, Figurine.class);
+        queryContext.params().forEach(query::setParameter);
+        return query;
     }
 
     /**
@@ -164,124 +489,295 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
     @SuppressWarnings("unchecked")
     public List<Figurine> findAllByYear(int year) {
         SearchQueryContext queryContext = getSearchQueryContext(null);
+        queryContext.params().put("year", year);
 
-        StringBuilder sql = queryContext.sql();
-        Map<String, Object> params = queryContext.params();
-
-        sql.append(" AND EXTRACT(YEAR FROM fd.release_date) = :year");
-        sql.append(" ").append(buildOrderByStatement());
-        params.put("year", year);
+        String sql = sqlTemplate("all-by-year", queryContext,
+                conditions -> "%s AND EXTRACT(YEAR FROM first_release_date) = :year %s"
+                        .formatted(select(ENTITY_PROJECTION, conditions), buildOrderByStatement()));
 
-        Query query = em.createNativeQuery(sql.toString(), Figurine.class);
+        Query query = em.createNativeQuery(sql, Figurine.class);
         queryContext.params().forEach(query::setParameter);
 
         return query.getResultList();
     }
 
     /**
-     * Builds the SQL query and parameter map based on the supplied filter.
+     * Retrieves the searchable attributes of every figurine.
+     *
+     * <p>
+     * Only the columns referenced by {@link FigurineFilter} are selected, so no
+     * entity is hydrated. The rows follow the default release status ordering.
+     * </p>
+     *
+     * @return the index entries of all figurines
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FigurineIndexEntry> findIndexEntries() {
+        String sql = sqlTemplate("index-entries", getSearchQueryContext(null),
+                conditions -> "%s %s".formatted(select(INDEX_PROJECTION, conditions), buildOrderByStatement()));
+
+        Query query = em.createNativeQuery(sql);
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream().map(this::toIndexEntry).toList();
+    }
+
+    /**
+     * Maps a row selected with {@link #INDEX_PROJECTION} to an index entry.
+     *
+     * @param row
+     *            the selected columns
+     * @return the corresponding index entry
+     */
+    private FigurineIndexEntry toIndexEntry(Object[] row) {
+        return new FigurineIndexEntry(((Number) row[0]).longValue(), (String) row[1], toLong(row[2]),
+                toLong(row[3]), toLong(row[4]), toLong(row[5]), toLong(row[6]), (Boolean) row[7], (Boolean) row[8],
+                (Boolean) row[9], (Boolean) row[10], (Boolean) row[11], (Boolean) row[12], (Boolean) row[13],
+                (Boolean) row[14], (Boolean) row[15], (Boolean) row[16], ReleaseStatus.valueOf((String) row[17]),
+                Objects.nonNull(row[18]));
+    }
+
+    /**
+     * Retrieves the summary columns of the collectable figurines matching the
+     * specified filter.
+     *
+     * <p>
+     * The collectable predicate is applied by the database and only the columns
+     * of {@link #SUMMARY_PROJECTION} are read, so no entity is hydrated.
+     * </p>
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the results
+     * @return the summary entries of the matching collectable figurines
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FigurineSummaryEntry> findCollectableSummaries(FigurineFilter filter) {
+        List<Object[]> rows = createCollectableQuery("collectable-summaries", filter, SUMMARY_PROJECTION)
+                .getResultList();
+        return rows.stream().map(row -> new FigurineSummaryEntry(((Number) row[0]).longValue(), (String) row[1],
+                ((Number) row[2]).longValue(), (String) row[3], (String) row[4])).toList();
+    }
+
+    /**
+     * Retrieves the identifiers of the collectable figurines matching the
+     * specified filter.
+     *
+     * @param filter
+     *            the filtering criteria used to restrict the results
+     * @return the identifiers of the matching collectable figurines
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> findCollectableIds(FigurineFilter filter) {
+        List<Number> ids = createCollectableQuery("collectable-ids", filter, ID_PROJECTION).getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /**
+     * Builds the query selecting the supplied columns of the collectable figurines
+     * matching the filter, in the default ordering.
+     *
+     * @param statement
+     *            the statement kind, used as part of the template cache key
+     * @param filter
+     *            the filtering criteria used to restrict the results
+     * @param projection
+     *            the columns selected by the query
+     * @return the query, ready to be executed
+     */
+    private Query createCollectableQuery(String statement, FigurineFilter filter, String projection) {
+        SearchQueryContext queryContext = getSearchQueryContext(filter);
+        String sql = sqlTemplate(statement, queryContext, conditions -> "%s %s %s"
+                .formatted(select(projection, conditions), buildCollectablePredicate(), buildOrderByStatement()));
+
+        Query query = em.createNativeQuery(sql);
+        queryContext.params().forEach(query::setParameter);
+
+        return query;
+    }
+
+    private Long toLong(Object value) {
+        return Objects.isNull(value) ? null : ((Number) value).longValue();
+    }
+
+    /**
+     * Resolves the predicates and the parameter map corresponding to the supplied
+     * filter.
      *
      * <p>
      * Only predicates corresponding to non-null or non-empty filter values are
-     * appended to the base query.
+     * applied.
      * </p>
      *
      * @param filter
      *            the filter criteria used to build the dynamic query; may be
      *            {@code null}
-     * @return a {@link SearchQueryContext} containing the generated SQL and its
-     *         named parameters
+     * @return a {@link SearchQueryContext} containing the applied predicates and
+     *         their named parameters
      */
     private SearchQueryContext getSearchQueryContext(FigurineFilter filter) {
-        StringBuilder dynamicSql = new StringBuilder(BASE_SQL);
+        int predicates = 0;
         Map<String, Object> params = new HashMap<>();
 
         if (Objects.isNull(filter)) {
-            return new SearchQueryContext(dynamicSql, params);
+            return new SearchQueryContext(predicates, params);
         }
 
         // Dynamic filters
         if (Objects.nonNull(filter.figurineIds()) && !filter.figurineIds().isEmpty()) {
-            dynamicSql.append(" AND f.id IN (:figurineIds)");
+            predicates |= FilterPredicate.FIGURINE_IDS.mask();
             params.put("figurineIds", filter.figurineIds());
         }
         if (StringUtils.hasLength(filter.name())) {
-            dynamicSql.append(" AND LOWER(normalized_name) LIKE LOWER(:name)");
+            predicates |= FilterPredicate.NAME.mask();
             params.put("name", "%" + filter.name() + "%");
         }
         if (Objects.nonNull(filter.lineUpId())) {
-            dynamicSql.append(" AND lineup_id = :lineUpId");
+            predicates |= FilterPredicate.LINE_UP.mask();
             params.put("lineUpId", filter.lineUpId());
         }
         if (Objects.nonNull(filter.seriesId())) {
-            dynamicSql.append(" AND series_id = :seriesId");
+            predicates |= FilterPredicate.SERIES.mask();
             params.put("seriesId", filter.seriesId());
         }
         if (Objects.nonNull(filter.groupId())) {
-            dynamicSql.append(" AND group_id = :groupId");
+            predicates |= FilterPredicate.GROUP.mask();
             params.put("groupId", filter.groupId());
         }
         if (Objects.nonNull(filter.distributionId())) {
-            dynamicSql.append(" AND distribution_id = :distributionId");
+            predicates |= FilterPredicate.DISTRIBUTION.mask();
             params.put("distributionId", filter.distributionId());
         }
         if (Objects.nonNull(filter.anniversaryId())) {
-            dynamicSql.append(" AND anniversary_id = :anniversaryId");
+            predicates |= FilterPredicate.ANNIVERSARY.mask();
             params.put("anniversaryId", filter.anniversaryId());
         }
         if (Objects.nonNull(filter.metalBody())) {
-            dynamicSql.append(" AND is_metal_body = :metalBody");
+            predicates |= FilterPredicate.METAL_BODY.mask();
             params.put("metalBody", filter.metalBody());
         }
         if (Objects.nonNull(filter.oce())) {
-            dynamicSql.append(" AND is_oce = :oce");
+            predicates |= FilterPredicate.OCE.mask();
             params.put("oce", filter.oce());
         }
         if (Objects.nonNull(filter.revival())) {
-            dynamicSql.append(" AND is_revival = :revival");
+            predicates |= FilterPredicate.REVIVAL.mask();
             params.put("revival", filter.revival());
         }
         if (Objects.nonNull(filter.plainCloth())) {
-            dynamicSql.append(" AND is_plain_cloth = :plainCloth");
+            predicates |= FilterPredicate.PLAIN_CLOTH.mask();
             params.put("plainCloth", filter.plainCloth());
         }
         if (Objects.nonNull(filter.broken())) {
-            dynamicSql.append(" AND is_broken = :broken");
+            predicates |= FilterPredicate.BROKEN.mask();
             params.put("broken", filter.broken());
         }
         if (Objects.nonNull(filter.golden())) {
-            dynamicSql.append(" AND is_golden = :golden");
+            predicates |= FilterPredicate.GOLDEN.mask();
             params.put("golden", filter.golden());
         }
         if (Objects.nonNull(filter.gold())) {
-            dynamicSql.append(" AND is_gold = :gold");
+            predicates |= FilterPredicate.GOLD.mask();
             params.put("gold", filter.gold());
         }
         if (Objects.nonNull(filter.manga())) {
-            dynamicSql.append(" AND is_manga = :manga");
+            predicates |= FilterPredicate.MANGA.mask();
             params.put("manga", filter.manga());
         }
         if (Objects.nonNull(filter.set())) {
-            dynamicSql.append(" AND is_set = :set");
+            predicates |= FilterPredicate.SET.mask();
             params.put("set", filter.set());
         }
         if (Objects.nonNull(filter.articulable())) {
-            dynamicSql.append(" AND is_articulable = :articulable");
+            predicates |= FilterPredicate.ARTICULABLE.mask();
             params.put("articulable", filter.articulable());
         }
         if (Objects.nonNull(filter.releaseStatuses()) && !filter.releaseStatuses().isEmpty()) {
-            dynamicSql.append(" AND current_release_status IN (:status)");
+            predicates |= FilterPredicate.RELEASE_STATUSES.mask();
             params.put("status", filter.releaseStatuses());
         }
         if (Objects.nonNull(filter.restocks())) {
-            if (filter.restocks()) {
-                dynamicSql.append(" AND previous_release_id IS NOT NULL");
-            } else {
-                dynamicSql.append(" AND previous_release_id IS NULL");
+            predicates |= filter.restocks() ? FilterPredicate.RESTOCKS.mask() : FilterPredicate.NO_RESTOCKS.mask();
+        }
+
+        return new SearchQueryContext(predicates, params);
+    }
+
+    /**
+     * Returns the cached SQL of a statement for the predicates of a query, building
+     * it on first use.
+     *
+     * @param statement
+     *            the statement kind, distinguishing the statements generated for
+     *            the same predicates
+     * @param queryContext
+     *            the query whose predicates are applied
+     * @param builder
+     *            builds the complete statement from the generated conditions
+     * @return the SQL statement
+     */
+    private String sqlTemplate(String statement, SearchQueryContext queryContext, Function<String, String> builder) {
+        return sqlTemplates.get(new SqlTemplateKey(statement, queryContext.predicates()),
+                key -> builder.apply(buildConditions(key.predicates())));
+    }
+
+    /**
+     * Builds the conditions appended to {@link #BASE_SQL} for a set of predicates.
+     *
+     * @param predicates
+     *            bitmask of the applied predicates
+     * @return the SQL conditions, each one prefixed with {@code AND}
+     */
+    private String buildConditions(int predicates) {
+        StringBuilder conditions = new StringBuilder();
+        for (FilterPredicate predicate : FilterPredicate.values()) {
+            if ((predicates & predicate.mask()) != 0) {
+                conditions.append(" AND ").append(predicate.condition());
             }
         }
+        return conditions.toString();
+    }
 
-        return new SearchQueryContext(dynamicSql, params);
+    /**
+     * Builds the filtered query selecting the supplied columns.
+     *
+     * @param projection
+     *            the columns selected by the query
+     * @param conditions
+     *            the conditions generated by {@link #buildConditions(int)}
+     * @return the SQL query
+     */
+    private String select(String projection, String conditions) {
+        return BASE_SQL.formatted(projection) + conditions;
+    }
+
+    private long countTotal(SearchQueryContext queryContext) {
+        return executeAndGetTotal(sqlTemplate("count", queryContext,
+                conditions -> buildCountStatement().formatted(select(ENTITY_PROJECTION, conditions))),
+                queryContext.params());
+    }
+
+    private long countCollectables(SearchQueryContext queryContext) {
+        return executeAndGetTotal(sqlTemplate("collectable-count", queryContext,
+                conditions -> buildCountStatement().formatted(
+                        "%s %s".formatted(select(ENTITY_PROJECTION, conditions), buildCollectablePredicate()))),
+                queryContext.params());
+    }
+
+    /**
+     * Publishes the size and hit rate of the SQL template cache.
+     *
+     * @param registry
+     *            the registry to which the metrics are added
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, sqlTemplates, SQL_TEMPLATE_CACHE);
+        Gauge.builder(SQL_TEMPLATE_CACHE + ".hit-ratio", sqlTemplates, cache -> cache.stats().hitRate())
+                .description("Ratio of figurine searches reusing an already generated SQL statement")
+                .register(registry);
     }
 
     /**
@@ -291,7 +787,8 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
      * <p>
      * The ordering prioritizes announced and released figurines before prototypes
      * and rumored items. Within each status, the appropriate release, announcement,
-     * or creation date is used to determine the order.
+     * or creation date is used to determine the order. Figurines without that
+     * date come last, whatever the default null ordering of the database.
      * </p>
      *
      * @return the SQL {@code ORDER BY} clause
@@ -299,38 +796,126 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
     private String buildOrderByStatement() {
         return """
                 ORDER BY
-                    CASE current_release_status
-                        WHEN 'ANNOUNCED'  THEN 1
-                        WHEN 'RELEASED'   THEN 2
-                        WHEN 'PROTOTYPE'  THEN 3
-                        WHEN 'UNRELEASED' THEN 4
-                        WHEN 'RUMORED'    THEN 5
-                    END,
+                    %s,
                     CASE
-                        WHEN current_release_status IN ('ANNOUNCED', 'RELEASED') THEN release_date
-                    END DESC,
+                        WHEN current_release_status IN ('ANNOUNCED', 'RELEASED') THEN first_release_date
+                    END DESC NULLS LAST,
                     CASE
                         WHEN current_release_status IN ('ANNOUNCED', 'RELEASED') THEN f.id
                     END,
                     CASE
-                        WHEN current_release_status = 'PROTOTYPE' THEN announcement_date
-                    END DESC,
+                        WHEN current_release_status = 'PROTOTYPE' THEN first_announcement_date
+                    END DESC NULLS LAST,
                     CASE
                         WHEN current_release_status = 'PROTOTYPE' THEN f.id
                     END,
                     CASE
-                        WHEN current_release_status = 'UNRELEASED' THEN announcement_date
-                    END DESC,
+                        WHEN current_release_status = 'UNRELEASED' THEN first_announcement_date
+                    END DESC NULLS LAST,
                     CASE
                         WHEN current_release_status = 'UNRELEASED' THEN f.id
                     END,
                     CASE
                         WHEN current_release_status = 'RUMORED' THEN f.creation_date
-                    END,
+                    END NULLS LAST,
                     CASE
                         WHEN current_release_status = 'RUMORED' THEN f.id
                     END
-                """;
+                """.formatted(STATUS_RANK);
+    }
+
+    /**
+     * Builds the SQL predicate selecting the figurines placed after the cursor in
+     * the order produced by {@link #buildOrderByStatement()}.
+     *
+     * <p>
+     * A figurine follows the cursor when its status ranks lower, or when it has the
+     * same status and comes after the cursor by status-specific date and id.
+     * Figurines without a date come last within their status, so a cursor with a
+     * date is followed by every undated figurine of its status, and a cursor
+     * without one only by the undated figurines with a greater id.
+     * </p>
+     *
+     * <p>
+     * The predicate compares the {@code figurines} columns directly, and only
+     * depends on the status of the cursor and on whether it carries a sort value;
+     * the cursor values themselves are bound by
+     * {@link #addSeekParameters(FigurineCursor, Map)}.
+     * </p>
+     *
+     * @param cursor
+     *            the position of the last figurine already returned
+     * @return the SQL seek predicate
+     */
+    private String buildSeekPredicate(FigurineCursor cursor) {
+        String column = switch (cursor.status()) {
+            case ANNOUNCED, RELEASED -> "first_release_date";
+            case PROTOTYPE, UNRELEASED -> "first_announcement_date";
+            case RUMORED -> "f.creation_date";
+        };
+        // Rumored figurines are sorted by ascending date, every other status descending.
+        String comparison = cursor.status() == ReleaseStatus.RUMORED ? ">" : "<";
+
+        String sameStatus = cursor.hasSortValue()
+                ? "(%1$s %2$s :cursorValue OR (%1$s = :cursorValue AND f.id > :cursorId) OR %1$s IS NULL)"
+                        .formatted(column, comparison)
+                : "(%s IS NULL AND f.id > :cursorId)".formatted(column);
+        String predicate = "(current_release_status = '%s' AND %s)".formatted(cursor.status(), sameStatus);
+
+        String laterStatuses = Arrays.stream(ReleaseStatus.values())
+                .filter(status -> rankOf(status) > rankOf(cursor.status())).map("'%s'"::formatted)
+                .collect(Collectors.joining(", "));
+        return laterStatuses.isEmpty()
+                ? predicate
+                : "(current_release_status IN (%s) OR %s)".formatted(laterStatuses, predicate);
+    }
+
+    /**
+     * Adds the cursor values referenced by {@link #buildSeekPredicate(FigurineCursor)}.
+     *
+     * @param cursor
+     *            the position of the last figurine already returned
+     * @param params
+     *            the named parameters to which the cursor values are added
+     */
+    private void addSeekParameters(FigurineCursor cursor, Map<String, Object> params) {
+        params.put("cursorId", cursor.id());
+        if (cursor.hasSortValue()) {
+            params.put("cursorValue", cursor.sortParameter());
+        }
+    }
+
+    /**
+     * Returns the position of the supplied status in the default ordering.
+     *
+     * @param status
+     *            the release status
+     * @return the rank used by {@link #STATUS_RANK}
+     */
+    private int rankOf(ReleaseStatus status) {
+        return switch (status) {
+            case ANNOUNCED -> 1;
+            case RELEASED -> 2;
+            case PROTOTYPE -> 3;
+            case UNRELEASED -> 4;
+            case RUMORED -> 5;
+        };
+    }
+
+    /**
+     * Builds the continuation token pointing at the last figurine of a page.
+     *
+     * @param content
+     *            the figurines of the page
+     * @param hasNext
+     *            whether more figurines follow the page
+     * @return the encoded cursor, or {@code null} when no figurines follow
+     */
+    private String buildNextCursor(List<Figurine> content, boolean hasNext) {
+        if (!hasNext || content.isEmpty()) {
+            return null;
+        }
+        return FigurineCursor.from(content.getLast()).encode();
     }
 
     /**
@@ -401,4 +986,56 @@ public class FigurineRepositoryImpl implements FigurineQueryRepository {
 
         return ((Number) query.getSingleResult()).longValue();
     }
+
+    /**
+     * Key of a cached SQL statement.
+     *
+     * @param statement
+     *            the statement kind
+     * @param predicates
+     *            bitmask of the applied filter predicates
+     */
+    private record SqlTemplateKey(String statement, int predicates) {
+    }
+
+    /**
+     * Filter predicates of the dynamic figurine queries, in the order they are
+     * appended to the SQL.
+     */
+    private enum FilterPredicate {
+        FIGURINE_IDS("f.id IN (:figurineIds)"),
+        NAME("LOWER(normalized_name) LIKE LOWER(:name)"),
+        LINE_UP("lineup_id = :lineUpId"),
+        SERIES("series_id = :seriesId"),
+        GROUP("group_id = :groupId"),
+        DISTRIBUTION("distribution_id = :distributionId"),
+        ANNIVERSARY("anniversary_id = :anniversaryId"),
+        METAL_BODY("is_metal_body = :metalBody"),
+        OCE("is_oce = :oce"),
+        REVIVAL("is_revival = :revival"),
+        PLAIN_CLOTH("is_plain_cloth = :plainCloth"),
+        BROKEN("is_broken = :broken"),
+        GOLDEN("is_golden = :golden"),
+        GOLD("is_gold = :gold"),
+        MANGA("is_manga = :manga"),
+        SET("is_set = :set"),
+        ARTICULABLE("is_articulable = :articulable"),
+        RELEASE_STATUSES("current_release_status IN (:status)"),
+        RESTOCKS("previous_release_id IS NOT NULL"),
+        NO_RESTOCKS("previous_release_id IS NULL");
+
+        private final String condition;
+
+        FilterPredicate(String condition) {
+            this.condition = condition;
+        }
+
+        String condition() {
+            return condition;
+        }
+
+        int mask() {
+            return 1 << ordinal();
+        }
+    }
 }
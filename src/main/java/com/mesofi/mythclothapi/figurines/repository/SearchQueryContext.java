@@ -6,14 +6,15 @@ import java.util.Map;
  * Encapsulates the context required to build a dynamic search query.
  *
  * <p>
- * Contains the SQL statement being constructed and the parameters that will be
- * bound to the query.
+ * Contains the set of filter predicates the query must apply, encoded as a
+ * bitmask, and the parameters that will be bound to the query. Queries applying
+ * the same predicates share the same SQL, whatever the parameter values.
  * </p>
  *
- * @param sql
- *            the SQL statement being constructed
+ * @param predicates
+ *            bitmask of the filter predicates applied by the query
  * @param params
  *            the named parameters and their corresponding values
  */
-public record SearchQueryContext(StringBuilder sql, Map<String, Object> params) {
-}
\ No newline at end of file
+public record SearchQueryContext(int predicates, Map<String, Object> params) {
+}
@@ -0,0 +1,58 @@
+package com.mesofi.mythclothapi.figurines.repository.projection;
+
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+
+/**
+ * Projection containing the figurine columns used by the in-memory search
+ * index.
+ *
+ * <p>
+ * Every attribute that can be filtered with a
+ * {@link com.mesofi.mythclothapi.figurines.FigurineFilter} is included, while
+ * descriptive columns and associations are left out.
+ * </p>
+ *
+ * @param id
+ *            figurine identifier
+ * @param normalizedName
+ *            base figurine name used for name searches
+ * @param lineUpId
+ *            lineup identifier
+ * @param seriesId
+ *            series identifier
+ * @param groupId
+ *            group identifier; may be {@code null}
+ * @param distributionId
+ *            distribution identifier; may be {@code null}
+ * @param anniversaryId
+ *            anniversary identifier; may be {@code null}
+ * @param metalBody
+ *            whether the figurine has a metal body
+ * @param oce
+ *            whether the figurine is an OCE variant
+ * @param revival
+ *            whether the figurine is a revival release
+ * @param plainCloth
+ *            whether the figurine has plain cloth
+ * @param broken
+ *            whether the figurine is a broken version
+ * @param golden
+ *            whether the figurine is a golden version
+ * @param gold
+ *            whether the figurine is gold-colored
+ * @param manga
+ *            whether the figurine is a manga variant
+ * @param set
+ *            whether the figurine belongs to a set
+ * @param articulable
+ *            whether the figurine is articulable
+ * @param releaseStatus
+ *            current release status
+ * @param restock
+ *            whether the figurine has a previous release
+ */
+public record FigurineIndexEntry(long id, String normalizedName, Long lineUpId, Long seriesId, Long groupId,
+        Long distributionId, Long anniversaryId, Boolean metalBody, Boolean oce, Boolean revival, Boolean plainCloth,
+        Boolean broken, Boolean golden, Boolean gold, Boolean manga, Boolean set, Boolean articulable,
+        ReleaseStatus releaseStatus, boolean restock) {
+}
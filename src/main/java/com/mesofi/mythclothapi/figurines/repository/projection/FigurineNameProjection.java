@@ -0,0 +1,28 @@
+package com.mesofi.mythclothapi.figurines.repository.projection;
+
+/**
+ * Projection containing the names of a figurine used by the name index.
+ */
+public interface FigurineNameProjection {
+
+    /**
+     * Returns the figurine identifier.
+     *
+     * @return the figurine identifier
+     */
+    Long getId();
+
+    /**
+     * Returns the base figurine name without variants or attributes.
+     *
+     * @return the normalized figurine name
+     */
+    String getNormalizedName();
+
+    /**
+     * Returns the complete figurine name displayed to users.
+     *
+     * @return the display name
+     */
+    String getDisplayName();
+}
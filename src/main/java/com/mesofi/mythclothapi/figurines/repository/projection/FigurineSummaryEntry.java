@@ -0,0 +1,25 @@
+package com.mesofi.mythclothapi.figurines.repository.projection;
+
+/**
+ * Projection containing the figurine columns displayed by lightweight figurine
+ * listings.
+ *
+ * <p>
+ * The lineup description and the first official image are resolved by the
+ * query itself, so no entity or association is loaded.
+ * </p>
+ *
+ * @param id
+ *            figurine identifier
+ * @param displayName
+ *            complete figurine name displayed to users
+ * @param lineUpId
+ *            lineup identifier
+ * @param lineUpDescription
+ *            lineup description
+ * @param officialImageUrl
+ *            first official image; may be {@code null}
+ */
+public record FigurineSummaryEntry(long id, String displayName, long lineUpId, String lineUpDescription,
+        String officialImageUrl) {
+}
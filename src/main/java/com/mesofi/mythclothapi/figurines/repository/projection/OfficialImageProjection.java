@@ -0,0 +1,22 @@
+package com.mesofi.mythclothapi.figurines.repository.projection;
+
+/**
+ * Projection containing an official image row, used to number the images
+ * stored before their position was kept.
+ */
+public interface OfficialImageProjection {
+
+    /**
+     * Returns the identifier of the figurine the image belongs to.
+     *
+     * @return the figurine identifier
+     */
+    Long getFigurineId();
+
+    /**
+     * Returns the URL of the image.
+     *
+     * @return the image URL
+     */
+    String getUrl();
+}
@@ -0,0 +1,326 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.catalogs.repository.LineUpRepository;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurines.FigurineService;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineMatchDecision;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineMatchGeneration;
+import com.mesofi.mythclothapi.figurinestores.repository.FigurineMatchDecisionRepository;
+import com.mesofi.mythclothapi.figurinestores.repository.FigurineMatchGenerationRepository;
+import com.mesofi.mythclothapi.messaging.invalidation.CacheInvalidationBroadcaster;
+import com.mesofi.mythclothapi.stores.model.Store;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Remembers which figurine, if any, a store listing name was matched to, so
+ * that crawlers sending the same product again skip the fuzzy matching.
+ *
+ * <p>
+ * Decisions are keyed by store, line-up and normalized product name. They are
+ * persisted in the {@code figurine_match_decisions} table, which survives
+ * restarts, and fronted by the {@value #MATCH_DECISION_CACHE} cache. Once a
+ * figurine is created or deleted, or its display name, release status or
+ * line-up changes, the decisions of its line-ups are discarded, since the same
+ * name may now match another figurine. Other changes, such as prices or
+ * events, keep them.
+ * </p>
+ *
+ * <p>
+ * A listing matched while its line-up changes may record its decision after
+ * the discard. Every discard therefore increments the
+ * {@link FigurineMatchGeneration} of the line-ups, decisions are stamped with
+ * the generation read before matching, and decisions stamped with an older
+ * generation are ignored. Only the node that made the change deletes the
+ * decisions and increments the generations, which every node reads from the
+ * database; nodes replaying the change of another node only evict their cached
+ * decisions, so decisions recorded since the change are kept. Decisions are
+ * cached only once their transaction commits, and only while their generation
+ * is current.
+ * </p>
+ *
+ * <p>
+ * Lookups are published as the {@value #REQUESTS_METRIC} counter, tagged by
+ * result and by the tier that answered, from which the hit ratio of the memo is
+ * derived.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FigurineMatchMemo {
+
+    public static final String MATCH_DECISION_CACHE = "match-decisions";
+
+    static final String REQUESTS_METRIC = "figurine.match.memo.requests";
+
+    private final FigurineMatchDecisionRepository repository;
+    private final FigurineMatchGenerationRepository generationRepository;
+    private final LineUpRepository lineUpRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The outcome of matching a store listing name.
+     *
+     * @param figurineId
+     *            identifier of the matched figurine; {@code null} when none matched
+     */
+    public record MatchDecision(Long figurineId) {
+
+        /** @return whether a figurine was matched */
+        public boolean matched() {
+            return Objects.nonNull(figurineId);
+        }
+    }
+
+    private record MatchKey(Long storeId, LineUpType lineUp, String normalizedName) {
+    }
+
+    /**
+     * Finds the decision previously recorded for a listing name.
+     *
+     * @param store
+     *            the store the listing comes from
+     * @param lineUp
+     *            the line-up of the listing
+     * @param normalizedName
+     *            the normalized product name of the listing
+     * @return the recorded decision, or {@link Optional#empty()} if the name must
+     *         be matched
+     */
+    public Optional<MatchDecision> find(Store store, LineUpType lineUp, String normalizedName) {
+        if (Objects.isNull(normalizedName)) {
+            return Optional.empty();
+        }
+        MatchKey key = new MatchKey(store.getId(), lineUp, normalizedName);
+        Cache cache = cacheManager.getCache(MATCH_DECISION_CACHE);
+        MatchDecision cached = Objects.isNull(cache) ? null : cache.get(key, MatchDecision.class);
+        if (Objects.nonNull(cached)) {
+            count("hit", "memory");
+            return Optional.of(cached);
+        }
+
+        Optional<MatchDecision> stored = repository.findByStoreAndLineUpAndNormalizedName(store, lineUp, normalizedName)
+                .filter(decision -> isCurrent(decision.getGeneration(), lineUp))
+                .map(decision -> new MatchDecision(decision.getFigurineId()));
+        stored.ifPresentOrElse(decision -> {
+            count("hit", "database");
+            put(cache, key, decision);
+        }, () -> count("miss", "none"));
+        return stored;
+    }
+
+    /**
+     * Returns the current generation of a line-up, to be read before a listing of
+     * the line-up is matched.
+     *
+     * @param lineUp
+     *            the line-up of the listing
+     * @return the generation to record the decision with
+     */
+    public long generation(LineUpType lineUp) {
+        return generationRepository.findByLineUp(lineUp).map(FigurineMatchGeneration::getGeneration).orElse(0L);
+    }
+
+    /**
+     * Records a decision that does not depend on the figurines of the line-up,
+     * such as a manual match, within the current transaction.
+     *
+     * @param store
+     *            the store the listing comes from
+     * @param lineUp
+     *            the line-up of the listing
+     * @param normalizedName
+     *            the normalized product name of the listing
+     * @param figurineId
+     *            identifier of the matched figurine; {@code null} when none matched
+     */
+    public void record(Store store, LineUpType lineUp, String normalizedName, Long figurineId) {
+        if (Objects.isNull(normalizedName)) {
+            return;
+        }
+        record(store, lineUp, normalizedName, figurineId, generation(lineUp));
+    }
+
+    /**
+     * Records the outcome of matching a listing name, within the current
+     * transaction.
+     *
+     * @param store
+     *            the store the listing comes from
+     * @param lineUp
+     *            the line-up of the listing
+     * @param normalizedName
+     *            the normalized product name of the listing
+     * @param figurineId
+     *            identifier of the matched figurine; {@code null} when none matched
+     * @param generation
+     *            the {@link #generation(LineUpType) generation} of the line-up
+     *            read before matching
+     */
+    public void record(Store store, LineUpType lineUp, String normalizedName, Long figurineId, long generation) {
+        if (Objects.isNull(normalizedName)) {
+            return;
+        }
+        FigurineMatchDecision decision = repository.findByStoreAndLineUpAndNormalizedName(store, lineUp,
+                normalizedName).orElseGet(() -> {
+                    FigurineMatchDecision created = new FigurineMatchDecision();
+                    created.setStore(store);
+                    created.setLineUp(lineUp);
+                    created.setNormalizedName(normalizedName);
+                    return created;
+                });
+        decision.setFigurineId(figurineId);
+        decision.setGeneration(generation);
+        repository.save(decision);
+
+        MatchKey key = new MatchKey(store.getId(), lineUp, normalizedName);
+        afterCommit(() -> {
+            if (isCurrent(generation, lineUp)) {
+                put(cacheManager.getCache(MATCH_DECISION_CACHE), key, new MatchDecision(figurineId));
+            }
+        });
+    }
+
+    /**
+     * Discards the decision recorded for a listing name, so that the name is
+     * matched again.
+     *
+     * @param store
+     *            the store the listing comes from
+     * @param lineUp
+     *            the line-up of the listing
+     * @param normalizedName
+     *            the normalized product name of the listing
+     */
+    public void forget(Store store, LineUpType lineUp, String normalizedName) {
+        if (Objects.isNull(normalizedName)) {
+            return;
+        }
+        repository.findByStoreAndLineUpAndNormalizedName(store, lineUp, normalizedName).ifPresent(repository::delete);
+
+        Cache cache = cacheManager.getCache(MATCH_DECISION_CACHE);
+        if (Objects.nonNull(cache)) {
+            cache.evict(new MatchKey(store.getId(), lineUp, normalizedName));
+        }
+    }
+
+    /**
+     * Discards the decisions of the line-ups whose figurines changed in a way
+     * that affects matching, and increments their generations; the cached
+     * decisions are evicted once the increment commits. When the change is
+     * replayed from another node, which already discarded the stored decisions,
+     * only the cached decisions are evicted.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogVersion.INVALIDATION_ORDER)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCatalogChanged(FigurineCatalogChangedEvent event) {
+        if (!event.matchingChanged()) {
+            return;
+        }
+        boolean originating = !CacheInvalidationBroadcaster.isReplaying();
+        Cache cache = cacheManager.getCache(MATCH_DECISION_CACHE);
+        if (event.isCatalogWide()) {
+            if (originating) {
+                repository.deleteAllInBatch();
+                increment(EnumSet.allOf(LineUpType.class));
+            }
+            afterCommit(() -> {
+                if (Objects.nonNull(cache)) {
+                    cache.clear();
+                }
+            });
+            log.debug("Discarded every match decision");
+            return;
+        }
+
+        Set<LineUpType> lineUps = lineUpRepository.findAllById(event.lineUpIds()).stream()
+                .map(LineUp::getDescription).map(FigurineService::matchedLineUpType).flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        if (lineUps.isEmpty()) {
+            return;
+        }
+        int deleted = 0;
+        if (originating) {
+            deleted = repository.deleteByLineUpIn(lineUps);
+            increment(lineUps);
+        }
+        afterCommit(() -> {
+            if (cache instanceof CaffeineCache caffeineCache) {
+                caffeineCache.getNativeCache().asMap().keySet()
+                        .removeIf(key -> !(key instanceof MatchKey matchKey) || lineUps.contains(matchKey.lineUp()));
+            } else if (Objects.nonNull(cache)) {
+                cache.clear();
+            }
+        });
+        log.debug("Discarded {} match decisions of line-ups {}", deleted, lineUps);
+    }
+
+    private void increment(Set<LineUpType> lineUps) {
+        if (generationRepository.increment(lineUps) == lineUps.size()) {
+            return;
+        }
+        Set<LineUpType> existing = generationRepository.findByLineUpIn(lineUps).stream()
+                .map(FigurineMatchGeneration::getLineUp).collect(Collectors.toSet());
+        lineUps.stream().filter(lineUp -> !existing.contains(lineUp)).forEach(lineUp -> {
+            FigurineMatchGeneration created = new FigurineMatchGeneration();
+            created.setLineUp(lineUp);
+            created.setGeneration(1);
+            generationRepository.save(created);
+        });
+    }
+
+    private boolean isCurrent(Long generation, LineUpType lineUp) {
+        return Objects.requireNonNullElse(generation, 0L) >= generation(lineUp);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void put(Cache cache, MatchKey key, MatchDecision decision) {
+        if (Objects.nonNull(cache)) {
+            cache.put(key, decision);
+        }
+    }
+
+    private void count(String result, String tier) {
+        meterRegistry.counter(REQUESTS_METRIC, "result", result, "tier", tier).increment();
+    }
+}
@@ -27,6 +27,7 @@ import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreMatchedResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreMatchedSummaryResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStorePriceResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreUnmatchedResp;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
 import com.mesofi.mythclothapi.security.permissions.model.Permissions;
 
 import lombok.RequiredArgsConstructor;
@@ -180,6 +181,10 @@ public class FigurineStoreController {
      * currency is omitted or invalid, the default currency behavior defined by
      * {@link com.mesofi.mythclothapi.utils.CurrencyConverter#toCurrency(String)} is
      * applied.
+     * <p>
+     * Without a resolution, the distinct prices recorded for each store are
+     * returned. {@code RAW} returns every run of an unchanged price, and
+     * {@code DAY} or {@code WEEK} the daily or weekly rollups of the prices.
      *
      * @param figurineId
      *            the identifier of the figurine
@@ -188,14 +193,18 @@ public class FigurineStoreController {
      * @param currency
      *            the optional ISO 4217 currency code used to convert returned
      *            prices
+     * @param resolution
+     *            the optional resolution of the returned history
      * @return the historical pricing information for the requested figurine
      */
     @GetMapping("/figurines/{figurineId}/prices/history")
     @PreAuthorize("hasAuthority('" + Permissions.FIGURINES_STORES_READ_HISTORICAL_PRICES + "')")
     public FigurineStoreHistoricalResp retrieveHistoricalPrices(@Positive @PathVariable Long figurineId,
-            @Positive @RequestParam(required = false) Long storeId, @RequestParam(required = false) String currency) {
-        log.info("Retrieving historical prices for figurine {} with currency {}", figurineId, currency);
+            @Positive @RequestParam(required = false) Long storeId, @RequestParam(required = false) String currency,
+            @RequestParam(required = false) PriceResolution resolution) {
+        log.info("Retrieving historical prices for figurine {} with currency {} and resolution {}", figurineId,
+                currency, resolution);
 
-        return figurineStoreService.retrieveHistoricalPrices(figurineId, storeId, toCurrency(currency));
+        return figurineStoreService.retrieveHistoricalPrices(figurineId, storeId, toCurrency(currency), resolution);
     }
 }
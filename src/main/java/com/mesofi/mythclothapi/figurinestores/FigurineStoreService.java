@@ -1,6 +1,7 @@
 
 package com.mesofi.mythclothapi.figurinestores;
 
+import static com.mesofi.mythclothapi.stores.StoreService.STORE_CACHE;
 import static com.mesofi.mythclothapi.utils.CurrencyConverter.isDefaultCurrency;
 
 import java.math.BigDecimal;
@@ -9,8 +10,15 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Currency;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import jakarta.annotation.Nonnull;
 import jakarta.validation.constraints.NotNull;
@@ -29,6 +37,8 @@ import com.mesofi.mythclothapi.figurines.FigurineNotFoundException;
 import com.mesofi.mythclothapi.figurines.FigurineService;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurinestores.FigurineMatchMemo.MatchDecision;
+import com.mesofi.mythclothapi.figurinestores.PriceHistory.Observation;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreHistoricalPriceResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreHistoricalResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreMatchedResp;
@@ -39,6 +49,9 @@ import com.mesofi.mythclothapi.figurinestores.model.CachedStores;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStore;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStorePricing;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStoreUnmatched;
+import com.mesofi.mythclothapi.figurinestores.model.PriceObservation;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
+import com.mesofi.mythclothapi.figurinestores.model.PriceRollup;
 import com.mesofi.mythclothapi.figurinestores.repository.FigurineStorePricingRepository;
 import com.mesofi.mythclothapi.figurinestores.repository.FigurineStoreRepository;
 import com.mesofi.mythclothapi.figurinestores.repository.UnmatchedFigurineListingRepository;
@@ -70,9 +83,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FigurineStoreService {
 
-    private static final String STORE_CACHE = "stores";
     private static final String STORE_KEY = "store";
 
+    /** Identifies a listing by store and original product name. */
+    private record ListingKey(Long storeId, String originalName) {
+    }
+
+    /** Identifies a recorded price of a figurine-store mapping. */
+    private record PriceKey(Long figurineStoreId, BigDecimal price) {
+
+        PriceKey {
+            price = Objects.isNull(price) ? null : price.stripTrailingZeros();
+        }
+    }
+
     private final FigurineStoreMapper figurineStoreMapper;
     private final FigurineService figurineService;
     private final FigurineRepository figurineRepository;
@@ -82,19 +106,25 @@ public class FigurineStoreService {
     private final StoreRepository storeRepository;
     private final CacheManager cacheManager;
     private final CurrencyConversionService currencyService;
+    private final FigurineMatchMemo figurineMatchMemo;
+    private final StoreListingDeduplicator storeListingDeduplicator;
+    private final PriceHistory priceHistory;
 
     /**
      * Processes a pricing update received from an external store.
      * <p>
      * The processing flow is as follows:
      * <ol>
+     * <li>Skip the listing if the {@link StoreListingDeduplicator} absorbs it as
+     * unchanged since it was last processed.</li>
      * <li>Find or create the corresponding {@link Store}.</li>
      * <li>Look for an existing {@link FigurineStore} using the store and the
      * original product name.</li>
      * <li>If a mapping exists, record the pricing if it has not been stored
      * previously.</li>
      * <li>Otherwise, attempt to resolve the listing to a canonical
-     * {@link Figurine}.</li>
+     * {@link Figurine}, reusing the decision recorded by the
+     * {@link FigurineMatchMemo} when the same name was already matched.</li>
      * <li>If the figurine is resolved, create or update the store mapping and
      * record the pricing.</li>
      * <li>If no match is found, persist the listing as an
@@ -107,6 +137,10 @@ public class FigurineStoreService {
     @Transactional
     public void processStorePricing(StoreListing listing) {
         log.info("Processing StoreListing for store: {} ...", listing.store());
+        if (storeListingDeduplicator.absorb(listing)) {
+            log.debug("StoreListing '{}' is unchanged", listing.originalProductName());
+            return;
+        }
 
         StoreName storeName = listing.store();
         CachedStores cachedStores = findStore(storeName);
@@ -126,11 +160,135 @@ public class FigurineStoreService {
                     existing.setPreorder(listing.preorder());
                     existing.setStatus(listing.status());
 
-                    createOrUpdatePricing(existing, listing.productName(), store.getName(), listing.price(),
-                            listing.discount(), listing.checkedAt());
-                }, () -> figurineService.findBestMatchingFigurine(listing.lineUp(), listing.productName())
-                        .ifPresentOrElse(figurine -> processMatchedListing(figurine, store, listing),
-                                () -> createUnmatchedListing(store, listing)));
+                    storeListingDeduplicator.remember(listing, createOrUpdatePricing(existing,
+                            listing.productName(), store.getName(), listing.price(), listing.discount(),
+                            listing.checkedAt()));
+                }, () -> resolveFigurine(store, listing).ifPresentOrElse(
+                        figurine -> storeListingDeduplicator.remember(listing,
+                                processMatchedListing(figurine, store, listing)),
+                        () -> createUnmatchedListing(store, listing)));
+    }
+
+    /**
+     * Processes a batch of pricing updates received from external stores in a
+     * single transaction.
+     * <p>
+     * Every listing is processed as {@link #processStorePricing(StoreListing)}
+     * would, in order, but the ignored listings, the existing
+     * {@link FigurineStore} mappings and their recorded prices are read with one
+     * query each for the whole batch instead of one per listing. Mappings and
+     * prices created by a listing are reused by the following listings of the
+     * batch, and their prices are recorded in the {@link PriceHistory} at once.
+     * The listings absorbed by the {@link StoreListingDeduplicator} are skipped
+     * before any query.
+     *
+     * @param received
+     *            the pricing information retrieved from store crawlers
+     * @throws IllegalArgumentException
+     *             if a listing refers to an unknown store
+     */
+    @Transactional
+    public void processStorePricings(List<StoreListing> received) {
+        log.info("Processing {} StoreListings ...", received.size());
+        List<StoreListing> listings = received.stream().filter(listing -> !storeListingDeduplicator.absorb(listing))
+                .toList();
+        if (listings.isEmpty()) {
+            return;
+        }
+
+        Map<StoreName, Store> stores = new EnumMap<>(StoreName.class);
+        listings.forEach(listing -> stores.computeIfAbsent(listing.store(),
+                storeName -> figurineStoreMapper.toStore(findStore(storeName))));
+        Set<Long> storeIds = stores.values().stream().map(Store::getId).collect(Collectors.toSet());
+        Set<String> originalNames = listings.stream().map(StoreListing::originalProductName)
+                .collect(Collectors.toSet());
+
+        Set<ListingKey> ignored = unmatchedFigurineListingRepository
+                .findByStoreIdInAndOriginalNameInAndIgnoredTrue(storeIds, originalNames).stream()
+                .map(unmatched -> new ListingKey(unmatched.getStore().getId(), unmatched.getOriginalName()))
+                .collect(Collectors.toSet());
+
+        Map<ListingKey, FigurineStore> mappings = new HashMap<>();
+        figurineStoreRepository.findByStoreIdInAndOriginalNameIn(storeIds, originalNames)
+                .forEach(mapping -> mappings.putIfAbsent(
+                        new ListingKey(mapping.getStore().getId(), mapping.getOriginalName()), mapping));
+
+        Map<PriceKey, FigurineStorePricing> prices = new HashMap<>();
+        if (!mappings.isEmpty()) {
+            figurineStorePricingRepository.findByFigurineStoreIn(mappings.values())
+                    .forEach(pricing -> prices.putIfAbsent(
+                            new PriceKey(pricing.getFigurineStore().getId(), pricing.getCurrentPrice()), pricing));
+        }
+
+        List<Observation> observations = new ArrayList<>(listings.size());
+        for (StoreListing listing : listings) {
+            Store store = stores.get(listing.store());
+            ListingKey key = new ListingKey(store.getId(), listing.originalProductName());
+            if (ignored.contains(key)) {
+                log.warn("Ignoring StoreListing with StoreName {}, and original name: '{}'", listing.store(),
+                        listing.originalProductName());
+                continue;
+            }
+
+            FigurineStore mapping = mappings.get(key);
+            if (Objects.nonNull(mapping)) {
+                mapping.setPreorder(listing.preorder());
+                mapping.setStatus(listing.status());
+            } else {
+                Optional<Figurine> figurine = resolveFigurine(store, listing);
+                if (figurine.isEmpty()) {
+                    createUnmatchedListing(store, listing);
+                    continue;
+                }
+                log.info("[{}] [{}] - {} ==> [{}] - {}", store.getName(), listing.lineUp(), listing.productName(),
+                        figurine.get().getId(), figurine.get().getNormalizedName());
+                mapping = saveFigurineStore(newFigurineStore(figurine.get(), store), listing);
+                mappings.put(key, mapping);
+            }
+
+            PriceKey priceKey = new PriceKey(mapping.getId(), listing.price());
+            FigurineStorePricing pricing = applyPricing(mapping, Optional.ofNullable(prices.get(priceKey)),
+                    listing.productName(), store.getName(), listing.price(), listing.discount(), listing.checkedAt());
+            prices.put(priceKey, pricing);
+            observations
+                    .add(new Observation(mapping.getId(), listing.price(), listing.discount(), listing.checkedAt()));
+            storeListingDeduplicator.remember(listing, pricing);
+        }
+        priceHistory.record(observations);
+    }
+
+    /**
+     * Resolves the canonical figurine of a listing that is not mapped yet.
+     * <p>
+     * The decision recorded for the same store, line-up and normalized name is
+     * reused when available; otherwise the listing is matched and the decision is
+     * recorded for the next time the listing is received, stamped with the
+     * generation of the line-up read before matching.
+     *
+     * @param store
+     *            the store where the listing originated
+     * @param listing
+     *            the store listing to resolve
+     * @return the matched figurine, or {@link Optional#empty()} if none matches
+     */
+    private Optional<Figurine> resolveFigurine(Store store, StoreListing listing) {
+        Optional<MatchDecision> decision = figurineMatchMemo.find(store, listing.lineUp(), listing.productName());
+        if (decision.isPresent()) {
+            if (!decision.get().matched()) {
+                return Optional.empty();
+            }
+            Optional<Figurine> figurine = figurineRepository.findById(decision.get().figurineId());
+            if (figurine.isPresent()) {
+                return figurine;
+            }
+        }
+
+        long generation = figurineMatchMemo.generation(listing.lineUp());
+        Optional<Figurine> figurine = figurineService.findBestMatchingFigurine(listing.lineUp(),
+                listing.productName());
+        figurineMatchMemo.record(store, listing.lineUp(), listing.productName(),
+                figurine.map(Figurine::getId).orElse(null), generation);
+        return figurine;
     }
 
     /**
@@ -201,7 +359,9 @@ public class FigurineStoreService {
      * <p>
      * For each figurine-store association, the latest listing information is
      * reconstructed from its pricing history and added to the unmatched queue. The
-     * existing pricing records and figurine-store association are then removed.
+     * existing pricing records and figurine-store association are then removed,
+     * and the recorded match decision is discarded so that the listing is matched
+     * again the next time it is received.
      * </p>
      *
      * @param figurineStoreIds
@@ -233,6 +393,9 @@ public class FigurineStoreService {
                     pricingList.getFirst().getCheckedAt());
 
             createUnmatchedListing(store, listing);
+            figurineMatchMemo.forget(store, figurineStore.getLineUp(), figurineStore.getNormalizedName());
+            storeListingDeduplicator.forget(store.getCode(), figurineStore.getOriginalName());
+            priceHistory.forget(figurineStore.getId());
 
             figurineStorePricingRepository.deleteAll(pricingList);
             figurineStoreRepository.delete(figurineStore);
@@ -278,7 +441,8 @@ public class FigurineStoreService {
      * <p>
      * The existing unmatched listing is converted into a matched
      * {@link FigurineStore} association, its pricing information is recorded, and
-     * the listing is subsequently removed from the unmatched queue.
+     * the listing is subsequently removed from the unmatched queue. The manual
+     * match is recorded as the match decision of the listing name.
      *
      * @param unmatchedFigurineId
      *            identifier of the unmatched store listing
@@ -306,6 +470,8 @@ public class FigurineStoreService {
                 unmatched.isPreorder(), unmatched.getCheckedAt());
 
         processMatchedListing(figurine, store, listing);
+        figurineMatchMemo.record(store, unmatched.getLineUp(), unmatched.getNormalizedName(), figurine.getId());
+        storeListingDeduplicator.forget(store.getCode(), unmatched.getOriginalName());
 
         unmatchedFigurineListingRepository.delete(unmatched);
     }
@@ -371,8 +537,13 @@ public class FigurineStoreService {
      * preserved if the requested currency is the default currency; otherwise, all
      * prices are converted to the requested currency.
      * <p>
-     * The returned price history is sorted by the time each price was checked, with
-     * the most recent entries appearing first.
+     * Without a resolution, the distinct prices recorded for each store are
+     * returned with the time they were last checked. Otherwise the history is read
+     * from the {@link PriceHistory}: every run of an unchanged price within the raw
+     * retention for {@link PriceResolution#RAW}, or the daily or weekly rollups
+     * with their minimum, maximum and average prices. The returned price history
+     * is sorted by the time each price was checked, with the most recent entries
+     * appearing first.
      *
      * @param figurineId
      *            the identifier of the figurine
@@ -381,6 +552,9 @@ public class FigurineStoreService {
      *            retrieve prices from all stores
      * @param requestedCurrency
      *            the currency in which prices should be returned
+     * @param resolution
+     *            the resolution of the history, or {@code null} for the distinct
+     *            prices of each store
      * @return the historical pricing information for the figurine
      * @throws FigurineNotFoundException
      *             if the figurine does not exist
@@ -388,61 +562,81 @@ public class FigurineStoreService {
      *             if a non-null store identifier does not correspond to an existing
      *             store
      */
+    @Transactional(readOnly = true)
     public FigurineStoreHistoricalResp retrieveHistoricalPrices(@Positive Long figurineId, @Positive Long storeId,
-            @Nonnull Currency requestedCurrency) {
+            @Nonnull Currency requestedCurrency, PriceResolution resolution) {
 
         Figurine figurine = figurineRepository.findById(figurineId)
                 .orElseThrow(() -> new FigurineNotFoundException(figurineId));
 
-        FigurineStoreHistoricalResp response;
         List<FigurineStoreHistoricalPriceResp> historicalPrices = new ArrayList<>();
 
         List<FigurineStore> figurineStores = retrieveFigurineStores(figurine, storeId);
+        Map<Long, List<FigurineStoreHistoricalPriceResp>> history = Objects.isNull(resolution) ? Map.of()
+                : retrieveHistory(figurineStores, resolution);
 
-        if (storeId == null) {
-            for (FigurineStore figurineStore : figurineStores) {
-                Store store = figurineStore.getStore();
-                for (FigurineStorePricing pricing : figurineStore.getPrices()) {
-
-                    BigDecimal convertedPrice = currencyService.convert(pricing.getCurrentPrice(), store.getCurrency(),
-                            requestedCurrency.getCurrencyCode());
+        // a single store keeps its own currency unless another one is requested.
+        boolean storeCurrency = storeId != null && isDefaultCurrency(requestedCurrency);
+        String currencyCode = storeId == null ? requestedCurrency.getCurrencyCode() : null;
 
-                    historicalPrices.add(new FigurineStoreHistoricalPriceResp(store.getName(), store.getLogoUrl(),
-                            figurineStore.getProductUrl(), convertedPrice, pricing.getCheckedAt()));
-                }
+        for (FigurineStore figurineStore : figurineStores) {
+            Store store = figurineStore.getStore();
+            if (storeId != null) {
+                currencyCode = storeCurrency ? store.getCurrency() : requestedCurrency.getCurrencyCode();
             }
-            response = new FigurineStoreHistoricalResp(figurine.getNormalizedName(),
-                    requestedCurrency.getCurrencyCode(), historicalPrices);
-
-        } else {
-            String currencyCode = null;
-
-            for (FigurineStore figurineStore : figurineStores) {
-                Store store = figurineStore.getStore();
-                for (FigurineStorePricing pricing : figurineStore.getPrices()) {
-                    BigDecimal convertedPrice;
-
-                    if (isDefaultCurrency(requestedCurrency)) {
-                        currencyCode = store.getCurrency();
-                        convertedPrice = pricing.getCurrentPrice();
-
-                    } else {
-                        currencyCode = requestedCurrency.getCurrencyCode();
-                        convertedPrice = currencyService.convert(pricing.getCurrentPrice(), store.getCurrency(),
-                                currencyCode);
-
-                    }
-                    historicalPrices.add(new FigurineStoreHistoricalPriceResp(store.getName(), store.getLogoUrl(),
-                            figurineStore.getProductUrl(), convertedPrice, pricing.getCheckedAt()));
-                }
+            UnaryOperator<BigDecimal> convert = storeCurrency ? UnaryOperator.identity()
+                    : price -> Objects.isNull(price) ? null
+                            : currencyService.convert(price, store.getCurrency(), requestedCurrency.getCurrencyCode());
+
+            List<FigurineStoreHistoricalPriceResp> points = Objects.isNull(resolution)
+                    ? figurineStore.getPrices().stream()
+                            .map(pricing -> new FigurineStoreHistoricalPriceResp(null, null, null,
+                                    pricing.getCurrentPrice(), pricing.getCheckedAt()))
+                            .toList()
+                    : history.getOrDefault(figurineStore.getId(), List.of());
+            for (FigurineStoreHistoricalPriceResp point : points) {
+                historicalPrices.add(new FigurineStoreHistoricalPriceResp(store.getName(), store.getLogoUrl(),
+                        figurineStore.getProductUrl(), convert.apply(point.price()), point.checkedAt(),
+                        point.since(), convert.apply(point.minPrice()), convert.apply(point.maxPrice()),
+                        convert.apply(point.averagePrice())));
             }
-            response = new FigurineStoreHistoricalResp(figurine.getNormalizedName(), currencyCode, historicalPrices);
         }
 
         historicalPrices.sort(Comparator.comparing(FigurineStoreHistoricalPriceResp::checkedAt,
                 Comparator.nullsLast(Comparator.reverseOrder())));
 
-        return response;
+        return new FigurineStoreHistoricalResp(figurine.getNormalizedName(), currencyCode, historicalPrices);
+    }
+
+    /**
+     * Reads the {@link PriceHistory} of figurine-store mappings at a resolution,
+     * in the currency of their stores, with one query for all the mappings.
+     *
+     * @param figurineStores
+     *            the figurine-store mappings
+     * @param resolution
+     *            the resolution of the history
+     * @return the history of each mapping, by mapping identifier
+     */
+    private Map<Long, List<FigurineStoreHistoricalPriceResp>> retrieveHistory(List<FigurineStore> figurineStores,
+            PriceResolution resolution) {
+
+        Set<Long> figurineStoreIds = figurineStores.stream().map(FigurineStore::getId).collect(Collectors.toSet());
+        if (resolution == PriceResolution.RAW) {
+            return priceHistory.runs(figurineStoreIds).stream()
+                    .collect(Collectors.groupingBy(PriceObservation::getFigurineStoreId,
+                            Collectors.mapping(run -> new FigurineStoreHistoricalPriceResp(null, null, null,
+                                    run.getPrice(), run.getLastSeenAt(), run.getFirstSeenAt(), null, null, null),
+                                    Collectors.toList())));
+        }
+        return priceHistory.rollups(figurineStoreIds, resolution).stream()
+                .collect(Collectors.groupingBy(PriceRollup::getFigurineStoreId,
+                        Collectors.mapping(rollup -> new FigurineStoreHistoricalPriceResp(null, null, null,
+                                rollup.getLastPrice(), rollup.getLastSeenAt(), rollup.getPeriodStart(),
+                                rollup.getMinPrice(), rollup.getMaxPrice(),
+                                rollup.getPriceSum().divide(BigDecimal.valueOf(rollup.getSamples()), 2,
+                                        RoundingMode.HALF_UP)),
+                                Collectors.toList())));
     }
 
     /**
@@ -484,14 +678,15 @@ public class FigurineStoreService {
      *            the store where the listing originated
      * @param listing
      *            listing the store listing containing the store info.
+     * @return the updated or created pricing entry
      */
-    private void processMatchedListing(Figurine figurine, Store store, StoreListing listing) {
+    private FigurineStorePricing processMatchedListing(Figurine figurine, Store store, StoreListing listing) {
         log.info("[{}] [{}] - {} ==> [{}] - {}", store.getName(), listing.lineUp(), listing.productName(),
                 figurine.getId(), figurine.getNormalizedName());
 
         FigurineStore figurineStore = findOrCreateFigurineStore(figurine, store, listing);
 
-        createOrUpdatePricing(figurineStore, listing.productName(), store.getName(), listing.price(),
+        return createOrUpdatePricing(figurineStore, listing.productName(), store.getName(), listing.price(),
                 listing.discount(), listing.checkedAt());
     }
 
@@ -538,9 +733,9 @@ public class FigurineStoreService {
      * Records a new pricing entry for a figurine or updates an existing one if the
      * price has changed.
      * <p>
-     * Price history is maintained by storing only distinct prices for a
-     * {@link FigurineStore}. If the supplied price already exists, the existing
-     * record is updated.
+     * Pricing entries are kept for distinct prices only: if the supplied price
+     * already exists for the {@link FigurineStore}, the existing record is
+     * updated. The observation is also recorded in the {@link PriceHistory}.
      *
      * @param figurineStore
      *            the figurine-store mapping
@@ -554,27 +749,59 @@ public class FigurineStoreService {
      *            the current discount, if any
      * @param checkedAt
      *            the timestamp when the price was checked
+     * @return the updated or created pricing entry
      */
-    private void createOrUpdatePricing(FigurineStore figurineStore, String figurineName, String storeName,
-            BigDecimal price, BigDecimal discount, Instant checkedAt) {
+    private FigurineStorePricing createOrUpdatePricing(FigurineStore figurineStore, String figurineName,
+            String storeName, BigDecimal price, BigDecimal discount, Instant checkedAt) {
+
+        FigurineStorePricing pricing = applyPricing(figurineStore,
+                figurineStorePricingRepository.findByFigurineStoreAndCurrentPrice(figurineStore, price), figurineName,
+                storeName, price, discount, checkedAt);
+        priceHistory.record(List.of(new Observation(figurineStore.getId(), price, discount, checkedAt)));
+        return pricing;
+    }
 
-        figurineStorePricingRepository.findByFigurineStoreAndCurrentPrice(figurineStore, price)
-                .ifPresentOrElse(existing -> {
-                    existing.setCheckedAt(checkedAt);
-                    existing.setDiscount(discount);
+    /**
+     * Updates the recorded pricing entry of a price, or records a new one.
+     *
+     * @param figurineStore
+     *            the figurine-store mapping
+     * @param recorded
+     *            the pricing entry already recorded for the price, if any
+     * @param figurineName
+     *            the figurine name used for logging
+     * @param storeName
+     *            the store name used for logging
+     * @param price
+     *            the current price
+     * @param discount
+     *            the current discount, if any
+     * @param checkedAt
+     *            the timestamp when the price was checked
+     * @return the updated or created pricing entry
+     */
+    private FigurineStorePricing applyPricing(FigurineStore figurineStore, Optional<FigurineStorePricing> recorded,
+            String figurineName, String storeName, BigDecimal price, BigDecimal discount, Instant checkedAt) {
+
+        if (recorded.isPresent()) {
+            FigurineStorePricing existing = recorded.get();
+            existing.setCheckedAt(checkedAt);
+            existing.setDiscount(discount);
+
+            log.info("Updated pricing for figurine '{}' at store '{}': {}.", figurineName, storeName, price);
+            return existing;
+        }
 
-                    log.info("Updated pricing for figurine '{}' at store '{}': {}.", figurineName, storeName, price);
-                }, () -> {
-                    FigurineStorePricing pricing = new FigurineStorePricing();
-                    pricing.setFigurineStore(figurineStore);
-                    pricing.setCurrentPrice(price);
-                    pricing.setDiscount(discount);
-                    pricing.setCheckedAt(checkedAt);
+        FigurineStorePricing pricing = new FigurineStorePricing();
+        pricing.setFigurineStore(figurineStore);
+        pricing.setCurrentPrice(price);
+        pricing.setDiscount(discount);
+        pricing.setCheckedAt(checkedAt);
 
-                    figurineStorePricingRepository.save(pricing);
+        figurineStorePricingRepository.save(pricing);
 
-                    log.info("Created pricing for figurine '{}' at store '{}': {}.", figurineName, storeName, price);
-                });
+        log.info("Created pricing for figurine '{}' at store '{}': {}.", figurineName, storeName, price);
+        return pricing;
     }
 
     /**
@@ -593,6 +820,27 @@ public class FigurineStoreService {
      *             if the configured store cache is unavailable
      */
     private CachedStores findStore(StoreName storeName) {
+        return loadStores().stream().filter(cs -> cs.code().equals(storeName.name())).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Store not found for code: " + storeName.name()));
+    }
+
+    /**
+     * Preloads the active stores into the store cache, so that the first pricing
+     * messages after a startup do not query the database.
+     *
+     * @return the number of cached stores
+     */
+    @Transactional(readOnly = true)
+    public int warmUpStores() {
+        return loadStores().size();
+    }
+
+    /**
+     * Returns the active stores, loading them into the store cache on first use.
+     *
+     * @return the cached store metadata
+     */
+    private List<CachedStores> loadStores() {
         Cache cache = Objects.requireNonNull(cacheManager.getCache(STORE_CACHE), "stores cache not configured");
 
         @SuppressWarnings("unchecked")
@@ -604,8 +852,7 @@ public class FigurineStoreService {
 
             cache.put(STORE_KEY, cachedStores);
         }
-        return cachedStores.stream().filter(cs -> cs.code().equals(storeName.name())).findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Store not found for code: " + storeName.name()));
+        return cachedStores;
     }
 
     /**
@@ -627,13 +874,24 @@ public class FigurineStoreService {
     private FigurineStore findOrCreateFigurineStore(Figurine figurine, Store store, StoreListing listing) {
 
         FigurineStore figurineStore = figurineStoreRepository
-                .findByFigurineAndStoreAndOriginalName(figurine, store, listing.originalProductName()).orElseGet(() -> {
-                    FigurineStore mapping = new FigurineStore();
-                    mapping.setFigurine(figurine);
-                    mapping.setStore(store);
-                    return mapping;
-                });
+                .findByFigurineAndStoreAndOriginalName(figurine, store, listing.originalProductName())
+                .orElseGet(() -> newFigurineStore(figurine, store));
 
+        return saveFigurineStore(figurineStore, listing);
+    }
+
+    private static FigurineStore newFigurineStore(Figurine figurine, Store store) {
+        FigurineStore mapping = new FigurineStore();
+        mapping.setFigurine(figurine);
+        mapping.setStore(store);
+        return mapping;
+    }
+
+    /**
+     * Copies the latest listing information into a figurine-store mapping and
+     * persists it.
+     */
+    private FigurineStore saveFigurineStore(FigurineStore figurineStore, StoreListing listing) {
         figurineStore.setLineUp(listing.lineUp());
         figurineStore.setOriginalName(listing.originalProductName());
         figurineStore.setNormalizedName(listing.productName());
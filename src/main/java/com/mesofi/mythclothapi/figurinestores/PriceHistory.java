@@ -0,0 +1,286 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mesofi.mythclothapi.figurinestores.config.PriceHistoryProperties;
+import com.mesofi.mythclothapi.figurinestores.model.PriceObservation;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
+import com.mesofi.mythclothapi.figurinestores.model.PriceRollup;
+import com.mesofi.mythclothapi.figurinestores.repository.PriceObservationRepository;
+import com.mesofi.mythclothapi.figurinestores.repository.PriceRollupRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the price history of store listings as an append-only log of price
+ * runs, summarized by daily and weekly rollups.
+ *
+ * <p>
+ * Every observation of a listing either extends its latest
+ * {@link PriceObservation run}, when the price and discount are unchanged, or
+ * appends a new run. The {@link PriceRollup rollups} of the day and the week of
+ * the observation are updated in place, so reading the history at any
+ * resolution never aggregates raw points. Every observation adds a sample to
+ * its rollups, so their average is weighted by how often each price was
+ * observed. Observations older than the latest
+ * run of their listing arrived out of order and are ignored.
+ * </p>
+ *
+ * <p>
+ * Runs that ended, daily and weekly rollups are purged once past the retention
+ * set by {@link PriceHistoryProperties}, together with the history of deleted
+ * figurine-store mappings, so the history read for a listing is bounded by the
+ * retention rather than by its age. Appended runs are counted by the
+ * {@value #RUNS_METRIC} counter.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PriceHistory {
+
+    static final String RUNS_METRIC = "store.pricing.history.runs";
+
+    private static final List<PriceResolution> ROLLUP_RESOLUTIONS = List.of(PriceResolution.DAY,
+            PriceResolution.WEEK);
+
+    private final PriceObservationRepository observationRepository;
+    private final PriceRollupRepository rollupRepository;
+    private final PriceHistoryProperties properties;
+    private final Counter runs;
+
+    public PriceHistory(PriceObservationRepository observationRepository, PriceRollupRepository rollupRepository,
+            PriceHistoryProperties properties, MeterRegistry meterRegistry) {
+        this.observationRepository = observationRepository;
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+        this.runs = meterRegistry.counter(RUNS_METRIC);
+    }
+
+    /**
+     * An observation of the price of a store listing.
+     *
+     * @param figurineStoreId
+     *            identifier of the figurine-store mapping of the listing
+     * @param price
+     *            the observed price
+     * @param discount
+     *            the observed discount, if any
+     * @param seenAt
+     *            when the price was observed
+     */
+    public record Observation(Long figurineStoreId, BigDecimal price, BigDecimal discount, Instant seenAt) {
+    }
+
+    private record RollupKey(Long figurineStoreId, PriceResolution resolution, Instant periodStart) {
+
+        static RollupKey of(PriceRollup rollup) {
+            return new RollupKey(rollup.getFigurineStoreId(), rollup.getResolution(), rollup.getPeriodStart());
+        }
+    }
+
+    /**
+     * Records observations in order, within the current transaction, reading the
+     * latest runs and the rollups they touch with one query each.
+     *
+     * @param observations
+     *            the observations to record, oldest first for each listing
+     */
+    public void record(List<Observation> observations) {
+        if (observations.isEmpty()) {
+            return;
+        }
+
+        Set<Long> figurineStoreIds = observations.stream().map(Observation::figurineStoreId)
+                .collect(Collectors.toSet());
+        Set<Instant> periodStarts = new HashSet<>();
+        observations.forEach(observation -> ROLLUP_RESOLUTIONS
+                .forEach(resolution -> periodStarts.add(resolution.periodStart(observation.seenAt()))));
+
+        Map<Long, PriceObservation> latestRuns = observationRepository
+                .findByFigurineStoreIdInAndLatestTrue(figurineStoreIds).stream()
+                .collect(Collectors.toMap(PriceObservation::getFigurineStoreId, Function.identity()));
+        Map<RollupKey, PriceRollup> rollups = rollupRepository
+                .findByFigurineStoreIdInAndPeriodStartIn(figurineStoreIds, periodStarts).stream()
+                .collect(Collectors.toMap(RollupKey::of, Function.identity()));
+
+        for (Observation observation : observations) {
+            PriceObservation latest = latestRuns.get(observation.figurineStoreId());
+            if (Objects.nonNull(latest) && !observation.seenAt().isAfter(latest.getLastSeenAt())) {
+                log.debug("Ignoring price observed at {} before the latest run of figurine store {}",
+                        observation.seenAt(), observation.figurineStoreId());
+                continue;
+            }
+
+            if (Objects.nonNull(latest) && samePrice(latest, observation)) {
+                latest.setLastSeenAt(observation.seenAt());
+            } else {
+                if (Objects.nonNull(latest)) {
+                    latest.setLatest(false);
+                }
+                latestRuns.put(observation.figurineStoreId(), observationRepository.save(newRun(observation)));
+                runs.increment();
+            }
+
+            for (PriceResolution resolution : ROLLUP_RESOLUTIONS) {
+                RollupKey key = new RollupKey(observation.figurineStoreId(), resolution,
+                        resolution.periodStart(observation.seenAt()));
+                PriceRollup rollup = rollups.get(key);
+                if (Objects.isNull(rollup)) {
+                    rollups.put(key, rollupRepository.save(newRollup(key, observation)));
+                } else if (observation.seenAt().isAfter(rollup.getLastSeenAt())) {
+                    addToRollup(rollup, observation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Extends the latest runs of listings, and their rollups of the same day and
+     * week, up to a new observation of their unchanged prices, which adds a
+     * sample of the last price to the rollups.
+     *
+     * @param figurineStoreIds
+     *            identifiers of the figurine-store mappings of the listings
+     * @param seenAt
+     *            when the prices were observed
+     */
+    @Transactional
+    public void extend(Collection<Long> figurineStoreIds, Instant seenAt) {
+        Instant now = Instant.now();
+        observationRepository.extendLatest(figurineStoreIds, seenAt, now);
+        rollupRepository.extendLastSeen(figurineStoreIds, PriceResolution.DAY.periodStart(seenAt),
+                PriceResolution.WEEK.periodStart(seenAt), seenAt, now);
+    }
+
+    /**
+     * Deletes the whole history of a figurine-store mapping.
+     *
+     * @param figurineStoreId
+     *            identifier of the figurine-store mapping
+     */
+    public void forget(Long figurineStoreId) {
+        observationRepository.deleteByFigurineStore(figurineStoreId);
+        rollupRepository.deleteByFigurineStore(figurineStoreId);
+    }
+
+    /**
+     * Returns the runs of listings that were observed within the raw retention,
+     * most recent first.
+     *
+     * @param figurineStoreIds
+     *            identifiers of the figurine-store mappings of the listings
+     * @return the runs of the listings
+     */
+    public List<PriceObservation> runs(Collection<Long> figurineStoreIds) {
+        if (figurineStoreIds.isEmpty()) {
+            return List.of();
+        }
+        return observationRepository.findByFigurineStoreIdInAndLastSeenAtGreaterThanEqualOrderByFirstSeenAtDesc(
+                figurineStoreIds, Instant.now().minus(properties.getRawRetention()));
+    }
+
+    /**
+     * Returns the rollups of listings at a resolution, most recent first, limited
+     * to the retention of the resolution.
+     *
+     * @param figurineStoreIds
+     *            identifiers of the figurine-store mappings of the listings
+     * @param resolution
+     *            {@link PriceResolution#DAY} or {@link PriceResolution#WEEK}
+     * @return the rollups of the listings
+     */
+    public List<PriceRollup> rollups(Collection<Long> figurineStoreIds, PriceResolution resolution) {
+        if (figurineStoreIds.isEmpty()) {
+            return List.of();
+        }
+        Instant since = resolution.periodStart(Instant.now().minus(retention(resolution)));
+        return rollupRepository
+                .findByFigurineStoreIdInAndResolutionAndPeriodStartGreaterThanEqualOrderByPeriodStartDesc(
+                        figurineStoreIds, resolution, since);
+    }
+
+    /**
+     * Deletes the runs and the daily and weekly rollups past their retention, and
+     * the history of the figurine-store mappings that no longer exist.
+     */
+    @Transactional
+    @Scheduled(cron = "${myth-cloth.figurine-stores.history.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        Instant now = Instant.now();
+        int purgedRuns = observationRepository.deleteEndedBefore(now.minus(properties.getRawRetention()));
+        int purgedRollups = 0;
+        for (PriceResolution resolution : ROLLUP_RESOLUTIONS) {
+            purgedRollups += rollupRepository.deleteStartedBefore(resolution,
+                    resolution.periodStart(now.minus(retention(resolution))));
+        }
+        int orphans = observationRepository.deleteOrphans() + rollupRepository.deleteOrphans();
+        log.info("Purged {} price runs, {} price rollups and {} orphaned history entries", purgedRuns,
+                purgedRollups, orphans);
+    }
+
+    private Duration retention(PriceResolution resolution) {
+        return resolution == PriceResolution.DAY ? properties.getDailyRetention() : properties.getWeeklyRetention();
+    }
+
+    private static boolean samePrice(PriceObservation run, Observation observation) {
+        return sameAmount(run.getPrice(), observation.price()) && sameAmount(run.getDiscount(), observation.discount());
+    }
+
+    private static boolean sameAmount(BigDecimal recorded, BigDecimal observed) {
+        if (Objects.isNull(recorded) || Objects.isNull(observed)) {
+            return Objects.isNull(recorded) && Objects.isNull(observed);
+        }
+        return recorded.compareTo(observed) == 0;
+    }
+
+    private static PriceObservation newRun(Observation observation) {
+        PriceObservation run = new PriceObservation();
+        run.setFigurineStoreId(observation.figurineStoreId());
+        run.setPrice(observation.price());
+        run.setDiscount(observation.discount());
+        run.setFirstSeenAt(observation.seenAt());
+        run.setLastSeenAt(observation.seenAt());
+        run.setLatest(true);
+        return run;
+    }
+
+    private static PriceRollup newRollup(RollupKey key, Observation observation) {
+        PriceRollup rollup = new PriceRollup();
+        rollup.setFigurineStoreId(key.figurineStoreId());
+        rollup.setResolution(key.resolution());
+        rollup.setPeriodStart(key.periodStart());
+        rollup.setMinPrice(observation.price());
+        rollup.setMaxPrice(observation.price());
+        rollup.setPriceSum(observation.price());
+        rollup.setSamples(1);
+        rollup.setLastPrice(observation.price());
+        rollup.setLastSeenAt(observation.seenAt());
+        return rollup;
+    }
+
+    private static void addToRollup(PriceRollup rollup, Observation observation) {
+        BigDecimal price = observation.price();
+        rollup.setMinPrice(rollup.getMinPrice().min(price));
+        rollup.setMaxPrice(rollup.getMaxPrice().max(price));
+        rollup.setPriceSum(rollup.getPriceSum().add(price));
+        rollup.setSamples(rollup.getSamples() + 1);
+        rollup.setLastPrice(price);
+        rollup.setLastSeenAt(observation.seenAt());
+    }
+}
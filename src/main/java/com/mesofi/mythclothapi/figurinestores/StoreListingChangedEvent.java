@@ -0,0 +1,19 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+/**
+ * Application event published when a store listing is matched or unmatched
+ * manually, so that every node processes the listing again the next time it is
+ * received.
+ *
+ * <p>
+ * Listeners should react once the publishing transaction has committed, so that
+ * they observe the new mapping of the listing.
+ * </p>
+ *
+ * @param storeCode
+ *            the code of the store the listing comes from
+ * @param originalName
+ *            the original product name of the listing
+ */
+public record StoreListingChangedEvent(String storeCode, String originalName) {
+}
@@ -0,0 +1,329 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurinestores.config.ListingDedupProperties;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineStorePricing;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
+import com.mesofi.mythclothapi.figurinestores.repository.FigurineStorePricingRepository;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filters the store listings that crawlers report again unchanged, so that they
+ * cost neither lookups nor an update each.
+ *
+ * <p>
+ * Once a matched listing is processed and committed, its fingerprint, made of
+ * its price, discount, status and preorder flag, is remembered together with
+ * the pricing entry it updated, keyed by store and original product name, in
+ * the {@value #FINGERPRINT_CACHE} cache, whose policy bounds the number of
+ * listings remembered and their lifetime. A listing received again with the
+ * same fingerprint is absorbed: only its check time is kept, and the check
+ * times of all absorbed listings are written by one bulk update per distinct
+ * check time every {@code myth-cloth.figurine-stores.dedup.flush-interval},
+ * which also extend the latest run of their {@link PriceHistory}. A listing is
+ * processed at least once per UTC day, so that its daily price rollup opens.
+ * Unmatched and ignored listings are never absorbed, as they are not written
+ * when received again. Absorbed check times and lookups are only recorded once
+ * the transaction processing the listing commits, so that the listings of a
+ * rolled back batch are not counted again when they are processed one at a
+ * time.
+ * </p>
+ *
+ * <p>
+ * Fingerprints are forgotten on every node when a listing is matched or
+ * unmatched manually, through a {@link StoreListingChangedEvent} that the cache
+ * invalidation broadcast replays on the other nodes. Once a figurine changes,
+ * the fingerprints of the listings mapped to it are forgotten, since the
+ * figurine, and the mappings and prices of its listings, may have been deleted;
+ * all of them are forgotten when several figurines change at once, as during
+ * an import. Lookups are published as
+ * the {@value #REQUESTS_METRIC} counter, tagged by result, and the check times
+ * written by the bulk updates as the {@value #FLUSHED_METRIC} counter.
+ * </p>
+ */
+@Slf4j
+@Component
+public class StoreListingDeduplicator {
+
+    public static final String FINGERPRINT_CACHE = "listing-fingerprints";
+
+    static final String REQUESTS_METRIC = "store.pricing.dedup.requests";
+    static final String FLUSHED_METRIC = "store.pricing.dedup.flushed";
+    static final String PENDING_METRIC = "store.pricing.dedup.pending";
+
+    /** Maximum number of pricing entries updated by a single statement. */
+    static final int FLUSH_CHUNK_SIZE = 1_000;
+
+    private final FigurineStorePricingRepository figurineStorePricingRepository;
+    private final PriceHistory priceHistory;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Counter duplicates;
+    private final Counter changes;
+    private final Counter unseen;
+    private final Counter flushed;
+
+    /** Latest check time of the absorbed listings, by pricing entry. */
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public StoreListingDeduplicator(FigurineStorePricingRepository figurineStorePricingRepository,
+            PriceHistory priceHistory, CacheManager cacheManager, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            ListingDedupProperties properties) {
+        this.figurineStorePricingRepository = figurineStorePricingRepository;
+        this.priceHistory = priceHistory;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = properties.isEnabled();
+        this.duplicates = meterRegistry.counter(REQUESTS_METRIC, "result", "duplicate");
+        this.changes = meterRegistry.counter(REQUESTS_METRIC, "result", "changed");
+        this.unseen = meterRegistry.counter(REQUESTS_METRIC, "result", "unseen");
+        this.flushed = meterRegistry.counter(FLUSHED_METRIC);
+        meterRegistry.gaugeMapSize(PENDING_METRIC, List.of(), pending);
+    }
+
+    /** Identifies a listing by store code and original product name. */
+    private record ListingKey(String store, String originalName) {
+    }
+
+    /** The attributes of a listing whose changes must be processed. */
+    private record Fingerprint(BigDecimal price, BigDecimal discount, ListingStatus status, boolean preorder) {
+
+        Fingerprint {
+            price = Objects.isNull(price) ? null : price.stripTrailingZeros();
+            discount = Objects.isNull(discount) ? null : discount.stripTrailingZeros();
+        }
+
+        static Fingerprint of(StoreListing listing) {
+            return new Fingerprint(listing.price(), listing.discount(), listing.status(), listing.preorder());
+        }
+    }
+
+    private record Seen(Fingerprint fingerprint, Long pricingId, Long figurineStoreId, Long figurineId,
+            Instant day) {
+    }
+
+    private record Pending(Long figurineStoreId, Instant checkedAt) {
+
+        Pending latest(Pending other) {
+            return other.checkedAt().isAfter(checkedAt) ? other : this;
+        }
+    }
+
+    /**
+     * Absorbs a listing received unchanged since it was last processed, deferring
+     * the update of its check time to the next bulk update once the current
+     * transaction commits.
+     *
+     * @param listing
+     *            the listing received from a crawler
+     * @return {@code true} if the listing is unchanged and must not be processed
+     */
+    public boolean absorb(StoreListing listing) {
+        Cache cache = cache();
+        if (Objects.isNull(cache) || Objects.isNull(listing.store()) || Objects.isNull(listing.checkedAt())) {
+            return false;
+        }
+
+        Seen seen = cache.get(new ListingKey(listing.store().name(), listing.originalProductName()), Seen.class);
+        if (Objects.isNull(seen)) {
+            afterCommit(unseen::increment);
+            return false;
+        }
+        if (!seen.fingerprint().equals(Fingerprint.of(listing))
+                || !seen.day().equals(PriceResolution.DAY.periodStart(listing.checkedAt()))) {
+            afterCommit(changes::increment);
+            return false;
+        }
+        Pending absorbed = new Pending(seen.figurineStoreId(), listing.checkedAt());
+        afterCommit(() -> {
+            pending.merge(seen.pricingId(), absorbed, Pending::latest);
+            duplicates.increment();
+        });
+        return true;
+    }
+
+    /**
+     * Remembers the fingerprint of a processed listing once the current
+     * transaction commits.
+     *
+     * @param listing
+     *            the processed listing
+     * @param pricing
+     *            the pricing entry the listing created or updated
+     */
+    public void remember(StoreListing listing, FigurineStorePricing pricing) {
+        Cache cache = cache();
+        if (Objects.isNull(cache) || Objects.isNull(listing.store()) || Objects.isNull(pricing.getId())
+                || Objects.isNull(listing.checkedAt())) {
+            return;
+        }
+
+        ListingKey key = new ListingKey(listing.store().name(), listing.originalProductName());
+        Figurine figurine = pricing.getFigurineStore().getFigurine();
+        Seen seen = new Seen(Fingerprint.of(listing), pricing.getId(), pricing.getFigurineStore().getId(),
+                Objects.isNull(figurine) ? null : figurine.getId(),
+                PriceResolution.DAY.periodStart(listing.checkedAt()));
+        afterCommit(() -> cache.put(key, seen));
+    }
+
+    /**
+     * Forgets the fingerprint of a listing on every node once the current
+     * transaction commits, so that it is processed the next time it is received.
+     *
+     * @param storeCode
+     *            the code of the store the listing comes from
+     * @param originalName
+     *            the original product name of the listing
+     */
+    public void forget(String storeCode, String originalName) {
+        eventPublisher.publishEvent(new StoreListingChangedEvent(storeCode, originalName));
+    }
+
+    /**
+     * Forgets the fingerprint of a listing matched or unmatched manually, on this
+     * node or on another one.
+     *
+     * @param event
+     *            the event describing the listing
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreListingChanged(StoreListingChangedEvent event) {
+        Cache cache = cache();
+        if (Objects.nonNull(cache)) {
+            cache.evict(new ListingKey(event.storeCode(), event.originalName()));
+        }
+    }
+
+    /**
+     * Forgets the fingerprints of the listings mapped to the figurine that
+     * changed, or every fingerprint when several figurines changed at once.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(CatalogVersion.INVALIDATION_ORDER)
+    public void onCatalogChanged(FigurineCatalogChangedEvent event) {
+        Cache cache = cache();
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        Long figurineId = event.figurineId();
+        if (Objects.nonNull(figurineId) && cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().values()
+                    .removeIf(value -> !(value instanceof Seen seen) || figurineId.equals(seen.figurineId()));
+        } else {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Writes the check times of the listings absorbed since the last call, to
+     * their pricing entries and their price history, with one bulk update per
+     * distinct check time and chunk of {@value #FLUSH_CHUNK_SIZE} entries. Each
+     * chunk is written to both in one transaction, and its check times are only
+     * dropped once that transaction commits, unless a later one was absorbed
+     * meanwhile. Check times that cannot be written are kept for the next call.
+     */
+    @Scheduled(fixedDelayString = "${myth-cloth.figurine-stores.dedup.flush-interval:30s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Pending> flushing = Map.copyOf(pending);
+        Map<Instant, List<Long>> pricingIds = new HashMap<>();
+        Map<Instant, List<Long>> figurineStoreIds = new HashMap<>();
+        flushing.forEach((pricingId, entry) -> {
+            pricingIds.computeIfAbsent(entry.checkedAt(), key -> new ArrayList<>()).add(pricingId);
+            figurineStoreIds.computeIfAbsent(entry.checkedAt(), key -> new ArrayList<>()).add(entry.figurineStoreId());
+        });
+
+        Instant now = Instant.now();
+        int updated = 0;
+        for (Map.Entry<Instant, List<Long>> entry : pricingIds.entrySet()) {
+            Instant checkedAt = entry.getKey();
+            List<Long> ids = entry.getValue();
+            List<Long> storeIds = figurineStoreIds.get(checkedAt);
+            for (int from = 0; from < ids.size(); from += FLUSH_CHUNK_SIZE) {
+                int to = Math.min(from + FLUSH_CHUNK_SIZE, ids.size());
+                List<Long> chunk = ids.subList(from, to);
+                List<Long> storeChunk = storeIds.subList(from, to);
+                try {
+                    Integer advanced = transactionTemplate.execute(status -> {
+                        int count = figurineStorePricingRepository.advanceCheckedAt(chunk, checkedAt, now);
+                        priceHistory.extend(storeChunk, checkedAt);
+                        return count;
+                    });
+                    updated += Objects.requireNonNullElse(advanced, 0);
+                    chunk.forEach(pricingId -> pending.remove(pricingId, flushing.get(pricingId)));
+                } catch (RuntimeException e) {
+                    log.warn("Unable to update the check time of {} store listings: {}", chunk.size(), e.toString());
+                }
+            }
+        }
+        flushed.increment(updated);
+        log.debug("Updated the check time of {} unchanged store listings", updated);
+    }
+
+    /**
+     * Writes the pending check times before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Cache cache() {
+        return enabled ? cacheManager.getCache(FINGERPRINT_CACHE) : null;
+    }
+}
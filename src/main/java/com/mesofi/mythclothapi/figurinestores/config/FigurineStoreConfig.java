@@ -0,0 +1,20 @@
+package com.mesofi.mythclothapi.figurinestores.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for the figurine store feature.
+ *
+ * <p>
+ * Enables {@link ListingDedupProperties} and {@link PriceHistoryProperties},
+ * and the scheduling of the periodic bulk updates of the check times of
+ * unchanged store listings and of the purge of the price history.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ListingDedupProperties.class, PriceHistoryProperties.class})
+public class FigurineStoreConfig {
+}
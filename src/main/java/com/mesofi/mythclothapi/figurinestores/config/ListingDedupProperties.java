@@ -0,0 +1,31 @@
+package com.mesofi.mythclothapi.figurinestores.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Externalized settings of the filter of unchanged store listings.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.figurine-stores.dedup} prefix.
+ * The number of remembered listings and their lifetime are configured by the
+ * policy of the {@code listing-fingerprints} cache.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.figurine-stores.dedup")
+public class ListingDedupProperties {
+
+    /**
+     * Whether listings received unchanged since their last processing only have
+     * their check time updated, instead of being processed again.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval between the bulk updates of the check times of unchanged listings.
+     */
+    private Duration flushInterval = Duration.ofSeconds(30);
+}
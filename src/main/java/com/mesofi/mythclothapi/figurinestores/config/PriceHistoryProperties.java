@@ -0,0 +1,39 @@
+package com.mesofi.mythclothapi.figurinestores.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Externalized settings of the price history of store listings.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.figurine-stores.history} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.figurine-stores.history")
+public class PriceHistoryProperties {
+
+    /**
+     * How long the price runs are kept after they end. The latest run of every
+     * listing is kept regardless.
+     */
+    private Duration rawRetention = Duration.ofDays(90);
+
+    /**
+     * How long the daily rollups are kept after their day.
+     */
+    private Duration dailyRetention = Duration.ofDays(730);
+
+    /**
+     * How long the weekly rollups are kept after their week.
+     */
+    private Duration weeklyRetention = Duration.ofDays(1825);
+
+    /**
+     * Cron expression of the purge of the history past its retention.
+     */
+    private String purgeCron = "0 30 3 * * *";
+}
@@ -5,7 +5,23 @@ import java.time.Instant;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+/**
+ * A point of the price history of a figurine at a store.
+ *
+ * <p>
+ * {@code price} and {@code checkedAt} are the last price observed and when it
+ * was observed. Points read at a resolution also carry {@code since}, the start
+ * of the run or of the rollup period, and rollups their minimum, maximum and
+ * average prices.
+ * </p>
+ */
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 public record FigurineStoreHistoricalPriceResp(String storeName, String storeLogoUrl, String storeProductUrl,
-        BigDecimal price, Instant checkedAt) {
+        BigDecimal price, Instant checkedAt, Instant since, BigDecimal minPrice, BigDecimal maxPrice,
+        BigDecimal averagePrice) {
+
+    public FigurineStoreHistoricalPriceResp(String storeName, String storeLogoUrl, String storeProductUrl,
+            BigDecimal price, Instant checkedAt) {
+        this(storeName, storeLogoUrl, storeProductUrl, price, checkedAt, null, null, null, null);
+    }
 }
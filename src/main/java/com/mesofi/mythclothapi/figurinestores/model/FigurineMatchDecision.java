@@ -0,0 +1,56 @@
+package com.mesofi.mythclothapi.figurinestores.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.common.Auditable;
+import com.mesofi.mythclothapi.stores.model.Store;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Remembers the outcome of matching a store listing name against the figurines
+ * of a line-up, so that listings sent again are not matched from scratch.
+ *
+ * <p>
+ * The matched figurine is kept as a plain identifier rather than an
+ * association, so that deleting a figurine does not depend on its decisions,
+ * which are discarded once the deletion commits.
+ * </p>
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "figurine_match_decisions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_match_decision", columnNames = {"store_id", "line_up",
+                "normalized_name"})}, indexes = {@Index(name = "idx_match_decisions_line_up", columnList = "line_up")})
+public class FigurineMatchDecision extends Auditable {
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    private Store store;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "line_up")
+    private LineUpType lineUp;
+
+    @Column(nullable = false, length = 200)
+    private String normalizedName;
+
+    /** Identifier of the matched figurine; {@code null} when none matched. */
+    private Long figurineId;
+
+    /**
+     * The {@link FigurineMatchGeneration} of the line-up the listing was matched
+     * against; {@code null} for decisions recorded before generations were kept.
+     */
+    private Long generation;
+}
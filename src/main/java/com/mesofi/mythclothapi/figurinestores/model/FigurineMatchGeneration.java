@@ -0,0 +1,40 @@
+package com.mesofi.mythclothapi.figurinestores.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.common.Auditable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Counts the invalidations of the match decisions of a line-up.
+ *
+ * <p>
+ * The generation is incremented every time the figurines of the line-up
+ * change, and each {@link FigurineMatchDecision} is stamped with the generation
+ * read before its listing was matched, so that decisions matched against the
+ * previous figurines are recognized even when they commit after the
+ * invalidation.
+ * </p>
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "figurine_match_generations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_match_generation", columnNames = {"line_up"})})
+public class FigurineMatchGeneration extends Auditable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "line_up")
+    private LineUpType lineUp;
+
+    @Column(nullable = false)
+    private long generation;
+}
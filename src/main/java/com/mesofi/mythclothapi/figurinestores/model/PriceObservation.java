@@ -0,0 +1,56 @@
+package com.mesofi.mythclothapi.figurinestores.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.mesofi.mythclothapi.common.Auditable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A run of consecutive observations of the same price and discount of a store
+ * listing.
+ *
+ * <p>
+ * A new run is appended whenever the price or the discount of the listing
+ * changes; observations of an unchanged price only extend the latest run up to
+ * the time they were made. The figurine-store mapping is kept as a plain
+ * identifier rather than an association, so that deleting a mapping does not
+ * depend on its history, which is purged separately.
+ * </p>
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "price_observations", indexes = {
+        @Index(name = "idx_price_observations_seen", columnList = "figurine_store_id, last_seen_at"),
+        @Index(name = "idx_price_observations_latest", columnList = "figurine_store_id, latest")})
+public class PriceObservation extends Auditable {
+
+    @Column(name = "figurine_store_id", nullable = false)
+    private Long figurineStoreId;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal price;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal discount;
+
+    /** When the price was first observed in this run. */
+    @Column(nullable = false)
+    private Instant firstSeenAt;
+
+    /** When the price was last observed in this run. */
+    @Column(name = "last_seen_at", nullable = false)
+    private Instant lastSeenAt;
+
+    /** Whether this run is the latest one of its listing. */
+    @Column(nullable = false)
+    private boolean latest;
+}
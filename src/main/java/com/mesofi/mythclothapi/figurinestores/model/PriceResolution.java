@@ -0,0 +1,39 @@
+package com.mesofi.mythclothapi.figurinestores.model;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Resolution at which the price history of a store listing is returned.
+ */
+public enum PriceResolution {
+
+    /** Every run of consecutive observations of the same price. */
+    RAW,
+
+    /** One rollup per UTC day. */
+    DAY,
+
+    /** One rollup per ISO week, starting on Monday at midnight UTC. */
+    WEEK;
+
+    /**
+     * Returns the start of the period of this resolution that contains an instant.
+     *
+     * @param instant
+     *            the instant to truncate
+     * @return the start of the day or week of the instant, or the instant itself
+     *         for {@link #RAW}
+     */
+    public Instant periodStart(Instant instant) {
+        return switch (this) {
+            case RAW -> instant;
+            case DAY -> instant.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> instant.atOffset(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS)
+                    .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toInstant();
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.mesofi.mythclothapi.figurinestores.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import com.mesofi.mythclothapi.common.Auditable;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Summarizes the prices of a store listing observed during a day or a week.
+ *
+ * <p>
+ * The average is taken over every observation of the period, so a price weighs
+ * as much as the number of times it was observed. Listings absorbed unchanged
+ * add one sample of the last price each time their check times are flushed.
+ * The unique key also serves the range scans of the history of a listing.
+ * </p>
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "price_rollups", uniqueConstraints = {@UniqueConstraint(name = "uk_price_rollup", columnNames = {
+        "figurine_store_id", "resolution", "period_start"})})
+public class PriceRollup extends Auditable {
+
+    @Column(name = "figurine_store_id", nullable = false)
+    private Long figurineStoreId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private PriceResolution resolution;
+
+    @Column(name = "period_start", nullable = false)
+    private Instant periodStart;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal maxPrice;
+
+    /** Sum of the observed prices, from which the average is derived. */
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal priceSum;
+
+    @Column(nullable = false)
+    private int samples;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal lastPrice;
+
+    @Column(nullable = false)
+    private Instant lastSeenAt;
+}
@@ -0,0 +1,35 @@
+package com.mesofi.mythclothapi.figurinestores.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineMatchDecision;
+import com.mesofi.mythclothapi.stores.model.Store;
+
+@Repository
+public interface FigurineMatchDecisionRepository extends JpaRepository<FigurineMatchDecision, Long> {
+
+    Optional<FigurineMatchDecision> findByStoreAndLineUpAndNormalizedName(Store store, LineUpType lineUp,
+            String normalizedName);
+
+    /**
+     * Deletes the match decisions of the supplied line-ups.
+     *
+     * @param lineUps
+     *            the line-ups whose figurines changed
+     * @return the number of deleted decisions
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM FigurineMatchDecision d
+            WHERE d.lineUp IN :lineUps
+            """)
+    int deleteByLineUpIn(@Param("lineUps") Collection<LineUpType> lineUps);
+}
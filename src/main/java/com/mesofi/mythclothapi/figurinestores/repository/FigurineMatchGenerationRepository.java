@@ -0,0 +1,38 @@
+package com.mesofi.mythclothapi.figurinestores.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineMatchGeneration;
+
+@Repository
+public interface FigurineMatchGenerationRepository extends JpaRepository<FigurineMatchGeneration, Long> {
+
+    Optional<FigurineMatchGeneration> findByLineUp(LineUpType lineUp);
+
+    List<FigurineMatchGeneration> findByLineUpIn(Collection<LineUpType> lineUps);
+
+    /**
+     * Increments the generations of the supplied line-ups in a single statement,
+     * so that concurrent invalidations are never lost.
+     *
+     * @param lineUps
+     *            the line-ups whose figurines changed
+     * @return the number of incremented generations
+     */
+    @Modifying
+    @Query("""
+            UPDATE FigurineMatchGeneration g
+            SET g.generation = g.generation + 1
+            WHERE g.lineUp IN :lineUps
+            """)
+    int increment(@Param("lineUps") Collection<LineUpType> lineUps);
+}
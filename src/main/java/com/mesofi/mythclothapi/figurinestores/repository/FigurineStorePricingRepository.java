@@ -1,11 +1,17 @@
 package com.mesofi.mythclothapi.figurinestores.repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStore;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStorePricing;
@@ -17,4 +23,19 @@ public interface FigurineStorePricingRepository extends JpaRepository<FigurineSt
             BigDecimal currentPrice);
 
     List<FigurineStorePricing> findByFigurineStoreOrderByCreationDateAsc(FigurineStore figurineStore);
+
+    List<FigurineStorePricing> findByFigurineStoreIn(Collection<FigurineStore> figurineStores);
+
+    /**
+     * Advances the check time of pricing entries, leaving the entries checked
+     * more recently unchanged.
+     *
+     * @return the number of updated entries
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE FigurineStorePricing p SET p.checkedAt = :checkedAt, p.updateDate = :updateDate "
+            + "WHERE p.id IN :ids AND (p.checkedAt IS NULL OR p.checkedAt < :checkedAt)")
+    int advanceCheckedAt(@Param("ids") Collection<Long> ids, @Param("checkedAt") Instant checkedAt,
+            @Param("updateDate") Instant updateDate);
 }
@@ -1,5 +1,6 @@
 package com.mesofi.mythclothapi.figurinestores.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,8 @@ public interface FigurineStoreRepository extends JpaRepository<FigurineStore, Lo
 
     Optional<FigurineStore> findByStoreAndOriginalName(Store store, String originalName);
 
+    List<FigurineStore> findByStoreIdInAndOriginalNameIn(Collection<Long> storeIds, Collection<String> originalNames);
+
     long countByStore(Store store);
 
     Page<FigurineStore> findByStoreOrderByOriginalName(Store store, Pageable pageable);
@@ -0,0 +1,58 @@
+package com.mesofi.mythclothapi.figurinestores.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mesofi.mythclothapi.figurinestores.model.PriceObservation;
+
+@Repository
+public interface PriceObservationRepository extends JpaRepository<PriceObservation, Long> {
+
+    List<PriceObservation> findByFigurineStoreIdInAndLatestTrue(Collection<Long> figurineStoreIds);
+
+    List<PriceObservation> findByFigurineStoreIdInAndLastSeenAtGreaterThanEqualOrderByFirstSeenAtDesc(
+            Collection<Long> figurineStoreIds, Instant since);
+
+    /**
+     * Extends the latest runs of listings up to a new observation of their price,
+     * leaving the runs observed more recently unchanged.
+     *
+     * @return the number of extended runs
+     */
+    @Modifying
+    @Query("UPDATE PriceObservation o SET o.lastSeenAt = :seenAt, o.updateDate = :updateDate "
+            + "WHERE o.figurineStoreId IN :figurineStoreIds AND o.latest = TRUE AND o.lastSeenAt < :seenAt")
+    int extendLatest(@Param("figurineStoreIds") Collection<Long> figurineStoreIds, @Param("seenAt") Instant seenAt,
+            @Param("updateDate") Instant updateDate);
+
+    @Modifying
+    @Query("DELETE FROM PriceObservation o WHERE o.figurineStoreId = :figurineStoreId")
+    int deleteByFigurineStore(@Param("figurineStoreId") Long figurineStoreId);
+
+    /**
+     * Deletes the runs that ended before a point in time; the latest run of every
+     * listing is kept.
+     *
+     * @return the number of deleted runs
+     */
+    @Modifying
+    @Query("DELETE FROM PriceObservation o WHERE o.latest = FALSE AND o.lastSeenAt < :before")
+    int deleteEndedBefore(@Param("before") Instant before);
+
+    /**
+     * Deletes the runs of figurine-store mappings that no longer exist.
+     *
+     * @return the number of deleted runs
+     */
+    @Modifying
+    @Query("DELETE FROM PriceObservation o WHERE NOT EXISTS "
+            + "(SELECT 1 FROM FigurineStore s WHERE s.id = o.figurineStoreId)")
+    int deleteOrphans();
+}
@@ -0,0 +1,66 @@
+package com.mesofi.mythclothapi.figurinestores.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
+import com.mesofi.mythclothapi.figurinestores.model.PriceRollup;
+
+@Repository
+public interface PriceRollupRepository extends JpaRepository<PriceRollup, Long> {
+
+    List<PriceRollup> findByFigurineStoreIdInAndPeriodStartIn(Collection<Long> figurineStoreIds,
+            Collection<Instant> periodStarts);
+
+    List<PriceRollup> findByFigurineStoreIdInAndResolutionAndPeriodStartGreaterThanEqualOrderByPeriodStartDesc(
+            Collection<Long> figurineStoreIds, PriceResolution resolution, Instant since);
+
+    /**
+     * Moves the last observation of the daily and weekly rollups of listings to a
+     * new observation of their unchanged price, when it falls within the rollups,
+     * and adds the price to their samples.
+     *
+     * @return the number of updated rollups
+     */
+    @Modifying
+    @Query("UPDATE PriceRollup r SET r.lastSeenAt = :seenAt, r.priceSum = r.priceSum + r.lastPrice, "
+            + "r.samples = r.samples + 1, r.updateDate = :updateDate "
+            + "WHERE r.figurineStoreId IN :figurineStoreIds AND r.lastSeenAt < :seenAt AND ("
+            + "(r.resolution = com.mesofi.mythclothapi.figurinestores.model.PriceResolution.DAY "
+            + "AND r.periodStart = :day) OR "
+            + "(r.resolution = com.mesofi.mythclothapi.figurinestores.model.PriceResolution.WEEK "
+            + "AND r.periodStart = :week))")
+    int extendLastSeen(@Param("figurineStoreIds") Collection<Long> figurineStoreIds, @Param("day") Instant day,
+            @Param("week") Instant week, @Param("seenAt") Instant seenAt, @Param("updateDate") Instant updateDate);
+
+    @Modifying
+    @Query("DELETE FROM PriceRollup r WHERE r.figurineStoreId = :figurineStoreId")
+    int deleteByFigurineStore(@Param("figurineStoreId") Long figurineStoreId);
+
+    /**
+     * Deletes the rollups of a resolution whose period started before a point in
+     * time.
+     *
+     * @return the number of deleted rollups
+     */
+    @Modifying
+    @Query("DELETE FROM PriceRollup r WHERE r.resolution = :resolution AND r.periodStart < :before")
+    int deleteStartedBefore(@Param("resolution") PriceResolution resolution, @Param("before") Instant before);
+
+    /**
+     * Deletes the rollups of figurine-store mappings that no longer exist.
+     *
+     * @return the number of deleted rollups
+     */
+    @Modifying
+    @Query("DELETE FROM PriceRollup r WHERE NOT EXISTS "
+            + "(SELECT 1 FROM FigurineStore s WHERE s.id = r.figurineStoreId)")
+    int deleteOrphans();
+}
@@ -1,5 +1,7 @@
 package com.mesofi.mythclothapi.figurinestores.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,4 +16,7 @@ public interface UnmatchedFigurineListingRepository extends JpaRepository<Figuri
     Optional<FigurineStoreUnmatched> findByStoreAndOriginalNameAndIgnoredFalse(Store store, String originalName);
 
     Optional<FigurineStoreUnmatched> findByStoreAndOriginalNameAndIgnoredTrue(Store store, String originalName);
+
+    List<FigurineStoreUnmatched> findByStoreIdInAndOriginalNameInAndIgnoredTrue(Collection<Long> storeIds,
+            Collection<String> originalNames);
 }
@@ -0,0 +1,64 @@
+package com.mesofi.mythclothapi.messaging;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Externalized settings of the consumer of the crawler store listings.
+ *
+ * <p>
+ * Maps properties under the {@code myth-cloth.rabbit.pricing} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "myth-cloth.rabbit.pricing")
+public class PricingConsumerProperties {
+
+    /** Settings of the batch consumption mode. */
+    private final Batch batch = new Batch();
+
+    /** Settings of the partitioned consumption mode. */
+    private final Partitioning partitioning = new Partitioning();
+
+    @Data
+    public static class Batch {
+
+        /**
+         * Whether listings are consumed in batches, each processed in a single
+         * transaction, instead of one message at a time.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of listings in a batch; should not exceed the prefetch
+         * count of the listener.
+         */
+        private int size = 100;
+
+        /**
+         * Maximum time to wait for the next listing before processing an
+         * incomplete batch.
+         */
+        private Duration receiveTimeout = Duration.ofMillis(500);
+    }
+
+    @Data
+    public static class Partitioning {
+
+        /**
+         * Whether listings are routed to partition queues by store and original
+         * product name, and the partitions consumed in parallel, each by a single
+         * consumer across the nodes. Takes precedence over the batch mode.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of partition queues; the maximum number of listings processed in
+         * parallel. Changing it reassigns the listings to other partitions, so it
+         * should only change while the queues are drained.
+         */
+        private int partitions = 8;
+    }
+}
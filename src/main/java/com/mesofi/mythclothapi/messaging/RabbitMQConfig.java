@@ -1,23 +1,64 @@
 package com.mesofi.mythclothapi.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.JacksonJsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.mesofi.mythclothapi.messaging.pricing.StoreListingMessageConverter;
 
 @Configuration
+@EnableConfigurationProperties(PricingConsumerProperties.class)
 public class RabbitMQConfig {
 
+    /** Listener container factory of the batch consumer of store listings. */
+    public static final String PRICING_BATCH_CONTAINER_FACTORY = "pricingBatchContainerFactory";
+
+    /** Listener container factory of the consumers of the partition queues. */
+    public static final String PRICING_PARTITION_CONTAINER_FACTORY = "pricingPartitionContainerFactory";
+
+    /** Bean holding the names of the partition queues, for listener expressions. */
+    public static final String PRICING_PARTITION_QUEUE_NAMES = "pricingPartitionQueueNames";
+
     public static class QueueNames {
         public static final String CRAWLER_QUEUE = "crawler.queue";
+        public static final String CRAWLER_PARTITION_QUEUE_PREFIX = "crawler.partition.";
+        public static final String CRAWLER_DEAD_LETTER_QUEUE = "crawler.dlq";
 
         private QueueNames() {
         }
+
+        /**
+         * Returns the name of a partition queue of the crawler listings.
+         *
+         * @param partition
+         *            the partition index
+         * @return the queue name
+         */
+        public static String crawlerPartition(int partition) {
+            return CRAWLER_PARTITION_QUEUE_PREFIX + partition;
+        }
     }
 
     public static class RoutingKeys {
@@ -29,15 +70,41 @@ public class RabbitMQConfig {
 
     public static class ExchangeNames {
         public static final String CRAWLER_EXCHANGE = "crawler.exchange";
+        public static final String CACHE_INVALIDATION_EXCHANGE = "cache.invalidation.exchange";
+        public static final String CRAWLER_PARTITION_EXCHANGE = "crawler.partition.exchange";
+        public static final String CRAWLER_DEAD_LETTER_EXCHANGE = "crawler.dlx";
 
         private ExchangeNames() {
         }
     }
 
     // --- Queues ---
+    /**
+     * Queue of the crawler listings, which dead-letters the listings rejected by
+     * its consumers to {@link QueueNames#CRAWLER_DEAD_LETTER_QUEUE}.
+     */
     @Bean
     public Queue crawlerQueue() {
-        return QueueBuilder.durable(QueueNames.CRAWLER_QUEUE).build();
+        return QueueBuilder.durable(QueueNames.CRAWLER_QUEUE)
+                .deadLetterExchange(ExchangeNames.CRAWLER_DEAD_LETTER_EXCHANGE).build();
+    }
+
+    /**
+     * Server-named, exclusive queue of this node, so that every node receives
+     * every cache invalidation and its queue is deleted when it disconnects.
+     */
+    @Bean
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("cache.invalidation."));
+    }
+
+    /**
+     * Keeps the crawler listings rejected by their consumer, so that they can be
+     * inspected and replayed instead of being discarded.
+     */
+    @Bean
+    public Queue crawlerDeadLetterQueue() {
+        return QueueBuilder.durable(QueueNames.CRAWLER_DEAD_LETTER_QUEUE).build();
     }
 
     // --- Exchanges ---
@@ -46,14 +113,114 @@ public class RabbitMQConfig {
         return new DirectExchange(ExchangeNames.CRAWLER_EXCHANGE, true, false);
     }
 
+    @Bean
+    public FanoutExchange cacheInvalidationExchange() {
+        return new FanoutExchange(ExchangeNames.CACHE_INVALIDATION_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public FanoutExchange crawlerDeadLetterExchange() {
+        return new FanoutExchange(ExchangeNames.CRAWLER_DEAD_LETTER_EXCHANGE, true, false);
+    }
+
     // --- Bindings ---
     @Bean
     public Binding crawlerBinding(Queue crawlerQueue, DirectExchange crawlerExchange) {
         return BindingBuilder.bind(crawlerQueue).to(crawlerExchange).with(RoutingKeys.CRAWLER_ROUTING_KEY);
     }
 
+    @Bean
+    public Binding cacheInvalidationBinding(Queue cacheInvalidationQueue, FanoutExchange cacheInvalidationExchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(cacheInvalidationExchange);
+    }
+
+    @Bean
+    public Binding crawlerDeadLetterBinding(Queue crawlerDeadLetterQueue, FanoutExchange crawlerDeadLetterExchange) {
+        return BindingBuilder.bind(crawlerDeadLetterQueue).to(crawlerDeadLetterExchange);
+    }
+
+    // --- Partitions ---
+    /**
+     * Declares the partition queues of the crawler listings and binds each to the
+     * partition exchange with its index as routing key. The queues have a single
+     * active consumer, so that each partition is processed by one consumer at a
+     * time across the nodes, and the others take over when it disconnects. The
+     * listings rejected by a partition consumer are dead-lettered to
+     * {@link QueueNames#CRAWLER_DEAD_LETTER_QUEUE}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.partitioning.enabled", havingValue = "true")
+    public Declarables pricingPartitions(PricingConsumerProperties properties) {
+        DirectExchange exchange = new DirectExchange(ExchangeNames.CRAWLER_PARTITION_EXCHANGE, true, false);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int partition = 0; partition < properties.getPartitioning().getPartitions(); partition++) {
+            Queue queue = QueueBuilder.durable(QueueNames.crawlerPartition(partition)).singleActiveConsumer()
+                    .deadLetterExchange(ExchangeNames.CRAWLER_DEAD_LETTER_EXCHANGE).build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(String.valueOf(partition)));
+        }
+        return new Declarables(declarables);
+    }
+
+    @Bean(PRICING_PARTITION_QUEUE_NAMES)
+    @ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.partitioning.enabled", havingValue = "true")
+    public String[] pricingPartitionQueueNames(PricingConsumerProperties properties) {
+        return IntStream.range(0, properties.getPartitioning().getPartitions()).mapToObj(QueueNames::crawlerPartition)
+                .toArray(String[]::new);
+    }
+
+    // --- Listener Containers ---
+    /**
+     * Delivers the crawler listings to the batch consumer in lists of up to
+     * {@code myth-cloth.rabbit.pricing.batch.size} messages, or fewer once no
+     * message arrives within the receive timeout. Rejected batches are not
+     * requeued, so that they are dead-lettered instead of being redelivered
+     * forever.
+     */
+    @Bean(PRICING_BATCH_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.batch.enabled", havingValue = "true")
+    public SimpleRabbitListenerContainerFactory pricingBatchContainerFactory(ConnectionFactory connectionFactory,
+            StoreListingMessageConverter storeListingMessageConverter, PricingConsumerProperties properties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(storeListingMessageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setDefaultRequeueRejected(false);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.getBatch().getSize());
+        factory.setReceiveTimeout(properties.getBatch().getReceiveTimeout().toMillis());
+        return factory;
+    }
+
+    /**
+     * Consumes every partition queue through its own channel, so that the
+     * partitions are processed in parallel while the listings of a partition are
+     * processed one after the other, in queue order. Failed listings are rejected
+     * without requeue, so that they are dead-lettered instead of being redelivered
+     * forever and blocking their partition.
+     */
+    @Bean(PRICING_PARTITION_CONTAINER_FACTORY)
+    @ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.partitioning.enabled", havingValue = "true")
+    public DirectRabbitListenerContainerFactory pricingPartitionContainerFactory(ConnectionFactory connectionFactory,
+            StoreListingMessageConverter storeListingMessageConverter) {
+        DirectRabbitListenerContainerFactory factory = new DirectRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(storeListingMessageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setDefaultRequeueRejected(false);
+        factory.setConsumersPerQueue(1);
+        return factory;
+    }
+
     // --- Message Converter ---
+    /**
+     * Default converter of the templates and listeners; the store listing
+     * listeners use the {@link StoreListingMessageConverter} instead.
+     */
     @Bean
+    @Primary
     public MessageConverter jsonMessageConverter() {
         return new JacksonJsonMessageConverter();
     }
@@ -0,0 +1,148 @@
+package com.mesofi.mythclothapi.messaging.invalidation;
+
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames.CACHE_INVALIDATION_EXCHANGE;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurinestores.StoreListingChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Propagates catalog changes and manual store listing matches to the other
+ * nodes, so that each node invalidates its in-memory caches, indexes and
+ * catalog version.
+ *
+ * <p>
+ * Once a change commits, its event is published on the
+ * {@value com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames#CACHE_INVALIDATION_EXCHANGE}
+ * fanout exchange. Every node consumes the exchange through its own exclusive
+ * queue and replays the events of the other nodes as local application
+ * events, which the cache invalidators handle exactly as local changes. Replayed
+ * events are not broadcast again.
+ * </p>
+ *
+ * <p>
+ * The delay between the commit on the originating node and the invalidation on
+ * the receiving node is published as the {@value #LAG_METRIC} timer; it relies
+ * on the node clocks being synchronized. Messages that cannot be sent are
+ * counted by the {@value #FAILURES_METRIC} counter, and the other nodes then
+ * rely on the cache expiry.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "myth-cloth.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationBroadcaster {
+
+    static final String LAG_METRIC = "cache.invalidation.lag";
+    static final String FAILURES_METRIC = "cache.invalidation.failures";
+
+    private final AmqpTemplate amqpTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Whether the current thread is replaying an event received from another node;
+     * listeners run synchronously, as no transaction is active while replaying.
+     */
+    private static final ThreadLocal<Boolean> REPLAYING = ThreadLocal.withInitial(() -> false);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Indicates whether the current thread is replaying the change of another
+     * node, whose shared state was already updated by that node.
+     *
+     * @return whether the event being handled comes from another node
+     */
+    public static boolean isReplaying() {
+        return REPLAYING.get();
+    }
+
+    /**
+     * Broadcasts a committed figurine change.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFigurineCatalogChanged(FigurineCatalogChangedEvent event) {
+        broadcast(() -> CacheInvalidationMessage.of(nodeId, event));
+    }
+
+    /**
+     * Broadcasts a committed reference data change.
+     *
+     * @param event
+     *            the event describing the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        broadcast(() -> CacheInvalidationMessage.of(nodeId, event));
+    }
+
+    /**
+     * Broadcasts a committed manual match or unmatch of a store listing.
+     *
+     * @param event
+     *            the event describing the listing
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreListingChanged(StoreListingChangedEvent event) {
+        broadcast(() -> CacheInvalidationMessage.of(nodeId, event));
+    }
+
+    /**
+     * Replays the change of another node as a local application event.
+     *
+     * @param message
+     *            the received invalidation
+     */
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onMessage(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        log.debug("Applying {} invalidation from node {}", message.type(), message.origin());
+
+        REPLAYING.set(true);
+        try {
+            eventPublisher.publishEvent(message.toEvent());
+        } finally {
+            REPLAYING.remove();
+        }
+
+        Duration lag = Duration.between(message.sentAt(), Instant.now());
+        Timer.builder(LAG_METRIC).register(meterRegistry).record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    private void broadcast(Supplier<CacheInvalidationMessage> message) {
+        if (isReplaying()) {
+            return;
+        }
+        try {
+            amqpTemplate.convertAndSend(CACHE_INVALIDATION_EXCHANGE, "", message.get());
+        } catch (AmqpException e) {
+            log.warn("Unable to broadcast cache invalidation: {}", e.getMessage());
+            meterRegistry.counter(FAILURES_METRIC).increment();
+        }
+    }
+}
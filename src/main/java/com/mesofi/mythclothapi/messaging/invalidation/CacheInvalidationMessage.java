@@ -0,0 +1,107 @@
+package com.mesofi.mythclothapi.messaging.invalidation;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurinestores.StoreListingChangedEvent;
+
+/**
+ * Cache invalidation broadcast to every node after a catalog change committed
+ * on one of them.
+ *
+ * <p>
+ * The message carries the application event published by the originating node,
+ * so that the receiving nodes replay it and apply the same invalidations.
+ * </p>
+ *
+ * @param origin
+ *            identifier of the node that published the change
+ * @param sentAt
+ *            when the message was sent, used to measure the invalidation lag
+ * @param type
+ *            the kind of event carried by the message
+ * @param figurineId
+ *            for figurine changes, the figurine that changed
+ * @param lineUpIds
+ *            for figurine changes, the line-ups the figurine belonged to
+ * @param listingsChanged
+ *            for figurine changes, whether filtered listings may change
+ * @param matchingChanged
+ *            for figurine changes, whether store listings may match differently
+ * @param resource
+ *            for reference data changes, the resource that changed
+ * @param caches
+ *            for reference data changes, the caches holding the resource
+ * @param storeCode
+ *            for store listing changes, the store the listing comes from
+ * @param originalName
+ *            for store listing changes, the original product name of the
+ *            listing
+ */
+public record CacheInvalidationMessage(String origin, Instant sentAt, Type type, Long figurineId, Set<Long> lineUpIds,
+        boolean listingsChanged, boolean matchingChanged, String resource, Set<String> caches, String storeCode,
+        String originalName) {
+
+    /** Kind of event carried by a {@link CacheInvalidationMessage}. */
+    public enum Type {
+        FIGURINE, CATALOG, LISTING
+    }
+
+    /**
+     * Creates the message of a figurine change.
+     *
+     * @param origin
+     *            identifier of the originating node
+     * @param event
+     *            the committed event
+     * @return the message
+     */
+    public static CacheInvalidationMessage of(String origin, FigurineCatalogChangedEvent event) {
+        return new CacheInvalidationMessage(origin, Instant.now(), Type.FIGURINE, event.figurineId(),
+                event.lineUpIds(), event.listingsChanged(), event.matchingChanged(), null, null, null, null);
+    }
+
+    /**
+     * Creates the message of a reference data change.
+     *
+     * @param origin
+     *            identifier of the originating node
+     * @param event
+     *            the committed event
+     * @return the message
+     */
+    public static CacheInvalidationMessage of(String origin, CatalogChangedEvent event) {
+        return new CacheInvalidationMessage(origin, Instant.now(), Type.CATALOG, null, null, false, false,
+                event.resource(), event.caches(), null, null);
+    }
+
+    /**
+     * Creates the message of a store listing matched or unmatched manually.
+     *
+     * @param origin
+     *            identifier of the originating node
+     * @param event
+     *            the committed event
+     * @return the message
+     */
+    public static CacheInvalidationMessage of(String origin, StoreListingChangedEvent event) {
+        return new CacheInvalidationMessage(origin, Instant.now(), Type.LISTING, null, null, false, false, null,
+                null, event.storeCode(), event.originalName());
+    }
+
+    /**
+     * Rebuilds the application event published by the originating node.
+     *
+     * @return the event to replay
+     */
+    public Object toEvent() {
+        return switch (Objects.requireNonNull(type, "type")) {
+            case FIGURINE -> new FigurineCatalogChangedEvent(figurineId, lineUpIds, listingsChanged, matchingChanged);
+            case CATALOG -> new CatalogChangedEvent(resource, caches);
+            case LISTING -> new StoreListingChangedEvent(storeCode, originalName);
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames.CRAWLER_DEAD_LETTER_EXCHANGE;
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.PRICING_BATCH_CONTAINER_FACTORY;
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.QueueNames.CRAWLER_QUEUE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
+import com.mesofi.mythclothapi.messaging.RabbitMQConfig;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumes the crawler store listings in batches, so that a crawler sending
+ * thousands of listings is not bound by one transaction and several database
+ * round-trips per listing.
+ *
+ * <p>
+ * The messages of a batch are converted one by one by the
+ * {@link StoreListingMessageConverter}, so that a malformed message is
+ * discarded, and counted, without the rest of its batch. Each batch is
+ * processed by {@link FigurineStoreService#processStorePricings(List)} in a
+ * single transaction. Should the batch fail, its listings are processed again one at a
+ * time, so that a faulty listing is dead-lettered alone to
+ * {@link RabbitMQConfig.QueueNames#CRAWLER_DEAD_LETTER_QUEUE}, where the
+ * crawler queue also dead-letters the rejected batches. Throughput is published
+ * under the metrics of {@link MessageConsumer}, tagged with the {@code batch}
+ * mode.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "myth-cloth.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.batch.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.partitioning.enabled", havingValue = "false", matchIfMissing = true)
+public class BatchMessageConsumer {
+
+    private final FigurineStoreService figurineStoreService;
+    private final StoreListingMessageConverter messageConverter;
+    private final MeterRegistry meterRegistry;
+    private final AmqpTemplate amqpTemplate;
+
+    @RabbitListener(queues = RabbitMQConfig.QueueNames.CRAWLER_QUEUE, containerFactory = PRICING_BATCH_CONTAINER_FACTORY)
+    public void handleEvents(List<Message> messages) {
+        List<StoreListing> listings = new ArrayList<>(messages.size());
+        List<Message> converted = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            try {
+                listings.add(messageConverter.fromMessage(message));
+                converted.add(message);
+            } catch (MessageConversionException e) {
+                log.error("Discarding malformed store listing: {}", e.getMessage());
+            }
+        }
+        if (listings.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int processed = listings.size();
+        try {
+            figurineStoreService.processStorePricings(listings);
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} store listings failed, processing them one at a time: {}", listings.size(),
+                    e.toString());
+            processed = processOneByOne(listings, converted);
+        }
+        long nanos = System.nanoTime() - start;
+
+        MessageConsumer.recordThroughput(meterRegistry, "batch", processed, nanos);
+        log.info("Processed {} store listings in {} ms", processed, nanos / 1_000_000);
+    }
+
+    /**
+     * Processes the listings of a failed batch one at a time, dead-lettering the
+     * messages of those that fail. Should a message not be dead-lettered, the
+     * exception rejects the whole batch, which the crawler queue dead-letters in
+     * turn.
+     */
+    private int processOneByOne(List<StoreListing> listings, List<Message> messages) {
+        int processed = 0;
+        for (int i = 0; i < listings.size(); i++) {
+            StoreListing listing = listings.get(i);
+            try {
+                figurineStoreService.processStorePricing(listing);
+                processed++;
+            } catch (RuntimeException e) {
+                log.error("Dead-lettering store listing '{}' of store {}: {}", listing.originalProductName(),
+                        listing.store(), e.toString());
+                amqpTemplate.send(CRAWLER_DEAD_LETTER_EXCHANGE, CRAWLER_QUEUE, messages.get(i));
+            }
+        }
+        return processed;
+    }
+}
@@ -1,63 +1,70 @@
 package com.mesofi.mythclothapi.messaging.pricing;
 
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.Currency;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import com.mesofi.mythclothapi.catalogs.model.LineUpType;
 import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
 import com.mesofi.mythclothapi.messaging.RabbitMQConfig;
-import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
 import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
-import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Consumes the crawler store listings one message at a time, each processed in
+ * its own transaction. Messages are bound to {@link StoreListing} by the
+ * {@link StoreListingMessageConverter}. Replaced by {@link BatchMessageConsumer} when
+ * {@code myth-cloth.rabbit.pricing.batch.enabled} is set, and by
+ * {@link PartitionedMessageConsumer} when
+ * {@code myth-cloth.rabbit.pricing.partitioning.enabled} is set.
+ *
+ * <p>
+ * The consumers publish the processed listings as the {@value #LISTINGS_METRIC}
+ * counter and the processing time as the {@value #PROCESSING_METRIC} timer,
+ * tagged by mode, from which the listings per second of each mode are derived.
+ */
 @Slf4j
 @Component
 @AllArgsConstructor
 @ConditionalOnProperty(name = "myth-cloth.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.batch.enabled", havingValue = "false", matchIfMissing = true)
+@ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.partitioning.enabled", havingValue = "false", matchIfMissing = true)
 public class MessageConsumer {
 
+    static final String LISTINGS_METRIC = "store.pricing.listings";
+    static final String PROCESSING_METRIC = "store.pricing.processing";
+
     private final FigurineStoreService figurineStoreService;
+    private final MeterRegistry meterRegistry;
 
-    @RabbitListener(queues = RabbitMQConfig.QueueNames.CRAWLER_QUEUE)
-    public void handleEvent(Map<String, Object> payload) {
-        log.info("=> Processing the following figurine '{}'", payload.get("productName"));
-
-        StoreName store = StoreName.valueOf((String) payload.get("store"));
-        LineUpType lineUp = LineUpType.valueOf((String) payload.get("lineUp"));
-        String originalProductName = (String) payload.get("originalProductName");
-        String productName = (String) payload.get("productName");
-        String productImageUrl = (String) payload.get("productImageUrl");
-        String productUrl = (String) payload.get("productUrl");
-        BigDecimal price = getBigDecimal(payload.get("price"));
-        BigDecimal discount = getBigDecimal(payload.get("discount"));
-        BigDecimal discountedPrice = getBigDecimal(payload.get("discountedPrice"));
-        Currency currency = Currency.getInstance((String) payload.get("currency"));
-        ListingStatus status = ListingStatus.valueOf((String) payload.get("status"));
-        boolean preorder = (Boolean) payload.get("preorder");
-        Instant checkedAt = Instant.parse((String) payload.get("checkedAt"));
-
-        StoreListing storeListing = new StoreListing(store, lineUp, originalProductName, productName, productImageUrl,
-                productUrl, price, discount, discountedPrice, currency, status, preorder, checkedAt);
+    @RabbitListener(queues = RabbitMQConfig.QueueNames.CRAWLER_QUEUE, messageConverter = StoreListingMessageConverter.BEAN_NAME)
+    public void handleEvent(StoreListing storeListing) {
+        log.info("=> Processing the following figurine '{}'", storeListing.productName());
 
+        long start = System.nanoTime();
         figurineStoreService.processStorePricing(storeListing);
+        recordThroughput(meterRegistry, "single", 1, System.nanoTime() - start);
     }
 
-    private BigDecimal getBigDecimal(Object number) {
-        return switch (number) {
-            case Integer i -> new BigDecimal(i);
-            case String s -> new BigDecimal(s);
-            case Double d -> new BigDecimal(d);
-            case null -> null;
-            default -> throw new IllegalArgumentException("Unsupported price type: " + number.getClass());
-        };
+    /**
+     * Records the listings processed by a consumer and the time it took.
+     *
+     * @param meterRegistry
+     *            the registry of the metrics
+     * @param mode
+     *            the consumption mode, {@code single}, {@code batch} or
+     *            {@code partitioned}
+     * @param listings
+     *            the number of processed listings
+     * @param nanos
+     *            the processing time, in nanoseconds
+     */
+    static void recordThroughput(MeterRegistry meterRegistry, String mode, int listings, long nanos) {
+        meterRegistry.counter(LISTINGS_METRIC, "mode", mode).increment(listings);
+        meterRegistry.timer(PROCESSING_METRIC, "mode", mode).record(nanos, TimeUnit.NANOSECONDS);
     }
 }
@@ -0,0 +1,130 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames.CRAWLER_PARTITION_EXCHANGE;
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.PRICING_PARTITION_CONTAINER_FACTORY;
+
+import java.util.Objects;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
+import com.mesofi.mythclothapi.messaging.PricingConsumerProperties;
+import com.mesofi.mythclothapi.messaging.RabbitMQConfig;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumes the crawler store listings in parallel, partitioned by store and
+ * product name, so that the listings of the same store product are processed
+ * one after the other while unrelated listings are processed concurrently.
+ *
+ * <p>
+ * Listings received on the crawler queue are routed, unchanged, to the partition
+ * queue selected by {@link #partitionOf(StoreName, String, int)}. Every partition
+ * queue has a single active consumer across the nodes and is consumed through its
+ * own channel, so two listings of the same store product are never processed at
+ * the same time and the mapping and price unique constraints cannot be raced.
+ * Throughput is published under the metrics of {@link MessageConsumer}, tagged
+ * with the {@code partitioned} mode.
+ * </p>
+ *
+ * <p>
+ * Listings are partitioned by their original product name, the name by which a
+ * store product is deduplicated and mapped, so that the listings of a store
+ * product always share a partition. The normalized name is used when the
+ * original one is missing. Listings whose processing fails are dead-lettered
+ * to {@link RabbitMQConfig.QueueNames#CRAWLER_DEAD_LETTER_QUEUE} rather than
+ * discarded.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "myth-cloth.rabbit.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "myth-cloth.rabbit.pricing.partitioning.enabled", havingValue = "true")
+public class PartitionedMessageConsumer {
+
+    private final FigurineStoreService figurineStoreService;
+    private final AmqpTemplate amqpTemplate;
+    private final StoreListingMessageConverter messageConverter;
+    private final MeterRegistry meterRegistry;
+    private final int partitions;
+
+    public PartitionedMessageConsumer(FigurineStoreService figurineStoreService, AmqpTemplate amqpTemplate,
+            StoreListingMessageConverter messageConverter, MeterRegistry meterRegistry, PricingConsumerProperties properties) {
+        this.figurineStoreService = figurineStoreService;
+        this.amqpTemplate = amqpTemplate;
+        this.messageConverter = messageConverter;
+        this.meterRegistry = meterRegistry;
+        this.partitions = properties.getPartitioning().getPartitions();
+    }
+
+    /**
+     * Routes a crawler message to its partition queue. Malformed messages are
+     * discarded, and counted by the {@link StoreListingMessageConverter}; messages
+     * that cannot be routed are requeued.
+     *
+     * @param message
+     *            the crawler message
+     */
+    @RabbitListener(queues = RabbitMQConfig.QueueNames.CRAWLER_QUEUE)
+    public void route(Message message) {
+        StoreListing listing;
+        try {
+            listing = messageConverter.fromMessage(message);
+        } catch (MessageConversionException e) {
+            log.error("Discarding malformed store listing: {}", e.getMessage());
+            return;
+        }
+
+        int partition = partitionOf(listing.store(),
+                Objects.requireNonNullElse(listing.originalProductName(), listing.productName()), partitions);
+        try {
+            amqpTemplate.send(CRAWLER_PARTITION_EXCHANGE, String.valueOf(partition), message);
+        } catch (AmqpException e) {
+            throw new ImmediateRequeueAmqpException("Unable to route store listing to partition " + partition, e);
+        }
+    }
+
+    /**
+     * Processes a listing received on a partition queue.
+     *
+     * @param storeListing
+     *            the listing, converted by the {@link StoreListingMessageConverter}
+     */
+    @RabbitListener(queues = "#{@" + RabbitMQConfig.PRICING_PARTITION_QUEUE_NAMES
+            + "}", containerFactory = PRICING_PARTITION_CONTAINER_FACTORY)
+    public void handleEvent(StoreListing storeListing) {
+        log.info("=> Processing the following figurine '{}'", storeListing.productName());
+
+        long start = System.nanoTime();
+        figurineStoreService.processStorePricing(storeListing);
+        MessageConsumer.recordThroughput(meterRegistry, "partitioned", 1, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the partition of the listings of a store product. The partition only
+     * depends on the store name and the product name, so it is the same on every
+     * node.
+     *
+     * @param store
+     *            the store of the listing
+     * @param productName
+     *            the original product name of the listing
+     * @param partitions
+     *            the number of partitions
+     * @return the partition index, between {@code 0} and {@code partitions - 1}
+     */
+    public static int partitionOf(StoreName store, String productName, int partitions) {
+        return Math.floorMod(Objects.hash(store.name(), productName), partitions);
+    }
+}
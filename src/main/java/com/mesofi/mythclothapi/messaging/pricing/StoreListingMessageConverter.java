@@ -0,0 +1,92 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Converts crawler messages directly into {@link StoreListing} records.
+ *
+ * <p>
+ * The message body is bound to the record by a reader built once, without the
+ * intermediate map of boxed values: enum constants and currencies are resolved
+ * through the lookups Jackson keeps per type, and prices are parsed from the
+ * text of the JSON numbers or strings, so {@code 899.99} is read exactly
+ * instead of through a {@code double}. Properties unknown to the record are
+ * ignored, so that the crawler may add fields before the API reads them.
+ * </p>
+ *
+ * <p>
+ * Messages that cannot be read, or that lack the store, line-up, currency,
+ * status or crawl time, are rejected with a {@link MessageConversionException}
+ * and counted by the {@value #MALFORMED_METRIC} counter, tagged with the reason.
+ * </p>
+ */
+@Component(StoreListingMessageConverter.BEAN_NAME)
+public class StoreListingMessageConverter implements MessageConverter {
+
+    /** Name of the converter bean, for the listeners that select it. */
+    public static final String BEAN_NAME = "storeListingMessageConverter";
+
+    static final String MALFORMED_METRIC = "store.pricing.malformed";
+
+    private static final JsonMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES).build();
+    private static final ObjectReader READER = MAPPER.readerFor(StoreListing.class);
+    private static final ObjectWriter WRITER = MAPPER.writerFor(StoreListing.class);
+
+    private final Counter unreadable;
+    private final Counter incomplete;
+
+    public StoreListingMessageConverter(MeterRegistry meterRegistry) {
+        this.unreadable = meterRegistry.counter(MALFORMED_METRIC, "reason", "unreadable");
+        this.incomplete = meterRegistry.counter(MALFORMED_METRIC, "reason", "incomplete");
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        try {
+            byte[] body = WRITER.writeValueAsBytes(object);
+            messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+            messageProperties.setContentEncoding(StandardCharsets.UTF_8.name());
+            messageProperties.setContentLength(body.length);
+            return new Message(body, messageProperties);
+        } catch (JacksonException e) {
+            throw new MessageConversionException("Failed to convert store listing to a message", e);
+        }
+    }
+
+    @Override
+    public StoreListing fromMessage(Message message) {
+        StoreListing listing;
+        try {
+            listing = READER.readValue(message.getBody());
+        } catch (JacksonException e) {
+            unreadable.increment();
+            throw new MessageConversionException("Unreadable store listing: " + e.getOriginalMessage(), e);
+        }
+        if (Objects.isNull(listing) || Objects.isNull(listing.store()) || Objects.isNull(listing.lineUp())
+                || Objects.isNull(listing.currency()) || Objects.isNull(listing.status())
+                || Objects.isNull(listing.checkedAt())) {
+            incomplete.increment();
+            throw new MessageConversionException("Incomplete store listing: " + listing);
+        }
+        return listing;
+    }
+}
@@ -11,11 +11,13 @@ import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -24,6 +26,7 @@ import jakarta.validation.constraints.NotNull;
 
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.mesofi.mythclothapi.anniversaries.AnniversaryRepository;
 import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
@@ -37,7 +40,6 @@ import com.mesofi.mythclothapi.figurinedistributions.model.CurrencyCode;
 import com.mesofi.mythclothapi.figurinedistributions.model.FigurineDistributor;
 import com.mesofi.mythclothapi.figurines.FigurineFilter;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
-import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
 import com.mesofi.mythclothapi.figurines.repository.projection.FigurineReleaseYearSummaryProjection;
 import com.mesofi.mythclothapi.integration.fix.CurrencyConversionService;
@@ -90,19 +92,33 @@ public class StatisticsService {
      *            aggregation
      * @return aggregate totals by catalog and release status
      */
+    @Transactional(readOnly = true)
     public StatisticsResp retrieveStatistics(@NotNull FigurineFilter filter) {
-        List<Figurine> allFigurines = figurineRepository.findAll(filter);
+        Map<Long, Long> figurinesByLineUpId = new HashMap<>();
+        Map<Long, Long> figurinesBySeriesId = new HashMap<>();
+        Map<Long, Long> figurinesByGroupId = new HashMap<>();
+        Map<Long, Long> figurinesByAnniversaryId = new HashMap<>();
+        Map<String, Integer> countByReleaseStatus = new HashMap<>();
+
+        // The figurines are only held one chunk at a time, so every counter is
+        // updated while the chunk is scanned.
+        long totalFigurines = figurineRepository.scan(filter, chunk -> chunk.forEach(figurine -> {
+            countCatalog(figurinesByLineUpId, figurine.getLineup(), LineUp::getId);
+            countCatalog(figurinesBySeriesId, figurine.getSeries(), Series::getId);
+            countCatalog(figurinesByGroupId, figurine.getGroup(), Group::getId);
+            countCatalog(figurinesByAnniversaryId, figurine.getAnniversary(), Anniversary::getId);
+            countByReleaseStatus.merge(figurine.getCurrentReleaseStatus().name(), 1, Integer::sum);
+        }));
 
-        return new StatisticsResp(allFigurines.size(),
-                countByCatalog(allFigurines, lineUpRepository.findAll(), Figurine::getLineup, LineUp::getId,
+        return new StatisticsResp((int) totalFigurines,
+                countByCatalog(figurinesByLineUpId, lineUpRepository.findAll(), LineUp::getId,
                         LineUp::getDescription),
-                countByCatalog(allFigurines, seriesRepository.findAll(), Figurine::getSeries, Series::getId,
+                countByCatalog(figurinesBySeriesId, seriesRepository.findAll(), Series::getId,
                         Series::getDescription),
-                countByCatalog(allFigurines, groupRepository.findAll(), Figurine::getGroup, Group::getId,
-                        Group::getDescription),
-                countByCatalog(allFigurines, anniversaryRepository.findAll(), Figurine::getAnniversary,
-                        Anniversary::getId, Anniversary::getName),
-                countByReleaseStatus(allFigurines));
+                countByCatalog(figurinesByGroupId, groupRepository.findAll(), Group::getId, Group::getDescription),
+                countByCatalog(figurinesByAnniversaryId, anniversaryRepository.findAll(), Anniversary::getId,
+                        Anniversary::getName),
+                countByReleaseStatus);
     }
 
     /**
@@ -191,20 +207,51 @@ public class StatisticsService {
      * <p>
      * Only figurines currently evaluated as {@code RELEASED} are considered. Prices
      * are normalized to JPY before calculating yearly average, highest, and lowest
-     * values.
+     * values. The catalog is scanned in chunks, so only the identifiers of the
+     * highest and lowest figurines are kept between chunks; their price references
+     * are built once the scan is over.
      *
      * @param filter
      *            search filter used to constrain figurines included in the
      *            aggregation
      * @return list of yearly price summaries sorted by year (ascending)
      */
-    @Cacheable(value = PRICING_SUMMARY_CACHE, key = "T(java.util.Objects).hash(#filter)")
+    @Transactional(readOnly = true)
+    @Cacheable(value = PRICING_SUMMARY_CACHE, key = "#filter.canonical()", sync = true)
     public List<YearReleasePriceResp> retrieveYearlyReleasePrices(@NotNull FigurineFilter filter) {
-        List<Figurine> allFigurines = findAllReleasedFigurinesWithFilter(filter);
-
         Map<Integer, ReleasePrices> releasePricesByYearMap = new TreeMap<>();
 
-        allFigurines.forEach(currFigurine -> currFigurine.getDistributors().stream().findFirst().ifPresent(fd -> {
+        figurineRepository.scan(filter, chunk -> chunk.stream()
+                .filter(figurine -> figurine.getCurrentReleaseStatus() == RELEASED)
+                .forEach(currFigurine -> addReleasePrice(releasePricesByYearMap, currFigurine)));
+
+        // only the final picks are loaded again, to build their price references.
+        Set<Long> pickedIds = new HashSet<>();
+        releasePricesByYearMap.values().forEach(prices -> {
+            pickedIds.add(prices.getHighestPriceFigurineId());
+            pickedIds.add(prices.getLowestPriceFigurineId());
+        });
+        Map<Long, FigurinePriceResp> pickedFigurines = figurineRepository.findAllById(pickedIds).stream()
+                .collect(Collectors.toMap(Figurine::getId, this::toPriceResp));
+
+        List<YearReleasePriceResp> respList = new ArrayList<>();
+        releasePricesByYearMap.forEach((year,
+                prices) -> respList.add(new YearReleasePriceResp(year,
+                        new BigDecimal(prices.getAverage()).setScale(2, RoundingMode.HALF_UP),
+                        new BigDecimal(prices.getHighest()).setScale(2, RoundingMode.HALF_UP),
+                        new BigDecimal(prices.getLowest()).setScale(2, RoundingMode.HALF_UP),
+                        pickedFigurines.get(prices.getHighestPriceFigurineId()),
+                        pickedFigurines.get(prices.getLowestPriceFigurineId()), prices.getCount())));
+
+        return respList;
+    }
+
+    /**
+     * Adds the first distributor price of a released figurine to the aggregates of
+     * its release year.
+     */
+    private void addReleasePrice(Map<Integer, ReleasePrices> releasePricesByYearMap, Figurine currFigurine) {
+        currFigurine.getDistributors().stream().findFirst().ifPresent(fd -> {
             int year = fd.getReleaseDate().getYear();
             getPrice(currFigurine, fd.getPrice(), fd.getCurrency()).ifPresent(price -> {
                 if (releasePricesByYearMap.containsKey(year)) {
@@ -214,10 +261,10 @@ public class StatisticsService {
                     relPrices.setLowest(Math.min(relPrices.getLowest(), price));
 
                     if (price >= relPrices.getHighest()) {
-                        relPrices.setHighestPriceFigurine(currFigurine);
+                        relPrices.setHighestPriceFigurineId(currFigurine.getId());
                     }
                     if (price <= relPrices.getLowest()) {
-                        relPrices.setLowestPriceFigurine(currFigurine);
+                        relPrices.setLowestPriceFigurineId(currFigurine.getId());
                     }
 
                     relPrices.setCount(relPrices.getCount() + 1);
@@ -225,29 +272,18 @@ public class StatisticsService {
                     relPrices.setAverage(relPrices.getTotal() / relPrices.getCount());
                 } else {
                     ReleasePrices releasePrices = ReleasePrices.builder().average(price).highest(price).lowest(price)
-                            .highestPriceFigurine(currFigurine).lowestPriceFigurine(currFigurine).total(price).count(1)
-                            .build();
+                            .highestPriceFigurineId(currFigurine.getId()).lowestPriceFigurineId(currFigurine.getId())
+                            .total(price).count(1).build();
 
                     releasePricesByYearMap.put(year, releasePrices);
                 }
             });
-        }));
-
-        List<YearReleasePriceResp> respList = new ArrayList<>();
-        releasePricesByYearMap.forEach((year,
-                prices) -> respList.add(new YearReleasePriceResp(year,
-                        new BigDecimal(prices.getAverage()).setScale(2, RoundingMode.HALF_UP),
-                        new BigDecimal(prices.getHighest()).setScale(2, RoundingMode.HALF_UP),
-                        new BigDecimal(prices.getLowest()).setScale(2, RoundingMode.HALF_UP),
-                        new FigurinePriceResp(prices.getHighestPriceFigurine().getId(),
-                                prices.getHighestPriceFigurine().getNormalizedName(),
-                                prices.getHighestPriceFigurine().getOfficialImages().getFirst()),
-                        new FigurinePriceResp(prices.getLowestPriceFigurine().getId(),
-                                prices.getLowestPriceFigurine().getNormalizedName(),
-                                prices.getLowestPriceFigurine().getOfficialImages().getFirst()),
-                        prices.getCount())));
+        });
+    }
 
-        return respList;
+    /** Builds the price reference of a figurine. */
+    private FigurinePriceResp toPriceResp(Figurine figurine) {
+        return new FigurinePriceResp(figurine.getId(), figurine.getNormalizedName(), resolveFigurineUrl(figurine));
     }
 
     /**
@@ -276,28 +312,17 @@ public class StatisticsService {
                         .doubleValue());
     }
 
-    /**
-     * Retrieves all figurines matching the filter and keeps only those in released
-     * status.
-     */
-    private List<Figurine> findAllReleasedFigurinesWithFilter(FigurineFilter filter) {
-        return figurineRepository.findAll(filter).stream()
-                .filter(figurine -> figurine.getCurrentReleaseStatus() == RELEASED).toList();
-    }
-
-    /** Counts figurines by calculated release status name. */
-    private Map<String, Integer> countByReleaseStatus(List<Figurine> allFigurines) {
-        return allFigurines.stream().map(Figurine::getCurrentReleaseStatus)
-                .collect(Collectors.groupingBy(ReleaseStatus::name, Collectors.summingInt(status -> 1)));
+    /** Increments the counter of the catalog entry a figurine belongs to, if any. */
+    private <T> void countCatalog(Map<Long, Long> figurinesByCatalogId, T catalog,
+            Function<T, Long> catalogIdSelector) {
+        if (Objects.nonNull(catalog)) {
+            figurinesByCatalogId.merge(catalogIdSelector.apply(catalog), 1L, Long::sum);
+        }
     }
 
-    /** Counts figurines per catalog entry using catalog id as the grouping key. */
-    private <T> Map<String, Integer> countByCatalog(List<Figurine> allFigurines, List<T> allCatalogs,
-            Function<Figurine, T> figurineCatalogSelector, Function<T, Long> catalogIdSelector,
-            Function<T, String> catalogDescriptionSelector) {
-
-        Map<Long, Long> figurinesByCatalogId = allFigurines.stream().map(figurineCatalogSelector)
-                .filter(Objects::nonNull).collect(Collectors.groupingBy(catalogIdSelector, Collectors.counting()));
+    /** Maps the figurine counts per catalog id to every catalog description. */
+    private <T> Map<String, Integer> countByCatalog(Map<Long, Long> figurinesByCatalogId, List<T> allCatalogs,
+            Function<T, Long> catalogIdSelector, Function<T, String> catalogDescriptionSelector) {
 
         Map<String, Integer> countByCatalog = new HashMap<>();
         allCatalogs.forEach(catalog -> {
@@ -1,7 +1,5 @@
 package com.mesofi.mythclothapi.stats.model;
 
-import com.mesofi.mythclothapi.figurines.model.Figurine;
-
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,8 +9,8 @@ import lombok.Setter;
  * aggregation.
  *
  * <p>
- * Stores running totals and tracked figurines for highest and lowest release
- * prices.
+ * Stores running totals and the identifiers of the figurines with the highest
+ * and lowest release prices.
  */
 @Getter
 @Setter
@@ -27,11 +25,11 @@ public class ReleasePrices {
     /** Lowest observed release price for the current aggregation window. */
     private Double lowest;
 
-    /** Figurine associated with {@link #highest}. */
-    Figurine highestPriceFigurine;
+    /** Identifier of the figurine associated with {@link #highest}. */
+    private Long highestPriceFigurineId;
 
-    /** Figurine associated with {@link #lowest}. */
-    Figurine lowestPriceFigurine;
+    /** Identifier of the figurine associated with {@link #lowest}. */
+    private Long lowestPriceFigurineId;
 
     /** Running sum of all observed release prices. */
     private Double total;
@@ -1,10 +1,13 @@
 package com.mesofi.mythclothapi.stores;
 
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
 import com.mesofi.mythclothapi.stores.dto.StoreReq;
 import com.mesofi.mythclothapi.stores.dto.StoreResp;
 import com.mesofi.mythclothapi.stores.model.Store;
@@ -23,8 +26,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class StoreService {
 
+    public static final String STORE_CACHE = "stores";
+
     private final StoreRepository repository;
     private final StoreMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new store.
@@ -40,6 +46,7 @@ public class StoreService {
         Store store = mapper.toStore(request);
 
         var saved = repository.save(store);
+        eventPublisher.publishEvent(new CatalogChangedEvent("stores", Set.of(STORE_CACHE)));
         return mapper.toStoreResp(saved);
     }
 
@@ -91,6 +98,7 @@ public class StoreService {
         // Ask MapStruct to update fields
         Store incoming = mapper.toStore(request);
         mapper.updateStore(existing, incoming);
+        eventPublisher.publishEvent(new CatalogChangedEvent("stores", Set.of(STORE_CACHE)));
 
         return mapper.toStoreResp(existing);
     }
@@ -112,5 +120,6 @@ public class StoreService {
         var existing = repository.findById(id).orElseThrow(() -> new StoreNotFoundException(id));
 
         existing.setActive(false);
+        eventPublisher.publishEvent(new CatalogChangedEvent("stores", Set.of(STORE_CACHE)));
     }
 }
@@ -0,0 +1,26 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import static com.mesofi.mythclothapi.catalogs.CatalogService.CATALOG_CONTEXT_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+class CatalogCacheInvalidatorTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final CatalogCacheInvalidator invalidator = new CatalogCacheInvalidator(cacheManager);
+
+    @Test
+    void onCatalogChanged_shouldClearOnlyTheCachesOfTheResource() {
+        cacheManager.getCache(CATALOG_CONTEXT_CACHE).put("context", "context");
+        cacheManager.getCache("stores").put("store", "store");
+
+        invalidator.onCatalogChanged(new CatalogChangedEvent("anniversaries", Set.of(CATALOG_CONTEXT_CACHE)));
+
+        assertThat(cacheManager.getCache(CATALOG_CONTEXT_CACHE).get("context")).isNull();
+        assertThat(cacheManager.getCache("stores").get("store")).isNotNull();
+    }
+}
@@ -0,0 +1,78 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
+import com.mesofi.mythclothapi.anniversaries.model.AnniversaryType;
+import com.mesofi.mythclothapi.catalogs.model.CatalogContext;
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.common.Descriptive;
+import com.mesofi.mythclothapi.distributors.model.CountryCode;
+import com.mesofi.mythclothapi.distributors.model.Distributor;
+
+class CatalogContextTest {
+
+    private final CatalogContext context = CatalogMockBuilder.createMockCatalogContext();
+
+    @Test
+    void find_shouldResolveCatalogEntries_byIdAndDescription() {
+        assertThat(context.findLineUp(2L)).map(Descriptive::getDescription).hasValue("Myth Cloth");
+        assertThat(context.findLineUp("Myth Cloth EX")).map(Descriptive::getId).hasValue(1L);
+        assertThat(context.findSeries("Soul of Gold")).map(Descriptive::getId).hasValue(3L);
+        assertThat(context.findGroup(11L)).map(Descriptive::getDescription).hasValue("Gold Saint");
+        assertThat(context.findDistribution("Tamashii Web Shop")).map(Descriptive::getId).hasValue(2L);
+
+        assertThat(context.findLineUp("myth cloth ex")).isEmpty();
+        assertThat(context.findSeries(99L)).isEmpty();
+        assertThat(context.findGroup((String) null)).isEmpty();
+    }
+
+    @Test
+    void findDistributor_shouldReturnFirstDistributorOfCountry() {
+        assertThat(context.findDistributor(CountryCode.MX)).map(Distributor::getId).hasValue(2L);
+        assertThat(context.findDistributor(CountryCode.CN)).map(Distributor::getId).hasValue(4L);
+        assertThat(context.findDistributor(6L)).map(Distributor::getCountry).hasValue(CountryCode.US);
+        assertThat(context.findDistributor((CountryCode) null)).isEmpty();
+    }
+
+    @Test
+    void findAnniversary_shouldMatchYearAndOptionalType() {
+        assertThat(context.findAnniversary(10, null)).map(Anniversary::getId).hasValue(3L);
+        assertThat(context.findAnniversary(10, AnniversaryType.SAINT_CLOTH_MYTH)).map(Anniversary::getId)
+                .hasValue(5L);
+        assertThat(context.findAnniversary(50, AnniversaryType.SAINT_SEIYA)).isEmpty();
+        assertThat(context.findAnniversary(8L)).map(Anniversary::getYear).hasValue(30);
+    }
+
+    @Test
+    void constructor_shouldCopyEntries_whenSourceListsChangeLater() {
+        List<Descriptive> lineUps = new ArrayList<>();
+        CatalogContext copy = new CatalogContext(List.of(), List.of(), lineUps, List.of(), List.of(), List.of());
+        LineUp lineUp = new LineUp();
+        lineUp.setId(1L);
+        lineUp.setDescription("Myth Cloth");
+        lineUps.add(lineUp);
+
+        assertThat(copy.lineUps()).isEmpty();
+        assertThat(copy.findLineUp(1L)).isEmpty();
+        assertThatThrownBy(() -> copy.lineUps().add(lineUp)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void equals_shouldCompareEntries() {
+        CatalogContext same = new CatalogContext(context.distributors(), context.distributions(),
+                context.lineUps(), context.series(), context.groups(), context.anniversaries());
+        CatalogContext empty = new CatalogContext(List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+
+        assertThat(same).isEqualTo(context).hasSameHashCodeAs(context);
+        assertThat(empty).isNotEqualTo(context);
+        assertThat(empty).hasToString(
+                "CatalogContext[distributors=0, distributions=0, lineUps=0, series=0, groups=0, anniversaries=0]");
+    }
+}
@@ -0,0 +1,98 @@
+package com.mesofi.mythclothapi.catalogs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpTemplate;
+
+import com.mesofi.mythclothapi.catalogs.model.CatalogRevision;
+import com.mesofi.mythclothapi.catalogs.repository.CatalogRevisionRepository;
+import com.mesofi.mythclothapi.messaging.invalidation.CacheInvalidationBroadcaster;
+import com.mesofi.mythclothapi.messaging.invalidation.CacheInvalidationMessage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CatalogVersionTest {
+
+    private static final Instant CREATED = Instant.parse("2025-03-11T12:00:00Z");
+    private static final String EPOCH = Long.toString(CREATED.toEpochMilli(), Character.MAX_RADIX);
+
+    private final CatalogRevisionRepository repository = mock(CatalogRevisionRepository.class);
+    private final CatalogVersion catalogVersion = new CatalogVersion(repository);
+
+    @Test
+    void etag_shouldReadSharedRevisionOnce() {
+        when(repository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(revision(3)));
+
+        assertThat(catalogVersion.etag()).isEqualTo("W/\"" + EPOCH + "-3\"");
+        assertThat(catalogVersion.etag()).isEqualTo("W/\"" + EPOCH + "-3\"");
+
+        verify(repository, times(1)).findFirstByOrderByIdAsc();
+    }
+
+    @Test
+    void etag_shouldReturnInitialTag_whenCatalogNeverChanged() {
+        assertThat(catalogVersion.etag()).isEqualTo("W/\"0\"");
+    }
+
+    @Test
+    void bump_shouldCreateRevision_whenCatalogNeverChanged() {
+        when(repository.increment()).thenReturn(0);
+
+        catalogVersion.bump();
+
+        ArgumentCaptor<CatalogRevision> captor = ArgumentCaptor.forClass(CatalogRevision.class);
+        verify(repository).save(captor.capture());
+        assertThat(captor.getValue().getRevision()).isEqualTo(1);
+    }
+
+    @Test
+    void bump_shouldIncrementSharedRevisionAndReadItAgain() {
+        when(repository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(revision(3)), Optional.of(revision(4)));
+        String previous = catalogVersion.etag();
+        when(repository.increment()).thenReturn(1);
+
+        catalogVersion.bump();
+
+        verify(repository, never()).save(any());
+        assertThat(catalogVersion.etag()).isEqualTo("W/\"" + EPOCH + "-4\"").isNotEqualTo(previous);
+    }
+
+    @Test
+    void onCatalogChanged_shouldOnlyReadRevision_whenReplayingChangeOfAnotherNode() {
+        when(repository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(revision(4)));
+        CacheInvalidationBroadcaster broadcaster = new CacheInvalidationBroadcaster(mock(AmqpTemplate.class),
+                event -> catalogVersion.onCatalogChanged((CatalogChangedEvent) event), new SimpleMeterRegistry());
+
+        broadcaster.onMessage(CacheInvalidationMessage.of("other-node", new CatalogChangedEvent("series")));
+
+        verify(repository, never()).increment();
+        assertThat(catalogVersion.etag()).isEqualTo("W/\"" + EPOCH + "-4\"");
+    }
+
+    @Test
+    void onCatalogChanged_shouldIncrementRevision_whenChangeIsLocal() {
+        when(repository.increment()).thenReturn(1);
+
+        catalogVersion.onCatalogChanged(new CatalogChangedEvent("series"));
+
+        verify(repository).increment();
+    }
+
+    private static CatalogRevision revision(long value) {
+        CatalogRevision revision = new CatalogRevision();
+        revision.setRevision(value);
+        revision.setCreationDate(CREATED);
+        return revision;
+    }
+}
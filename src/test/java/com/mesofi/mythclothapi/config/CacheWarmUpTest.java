@@ -0,0 +1,87 @@
+package com.mesofi.mythclothapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Status;
+
+import com.mesofi.mythclothapi.catalogs.CatalogService;
+import com.mesofi.mythclothapi.config.CacheWarmUp.State;
+import com.mesofi.mythclothapi.figurines.FigurineService;
+import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheWarmUpTest {
+
+    private final CatalogService catalogService = mock(CatalogService.class);
+    private final FigurineService figurineService = mock(FigurineService.class);
+    private final FigurineStoreService figurineStoreService = mock(FigurineStoreService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheWarmUpProperties properties = new CacheWarmUpProperties();
+    private final CacheWarmUp warmUp = new CacheWarmUp(properties, catalogService, figurineService,
+            figurineStoreService, meterRegistry);
+
+    @Test
+    void start_shouldPreloadCachesAndReportReady() throws Exception {
+        properties.setSearchPageSizes(List.of(10, 20));
+        properties.setSearchPages(2);
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmUp.start().get(5, TimeUnit.SECONDS)).isEqualTo(State.COMPLETED);
+
+        verify(catalogService).retrieveCatalogContext();
+        verify(figurineStoreService).warmUpStores();
+        verify(figurineService).warmUpAvailableFigurines();
+        verify(figurineService).retrieveFigurineSummaries(any());
+        verify(figurineService).filterFigurines(any(), eq(1), eq(20));
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(meterRegistry.get(CacheWarmUp.DURATION_METRIC).tag("task", "searchPages").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void start_shouldContinue_whenTaskFails() throws Exception {
+        when(figurineStoreService.warmUpStores()).thenThrow(new IllegalStateException("database down"));
+
+        assertThat(warmUp.start().get(5, TimeUnit.SECONDS)).isEqualTo(State.COMPLETED);
+
+        verify(catalogService).retrieveCatalogContext();
+        assertThat(meterRegistry.get(CacheWarmUp.DURATION_METRIC).tag("task", "stores").tag("outcome", "failure")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void start_shouldReportReady_whenTimeoutElapses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(catalogService.retrieveCatalogContext()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        properties.setTimeout(Duration.ofMillis(50));
+
+        assertThat(warmUp.start().get(5, TimeUnit.SECONDS)).isEqualTo(State.TIMED_OUT);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        release.countDown();
+    }
+
+    @Test
+    void start_shouldSkipWarmUp_whenDisabled() throws Exception {
+        properties.setEnabled(false);
+
+        assertThat(warmUp.start().get()).isEqualTo(State.DISABLED);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        verifyNoInteractions(catalogService, figurineService, figurineStoreService);
+    }
+}
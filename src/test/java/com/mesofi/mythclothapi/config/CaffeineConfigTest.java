@@ -0,0 +1,121 @@
+package com.mesofi.mythclothapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mesofi.mythclothapi.config.CachePolicyProperties.Policy;
+
+class CaffeineConfigTest {
+
+    private final CaffeineConfig config = new CaffeineConfig();
+
+    @Test
+    void cacheManager_shouldApplyDedicatedPolicy_whenCacheIsDeclared() {
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.getCaches().put("collector-summary", new Policy(5000L, null, null, Duration.ofHours(2), null));
+        properties.getCaches().put("figurines", new Policy(null, 50L, null, null, null));
+
+        CacheManager cacheManager = config.cacheManager(properties, refreshers());
+
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("collector-summary", "figurines");
+
+        Cache<Object, Object> collectorSummary = nativeCache(cacheManager, "collector-summary");
+        assertThat(collectorSummary.policy().eviction().orElseThrow().getMaximum()).isEqualTo(5000L);
+        assertThat(collectorSummary.policy().expireAfterAccess().orElseThrow().getExpiresAfter(TimeUnit.HOURS))
+                .isEqualTo(2);
+        assertThat(collectorSummary.policy().expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.DAYS))
+                .isEqualTo(15);
+        assertThat(collectorSummary.policy().isRecordingStats()).isTrue();
+
+        Cache<Object, Object> figurines = nativeCache(cacheManager, "figurines");
+        assertThat(figurines.policy().eviction().orElseThrow().isWeighted()).isTrue();
+        assertThat(figurines.policy().eviction().orElseThrow().getMaximum()).isEqualTo(50L);
+    }
+
+    @Test
+    void cacheManager_shouldApplyDefaultPolicy_whenCacheIsNotDeclared() {
+        CacheManager cacheManager = config.cacheManager(new CachePolicyProperties(), refreshers());
+
+        Cache<Object, Object> stores = nativeCache(cacheManager, "stores");
+
+        assertThat(stores.policy().eviction().orElseThrow().getMaximum()).isEqualTo(1000L);
+        assertThat(stores.policy().expireAfterWrite().orElseThrow().getExpiresAfter(TimeUnit.DAYS)).isEqualTo(15);
+        assertThat(stores.policy().isRecordingStats()).isTrue();
+    }
+
+    @Test
+    void cacheManager_shouldWeighPagesAndListsByElementCount() {
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.getCaches().put("figurines", new Policy(null, 5L, null, null, null));
+        CacheManager cacheManager = config.cacheManager(properties, refreshers());
+
+        cacheManager.getCache("figurines").put("page", List.of(1, 2, 3, 4));
+        Cache<Object, Object> figurines = nativeCache(cacheManager, "figurines");
+        figurines.cleanUp();
+
+        assertThat(figurines.policy().eviction().orElseThrow().weightedSize()).hasValue(4L);
+    }
+
+    @Test
+    void buildCache_shouldReloadThroughRefresher_whenRefreshAfterWriteIsConfigured() {
+        AtomicInteger version = new AtomicInteger();
+        CacheRefresher refresher = refresher("catalogContext", version);
+
+        Cache<Object, Object> cache = CaffeineConfig.buildCache("catalogContext",
+                new Policy(1L, null, null, null, Duration.ofHours(1)), refresher);
+
+        assertThat(cache).isInstanceOf(LoadingCache.class);
+        LoadingCache<Object, Object> loadingCache = (LoadingCache<Object, Object>) cache;
+        assertThat(loadingCache.get("key")).isEqualTo(1);
+        loadingCache.refresh("key").join();
+        assertThat(loadingCache.get("key")).isEqualTo(2);
+    }
+
+    @Test
+    void buildCache_shouldNotRefresh_whenNoRefresherIsRegistered() {
+        Cache<Object, Object> cache = CaffeineConfig.buildCache("stores",
+                new Policy(1L, null, null, null, Duration.ofHours(1)), null);
+
+        assertThat(cache).isNotInstanceOf(LoadingCache.class);
+        assertThat(cache.policy().refreshAfterWrite()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<CacheRefresher> refreshers(CacheRefresher... refreshers) {
+        ObjectProvider<CacheRefresher> provider = mock(ObjectProvider.class);
+        when(provider.orderedStream()).thenAnswer(invocation -> Stream.of(refreshers));
+        return provider;
+    }
+
+    private CacheRefresher refresher(String cacheName, AtomicInteger version) {
+        return new CacheRefresher() {
+            @Override
+            public String cacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Object reload(Object key) {
+                return version.incrementAndGet();
+            }
+        };
+    }
+
+    private Cache<Object, Object> nativeCache(CacheManager cacheManager, String cacheName) {
+        return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache();
+    }
+}
@@ -0,0 +1,150 @@
+package com.mesofi.mythclothapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.catalogs.model.CatalogRevision;
+import com.mesofi.mythclothapi.catalogs.repository.CatalogRevisionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConditionalGetFilterTest {
+
+    private static final String BODY = "[{\"id\":1}]";
+    private static final String ID_PATTERN = "/figurines/{id:\\d+}";
+
+    private final CatalogRevisionRepository revisionRepository = mock(CatalogRevisionRepository.class);
+    private final CatalogVersion catalogVersion = new CatalogVersion(revisionRepository);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger handled = new AtomicInteger();
+    private final ConditionalGetFilter filter = new ConditionalGetFilter(properties(), catalogVersion,
+            meterRegistry);
+
+    @Test
+    void doFilter_shouldTagSuccessfulResponse_whenRequestIsUnconditional() throws Exception {
+        MockHttpServletResponse response = execute(get("/figurines/10"), 200);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(catalogVersion.etag()).startsWith("W/");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=0, must-revalidate, public");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.AUTHORIZATION);
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.get(ConditionalGetFilter.RESPONSE_SIZE_METRIC).tag("uri", ID_PATTERN)
+                .summary().totalAmount()).isEqualTo(BODY.length());
+    }
+
+    @Test
+    void doFilter_shouldShortCircuit_whenEntityTagMatches() throws Exception {
+        execute(get("/figurines/10"), 200);
+
+        MockHttpServletRequest request = get("/figurines/10");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"other\", " + catalogVersion.etag());
+        MockHttpServletResponse response = execute(request, 200);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(catalogVersion.etag());
+        assertThat(handled).hasValue(1);
+        assertThat(meterRegistry.get(ConditionalGetFilter.NOT_MODIFIED_METRIC).tag("uri", ID_PATTERN)
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConditionalGetFilter.BYTES_SAVED_METRIC).tag("uri", ID_PATTERN)
+                .counter().count()).isEqualTo(BODY.length());
+    }
+
+    @Test
+    void doFilter_shouldShortCircuit_whenClientSendsTagWithoutWeakPrefix() throws Exception {
+        MockHttpServletRequest request = get("/figurines/10");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, catalogVersion.etag().substring(2));
+        MockHttpServletResponse response = execute(request, 200);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(handled).hasValue(0);
+    }
+
+    @Test
+    void doFilter_shouldServeFullResponse_whenCatalogVersionChanged() throws Exception {
+        String previous = catalogVersion.etag();
+        when(revisionRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(revision()));
+        catalogVersion.bump();
+
+        MockHttpServletRequest request = get("/figurines/10");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, previous);
+        MockHttpServletResponse response = execute(request, 200);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(catalogVersion.etag()).isNotEqualTo(previous);
+        assertThat(handled).hasValue(1);
+    }
+
+    @Test
+    void doFilter_shouldNotTagErrorResponse() throws Exception {
+        MockHttpServletResponse response = execute(get("/figurines/10"), 404);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    @Test
+    void doFilter_shouldIgnoreRequest_whenAuthenticatedOrNotListed() throws Exception {
+        MockHttpServletRequest authenticated = get("/figurines");
+        authenticated.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        authenticated.addHeader(HttpHeaders.IF_NONE_MATCH, catalogVersion.etag());
+        MockHttpServletRequest notListed = get("/figurines/suggest");
+        notListed.addHeader(HttpHeaders.IF_NONE_MATCH, catalogVersion.etag());
+
+        assertThat(execute(authenticated, 200).getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(execute(notListed, 200).getStatus()).isEqualTo(200);
+        assertThat(handled).hasValue(2);
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, int status)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            handled.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1" + path);
+        request.setContextPath("/api/v1");
+        return request;
+    }
+
+    private static ConditionalGetProperties properties() {
+        ConditionalGetProperties properties = new ConditionalGetProperties();
+        properties.setPaths(List.of("/figurines", "/figurines/summary", ID_PATTERN));
+        return properties;
+    }
+
+    private static CatalogRevision revision() {
+        CatalogRevision revision = new CatalogRevision();
+        revision.setRevision(1);
+        revision.setCreationDate(Instant.parse("2025-03-11T12:00:00Z"));
+        return revision;
+    }
+}
@@ -0,0 +1,189 @@
+package com.mesofi.mythclothapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.mesofi.mythclothapi.catalogs.CatalogVersion;
+import com.mesofi.mythclothapi.catalogs.model.CatalogRevision;
+import com.mesofi.mythclothapi.catalogs.repository.CatalogRevisionRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResponseBodyCacheFilterTest {
+
+    private static final String BODY = "[{\"id\":1,\"name\":\"Pegasus Seiya\"}]";
+
+    private final CatalogRevisionRepository revisionRepository = mock(CatalogRevisionRepository.class);
+    private final CatalogVersion catalogVersion = new CatalogVersion(revisionRepository);
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    void doFilter_shouldReplayCompressedBody_whenClientAcceptsGzip() throws Exception {
+        ResponseBodyCacheFilter filter = filter(true);
+        execute(filter, get("/figurines/summary"), 200);
+
+        MockHttpServletRequest request = get("/figurines/summary");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        MockHttpServletResponse response = execute(filter, request, 200);
+
+        assertThat(handled).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_shouldReplayPlainBody_whenClientDoesNotAcceptGzip() throws Exception {
+        ResponseBodyCacheFilter filter = filter(true);
+        MockHttpServletResponse first = execute(filter, get("/figurines/summary"), 200);
+
+        MockHttpServletRequest request = get("/figurines/summary");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        MockHttpServletResponse response = execute(filter, request, 200);
+
+        assertThat(handled).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void doFilter_shouldShareEntry_whenQueryParametersAreReordered() throws Exception {
+        ResponseBodyCacheFilter filter = filter(false);
+        MockHttpServletRequest first = get("/figurines");
+        first.setQueryString("page=0&size=10");
+        MockHttpServletRequest reordered = get("/figurines");
+        reordered.setQueryString("size=10&page=0");
+        MockHttpServletRequest otherPage = get("/figurines");
+        otherPage.setQueryString("page=1&size=10");
+
+        execute(filter, first, 200);
+        MockHttpServletResponse response = execute(filter, reordered, 200);
+        execute(filter, otherPage, 200);
+
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    void doFilter_shouldComputeResponseAgain_whenCatalogVersionChanged() throws Exception {
+        ResponseBodyCacheFilter filter = filter(true);
+        execute(filter, get("/figurines/summary"), 200);
+
+        when(revisionRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(revision()));
+        catalogVersion.bump();
+        execute(filter, get("/figurines/summary"), 200);
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    void doFilter_shouldNotCacheErrorResponse() throws Exception {
+        ResponseBodyCacheFilter filter = filter(true);
+        execute(filter, get("/figurines/summary"), 500);
+
+        MockHttpServletResponse response = execute(filter, get("/figurines/summary"), 200);
+
+        assertThat(handled).hasValue(2);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void doFilter_shouldIgnoreRequest_whenDisabledAuthenticatedOrNotListed() throws Exception {
+        ResponseBodyCacheFilter disabled = new ResponseBodyCacheFilter(new ResponseCacheProperties(),
+                catalogVersion, cacheManager, meterRegistry);
+        ResponseBodyCacheFilter filter = filter(true);
+        MockHttpServletRequest authenticated = get("/figurines");
+        authenticated.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+
+        execute(disabled, get("/figurines/summary"), 200);
+        execute(disabled, get("/figurines/summary"), 200);
+        execute(filter, authenticated, 200);
+        execute(filter, authenticated, 200);
+        execute(filter, get("/figurines/suggest"), 200);
+        execute(filter, get("/figurines/suggest"), 200);
+
+        assertThat(handled).hasValue(6);
+    }
+
+    @Test
+    void sortedQuery_shouldSortParameters() {
+        assertThat(ResponseBodyCacheFilter.sortedQuery("size=10&name=seiya&page=0"))
+                .isEqualTo("name=seiya&page=0&size=10");
+        assertThat(ResponseBodyCacheFilter.sortedQuery("")).isNull();
+        assertThat(ResponseBodyCacheFilter.sortedQuery(null)).isNull();
+    }
+
+    private MockHttpServletResponse execute(ResponseBodyCacheFilter filter, MockHttpServletRequest request,
+            int status) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            handled.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get(ResponseBodyCacheFilter.REQUESTS_METRIC).tag("uri", "/figurines/summary")
+                .tag("result", result).counter().count();
+    }
+
+    private ResponseBodyCacheFilter filter(boolean compress) {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setCompress(compress);
+        properties.setPaths(List.of("/figurines", "/figurines/summary"));
+        return new ResponseBodyCacheFilter(properties, catalogVersion, cacheManager, meterRegistry);
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1" + path);
+        request.setContextPath("/api/v1");
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static CatalogRevision revision() {
+        CatalogRevision revision = new CatalogRevision();
+        revision.setRevision(1);
+        revision.setCreationDate(Instant.parse("2025-03-11T12:00:00Z"));
+        return revision;
+    }
+}
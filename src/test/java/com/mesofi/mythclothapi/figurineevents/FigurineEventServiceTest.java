@@ -23,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import com.mesofi.mythclothapi.config.MapperTestConfig;
 import com.mesofi.mythclothapi.config.MethodValidationTestConfig;
@@ -30,17 +32,22 @@ import com.mesofi.mythclothapi.distributors.model.CountryCode;
 import com.mesofi.mythclothapi.figurineevents.dto.FigurineEventReq;
 import com.mesofi.mythclothapi.figurineevents.dto.FigurineEventResp;
 import com.mesofi.mythclothapi.figurineevents.model.FigurineEvent;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
 import com.mesofi.mythclothapi.figurines.FigurineNotFoundException;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
 
 @ActiveProfiles("test")
 @SpringBootTest(classes = {FigurineEventService.class, MapperTestConfig.class, MethodValidationTestConfig.class})
+@RecordApplicationEvents
 public class FigurineEventServiceTest {
 
     @Autowired
     private FigurineEventService figurineEventService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockitoBean
     private FigurineRepository figurineRepository;
     @MockitoBean
@@ -292,6 +299,8 @@ public class FigurineEventServiceTest {
         assertThat(eventCaptor.getValue().getFigurine()).isSameAs(newFigurine);
         assertThat(eventCaptor.getValue().isEventDateConfirmed()).isTrue();
         assertThat(eventCaptor.getValue().getType()).isEqualTo(RELEASE);
+        assertThat(applicationEvents.stream(FigurineCatalogChangedEvent.class)
+                .map(FigurineCatalogChangedEvent::figurineId).toList()).isEqualTo(List.of(10L, 44L));
     }
 
     @Test
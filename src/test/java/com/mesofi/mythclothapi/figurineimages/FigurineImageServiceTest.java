@@ -11,6 +11,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -18,22 +19,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
 import com.mesofi.mythclothapi.figurineimages.dto.FigurineImageReq;
 import com.mesofi.mythclothapi.figurineimages.dto.FigurineImageResp;
 import com.mesofi.mythclothapi.figurineimages.exceptions.ImageAlreadyExistsException;
 import com.mesofi.mythclothapi.figurineimages.exceptions.ImageNotFoundException;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
 import com.mesofi.mythclothapi.figurines.FigurineNotFoundException;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
 
 @ActiveProfiles("test")
 @SpringBootTest(classes = FigurineImageService.class)
+@RecordApplicationEvents
 public class FigurineImageServiceTest {
 
     @Autowired
     private FigurineImageService figurineImageService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockitoBean
     private FigurineRepository figurineRepository;
 
@@ -154,6 +163,9 @@ public class FigurineImageServiceTest {
     void createFigurineImage_shouldPersistNormalizedOfficialImage_whenRequestIsValid() {
         // Arrange
         Figurine figurine = figurine(1L, List.of("https://images.example/pegasus.jpg"), List.of());
+        LineUp lineUp = new LineUp();
+        lineUp.setId(5L);
+        figurine.setLineup(lineUp);
         URI rawUrl = URI.create("https://images.example/official/../seiya.jpg");
         FigurineImageReq request = request(1L, rawUrl, true);
 
@@ -171,6 +183,8 @@ public class FigurineImageServiceTest {
         verify(figurineRepository).save(captor.capture());
         assertThat(captor.getValue().getOfficialImages()).containsExactly("https://images.example/pegasus.jpg",
                 "https://images.example/seiya.jpg");
+        assertThat(applicationEvents.stream(FigurineCatalogChangedEvent.class))
+                .containsExactly(new FigurineCatalogChangedEvent(1L, Set.of(5L), false));
     }
 
     @Test
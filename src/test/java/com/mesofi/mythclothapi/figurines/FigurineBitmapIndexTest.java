@@ -0,0 +1,197 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.catalogs.model.Series;
+import com.mesofi.mythclothapi.catalogs.repository.LineUpRepository;
+import com.mesofi.mythclothapi.catalogs.repository.SeriesRepository;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.figurines.repository.CollectablePageImpl;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional
+@Import(FigurineBitmapIndex.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class FigurineBitmapIndexTest {
+
+    private static final String[] NAMES = {"pegasus seiya", "dragon shiryu", "cygnus hyoga", "andromeda shun",
+            "phoenix ikki"};
+
+    @Autowired
+    FigurineBitmapIndex index;
+    @Autowired
+    FigurineRepository repository;
+    @Autowired
+    LineUpRepository lineUpRepository;
+    @Autowired
+    SeriesRepository seriesRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private final List<LineUp> lineUps = new ArrayList<>();
+    private final List<Series> series = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        for (String description : List.of("Myth Cloth EX", "Myth Cloth")) {
+            LineUp lineUp = new LineUp();
+            lineUp.setDescription(description);
+            lineUp.setCreationDate(now);
+            lineUp.setUpdateDate(now);
+            lineUps.add(lineUpRepository.saveAndFlush(lineUp));
+        }
+        for (String description : List.of("Saint Seiya", "Soul of Gold")) {
+            Series item = new Series();
+            item.setDescription(description);
+            item.setCreationDate(now);
+            item.setUpdateDate(now);
+            series.add(seriesRepository.saveAndFlush(item));
+        }
+    }
+
+    @Test
+    void isReady_shouldReturnFalse_whenIndexWasNotBuilt() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search(filter(null, null, null, null, null, null), 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_shouldMatchSqlSearch_whenComparingFilterCombinations() {
+        List<Figurine> figurines = seedCatalog(60);
+        index.rebuild();
+
+        List<FigurineFilter> filters = List.of(filter(null, null, null, null, null, null),
+                filter(null, lineUps.getFirst().getId(), null, null, null, null),
+                filter(null, lineUps.getLast().getId(), series.getFirst().getId(), true, null, null),
+                filter(null, null, null, false, true, null), filter("seiya", null, null, null, null, null),
+                filter("DRAGON", null, series.getLast().getId(), null, null, null),
+                filter(null, null, null, null, null, List.of("RELEASED", "PROTOTYPE")),
+                filter(null, null, null, null, null, List.of("UNKNOWN")),
+                new FigurineFilter(null, null, null, null, 999L, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, null),
+                new FigurineFilter(List.of(figurines.get(3).getId(), figurines.get(7).getId(), 12_345L), null, null,
+                        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null),
+                new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, true),
+                new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        null, null, null, List.of("ANNOUNCED", "RELEASED"), false));
+
+        for (FigurineFilter filter : filters) {
+            for (int page = 0; page < 4; page++) {
+                CollectablePageImpl<Figurine> expected = repository.findPaginated(filter, PageRequest.of(page, 7));
+                FigurineIdPage actual = index.search(filter, page, 7).orElseThrow();
+
+                assertThat(actual.ids()).as("page %d of %s", page, filter)
+                        .containsExactlyElementsOf(expected.getContent().stream().map(Figurine::getId).toList());
+                assertThat(actual.totalElements()).isEqualTo(expected.getTotalElements());
+                assertThat(actual.totalCollectables()).isEqualTo(expected.getTotalCollectables());
+            }
+
+            List<Long> expectedCollectables = repository.findAll(filter).stream()
+                    .filter(figurine -> figurine.getCurrentReleaseStatus() == ReleaseStatus.ANNOUNCED
+                            || figurine.getCurrentReleaseStatus() == ReleaseStatus.RELEASED)
+                    .map(Figurine::getId).toList();
+            assertThat(index.findCollectableIds(filter)).contains(expectedCollectables);
+        }
+    }
+
+    @Test
+    void search_shouldReturnEmpty_whenNameContainsLikeWildcards() {
+        seedCatalog(3);
+        index.rebuild();
+
+        assertThat(index.search(filter("sei%ya", null, null, null, null, null), 0, 10)).isEmpty();
+        assertThat(index.findCollectableIds(filter("shun_", null, null, null, null, null))).isEmpty();
+    }
+
+    @Test
+    void rebuild_shouldReflectNewFigurines_whenCatalogChanges() {
+        seedCatalog(2);
+        index.rebuild();
+        seedCatalog(1);
+
+        assertThat(index.search(null, 0, 10).orElseThrow().totalElements()).isEqualTo(2);
+
+        index.rebuild();
+
+        assertThat(index.search(null, 0, 10).orElseThrow().totalElements()).isEqualTo(3);
+    }
+
+    private List<Figurine> seedCatalog(int size) {
+        Random random = new Random(size);
+        ReleaseStatus[] statuses = ReleaseStatus.values();
+        Instant now = Instant.now();
+
+        List<Figurine> figurines = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Figurine figurine = new Figurine();
+            figurine.setLegacyName("Indexed " + System.nanoTime());
+            figurine.setNormalizedName(NAMES[random.nextInt(NAMES.length)]);
+            figurine.setDisplayName("Indexed " + i);
+            figurine.setLineup(lineUps.get(random.nextInt(lineUps.size())));
+            figurine.setSeries(series.get(random.nextInt(series.size())));
+            figurine.setMetalBody(randomFlag(random));
+            figurine.setOce(randomFlag(random));
+            figurine.setCreationDate(now.plusSeconds(random.nextInt(1_000)));
+            figurine.setUpdateDate(now);
+            figurines.add(repository.saveAndFlush(figurine));
+        }
+
+        // Statuses and dates are written directly, bypassing the listener, so that
+        // every status, ties and missing dates are all present.
+        for (Figurine figurine : figurines) {
+            em.createNativeQuery("""
+                    UPDATE figurines SET current_release_status = ?, first_release_date = ?, first_announcement_date = ?
+                    WHERE id = ?""").setParameter(1, statuses[random.nextInt(statuses.length)].name())
+                    .setParameter(2, random.nextBoolean() ? LocalDate.of(2020, 1, 1 + random.nextInt(5)) : null)
+                    .setParameter(3, random.nextBoolean() ? LocalDate.of(2019, 6, 1 + random.nextInt(5)) : null)
+                    .setParameter(4, figurine.getId()).executeUpdate();
+        }
+        for (int i = 1; i < figurines.size(); i += 4) {
+            em.createNativeQuery("UPDATE figurines SET previous_release_id = ? WHERE id = ?")
+                    .setParameter(1, figurines.get(i - 1).getId()).setParameter(2, figurines.get(i).getId())
+                    .executeUpdate();
+        }
+        em.clear();
+        return figurines;
+    }
+
+    private Boolean randomFlag(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> null;
+            case 1 -> true;
+            default -> false;
+        };
+    }
+
+    private FigurineFilter filter(String name, Long lineUpId, Long seriesId, Boolean metalBody, Boolean oce,
+            List<String> releaseStatuses) {
+        return new FigurineFilter(null, name, lineUpId, seriesId, null, null, null, metalBody, oce, null, null, null,
+                null, null, null, null, null, releaseStatuses, null);
+    }
+}
@@ -0,0 +1,143 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_FIGURINE_CACHE;
+import static com.mesofi.mythclothapi.collectorscollections.CollectorCollectionFigurineService.COLLECTOR_SUMMARY_CACHE;
+import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_CACHE;
+import static com.mesofi.mythclothapi.figurines.FigurineService.FIGURINE_SUMMARY_CACHE;
+import static com.mesofi.mythclothapi.stats.StatisticsService.PRICING_SUMMARY_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageImpl;
+
+import com.mesofi.mythclothapi.catalogs.dto.CatalogResp;
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.catalogs.repository.LineUpRepository;
+import com.mesofi.mythclothapi.collectorscollections.dto.CollectorCollectionFigurineResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+import com.mesofi.mythclothapi.figurines.repository.CursorPage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FigurineCacheInvalidatorTest {
+
+    private static final long EX_LINEUP_ID = 1L;
+    private static final long MYTH_CLOTH_LINEUP_ID = 2L;
+    private static final long EDITED_FIGURINE_ID = 10L;
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final LineUpRepository lineUpRepository = mock(LineUpRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FigurineCacheInvalidator invalidator = new FigurineCacheInvalidator(cacheManager, lineUpRepository,
+            meterRegistry);
+
+    private final FigurineFilter allFilter = filter(null);
+    private final FigurineFilter exFilter = filter(EX_LINEUP_ID);
+    private final FigurineFilter mythClothFilter = filter(MYTH_CLOTH_LINEUP_ID);
+
+    @BeforeEach
+    void setUp() {
+        LineUp ex = new LineUp();
+        ex.setId(EX_LINEUP_ID);
+        ex.setDescription("Myth Cloth EX");
+        when(lineUpRepository.findAllById(Set.of(EX_LINEUP_ID))).thenReturn(List.of(ex));
+
+        Cache figurines = cacheManager.getCache(FIGURINE_CACHE);
+        figurines.put("by-mythcloth-ex", List.of());
+        figurines.put("by-mythcloth", List.of());
+        figurines.put(List.of(allFilter, 0, 10), page(EDITED_FIGURINE_ID, 11L));
+        figurines.put(List.of(allFilter, 1, 10), page(12L, 13L));
+        figurines.put(List.of(exFilter, 0, 10), page(12L));
+        figurines.put(List.of(mythClothFilter, 0, 10), page(20L));
+
+        cacheManager.getCache(FIGURINE_SUMMARY_CACHE).put(mythClothFilter, List.of(summary(20L)));
+        cacheManager.getCache(PRICING_SUMMARY_CACHE).put(exFilter, List.of());
+        cacheManager.getCache(PRICING_SUMMARY_CACHE).put(mythClothFilter, List.of());
+        cacheManager.getCache(COLLECTOR_SUMMARY_CACHE).put(List.of(5L, 6L, true), "summary");
+        cacheManager.getCache(COLLECTOR_FIGURINE_CACHE).put(List.of(5L, 6L, true, 0, 10),
+                new PageImpl<>(List.of(collected(EDITED_FIGURINE_ID))));
+        cacheManager.getCache(COLLECTOR_FIGURINE_CACHE).put(List.of(5L, 6L, true, 1, 10),
+                new PageImpl<>(List.of(collected(30L))));
+    }
+
+    @Test
+    void onCatalogChanged_shouldOnlyEvictEntriesContainingFigurine_whenListingsAreUnchanged() {
+        invalidator.onCatalogChanged(new FigurineCatalogChangedEvent(EDITED_FIGURINE_ID, Set.of(EX_LINEUP_ID), false));
+
+        Cache figurines = cacheManager.getCache(FIGURINE_CACHE);
+        assertThat(figurines.get("by-mythcloth-ex")).isNull();
+        assertThat(figurines.get("by-mythcloth")).isNotNull();
+        assertThat(figurines.get(List.of(allFilter, 0, 10))).isNull();
+        assertThat(figurines.get(List.of(allFilter, 1, 10))).isNotNull();
+        assertThat(figurines.get(List.of(exFilter, 0, 10))).isNotNull();
+        assertThat(figurines.get(List.of(mythClothFilter, 0, 10))).isNotNull();
+
+        assertThat(cacheManager.getCache(FIGURINE_SUMMARY_CACHE).get(mythClothFilter)).isNotNull();
+        assertThat(cacheManager.getCache(PRICING_SUMMARY_CACHE).get(exFilter)).isNull();
+        assertThat(cacheManager.getCache(PRICING_SUMMARY_CACHE).get(mythClothFilter)).isNotNull();
+        assertThat(cacheManager.getCache(COLLECTOR_SUMMARY_CACHE).get(List.of(5L, 6L, true))).isNotNull();
+        assertThat(cacheManager.getCache(COLLECTOR_FIGURINE_CACHE).get(List.of(5L, 6L, true, 0, 10))).isNull();
+        assertThat(cacheManager.getCache(COLLECTOR_FIGURINE_CACHE).get(List.of(5L, 6L, true, 1, 10))).isNotNull();
+
+        assertThat(evictions(FIGURINE_CACHE, "targeted")).isEqualTo(2);
+    }
+
+    @Test
+    void onCatalogChanged_shouldEvictLineUpScopedEntries_whenListingsChanged() {
+        invalidator.onCatalogChanged(new FigurineCatalogChangedEvent(EDITED_FIGURINE_ID, Set.of(EX_LINEUP_ID), true));
+
+        Cache figurines = cacheManager.getCache(FIGURINE_CACHE);
+        assertThat(figurines.get("by-mythcloth")).isNotNull();
+        assertThat(figurines.get(List.of(allFilter, 1, 10))).isNull();
+        assertThat(figurines.get(List.of(exFilter, 0, 10))).isNull();
+        assertThat(figurines.get(List.of(mythClothFilter, 0, 10))).isNotNull();
+
+        assertThat(cacheManager.getCache(FIGURINE_SUMMARY_CACHE).get(mythClothFilter)).isNotNull();
+        assertThat(cacheManager.getCache(COLLECTOR_SUMMARY_CACHE).get(List.of(5L, 6L, true))).isNull();
+        assertThat(cacheManager.getCache(COLLECTOR_FIGURINE_CACHE).get(List.of(5L, 6L, true, 1, 10))).isNull();
+
+        assertThat(evictions(COLLECTOR_SUMMARY_CACHE, "full")).isEqualTo(1);
+    }
+
+    @Test
+    void onCatalogChanged_shouldClearEveryCache_whenScopeIsUnknown() {
+        invalidator.onCatalogChanged(new FigurineCatalogChangedEvent(null));
+
+        Cache figurines = cacheManager.getCache(FIGURINE_CACHE);
+        assertThat(figurines.get("by-mythcloth")).isNull();
+        assertThat(figurines.get(List.of(mythClothFilter, 0, 10))).isNull();
+        assertThat(cacheManager.getCache(FIGURINE_SUMMARY_CACHE).get(mythClothFilter)).isNull();
+        assertThat(cacheManager.getCache(PRICING_SUMMARY_CACHE).get(mythClothFilter)).isNull();
+    }
+
+    private double evictions(String cacheName, String scope) {
+        return meterRegistry.get(FigurineCacheInvalidator.EVICTIONS_METRIC).tag("cache", cacheName)
+                .tag("scope", scope).counter().count();
+    }
+
+    private CursorPage<FigurineSummaryResp> page(Long... ids) {
+        return new CursorPage<>(List.of(ids).stream().map(this::summary).toList(), ids.length, ids.length, null);
+    }
+
+    private FigurineSummaryResp summary(long id) {
+        return new FigurineSummaryResp(id, "Figurine " + id, new CatalogResp(EX_LINEUP_ID, "Myth Cloth EX"), null);
+    }
+
+    private CollectorCollectionFigurineResp collected(long id) {
+        return new CollectorCollectionFigurineResp(id, "Figurine " + id, ReleaseStatus.RELEASED, null, null, true, 1);
+    }
+
+    private static FigurineFilter filter(Long lineUpId) {
+        return new FigurineFilter(null, null, lineUpId, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+    }
+}
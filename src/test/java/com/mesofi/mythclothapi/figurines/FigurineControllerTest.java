@@ -30,8 +30,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.mesofi.mythclothapi.figurines.dto.DistributorReq;
 import com.mesofi.mythclothapi.figurines.dto.FigurineReq;
 import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSuggestionResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
 import com.mesofi.mythclothapi.figurines.repository.CollectablePageImpl;
+import com.mesofi.mythclothapi.figurines.repository.CursorPage;
 import com.mesofi.mythclothapi.security.config.SecurityConfig;
 
 import tools.jackson.databind.ObjectMapper;
@@ -222,6 +224,35 @@ class FigurineControllerTest {
         verify(service).filterFigurines(any(FigurineFilter.class), eq(0), eq(2));
     }
 
+    @Test
+    void retrieveFigurines_shouldReturnNextCursor_whenMoreFigurinesAreAvailable() throws Exception {
+        FigurineResp first = createFigurineResponse(1L, "Pegasus Seiya");
+        PageRequest pageRequest = PageRequest.of(0, 1);
+
+        when(service.filterFigurines(any(FigurineFilter.class), eq(0), eq(1)))
+                .thenReturn(new CollectablePageImpl<>(List.of(first), pageRequest, 3, 0, "next-token"));
+
+        mockMvc.perform(get("/figurines").param("size", "1")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    void retrieveFigurines_shouldSeekPastCursor_whenCursorIsProvided() throws Exception {
+        FigurineResp second = createFigurineResponse(2L, "Dragon Shiryu");
+
+        when(service.filterFigurinesAfter(any(FigurineFilter.class), eq("token"), eq(2)))
+                .thenReturn(new CursorPage<>(List.of(second), 5, 4, "following-token"));
+
+        mockMvc.perform(get("/figurines").param("cursor", "token").param("size", "2")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(-1)).andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.totalElements").value(5)).andExpect(jsonPath("$.totalCollectableElements").value(4))
+                .andExpect(jsonPath("$.totalPages").value(3)).andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("following-token"));
+
+        verify(service).filterFigurinesAfter(any(FigurineFilter.class), eq("token"), eq(2));
+        verify(service, org.mockito.Mockito.never()).filterFigurines(any(FigurineFilter.class), eq(0), eq(2));
+    }
+
     @Test
     void retrieveFigurines_shouldReturn500_whenPageIsNegative() throws Exception {
         mockMvc.perform(get("/figurines").param("page", "-1").param("size", "10"))
@@ -333,6 +364,23 @@ class FigurineControllerTest {
         verify(service).retrieveSelectableFigurines(any(FigurineFilter.class));
     }
 
+    @Test
+    void suggestFigurines_shouldReturnSuggestions_whenQueryIsProvided() throws Exception {
+        when(service.suggestFigurines("peg sei", 5))
+                .thenReturn(List.of(new FigurineSuggestionResp(1L, "Pegasus Seiya")));
+
+        mockMvc.perform(get("/figurines/suggest").param("q", "peg sei").param("limit", "5"))
+                .andExpect(status().isOk()).andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].displayableName").value("Pegasus Seiya"));
+
+        verify(service).suggestFigurines("peg sei", 5);
+    }
+
+    @Test
+    void suggestFigurines_shouldReturn400_whenQueryIsMissing() throws Exception {
+        mockMvc.perform(get("/figurines/suggest")).andExpect(status().isBadRequest());
+    }
+
     @Test
     void retrieveFigurineSummaries_shouldReturnSummaries() throws Exception {
         FigurineSummaryResp summary = new FigurineSummaryResp(1L, "Pegasus Seiya",
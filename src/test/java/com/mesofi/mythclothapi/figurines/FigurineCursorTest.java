@@ -0,0 +1,97 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
+
+class FigurineCursorTest {
+
+    @Test
+    void from_shouldUseFirstReleaseDate_whenFigurineIsReleased() {
+        Figurine figurine = figurine(7L, ReleaseStatus.RELEASED);
+        figurine.setFirstReleaseDate(LocalDate.of(2024, 5, 1));
+
+        FigurineCursor cursor = FigurineCursor.from(figurine);
+
+        assertThat(cursor).isEqualTo(new FigurineCursor(ReleaseStatus.RELEASED, "2024-05-01", 7L));
+        assertThat(cursor.sortParameter()).isEqualTo(LocalDate.of(2024, 5, 1));
+    }
+
+    @Test
+    void from_shouldUseFirstAnnouncementDate_whenFigurineIsPrototype() {
+        Figurine figurine = figurine(8L, ReleaseStatus.PROTOTYPE);
+        figurine.setFirstAnnouncementDate(LocalDate.of(2023, 2, 3));
+
+        FigurineCursor cursor = FigurineCursor.from(figurine);
+
+        assertThat(cursor.sortValue()).isEqualTo("2023-02-03");
+    }
+
+    @Test
+    void from_shouldUseCreationDate_whenFigurineIsRumored() {
+        Instant creationDate = Instant.parse("2022-01-01T10:15:30.123456Z");
+        Figurine figurine = figurine(9L, ReleaseStatus.RUMORED);
+        figurine.setCreationDate(creationDate);
+
+        FigurineCursor cursor = FigurineCursor.from(figurine);
+
+        assertThat(cursor.sortParameter()).isEqualTo(creationDate);
+    }
+
+    @Test
+    void from_shouldLeaveSortValueEmpty_whenDateIsMissing() {
+        FigurineCursor cursor = FigurineCursor.from(figurine(10L, ReleaseStatus.ANNOUNCED));
+
+        assertThat(cursor.hasSortValue()).isFalse();
+        assertThat(cursor.sortParameter()).isNull();
+    }
+
+    @Test
+    void decode_shouldReturnOriginalCursor_whenTokenWasEncoded() {
+        FigurineCursor cursor = new FigurineCursor(ReleaseStatus.UNRELEASED, "2015-07-30", 42L);
+
+        assertThat(FigurineCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_shouldProduceUrlSafeToken() {
+        String token = new FigurineCursor(ReleaseStatus.RUMORED, "2022-01-01T10:15:30Z", 1L).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_shouldThrowException_whenTokenIsNotBase64() {
+        assertThatThrownBy(() -> FigurineCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void decode_shouldThrowException_whenStatusIsUnknown() {
+        String token = Base64.getUrlEncoder().encodeToString("SOLD_OUT|2024-01-01|1".getBytes());
+
+        assertThatThrownBy(() -> FigurineCursor.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_shouldThrowException_whenSortValueIsNotADate() {
+        String token = Base64.getUrlEncoder().encodeToString("RELEASED|yesterday|1".getBytes());
+
+        assertThatThrownBy(() -> FigurineCursor.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Figurine figurine(long id, ReleaseStatus status) {
+        Figurine figurine = new Figurine();
+        figurine.setId(id);
+        figurine.setCurrentReleaseStatus(status);
+        return figurine;
+    }
+}
@@ -0,0 +1,214 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.mesofi.mythclothapi.anniversaries.AnniversaryMapperImpl;
+import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
+import com.mesofi.mythclothapi.anniversaries.model.AnniversaryType;
+import com.mesofi.mythclothapi.catalogs.CatalogService;
+import com.mesofi.mythclothapi.catalogs.model.Distribution;
+import com.mesofi.mythclothapi.catalogs.model.Group;
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.catalogs.model.Series;
+import com.mesofi.mythclothapi.common.Descriptive;
+import com.mesofi.mythclothapi.distributors.model.CountryCode;
+import com.mesofi.mythclothapi.distributors.model.Distributor;
+import com.mesofi.mythclothapi.distributors.model.DistributorName;
+import com.mesofi.mythclothapi.figurinedistributions.model.CurrencyCode;
+import com.mesofi.mythclothapi.figurinedistributions.model.FigurineDistributor;
+import com.mesofi.mythclothapi.figurineevents.model.FigurineEvent;
+import com.mesofi.mythclothapi.figurineevents.model.FigurineEventType;
+import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
+import com.mesofi.mythclothapi.figurines.mapper.FigurineMapperImpl;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+
+/**
+ * Verifies that searching a page of figurines through {@link FigurineService}
+ * and mapping it to {@link FigurineResp} issues a bounded number of statements,
+ * whatever the page size.
+ *
+ * <p>
+ * The in-memory indexes are mocked and report that they are not built, so the
+ * page is read from the database. Restocks are linked to their previous releases
+ * of the same lineup by {@link FigurineService#rebuildRestockHistory(List)}, and
+ * every page holds restocks together with their previous releases, as the
+ * catalog does.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@Import({FigurineService.class, FigurineMapperImpl.class, AnniversaryMapperImpl.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class FigurineFetchPlanTest {
+
+    /**
+     * The page query, one batch per lazy association of the figurine (distributors,
+     * events, both image collections, lineup, series, group, distribution,
+     * anniversary), the previous releases and their distributors, plus the eagerly
+     * fetched distributor. Previous releases on the page are not read again.
+     */
+    private static final int MAX_STATEMENTS = 13;
+
+    @Autowired
+    FigurineService service;
+
+    @MockitoBean
+    CurrencyRegionResolver currencyRegionResolver;
+    @MockitoBean
+    CacheManager cacheManager;
+    @MockitoBean
+    CatalogService catalogService;
+    @MockitoBean
+    FigurineBitmapIndex bitmapIndex;
+    @MockitoBean
+    FigurineNameIndex nameIndex;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private final Instant now = Instant.now();
+    private LineUp pageLineUp;
+    private Series series;
+    private Group group;
+    private Distribution distribution;
+    private Anniversary anniversary;
+    private Distributor distributor;
+
+    @BeforeEach
+    void setUp() {
+        pageLineUp = persist(new LineUp(), "Myth Cloth EX");
+        series = persist(new Series(), "Saint Seiya");
+        group = persist(new Group(), "Bronze Saint");
+        distribution = persist(new Distribution(), "Tamashii Web Shop");
+
+        anniversary = new Anniversary();
+        anniversary.setName("20th Anniversary");
+        anniversary.setYear(20);
+        anniversary.setType(AnniversaryType.SAINT_CLOTH_MYTH);
+        anniversary.setCreationDate(now);
+        anniversary.setUpdateDate(now);
+        em.persist(anniversary);
+
+        distributor = new Distributor();
+        distributor.setName(DistributorName.BANDAI);
+        distributor.setCountry(CountryCode.JP);
+        distributor.setCreationDate(now);
+        distributor.setUpdateDate(now);
+        em.persist(distributor);
+
+        // Each restock is released the day after its previous release, so the
+        // pages, sorted by release date, alternate restocks and previous releases.
+        List<Figurine> previousReleases = seed(100, 0);
+        List<Figurine> restocks = seed(100, 1);
+        em.flush();
+        service.rebuildRestockHistory(restocks);
+        assertThat(restocks).allSatisfy(restock -> assertThat(restock.getPreviousRelease()).isNotNull());
+
+        // Anniversary releases are never restocks, so the anniversary is set once
+        // the restocks are linked.
+        previousReleases.forEach(figurine -> figurine.setAnniversary(anniversary));
+        restocks.forEach(figurine -> figurine.setAnniversary(anniversary));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void filterFigurines_shouldIssueConstantStatementCount_whenMappingFullPage() {
+        long smallPageStatements = countStatementsToMapPage(10);
+        long fullPageStatements = countStatementsToMapPage(100);
+
+        assertThat(fullPageStatements).isEqualTo(smallPageStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private long countStatementsToMapPage(int size) {
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        FigurineFilter filter = new FigurineFilter(null, null, pageLineUp.getId(), null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null, null);
+        List<FigurineResp> responses = service.filterFigurines(filter, 0, size).getContent();
+
+        assertThat(responses).hasSize(size).allSatisfy(response -> {
+            assertThat(response.distributors()).hasSize(1);
+            assertThat(response.events()).hasSize(1);
+            assertThat(response.officialImageUrls()).hasSize(1);
+            assertThat(response.restocks()).hasSizeLessThanOrEqualTo(1);
+            assertThat(response.anniversary()).isNotNull();
+        });
+        assertThat(responses).filteredOn(response -> !response.restocks().isEmpty()).hasSize(size / 2);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Figurine> seed(int size, int releaseOffset) {
+        List<Figurine> figurines = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Figurine figurine = new Figurine();
+            figurine.setLegacyName("Pegasus Seiya " + i + " (" + releaseOffset + ")");
+            figurine.setNormalizedName("pegasus-seiya-" + i);
+            figurine.setDisplayName("Pegasus Seiya " + i);
+            figurine.setLineup(pageLineUp);
+            figurine.setSeries(series);
+            figurine.setGroup(group);
+            figurine.setDistribution(distribution);
+            figurine.setOfficialImages(new ArrayList<>(List.of("https://images.example.com/" + i + ".jpg")));
+            figurine.setNonOfficialImages(new ArrayList<>());
+            figurine.setCreationDate(now);
+            figurine.setUpdateDate(now);
+
+            FigurineDistributor figurineDistributor = new FigurineDistributor();
+            figurineDistributor.setFigurine(figurine);
+            figurineDistributor.setDistributor(distributor);
+            figurineDistributor.setCurrency(CurrencyCode.JPY);
+            figurineDistributor.setPrice(10_000.0);
+            figurineDistributor.setReleaseDate(LocalDate.of(2020, 1, 1).plusDays(2L * i + releaseOffset));
+            figurineDistributor.setCreationDate(now);
+            figurineDistributor.setUpdateDate(now);
+            figurine.getDistributors().add(figurineDistributor);
+
+            FigurineEvent event = new FigurineEvent();
+            event.setFigurine(figurine);
+            event.setDetails("Released");
+            event.setEventDate(LocalDate.of(2020, 1, 1).plusDays(2L * i + releaseOffset));
+            event.setRegion(CountryCode.JP);
+            event.setType(FigurineEventType.RELEASE);
+            event.setCreationDate(now);
+            event.setUpdateDate(now);
+            figurine.getEvents().add(event);
+
+            em.persist(figurine);
+            figurines.add(figurine);
+        }
+        return figurines;
+    }
+
+    private <T extends Descriptive> T persist(T catalog, String description) {
+        catalog.setDescription(description);
+        catalog.setCreationDate(now);
+        catalog.setUpdateDate(now);
+        em.persist(catalog);
+        return catalog;
+    }
+}
@@ -0,0 +1,44 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class FigurineFilterTest {
+
+    @Test
+    void canonical_shouldBeEqual_whenFiltersSelectTheSameFigurines() {
+        FigurineFilter unordered = filter(List.of(3L, 1L, 3L), "", List.of("RELEASED", "ANNOUNCED"));
+        FigurineFilter ordered = filter(List.of(1L, 3L), null, List.of("ANNOUNCED", "RELEASED", "RELEASED"));
+
+        assertThat(unordered).isNotEqualTo(ordered);
+        assertThat(unordered.canonical()).isEqualTo(ordered.canonical());
+        assertThat(unordered.canonical().hashCode()).isEqualTo(ordered.canonical().hashCode());
+    }
+
+    @Test
+    void canonical_shouldReplaceEmptyValuesWithNull() {
+        FigurineFilter canonical = filter(List.of(), "", Arrays.asList((String) null)).canonical();
+
+        assertThat(canonical.figurineIds()).isNull();
+        assertThat(canonical.name()).isNull();
+        assertThat(canonical.releaseStatuses()).isNull();
+    }
+
+    @Test
+    void canonical_shouldKeepDistinctFilters_whenSelectionDiffers() {
+        FigurineFilter seiya = filter(null, "Seiya", List.of("RELEASED"));
+
+        assertThat(seiya.canonical()).isEqualTo(seiya);
+        assertThat(seiya.canonical()).isNotEqualTo(filter(null, "seiya", List.of("RELEASED")).canonical());
+        assertThat(seiya.canonical()).isNotEqualTo(filter(null, "Seiya", List.of("ANNOUNCED")).canonical());
+    }
+
+    private static FigurineFilter filter(List<Long> figurineIds, String name, List<String> releaseStatuses) {
+        return new FigurineFilter(figurineIds, name, 1L, null, null, null, null, true, null, null, null, null, null,
+                null, null, null, null, releaseStatuses, null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.mesofi.mythclothapi.figurines.model.CachedFigurine;
+
+class FigurineMatcherTest {
+
+    private static final double THRESHOLD = 0.7;
+
+    private static final List<String> SAINTS = List.of("Pegasus Seiya", "Dragon Shiryu", "Cygnus Hyoga",
+            "Andromeda Shun", "Phoenix Ikki", "Unicorn Jabu", "Aries Mu", "Taurus Aldebaran", "Gemini Saga",
+            "Gemini Kanon", "Cancer Deathmask", "Leo Aiolia", "Virgo Shaka", "Libra Dohko", "Scorpio Milo",
+            "Sagittarius Aiolos", "Capricorn Shura", "Aquarius Camus", "Pisces Aphrodite", "Wyvern Rhadamanthys",
+            "Garuda Aiacos", "Griffon Minos", "Sea Dragon Kanon", "Poseidon", "Hades", "Athena Saori Kido",
+            "Thanatos", "Hypnos", "Siegfried Dubhe Alpha", "Hagen Merak Beta");
+    private static final List<String> EDITIONS = List.of("", " ~Final Bronze Cloth~", " (God Cloth)",
+            " ~Original Color Edition~", " <Revival>", " ~Legend of Sanctuary~", " -Soul of Gold-", " 20th Anniversary",
+            " Early Bronze Cloth", " (Manga Version)");
+
+    private final List<CachedFigurine> corpus = corpus();
+    private final FigurineMatcher matcher = new FigurineMatcher(corpus);
+
+    @Test
+    void findBestMatch_shouldReturnBruteForceResult_whenMatchingRealisticListings() {
+        Random random = new Random(42);
+        List<String> queries = new ArrayList<>();
+        for (CachedFigurine figurine : corpus) {
+            queries.add(figurine.displayName());
+            queries.add(typo(figurine.displayName(), random, 1));
+            queries.add(typo(figurine.displayName(), random, 3));
+            queries.add(typo(figurine.displayName(), random, 8));
+            queries.add(figurine.displayName().toLowerCase());
+            queries.add(figurine.displayName().substring(0, figurine.displayName().length() * 3 / 4));
+        }
+        queries.addAll(List.of("", "Seiya", "Myth Cloth EX Gemini Saga", "zzzzzzzzzz", "Ab"));
+
+        for (String query : queries) {
+            assertThat(matcher.findBestMatch(query, THRESHOLD)).as(query).isEqualTo(bruteForce(query));
+        }
+    }
+
+    @Test
+    void findBestMatch_shouldPreferLastFigurine_whenSimilaritiesAreTied() {
+        FigurineMatcher tied = new FigurineMatcher(List.of(new CachedFigurine(1L, "Aries Mu"),
+                new CachedFigurine(2L, "Aries Mu"), new CachedFigurine(3L, "Taurus Aldebaran")));
+
+        assertThat(tied.findBestMatch("Aries Mu", THRESHOLD)).map(CachedFigurine::id).hasValue(2L);
+    }
+
+    @Test
+    void findBestMatch_shouldHandleMissingAndEmptyNames() {
+        FigurineMatcher withGaps = new FigurineMatcher(
+                List.of(new CachedFigurine(1L, null), new CachedFigurine(2L, ""), new CachedFigurine(3L, "Mu")));
+
+        assertThat(withGaps.findBestMatch(null, THRESHOLD)).isEmpty();
+        assertThat(withGaps.findBestMatch("", THRESHOLD)).map(CachedFigurine::id).hasValue(2L);
+        assertThat(withGaps.findBestMatch("Mu", THRESHOLD)).map(CachedFigurine::id).hasValue(3L);
+        assertThat(withGaps.findBestMatch("Shaka", THRESHOLD)).isEmpty();
+    }
+
+    @Test
+    void isBuiltFrom_shouldCompareListIdentity() {
+        assertThat(matcher.isBuiltFrom(corpus)).isTrue();
+        assertThat(matcher.isBuiltFrom(List.copyOf(corpus))).isFalse();
+    }
+
+    /**
+     * Scores every figurine, as {@code FigurineService} did before the matcher.
+     */
+    private Optional<CachedFigurine> bruteForce(String query) {
+        double bestSimilarity = THRESHOLD;
+        CachedFigurine best = null;
+        for (CachedFigurine figurine : corpus) {
+            double similarity = FigurineSimilarityUtils.calculateSimilarity(figurine.displayName(), query);
+            if (similarity >= bestSimilarity) {
+                bestSimilarity = similarity;
+                best = figurine;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static List<CachedFigurine> corpus() {
+        List<CachedFigurine> figurines = new ArrayList<>();
+        for (String saint : SAINTS) {
+            for (String edition : EDITIONS) {
+                figurines.add(new CachedFigurine((long) figurines.size() + 1, saint + edition));
+            }
+        }
+        // the same name may be listed under several releases
+        figurines.add(new CachedFigurine((long) figurines.size() + 1, "Pegasus Seiya"));
+        return figurines;
+    }
+
+    private static String typo(String name, Random random, int edits) {
+        StringBuilder builder = new StringBuilder(name);
+        for (int i = 0; i < edits && builder.length() > 1; i++) {
+            int position = random.nextInt(builder.length());
+            switch (random.nextInt(3)) {
+                case 0 -> builder.deleteCharAt(position);
+                case 1 -> builder.insert(position, (char) ('a' + random.nextInt(26)));
+                default -> builder.setCharAt(position, (char) ('a' + random.nextInt(26)));
+            }
+        }
+        return builder.toString();
+    }
+}
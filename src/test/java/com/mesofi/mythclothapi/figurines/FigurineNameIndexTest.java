@@ -0,0 +1,112 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mesofi.mythclothapi.figurines.dto.FigurineSuggestionResp;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineNameProjection;
+
+class FigurineNameIndexTest {
+
+    private final FigurineRepository repository = mock(FigurineRepository.class);
+    private final FigurineNameIndex index = new FigurineNameIndex(repository);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(index, "maxFilterMatches", 1_000);
+        when(repository.findAllNames()).thenReturn(List.of(names(1L, "pegasus-seiya", "Pegasus Seiya"),
+                names(2L, "pegasus-seiya", "Pegasus Seiya (God Cloth)"), names(3L, "seiya", "Seiya"),
+                names(4L, "dragon-shiryu", "Dragon Shiryu"), names(5L, "sea-dragon-kanon", "Sea Dragon Kanon")));
+        index.rebuild();
+    }
+
+    @Test
+    void suggest_shouldRankExactAndLeadingMatchesFirst_whenSeveralFigurinesMatch() {
+        List<FigurineSuggestionResp> suggestions = index.suggest("Seiya", 10);
+
+        assertThat(suggestions).extracting(FigurineSuggestionResp::id).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void suggest_shouldMatchEveryWordAsPrefix_whenQueryHasSeveralWords() {
+        assertThat(index.suggest("dra shi", 10)).extracting(FigurineSuggestionResp::id).containsExactly(4L);
+        assertThat(index.suggest("d", 10)).extracting(FigurineSuggestionResp::id).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void suggest_shouldHonorLimit() {
+        assertThat(index.suggest("pe", 1)).extracting(FigurineSuggestionResp::id).containsExactly(1L);
+    }
+
+    @Test
+    void suggest_shouldReturnEmpty_whenQueryHasNoWords() {
+        assertThat(index.suggest(" - ", 10)).isEmpty();
+    }
+
+    @Test
+    void put_shouldReplacePreviousNames_whenFigurineIsRenamed() {
+        index.put(names(4L, "dragon-shiryu-oce", "Dragon Shiryu OCE"));
+        index.put(names(6L, "phoenix-ikki", "Phoenix Ikki"));
+
+        assertThat(index.suggest("oce", 10)).extracting(FigurineSuggestionResp::id).containsExactly(4L);
+        assertThat(index.suggest("phoe", 10)).extracting(FigurineSuggestionResp::id).containsExactly(6L);
+    }
+
+    @Test
+    void remove_shouldDropFigurine_whenFigurineIsDeleted() {
+        index.remove(3L);
+
+        assertThat(index.suggest("seiya", 10)).extracting(FigurineSuggestionResp::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void findIdsContaining_shouldMatchSubstringOfNormalizedName() {
+        assertThat(index.findIdsContaining("EIYA")).hasValueSatisfying(ids -> assertThat(ids)
+                .containsExactlyInAnyOrder(1L, 2L, 3L));
+        assertThat(index.findIdsContaining("sus-sei")).hasValueSatisfying(ids -> assertThat(ids)
+                .containsExactlyInAnyOrder(1L, 2L));
+        assertThat(index.findIdsContaining("on")).hasValueSatisfying(ids -> assertThat(ids)
+                .containsExactlyInAnyOrder(4L, 5L));
+        assertThat(index.findIdsContaining("cloth")).contains(List.of());
+    }
+
+    @Test
+    void findIdsContaining_shouldReturnEmpty_whenNameContainsLikeWildcards() {
+        assertThat(index.findIdsContaining("sei%")).isEmpty();
+    }
+
+    @Test
+    void findIdsContaining_shouldReturnEmpty_whenTooManyFigurinesMatch() {
+        ReflectionTestUtils.setField(index, "maxFilterMatches", 2);
+
+        assertThat(index.findIdsContaining("a")).isEqualTo(Optional.empty());
+    }
+
+    private FigurineNameProjection names(Long id, String normalizedName, String displayName) {
+        return new FigurineNameProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNormalizedName() {
+                return normalizedName;
+            }
+
+            @Override
+            public String getDisplayName() {
+                return displayName;
+            }
+        };
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.persistence.EntityManager;
@@ -18,6 +19,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.mesofi.mythclothapi.catalogs.model.LineUp;
@@ -33,6 +35,10 @@ import com.mesofi.mythclothapi.figurinedistributions.model.FigurineDistributor;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepositoryImpl;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineSummaryEntry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -43,6 +49,8 @@ public class FigurineRepositoryTest {
     @Autowired
     FigurineRepository repository;
     @Autowired
+    FigurineRepositoryImpl repositoryImpl;
+    @Autowired
     LineUpRepository lineUpRepository;
     @Autowired
     SeriesRepository seriesRepository;
@@ -321,6 +329,326 @@ public class FigurineRepositoryTest {
         assertThat(page.getContent()).isEmpty();
     }
 
+    @Test
+    void search_shouldReturnTotalAndCollectableCounts_whenPageIsPartial() {
+        for (int i = 0; i < 7; i++) {
+            repository.saveAndFlush(createValidFigurine("Counted" + i));
+        }
+        em.createNativeQuery("UPDATE figurines SET current_release_status = 'RELEASED' WHERE legacy_name IN "
+                + "('Counted0', 'Counted1', 'Counted2')").executeUpdate();
+        em.clear();
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        var page = repository.findPaginated(filter, PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getTotalCollectables()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void search_shouldStillReturnCounts_whenPageIsBeyondLastResult() {
+        for (int i = 0; i < 3; i++) {
+            repository.saveAndFlush(createValidFigurine("Beyond" + i));
+        }
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        var page = repository.findPaginated(filter, PageRequest.of(5, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalCollectables()).isZero();
+    }
+
+    // ─── Cursor pagination ────────────────────────────────────────────────────
+
+    @Test
+    void findAfter_shouldFollowDefaultOrdering_whenWalkingAllCursors() {
+        for (int i = 0; i < 9; i++) {
+            repository.saveAndFlush(createValidFigurine("Cursor" + i));
+        }
+        // Mix statuses and dates so every ordering branch is crossed.
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'RELEASED', first_release_date = DATE '2020-01-01'
+                WHERE legacy_name IN ('Cursor0', 'Cursor1')""").executeUpdate();
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'ANNOUNCED', first_release_date = DATE '2099-01-01'
+                WHERE legacy_name = 'Cursor2'""").executeUpdate();
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'PROTOTYPE', first_announcement_date = DATE '2024-01-01'
+                WHERE legacy_name IN ('Cursor3', 'Cursor4')""").executeUpdate();
+        em.clear();
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        List<Long> expected = repository.findAll(filter).stream().map(Figurine::getId).toList();
+
+        var firstPage = repository.findPaginated(filter, PageRequest.of(0, 2));
+        List<Long> walked = new ArrayList<>(firstPage.getContent().stream().map(Figurine::getId).toList());
+        String cursor = firstPage.getNextCursor();
+        while (cursor != null) {
+            var slice = repository.findAfter(filter, FigurineCursor.decode(cursor), 2);
+            assertThat(slice.totalElements()).isEqualTo(expected.size());
+            walked.addAll(slice.content().stream().map(Figurine::getId).toList());
+            cursor = slice.nextCursor();
+        }
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findAfter_shouldReturnEveryFigurineOnce_whenDatedAndUndatedFigurinesAreMixed() {
+        for (int i = 0; i < 10; i++) {
+            repository.saveAndFlush(createValidFigurine("Undated" + i));
+        }
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'RELEASED', first_release_date = DATE '2020-01-01'
+                WHERE legacy_name IN ('Undated0', 'Undated2')""").executeUpdate();
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'RELEASED', first_release_date = NULL
+                WHERE legacy_name IN ('Undated1', 'Undated3', 'Undated4')""").executeUpdate();
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'PROTOTYPE', first_announcement_date = NULL
+                WHERE legacy_name IN ('Undated5', 'Undated6')""").executeUpdate();
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'PROTOTYPE', first_announcement_date = DATE '2024-01-01'
+                WHERE legacy_name = 'Undated7'""").executeUpdate();
+        em.clear();
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        List<Figurine> all = repository.findAll(filter);
+        List<Long> expected = all.stream().map(Figurine::getId).toList();
+
+        for (int size = 1; size <= 3; size++) {
+            var firstPage = repository.findPaginated(filter, PageRequest.of(0, size));
+            List<Long> walked = new ArrayList<>(firstPage.getContent().stream().map(Figurine::getId).toList());
+            String cursor = firstPage.getNextCursor();
+            while (cursor != null) {
+                var slice = repository.findAfter(filter, FigurineCursor.decode(cursor), size);
+                walked.addAll(slice.content().stream().map(Figurine::getId).toList());
+                cursor = slice.nextCursor();
+            }
+
+            assertThat(walked).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+        }
+        assertThat(all).extracting(Figurine::getLegacyName).startsWith("Undated0", "Undated2", "Undated1",
+                "Undated3", "Undated4", "Undated7", "Undated5", "Undated6");
+    }
+
+    @Test
+    void findPaginated_shouldNotReturnNextCursor_whenPageIsTheLast() {
+        repository.saveAndFlush(createValidFigurine("OnlyOne"));
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        var page = repository.findPaginated(filter, PageRequest.of(0, 10));
+
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    // ─── Collectable projections ─────────────────────────────────────────────────
+
+    @Test
+    void findCollectableSummaries_shouldMatchCollectableEntities_whenStatusesAreMixed() {
+        Figurine withImages = createValidFigurine("Summary0");
+        withImages.setOfficialImages(new ArrayList<>(List.of("first.jpg", "second.jpg")));
+        repository.saveAndFlush(withImages);
+        for (int i = 1; i < 6; i++) {
+            repository.saveAndFlush(createValidFigurine("Summary" + i));
+        }
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'RELEASED', first_release_date = DATE '2020-01-01'
+                WHERE legacy_name IN ('Summary0', 'Summary1')""").executeUpdate();
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'ANNOUNCED', first_release_date = DATE '2099-01-01'
+                WHERE legacy_name = 'Summary2'""").executeUpdate();
+        em.clear();
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+        List<Long> expected = repository.findAll(filter).stream()
+                .filter(figurine -> figurine.getCurrentReleaseStatus() == ReleaseStatus.ANNOUNCED
+                        || figurine.getCurrentReleaseStatus() == ReleaseStatus.RELEASED)
+                .map(Figurine::getId).toList();
+
+        var summaries = repository.findCollectableSummaries(filter);
+
+        assertThat(expected).hasSize(3);
+        assertThat(summaries).extracting(FigurineSummaryEntry::id).containsExactlyElementsOf(expected);
+        assertThat(repository.findCollectableIds(filter)).containsExactlyElementsOf(expected);
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.displayName()).isEqualTo("Pegasus Seiya EX");
+            assertThat(summary.lineUpId()).isEqualTo(savedLineUp.getId());
+            assertThat(summary.lineUpDescription()).isEqualTo("Myth Cloth EX");
+        });
+        assertThat(summaries).filteredOn(summary -> summary.id() == withImages.getId())
+                .extracting(FigurineSummaryEntry::officialImageUrl).containsExactly("first.jpg");
+        assertThat(summaries).filteredOn(summary -> summary.id() != withImages.getId())
+                .extracting(FigurineSummaryEntry::officialImageUrl).containsOnlyNulls();
+    }
+
+    @Test
+    void findCollectableSummaries_shouldReturnFirstOfficialImageByPosition() {
+        Figurine withImages = createValidFigurine("Summary0");
+        withImages.setOfficialImages(new ArrayList<>(List.of("zeta.jpg", "alpha.jpg")));
+        repository.saveAndFlush(withImages);
+        em.createNativeQuery("""
+                UPDATE figurines SET current_release_status = 'RELEASED', first_release_date = DATE '2020-01-01'
+                WHERE legacy_name = 'Summary0'""").executeUpdate();
+        em.clear();
+
+        var filter = new FigurineFilter(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+
+        assertThat(repository.findCollectableSummaries(filter)).extracting(FigurineSummaryEntry::officialImageUrl)
+                .containsExactly("zeta.jpg");
+    }
+
+    @Test
+    void findCollectableIds_shouldApplyFilter() {
+        repository.saveAndFlush(createValidFigurine("Selectable"));
+        em.createNativeQuery("UPDATE figurines SET current_release_status = 'RELEASED' WHERE legacy_name = 'Selectable'")
+                .executeUpdate();
+        em.clear();
+
+        var matching = new FigurineFilter(null, "seiya", null, null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null);
+        var notMatching = new FigurineFilter(null, "shiryu", null, null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null);
+
+        assertThat(repository.findCollectableIds(matching)).hasSize(1);
+        assertThat(repository.findCollectableIds(notMatching)).isEmpty();
+    }
+
+    // ─── Chunked scans ──────────────────────────────────────────────────────────
+
+    @Test
+    void scan_shouldDeliverFilteredFigurinesInDetachedChunks() {
+        for (int i = 0; i < 5; i++) {
+            repository.saveAndFlush(createValidFigurine("Scanned" + i));
+        }
+        em.clear();
+        ReflectionTestUtils.setField(repositoryImpl, "scanChunkSize", 2);
+
+        var filter = new FigurineFilter(null, null, savedLineUp.getId(), null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null);
+        List<Long> expected = repository.findAll(filter).stream().map(Figurine::getId).toList();
+        em.clear();
+
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Long> scannedIds = new ArrayList<>();
+        List<Figurine> scanned = new ArrayList<>();
+        long count = repository.scan(filter, chunk -> {
+            chunkSizes.add(chunk.size());
+            chunk.forEach(figurine -> {
+                scannedIds.add(figurine.getId());
+                assertThat(em.contains(figurine)).isTrue();
+            });
+            scanned.addAll(chunk);
+        });
+
+        assertThat(count).isEqualTo(5);
+        assertThat(chunkSizes).containsExactly(2, 2, 1);
+        assertThat(scannedIds).containsExactlyElementsOf(expected);
+        assertThat(scanned).noneMatch(em::contains);
+    }
+
+    // ─── SQL templates ──────────────────────────────────────────────────────────
+
+    @Test
+    void findAll_shouldReuseSqlTemplate_whenOnlyFilterValuesChange() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        repositoryImpl.bindTo(registry);
+
+        var oce = new FigurineFilter(null, null, savedLineUp.getId(), null, null, null, null, null, true, null, null,
+                null, null, null, null, null, null, null, null);
+        var notOce = new FigurineFilter(null, null, savedLineUp.getId() + 1, null, null, null, null, null, false, null,
+                null, null, null, null, null, null, null, null, null);
+        var withName = new FigurineFilter(null, "seiya", savedLineUp.getId(), null, null, null, null, null, true, null,
+                null, null, null, null, null, null, null, null, null);
+
+        repository.findAll(oce);
+        double hits = templateCacheGets(registry, "hit");
+        double misses = templateCacheGets(registry, "miss");
+
+        repository.findAll(notOce);
+        assertThat(templateCacheGets(registry, "hit")).isEqualTo(hits + 1);
+        assertThat(templateCacheGets(registry, "miss")).isEqualTo(misses);
+
+        repository.findAll(withName);
+        assertThat(templateCacheGets(registry, "miss")).isEqualTo(misses + 1);
+        assertThat(registry.get(FigurineRepositoryImpl.SQL_TEMPLATE_CACHE + ".hit-ratio").gauge().value())
+                .isBetween(0.0, 1.0);
+    }
+
+    private double templateCacheGets(SimpleMeterRegistry registry, String result) {
+        return registry.get("cache.gets").tag("cache", FigurineRepositoryImpl.SQL_TEMPLATE_CACHE)
+                .tag("result", result).functionCounter().count();
+    }
+
+    // ─── First distributor columns ──────────────────────────────────────────────
+
+    @Test
+    void save_shouldCopyFirstDistributorColumns_whenFigurineIsPersisted() {
+        // Arrange
+        Figurine figurine = createValidFigurine("FirstDistributor");
+        FigurineDistributor distributor = figurine.getDistributors().getFirst();
+        distributor.setPrice(12000.0);
+        distributor.setAnnouncementDate(LocalDate.of(2024, 1, 10));
+        distributor.setReleaseDate(LocalDate.of(2024, 6, 20));
+
+        // Act
+        Figurine saved = repository.saveAndFlush(figurine);
+
+        // Assert
+        assertThat(saved.getFirstReleaseDate()).isEqualTo(LocalDate.of(2024, 6, 20));
+        assertThat(saved.getFirstAnnouncementDate()).isEqualTo(LocalDate.of(2024, 1, 10));
+        assertThat(saved.getFirstPrice()).isEqualTo(12000.0);
+        assertThat(saved.getFirstCurrency()).isEqualTo(CurrencyCode.JPY);
+    }
+
+    @Test
+    void refreshFirstDistributorColumns_shouldBackfillColumns_whenDistributorChangedDirectly() {
+        // Arrange
+        Figurine saved = repository.saveAndFlush(createValidFigurine("Backfill"));
+        em.createNativeQuery("UPDATE figurine_distributor SET release_date = ?, price = ? WHERE figurine_id = ?")
+                .setParameter(1, LocalDate.of(2020, 3, 1)).setParameter(2, 9800.0).setParameter(3, saved.getId())
+                .executeUpdate();
+
+        // Act
+        int updated = repository.refreshFirstDistributorColumns();
+        em.clear();
+
+        // Assert
+        Figurine reloaded = repository.findById(saved.getId()).orElseThrow();
+        assertThat(updated).isPositive();
+        assertThat(reloaded.getFirstReleaseDate()).isEqualTo(LocalDate.of(2020, 3, 1));
+        assertThat(reloaded.getFirstPrice()).isEqualTo(9800.0);
+        assertThat(reloaded.getFirstCurrency()).isEqualTo(CurrencyCode.JPY);
+    }
+
+    @Test
+    void refreshFirstDistributorColumns_shouldUpdateNothing_whenColumnsAreUpToDate() {
+        // Arrange
+        Figurine figurine = createValidFigurine("UpToDate");
+        figurine.getDistributors().getFirst().setPrice(12000.0);
+        repository.saveAndFlush(figurine);
+        repository.saveAndFlush(createValidFigurine("UpToDateEmpty"));
+        em.createNativeQuery("DELETE FROM figurine_distributor WHERE figurine_id = "
+                + "(SELECT id FROM figurines WHERE legacy_name = 'UpToDateEmpty')").executeUpdate();
+        repository.refreshFirstDistributorColumns();
+
+        // Act
+        int updated = repository.refreshFirstDistributorColumns();
+
+        // Assert
+        assertThat(updated).isZero();
+    }
+
     // ─── Helper ───────────────────────────────────────────────────────────────
 
     private Figurine createValidFigurine(String legacyName) {
@@ -31,14 +31,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import com.mesofi.mythclothapi.anniversaries.model.Anniversary;
 import com.mesofi.mythclothapi.catalogs.CatalogService;
 import com.mesofi.mythclothapi.catalogs.dto.CatalogResp;
 import com.mesofi.mythclothapi.catalogs.model.CatalogContext;
+import com.mesofi.mythclothapi.catalogs.model.Distribution;
 import com.mesofi.mythclothapi.catalogs.model.LineUp;
 import com.mesofi.mythclothapi.catalogs.repository.LineUpRepository;
 import com.mesofi.mythclothapi.collectors.Collector;
@@ -55,20 +59,28 @@ import com.mesofi.mythclothapi.figurines.dto.DistributorReq;
 import com.mesofi.mythclothapi.figurines.dto.FigurineReq;
 import com.mesofi.mythclothapi.figurines.dto.FigurineResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineRestockResp;
+import com.mesofi.mythclothapi.figurines.dto.FigurineSuggestionResp;
 import com.mesofi.mythclothapi.figurines.dto.FigurineSummaryResp;
 import com.mesofi.mythclothapi.figurines.mapper.FigurineMapper;
 import com.mesofi.mythclothapi.figurines.model.CachedFigurine;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.model.ReleaseStatus;
 import com.mesofi.mythclothapi.figurines.repository.CollectablePageImpl;
+import com.mesofi.mythclothapi.figurines.repository.CursorPage;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.projection.FigurineSummaryEntry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ActiveProfiles("test")
+@RecordApplicationEvents
 @SpringBootTest(classes = {FigurineService.class, MethodValidationTestConfig.class})
 public class FigurineServiceTest {
 
     @Autowired
     private FigurineService figurineService;
+    @Autowired
+    private ApplicationEvents applicationEvents;
 
     @MockitoBean
     private FigurineMapper figurineMapper;
@@ -88,6 +100,10 @@ public class FigurineServiceTest {
     private Cache figurineCache;
     @MockitoBean
     private CatalogService catalogService;
+    @MockitoBean
+    private FigurineBitmapIndex bitmapIndex;
+    @MockitoBean
+    private FigurineNameIndex nameIndex;
 
     @Test
     void createFigurine_shouldCreateDefaultEventsAndLinkPreviousRelease_whenFigurineIsReleased() {
@@ -255,6 +271,85 @@ public class FigurineServiceTest {
         verify(figurineRepository).findPaginated(any(), any());
     }
 
+    @Test
+    void filterFigurines_shouldLoadFigurinesInIndexOrder_whenBitmapIndexServesSearch() {
+        Figurine first = figurine(1L, "seiya", "Seiya", RELEASED);
+        Figurine second = figurine(2L, "hyoga", "Hyoga", ANNOUNCED);
+
+        when(bitmapIndex.search(any(), eq(0), eq(2)))
+                .thenReturn(Optional.of(new FigurineIdPage(List.of(2L, 1L), 5, 4)));
+        when(figurineRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(first, second));
+        when(figurineMapper.toFigurineResp(any(Figurine.class), any(), any()))
+                .thenAnswer(invocation -> figurineResponse(invocation.getArgument(0), List.of()));
+
+        CollectablePageImpl<FigurineResp> response = figurineService.filterFigurines(emptyFilter(), 0, 2);
+
+        assertThat(response.getContent()).extracting(FigurineResp::id).containsExactly(2L, 1L);
+        assertThat(response.getTotalElements()).isEqualTo(5);
+        assertThat(response.getTotalCollectables()).isEqualTo(4);
+        assertThat(response.getNextCursor()).isNotNull();
+        verify(figurineRepository, never()).findPaginated(any(), any());
+    }
+
+    @Test
+    void filterFigurines_shouldReplaceNameWithMatchingIds_whenNameIndexResolvesName() {
+        FigurineFilter filter = new FigurineFilter(List.of(), "seiya", null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null);
+        when(nameIndex.findIdsContaining("seiya")).thenReturn(Optional.of(List.of(1L, 5L)));
+        when(figurineRepository.findPaginated(any(), any()))
+                .thenReturn(new CollectablePageImpl<>(List.of(), PageRequest.of(0, 2), 0, 0));
+
+        figurineService.filterFigurines(filter, 0, 2);
+
+        verify(figurineRepository).findPaginated(
+                argThat(narrowed -> narrowed.name() == null && narrowed.figurineIds().equals(List.of(1L, 5L))),
+                any());
+    }
+
+    @Test
+    void filterFigurines_shouldReturnEmptyPageWithoutQuerying_whenNoNameMatches() {
+        FigurineFilter filter = new FigurineFilter(List.of(), "xyz", null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null);
+        when(nameIndex.findIdsContaining("xyz")).thenReturn(Optional.of(List.of()));
+
+        CollectablePageImpl<FigurineResp> response = figurineService.filterFigurines(filter, 0, 2);
+
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.getTotalElements()).isZero();
+        verify(figurineRepository, never()).findPaginated(any(), any());
+    }
+
+    @Test
+    void suggestFigurines_shouldDelegateToNameIndex() {
+        when(nameIndex.suggest("seiya", 3)).thenReturn(List.of(new FigurineSuggestionResp(1L, "Pegasus Seiya")));
+
+        assertThat(figurineService.suggestFigurines("seiya", 3)).extracting(FigurineSuggestionResp::id)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void filterFigurinesAfter_shouldDecodeCursorAndMapSlice_whenCursorIsValid() {
+        Figurine next = figurine(3L, "shun", "Shun", RELEASED);
+        FigurineCursor cursor = new FigurineCursor(RELEASED, "2024-01-01", 2L);
+
+        when(figurineRepository.findAfter(any(), eq(cursor), eq(2)))
+                .thenReturn(new CursorPage<>(List.of(next), 3, 3, "following"));
+        when(figurineMapper.toFigurineResp(any(Figurine.class), any(), any()))
+                .thenAnswer(invocation -> figurineResponse(invocation.getArgument(0), List.of()));
+
+        CursorPage<FigurineResp> response = figurineService.filterFigurinesAfter(emptyFilter(), cursor.encode(), 2);
+
+        assertThat(response.content()).extracting(FigurineResp::id).containsExactly(3L);
+        assertThat(response.totalElements()).isEqualTo(3);
+        assertThat(response.nextCursor()).isEqualTo("following");
+    }
+
+    @Test
+    void filterFigurinesAfter_shouldThrowException_whenCursorIsMalformed() {
+        assertThatThrownBy(() -> figurineService.filterFigurinesAfter(emptyFilter(), "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Invalid cursor");
+    }
+
     @Test
     void retrieveCollectedFigurineIds_shouldPreferTheMatchingCollectionEvenWhenOthersAreListedFirst() {
         Collector collector = new Collector();
@@ -319,31 +414,37 @@ public class FigurineServiceTest {
     }
 
     @Test
-    void retrieveFigurineSummaries_shouldReturnOnlyReleasedOrAnnouncedFigurines() {
-        Figurine released = figurine(1L, "seiya", "Seiya", RELEASED);
-        Figurine announced = figurine(2L, "hyoga", "Hyoga", ANNOUNCED);
-        Figurine hidden = figurine(3L, "shun", "Shun", ReleaseStatus.UNRELEASED);
+    void retrieveFigurineSummaries_shouldMapCollectableSummaryEntries() {
+        FigurineSummaryEntry seiya = new FigurineSummaryEntry(1L, "Seiya", 7L, "Myth Cloth EX", "seiya.jpg");
+        FigurineSummaryEntry hyoga = new FigurineSummaryEntry(2L, "Hyoga", 7L, "Myth Cloth EX", null);
 
-        when(figurineRepository.findAll(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class)))
-                .thenReturn(List.of(released, announced, hidden));
-        when(figurineMapper.toFigurineSummaryResp(any(Figurine.class)))
+        when(figurineRepository.findCollectableSummaries(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class)))
+                .thenReturn(List.of(seiya, hyoga));
+        when(figurineMapper.toFigurineSummaryResp(any(FigurineSummaryEntry.class)))
                 .thenAnswer(invocation -> summaryResponse(invocation.getArgument(0)));
 
         List<FigurineSummaryResp> response = figurineService.retrieveFigurineSummaries(emptyFilter());
 
         assertThat(response).extracting(FigurineSummaryResp::id).containsExactly(1L, 2L);
+        verify(figurineRepository, never()).findAll(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class));
     }
 
     @Test
-    void retrieveSelectableFigurines_shouldReturnOnlyReleasedOrAnnouncedIds() {
-        Figurine released = figurine(1L, "seiya", "Seiya", RELEASED);
-        Figurine announced = figurine(2L, "hyoga", "Hyoga", ANNOUNCED);
-        Figurine hidden = figurine(3L, "shun", "Shun", ReleaseStatus.RUMORED);
-
-        when(figurineRepository.findAll(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class)))
-                .thenReturn(List.of(released, announced, hidden));
+    void retrieveSelectableFigurines_shouldReturnCollectableIds_whenBitmapIndexIsNotBuilt() {
+        when(figurineRepository.findCollectableIds(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class)))
+                .thenReturn(List.of(1L, 2L));
 
         assertThat(figurineService.retrieveSelectableFigurines(emptyFilter())).containsExactly(1L, 2L);
+        verify(figurineRepository, never()).findAll(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class));
+    }
+
+    @Test
+    void retrieveSelectableFigurines_shouldReturnIndexedIds_whenBitmapIndexServesSearch() {
+        when(bitmapIndex.findCollectableIds(any())).thenReturn(Optional.of(List.of(4L, 3L)));
+
+        assertThat(figurineService.retrieveSelectableFigurines(emptyFilter())).containsExactly(4L, 3L);
+        verify(figurineRepository, never())
+                .findCollectableIds(any(com.mesofi.mythclothapi.figurines.FigurineFilter.class));
     }
 
     @Test
@@ -379,7 +480,6 @@ public class FigurineServiceTest {
         when(figurineMapper.toFigurine(eq(request), any())).thenReturn(incoming);
         when(figurineRepository.saveAndFlush(any(Figurine.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(figurineRepository.clearPreviousReleases()).thenReturn(1);
-        when(figurineRepository.findAll()).thenReturn(List.of(existing, previousRelease));
         when(figurineRepository.findReleasedOrAnnouncedOrderByFirstReleaseDateDesc())
                 .thenReturn(List.of(existing, previousRelease));
         when(figurineMapper.toFigurineResp(any(Figurine.class), any(), any())).thenAnswer(invocation -> {
@@ -394,7 +494,7 @@ public class FigurineServiceTest {
 
         assertThat(response.id()).isEqualTo(44L);
         verify(figurineRepository).clearPreviousReleases();
-        verify(figurineRepository).findAll();
+        verify(figurineRepository, never()).findAll();
         verify(figurineRepository).findReleasedOrAnnouncedOrderByFirstReleaseDateDesc();
     }
 
@@ -423,6 +523,45 @@ public class FigurineServiceTest {
         verify(figurineRepository, never()).findReleasedOrAnnouncedOrderByFirstReleaseDateDesc();
     }
 
+    @Test
+    void updateFigurine_shouldEvictPagesFilteredByDistribution_whenDistributionChanges() {
+        Figurine existing = figurine(46L, "seiya", "Seiya", ReleaseStatus.RUMORED);
+        existing.setDistribution(distribution(1L));
+        Figurine incoming = figurine(46L, "seiya", "Seiya", ReleaseStatus.RUMORED);
+        incoming.setDistribution(distribution(2L));
+
+        FigurineReq request = figurineRequest();
+        when(figurineRepository.findById(46L)).thenReturn(Optional.of(existing));
+        when(catalogService.retrieveCatalogContext()).thenReturn(emptyCatalogContext());
+        when(figurineMapper.toFigurine(eq(request), any())).thenReturn(incoming);
+        doAnswer(invocation -> {
+            Figurine target = invocation.getArgument(0);
+            Figurine source = invocation.getArgument(1);
+            target.setDistribution(source.getDistribution());
+            return null;
+        }).when(figurineMapper).updateFigurine(any(Figurine.class), any(Figurine.class));
+        when(figurineRepository.saveAndFlush(any(Figurine.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(figurineMapper.toFigurineResp(any(Figurine.class), any(), any()))
+                .thenAnswer(invocation -> figurineResponse(invocation.getArgument(0), List.of()));
+
+        figurineService.updateFigurine(46L, request);
+
+        FigurineFilter oldDistribution = distributionFilter(1L);
+        FigurineFilter newDistribution = distributionFilter(2L);
+        CaffeineCacheManager caches = new CaffeineCacheManager();
+        Cache figurines = caches.getCache(FigurineService.FIGURINE_CACHE);
+        figurines.put(List.of(oldDistribution, 0, 10), summaryPage(46L));
+        figurines.put(List.of(newDistribution, 0, 10), summaryPage(47L));
+
+        FigurineCatalogChangedEvent event = applicationEvents.stream(FigurineCatalogChangedEvent.class)
+                .reduce((first, second) -> second).orElseThrow();
+        new FigurineCacheInvalidator(caches, lineUpRepository, new SimpleMeterRegistry()).onCatalogChanged(event);
+
+        assertThat(event.listingsChanged()).isTrue();
+        assertThat(figurines.get(List.of(oldDistribution, 0, 10))).isNull();
+        assertThat(figurines.get(List.of(newDistribution, 0, 10))).isNull();
+    }
+
     @Test
     void initializeFigurineForUpdate_shouldUpdateExistingEventsAndDistributors_whenIncomingDataChanges() {
         Figurine existing = figurine(7L, "seiya", "Seiya", RELEASED);
@@ -466,6 +605,10 @@ public class FigurineServiceTest {
         assertThat(existing.getEvents()).extracting(FigurineEvent::getEventDate)
                 .containsExactly(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 2, 2), LocalDate.of(2024, 3, 2));
         assertThat(existing.getEvents()).allSatisfy(event -> assertThat(event.getFigurine()).isSameAs(existing));
+        assertThat(existing.getFirstReleaseDate()).isEqualTo(LocalDate.of(2024, 3, 2));
+        assertThat(existing.getFirstAnnouncementDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(existing.getFirstPrice()).isEqualTo(1200.0);
+        assertThat(existing.getFirstCurrency()).isEqualTo(CurrencyCode.JPY);
     }
 
     @Test
@@ -621,6 +764,26 @@ public class FigurineServiceTest {
         assertThat(current.getPreviousRelease()).isSameAs(previous);
     }
 
+    @Test
+    void rebuildRestockHistory_shouldLinkWholeCatalogFromRestockIndex() {
+        Figurine current = figurine(20L, "seiya", "Seiya", RELEASED);
+        current.setDistributors(new ArrayList<>(List.of(distributor(CurrencyCode.JPY, 1200.0, LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1), true))));
+
+        Figurine previous = figurine(19L, "seiya", "Seiya", RELEASED);
+        previous.setDistributors(new ArrayList<>(List.of(distributor(CurrencyCode.JPY, 900.0, LocalDate.of(2023, 1, 1),
+                LocalDate.of(2023, 2, 1), LocalDate.of(2023, 3, 1), true))));
+
+        when(figurineRepository.findReleasedOrAnnouncedOrderByFirstReleaseDateDesc())
+                .thenReturn(List.of(current, previous));
+
+        figurineService.rebuildRestockHistory();
+
+        assertThat(current.getPreviousRelease()).isSameAs(previous);
+        assertThat(previous.getPreviousRelease()).isNull();
+        verify(figurineRepository, never()).findAll();
+    }
+
     @Test
     void deleteFigurine_shouldThrowException_whenFigurineDoesNotExist() {
         when(figurineRepository.findById(9L)).thenReturn(Optional.empty());
@@ -811,6 +974,22 @@ public class FigurineServiceTest {
         return series;
     }
 
+    private Distribution distribution(Long id) {
+        Distribution distribution = new Distribution();
+        distribution.setId(id);
+        distribution.setDescription("Distribution " + id);
+        return distribution;
+    }
+
+    private FigurineFilter distributionFilter(Long distributionId) {
+        return new FigurineFilter(null, null, null, null, null, distributionId, null, null, null, null, null, null,
+                null, null, null, null, null, null, null);
+    }
+
+    private CursorPage<FigurineSummaryResp> summaryPage(long id) {
+        return new CursorPage<>(List.of(new FigurineSummaryResp(id, "Figurine " + id, null, null)), 1, 1, null);
+    }
+
     private com.mesofi.mythclothapi.catalogs.model.Group group(String description) {
         com.mesofi.mythclothapi.catalogs.model.Group group = new com.mesofi.mythclothapi.catalogs.model.Group();
         group.setDescription(description);
@@ -832,9 +1011,9 @@ public class FigurineServiceTest {
                 restocks, null, null);
     }
 
-    private FigurineSummaryResp summaryResponse(Figurine figurine) {
-        return new FigurineSummaryResp(figurine.getId(), figurine.getDisplayName(),
-                new CatalogResp(1L, "Myth Cloth EX"), "official.jpg");
+    private FigurineSummaryResp summaryResponse(FigurineSummaryEntry entry) {
+        return new FigurineSummaryResp(entry.id(), entry.displayName(),
+                new CatalogResp(entry.lineUpId(), entry.lineUpDescription()), entry.officialImageUrl());
     }
 
     private com.mesofi.mythclothapi.figurines.FigurineFilter emptyFilter() {
@@ -2,6 +2,11 @@ package com.mesofi.mythclothapi.figurines;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.junit.jupiter.api.Test;
 
 class FigurineSimilarityUtilsTest {
@@ -33,4 +38,74 @@ class FigurineSimilarityUtilsTest {
     void calculateSimilarity_shouldReturnLowerScoreForDifferentStrings() {
         assertThat(FigurineSimilarityUtils.calculateSimilarity("Seiya", "Hyoga")).isLessThan(0.3);
     }
+
+    @Test
+    void calculateSimilarity_shouldMatchCommonsTextLevenshtein_whenComparingRandomNames() {
+        LevenshteinDistance levenshtein = new LevenshteinDistance();
+        List<String> names = randomNames();
+
+        for (String left : names) {
+            for (String right : names) {
+                int maxLength = Math.max(left.length(), right.length());
+                double expected = maxLength == 0 ? 1.0 : 1.0 - ((double) levenshtein.apply(left, right) / maxLength);
+
+                assertThat(FigurineSimilarityUtils.calculateSimilarity(left, right)).isEqualTo(expected);
+                for (double minimum : new double[]{0.0, 0.5, 0.7, 0.85, expected}) {
+                    assertThat(FigurineSimilarityUtils.calculateSimilarity(left, right, minimum))
+                            .isEqualTo(expected >= minimum ? expected : FigurineSimilarityUtils.BELOW_MINIMUM);
+                }
+            }
+        }
+    }
+
+    @Test
+    void calculateSimilarity_shouldGiveUp_whenMinimumCannotBeReached() {
+        assertThat(FigurineSimilarityUtils.calculateSimilarity("Seiya", "Hyoga", 0.7))
+                .isEqualTo(FigurineSimilarityUtils.BELOW_MINIMUM);
+        assertThat(FigurineSimilarityUtils.calculateSimilarity("Seiya", "Seiya ~Final Bronze Cloth~", 0.7))
+                .isEqualTo(FigurineSimilarityUtils.BELOW_MINIMUM);
+        assertThat(FigurineSimilarityUtils.calculateSimilarity("Seiya", "Seiya", 1.5))
+                .isEqualTo(FigurineSimilarityUtils.BELOW_MINIMUM);
+        assertThat(FigurineSimilarityUtils.calculateSimilarity(null, "Seiya", 0.7))
+                .isEqualTo(FigurineSimilarityUtils.BELOW_MINIMUM);
+        assertThat(FigurineSimilarityUtils.calculateSimilarity("", "", 0.7)).isEqualTo(1.0);
+        assertThat(FigurineSimilarityUtils.calculateSimilarity("Seiya", "Seiyaa", 0.7)).isEqualTo(5d / 6d);
+    }
+
+    @Test
+    void maxDistance_shouldReturnGreatestDistanceReachingMinimum() {
+        assertThat(FigurineSimilarityUtils.maxDistance(10, 0.7)).isEqualTo(3);
+        assertThat(FigurineSimilarityUtils.maxDistance(3, 0.7)).isZero();
+        assertThat(FigurineSimilarityUtils.maxDistance(6, 5d / 6d)).isEqualTo(1);
+        assertThat(FigurineSimilarityUtils.maxDistance(4, 0.0)).isEqualTo(4);
+        assertThat(FigurineSimilarityUtils.maxDistance(4, 1.5)).isEqualTo(-1);
+    }
+
+    @Test
+    void distance_shouldReturnMinusOne_whenThresholdIsExceeded() {
+        assertThat(FigurineSimilarityUtils.distance("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(FigurineSimilarityUtils.distance("kitten", "sitting", 2)).isEqualTo(-1);
+        assertThat(FigurineSimilarityUtils.distance("", "abc", 3)).isEqualTo(3);
+        assertThat(FigurineSimilarityUtils.distance("abc", "", 2)).isEqualTo(-1);
+        assertThat(FigurineSimilarityUtils.distance("a".repeat(200), "a".repeat(199) + "b", 1)).isEqualTo(1);
+    }
+
+    private static List<String> randomNames() {
+        Random random = new Random(11);
+        List<String> names = new ArrayList<>(List.of("", "Mu", "Seiya", "Pegasus Seiya", "Pegasus Seiya (God Cloth)",
+                "Gemini Saga ~Original Color Edition~", "Sagittarius Aiolos <Revival>"));
+        for (int i = 0; i < 40; i++) {
+            StringBuilder name = new StringBuilder(names.get(random.nextInt(names.size())));
+            for (int edit = random.nextInt(6); edit > 0; edit--) {
+                int position = random.nextInt(name.length() + 1);
+                if (random.nextBoolean() || name.isEmpty()) {
+                    name.insert(position, (char) ('a' + random.nextInt(4)));
+                } else {
+                    name.deleteCharAt(Math.min(position, name.length() - 1));
+                }
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
 }
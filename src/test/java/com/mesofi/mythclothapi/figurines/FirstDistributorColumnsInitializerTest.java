@@ -0,0 +1,28 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FirstDistributorColumnsInitializerTest {
+
+    @Mock
+    private FigurineRepository figurineRepository;
+
+    @InjectMocks
+    private FirstDistributorColumnsInitializer initializer;
+
+    @Test
+    void refreshFirstDistributorColumns_shouldRefreshEveryFigurine() {
+        initializer.refreshFirstDistributorColumns();
+
+        verify(figurineRepository).refreshFirstDistributorColumns();
+    }
+}
@@ -0,0 +1,80 @@
+package com.mesofi.mythclothapi.figurines;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurines.repository.projection.OfficialImageProjection;
+
+@ExtendWith(MockitoExtension.class)
+class OfficialImageOrderInitializerTest {
+
+    @Mock
+    private FigurineRepository figurineRepository;
+
+    @InjectMocks
+    private OfficialImageOrderInitializer initializer;
+
+    @Test
+    void numberOfficialImages_shouldDoNothing_whenEveryImageIsNumbered() {
+        initializer.numberOfficialImages();
+
+        verify(figurineRepository, never()).findUnnumberedOfficialImages();
+        verify(figurineRepository, never()).deleteUnnumberedOfficialImages();
+    }
+
+    @Test
+    void numberOfficialImages_shouldKeepStoredOrderAndDuplicates_whenImagesAreUnnumbered() {
+        when(figurineRepository.existsUnnumberedOfficialImages()).thenReturn(true);
+        when(figurineRepository.findUnnumberedOfficialImages()).thenReturn(List.of(image(1L, "zeta.jpg"),
+                image(2L, "front.jpg"), image(1L, "alpha.jpg"), image(1L, "zeta.jpg")));
+        when(figurineRepository.deleteUnnumberedOfficialImages()).thenReturn(4);
+
+        initializer.numberOfficialImages();
+
+        InOrder order = inOrder(figurineRepository);
+        order.verify(figurineRepository).insertOfficialImage(1L, "zeta.jpg", 0);
+        order.verify(figurineRepository).insertOfficialImage(2L, "front.jpg", 0);
+        order.verify(figurineRepository).insertOfficialImage(1L, "alpha.jpg", 1);
+        order.verify(figurineRepository).insertOfficialImage(1L, "zeta.jpg", 2);
+    }
+
+    @Test
+    void numberOfficialImages_shouldLeaveImagesAlone_whenAnotherNodeNumbersThem() {
+        when(figurineRepository.existsUnnumberedOfficialImages()).thenReturn(true);
+        when(figurineRepository.findUnnumberedOfficialImages()).thenReturn(List.of(image(1L, "zeta.jpg")));
+        when(figurineRepository.deleteUnnumberedOfficialImages()).thenReturn(0);
+
+        initializer.numberOfficialImages();
+
+        verify(figurineRepository, never()).insertOfficialImage(anyLong(), anyString(), anyInt());
+    }
+
+    private static OfficialImageProjection image(Long figurineId, String url) {
+        return new OfficialImageProjection() {
+            @Override
+            public Long getFigurineId() {
+                return figurineId;
+            }
+
+            @Override
+            public String getUrl() {
+                return url;
+            }
+        };
+    }
+}
@@ -0,0 +1,317 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import static com.mesofi.mythclothapi.figurinestores.FigurineMatchMemo.MATCH_DECISION_CACHE;
+import static com.mesofi.mythclothapi.figurinestores.FigurineMatchMemo.REQUESTS_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUp;
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.catalogs.repository.LineUpRepository;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurinestores.FigurineMatchMemo.MatchDecision;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineMatchDecision;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineMatchGeneration;
+import com.mesofi.mythclothapi.figurinestores.repository.FigurineMatchDecisionRepository;
+import com.mesofi.mythclothapi.figurinestores.repository.FigurineMatchGenerationRepository;
+import com.mesofi.mythclothapi.messaging.invalidation.CacheInvalidationBroadcaster;
+import com.mesofi.mythclothapi.messaging.invalidation.CacheInvalidationMessage;
+import com.mesofi.mythclothapi.stores.model.Store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FigurineMatchMemoTest {
+
+    private static final long EX_LINEUP_ID = 1L;
+
+    private final FigurineMatchDecisionRepository repository = mock(FigurineMatchDecisionRepository.class);
+    private final FigurineMatchGenerationRepository generationRepository = mock(
+            FigurineMatchGenerationRepository.class);
+    private final LineUpRepository lineUpRepository = mock(LineUpRepository.class);
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FigurineMatchMemo memo = new FigurineMatchMemo(repository, generationRepository,
+            lineUpRepository, cacheManager, meterRegistry);
+
+    private final Store store = store(3L);
+
+    @Test
+    void find_shouldLoadDecisionOnceAndServeItFromMemory_whenDecisionIsStored() {
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(decision(LineUpType.MYTH_CLOTH, "Aries", 7L)));
+
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).contains(new MatchDecision(7L));
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).contains(new MatchDecision(7L));
+
+        verify(repository, times(1)).findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries");
+        assertThat(requests("hit", "database")).isEqualTo(1);
+        assertThat(requests("hit", "memory")).isEqualTo(1);
+    }
+
+    @Test
+    void find_shouldCountMiss_whenNoDecisionIsStored() {
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.empty());
+
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).isEmpty();
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, null)).isEmpty();
+
+        assertThat(requests("miss", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void find_shouldMatchAgain_whenStoredDecisionIsOfPreviousGeneration() {
+        FigurineMatchDecision stored = decision(LineUpType.MYTH_CLOTH, "Aries", 7L);
+        stored.setGeneration(1L);
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(stored));
+        when(generationRepository.findByLineUp(LineUpType.MYTH_CLOTH))
+                .thenReturn(Optional.of(generation(LineUpType.MYTH_CLOTH, 2L)));
+
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).isEmpty();
+
+        assertThat(requests("miss", "none")).isEqualTo(1);
+        assertThat(cachedDecisions()).isZero();
+    }
+
+    @Test
+    void record_shouldPersistAndCacheNoMatchDecision_whenNameIsNew() {
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.empty());
+
+        memo.record(store, LineUpType.MYTH_CLOTH, "Aries", null);
+
+        ArgumentCaptor<FigurineMatchDecision> captor = ArgumentCaptor.forClass(FigurineMatchDecision.class);
+        verify(repository).save(captor.capture());
+        assertThat(captor.getValue().getStore()).isEqualTo(store);
+        assertThat(captor.getValue().getLineUp()).isEqualTo(LineUpType.MYTH_CLOTH);
+        assertThat(captor.getValue().getNormalizedName()).isEqualTo("Aries");
+        assertThat(captor.getValue().getFigurineId()).isNull();
+        assertThat(captor.getValue().getGeneration()).isZero();
+
+        Optional<MatchDecision> found = memo.find(store, LineUpType.MYTH_CLOTH, "Aries");
+        assertThat(found).contains(new MatchDecision(null));
+        assertThat(found.orElseThrow().matched()).isFalse();
+        assertThat(requests("hit", "memory")).isEqualTo(1);
+    }
+
+    @Test
+    void record_shouldUpdateStoredDecision_whenNameWasAlreadyDecided() {
+        FigurineMatchDecision stored = decision(LineUpType.MYTH_CLOTH, "Aries", null);
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(stored));
+
+        memo.record(store, LineUpType.MYTH_CLOTH, "Aries", 7L);
+        memo.record(store, LineUpType.MYTH_CLOTH, null, 7L);
+
+        verify(repository).save(stored);
+        assertThat(stored.getFigurineId()).isEqualTo(7L);
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).contains(new MatchDecision(7L));
+    }
+
+    @Test
+    void record_shouldCacheDecisionOnlyOnceTransactionCommits() {
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            memo.record(store, LineUpType.MYTH_CLOTH, "Aries", 7L, 0L);
+
+            assertThat(cachedDecisions()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cachedDecisions()).isEqualTo(1);
+    }
+
+    @Test
+    void record_shouldPersistButNotCacheDecision_whenLineUpChangedWhileMatching() {
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.empty());
+        when(generationRepository.findByLineUp(LineUpType.MYTH_CLOTH))
+                .thenReturn(Optional.of(generation(LineUpType.MYTH_CLOTH, 2L)));
+
+        memo.record(store, LineUpType.MYTH_CLOTH, "Aries", 7L, 1L);
+
+        ArgumentCaptor<FigurineMatchDecision> captor = ArgumentCaptor.forClass(FigurineMatchDecision.class);
+        verify(repository).save(captor.capture());
+        assertThat(captor.getValue().getGeneration()).isEqualTo(1L);
+        assertThat(cachedDecisions()).isZero();
+    }
+
+    @Test
+    void forget_shouldDeleteAndEvictDecision() {
+        FigurineMatchDecision stored = decision(LineUpType.MYTH_CLOTH, "Aries", 7L);
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(stored), Optional.of(stored), Optional.empty());
+        memo.record(store, LineUpType.MYTH_CLOTH, "Aries", 7L);
+
+        memo.forget(store, LineUpType.MYTH_CLOTH, "Aries");
+        memo.forget(store, LineUpType.MYTH_CLOTH, null);
+
+        verify(repository).delete(stored);
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).isEmpty();
+    }
+
+    @Test
+    void onCatalogChanged_shouldDiscardDecisionsOfChangedLineUpsOnly() {
+        LineUp ex = new LineUp();
+        ex.setId(EX_LINEUP_ID);
+        ex.setDescription("Myth Cloth EX");
+        when(lineUpRepository.findAllById(Set.of(EX_LINEUP_ID))).thenReturn(List.of(ex));
+        cacheManager.getCache(MATCH_DECISION_CACHE).put("unknown", new MatchDecision(1L));
+        recordCached(LineUpType.MYTH_CLOTH_EX, "Aries", 7L);
+        recordCached(LineUpType.MYTH_CLOTH, "Aries", 8L);
+
+        memo.onCatalogChanged(new FigurineCatalogChangedEvent(10L, Set.of(EX_LINEUP_ID), false, true));
+
+        verify(repository).deleteByLineUpIn(Set.of(LineUpType.MYTH_CLOTH_EX));
+        verify(generationRepository).increment(Set.of(LineUpType.MYTH_CLOTH_EX));
+        assertThat(cacheManager.getCache(MATCH_DECISION_CACHE).get("unknown")).isNull();
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).contains(new MatchDecision(8L));
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH_EX, "Aries")).isEmpty();
+    }
+
+    @Test
+    void onCatalogChanged_shouldStartGenerations_whenLineUpsWereNeverChanged() {
+        LineUp ex = new LineUp();
+        ex.setId(EX_LINEUP_ID);
+        ex.setDescription("Myth Cloth EX");
+        when(lineUpRepository.findAllById(Set.of(EX_LINEUP_ID))).thenReturn(List.of(ex));
+        when(generationRepository.increment(Set.of(LineUpType.MYTH_CLOTH_EX))).thenReturn(0);
+        when(generationRepository.findByLineUpIn(Set.of(LineUpType.MYTH_CLOTH_EX))).thenReturn(List.of());
+
+        memo.onCatalogChanged(new FigurineCatalogChangedEvent(10L, Set.of(EX_LINEUP_ID), false, true));
+
+        ArgumentCaptor<FigurineMatchGeneration> captor = ArgumentCaptor.forClass(FigurineMatchGeneration.class);
+        verify(generationRepository).save(captor.capture());
+        assertThat(captor.getValue().getLineUp()).isEqualTo(LineUpType.MYTH_CLOTH_EX);
+        assertThat(captor.getValue().getGeneration()).isEqualTo(1L);
+    }
+
+    @Test
+    void onCatalogChanged_shouldOnlyIncrementGenerations_whenLineUpsWereChangedBefore() {
+        LineUp ex = new LineUp();
+        ex.setId(EX_LINEUP_ID);
+        ex.setDescription("Myth Cloth EX");
+        when(lineUpRepository.findAllById(Set.of(EX_LINEUP_ID))).thenReturn(List.of(ex));
+        when(generationRepository.increment(Set.of(LineUpType.MYTH_CLOTH_EX))).thenReturn(1);
+
+        memo.onCatalogChanged(new FigurineCatalogChangedEvent(10L, Set.of(EX_LINEUP_ID), false, true));
+
+        verify(generationRepository, never()).findByLineUpIn(any());
+        verify(generationRepository, never()).save(any());
+    }
+
+    @Test
+    void onCatalogChanged_shouldKeepDecisions_whenMatchingIsNotAffected() {
+        recordCached(LineUpType.MYTH_CLOTH_EX, "Aries", 7L);
+
+        memo.onCatalogChanged(new FigurineCatalogChangedEvent(10L, Set.of(EX_LINEUP_ID), true, false));
+
+        verify(repository, never()).deleteByLineUpIn(any());
+        verify(generationRepository, never()).increment(any());
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH_EX, "Aries")).contains(new MatchDecision(7L));
+    }
+
+    @Test
+    void onCatalogChanged_shouldOnlyEvictCachedDecisions_whenReplayingChangeOfAnotherNode() {
+        LineUp ex = new LineUp();
+        ex.setId(EX_LINEUP_ID);
+        ex.setDescription("Myth Cloth EX");
+        when(lineUpRepository.findAllById(Set.of(EX_LINEUP_ID))).thenReturn(List.of(ex));
+        recordCached(LineUpType.MYTH_CLOTH_EX, "Aries", 7L);
+        CacheInvalidationBroadcaster broadcaster = new CacheInvalidationBroadcaster(mock(AmqpTemplate.class),
+                event -> memo.onCatalogChanged((FigurineCatalogChangedEvent) event), new SimpleMeterRegistry());
+
+        broadcaster.onMessage(CacheInvalidationMessage.of("other-node",
+                new FigurineCatalogChangedEvent(10L, Set.of(EX_LINEUP_ID), false, true)));
+
+        verify(repository, never()).deleteByLineUpIn(any());
+        verify(generationRepository, never()).increment(any());
+        assertThat(cachedDecisions()).isZero();
+    }
+
+    @Test
+    void onCatalogChanged_shouldKeepDecisions_whenLineUpsAreNotMatched() {
+        LineUp other = new LineUp();
+        other.setId(5L);
+        other.setDescription("Other");
+        when(lineUpRepository.findAllById(Set.of(5L))).thenReturn(List.of(other));
+        recordCached(LineUpType.MYTH_CLOTH, "Aries", 8L);
+
+        memo.onCatalogChanged(new FigurineCatalogChangedEvent(10L, Set.of(5L), true));
+
+        verify(repository, never()).deleteByLineUpIn(any());
+        verify(generationRepository, never()).increment(any());
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).contains(new MatchDecision(8L));
+    }
+
+    @Test
+    void onCatalogChanged_shouldDiscardEveryDecision_whenChangeIsCatalogWide() {
+        recordCached(LineUpType.MYTH_CLOTH, "Aries", 8L);
+
+        memo.onCatalogChanged(new FigurineCatalogChangedEvent(null));
+
+        verify(repository).deleteAllInBatch();
+        verify(generationRepository).increment(EnumSet.allOf(LineUpType.class));
+        assertThat(memo.find(store, LineUpType.MYTH_CLOTH, "Aries")).isEmpty();
+    }
+
+    private void recordCached(LineUpType lineUp, String name, Long figurineId) {
+        when(repository.findByStoreAndLineUpAndNormalizedName(store, lineUp, name)).thenReturn(Optional.empty());
+        memo.record(store, lineUp, name, figurineId);
+    }
+
+    private long cachedDecisions() {
+        return ((CaffeineCache) cacheManager.getCache(MATCH_DECISION_CACHE)).getNativeCache().estimatedSize();
+    }
+
+    private double requests(String result, String tier) {
+        return meterRegistry.counter(REQUESTS_METRIC, "result", result, "tier", tier).count();
+    }
+
+    private FigurineMatchDecision decision(LineUpType lineUp, String name, Long figurineId) {
+        FigurineMatchDecision decision = new FigurineMatchDecision();
+        decision.setStore(store);
+        decision.setLineUp(lineUp);
+        decision.setNormalizedName(name);
+        decision.setFigurineId(figurineId);
+        return decision;
+    }
+
+    private static FigurineMatchGeneration generation(LineUpType lineUp, long value) {
+        FigurineMatchGeneration generation = new FigurineMatchGeneration();
+        generation.setLineUp(lineUp);
+        generation.setGeneration(value);
+        return generation;
+    }
+
+    private static Store store(long id) {
+        Store store = new Store();
+        store.setId(id);
+        store.setCode("MYTH_SUPPLIES");
+        return store;
+    }
+}
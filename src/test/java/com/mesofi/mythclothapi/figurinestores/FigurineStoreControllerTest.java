@@ -34,6 +34,7 @@ import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreMatchedResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreMatchedSummaryResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStorePriceResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreUnmatchedResp;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
 import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
 import com.mesofi.mythclothapi.security.config.SecurityConfig;
 
@@ -160,7 +161,7 @@ class FigurineStoreControllerTest {
                 List.of(new FigurineStoreHistoricalPriceResp("Nin-Nin-Game", "https://logo.png", "https://product-page",
                         new BigDecimal("120.00"), Instant.parse("2025-03-11T12:00:00Z"))));
 
-        when(figurineStoreService.retrieveHistoricalPrices(42L, null, Currency.getInstance("USD")))
+        when(figurineStoreService.retrieveHistoricalPrices(42L, null, Currency.getInstance("USD"), null))
                 .thenReturn(response);
 
         mockMvc.perform(get("/figurine-stores/figurines/{figurineId}/prices/history", 42L).param("currency", "USD")
@@ -170,7 +171,7 @@ class FigurineStoreControllerTest {
                 .andExpect(jsonPath("$.currency").value("USD"))
                 .andExpect(jsonPath("$.prices[0].storeName").value("Nin-Nin-Game"));
 
-        verify(figurineStoreService).retrieveHistoricalPrices(42L, null, Currency.getInstance("USD"));
+        verify(figurineStoreService).retrieveHistoricalPrices(42L, null, Currency.getInstance("USD"), null);
     }
 
     @Test
@@ -179,7 +180,8 @@ class FigurineStoreControllerTest {
                 List.of(new FigurineStoreHistoricalPriceResp("Nin-Nin-Game", "https://logo.png", "https://product-page",
                         new BigDecimal("15000.00"), Instant.parse("2025-03-11T12:00:00Z"))));
 
-        when(figurineStoreService.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"))).thenReturn(response);
+        when(figurineStoreService.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"), null))
+                .thenReturn(response);
 
         mockMvc.perform(get("/figurine-stores/figurines/{figurineId}/prices/history", 42L).param("storeId", "3")
                 .param("currency", "JPY")
@@ -188,6 +190,34 @@ class FigurineStoreControllerTest {
                 .andExpect(status().isOk()).andExpect(jsonPath("$.currency").value("JPY"))
                 .andExpect(jsonPath("$.prices[0].price").value(15000.00));
 
-        verify(figurineStoreService).retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"));
+        verify(figurineStoreService).retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"), null);
+    }
+
+    @Test
+    void retrieveHistoricalPrices_shouldReturnRollups_whenResolutionIsRequested() throws Exception {
+        FigurineStoreHistoricalResp response = new FigurineStoreHistoricalResp("Aries", "USD",
+                List.of(new FigurineStoreHistoricalPriceResp("Nin-Nin-Game", "https://logo.png", "https://product-page",
+                        new BigDecimal("120.00"), Instant.parse("2025-03-11T12:00:00Z"),
+                        Instant.parse("2025-03-10T00:00:00Z"), new BigDecimal("100.00"), new BigDecimal("130.00"),
+                        new BigDecimal("116.67"))));
+
+        when(figurineStoreService.retrieveHistoricalPrices(42L, null, Currency.getInstance("USD"),
+                PriceResolution.WEEK)).thenReturn(response);
+
+        mockMvc.perform(get("/figurine-stores/figurines/{figurineId}/prices/history", 42L).param("currency", "USD")
+                .param("resolution", "WEEK")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"),
+                        new SimpleGrantedAuthority("figurines:stores:read-historical-prices"))))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.prices[0].since").value("2025-03-10T00:00:00Z"))
+                .andExpect(jsonPath("$.prices[0].minPrice").value(100.00))
+                .andExpect(jsonPath("$.prices[0].averagePrice").value(116.67));
+    }
+
+    @Test
+    void retrieveHistoricalPrices_shouldRejectUnknownResolution() throws Exception {
+        mockMvc.perform(get("/figurine-stores/figurines/{figurineId}/prices/history", 42L).param("resolution", "HOUR")
+                .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"),
+                        new SimpleGrantedAuthority("figurines:stores:read-historical-prices"))))
+                .andExpect(status().isBadRequest());
     }
 }
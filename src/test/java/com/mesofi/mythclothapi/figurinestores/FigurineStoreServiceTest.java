@@ -4,10 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Answers.CALLS_REAL_METHODS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -18,6 +20,7 @@ import java.time.Instant;
 import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,6 +42,8 @@ import com.mesofi.mythclothapi.figurines.FigurineNotFoundException;
 import com.mesofi.mythclothapi.figurines.FigurineService;
 import com.mesofi.mythclothapi.figurines.model.Figurine;
 import com.mesofi.mythclothapi.figurines.repository.FigurineRepository;
+import com.mesofi.mythclothapi.figurinestores.FigurineMatchMemo.MatchDecision;
+import com.mesofi.mythclothapi.figurinestores.PriceHistory.Observation;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreHistoricalPriceResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreHistoricalResp;
 import com.mesofi.mythclothapi.figurinestores.dto.FigurineStoreMatchedResp;
@@ -49,6 +54,9 @@ import com.mesofi.mythclothapi.figurinestores.model.CachedStores;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStore;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStorePricing;
 import com.mesofi.mythclothapi.figurinestores.model.FigurineStoreUnmatched;
+import com.mesofi.mythclothapi.figurinestores.model.PriceObservation;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
+import com.mesofi.mythclothapi.figurinestores.model.PriceRollup;
 import com.mesofi.mythclothapi.figurinestores.repository.FigurineStorePricingRepository;
 import com.mesofi.mythclothapi.figurinestores.repository.FigurineStoreRepository;
 import com.mesofi.mythclothapi.figurinestores.repository.UnmatchedFigurineListingRepository;
@@ -90,6 +98,12 @@ class FigurineStoreServiceTest {
     private Cache cache;
     @Mock
     private CurrencyConversionService currencyService;
+    @Mock
+    private FigurineMatchMemo figurineMatchMemo;
+    @Mock
+    private StoreListingDeduplicator storeListingDeduplicator;
+    @Mock
+    private PriceHistory priceHistory;
 
     @Test
     void processStorePricing_shouldReturnEarlyWhenListingIsIgnored() {
@@ -137,9 +151,25 @@ class FigurineStoreServiceTest {
         assertThat(existingPricing.getDiscount()).isEqualByComparingTo(new BigDecimal("10.00"));
         assertThat(existingPricing.getCheckedAt()).isEqualTo(Instant.parse("2025-03-11T12:30:45Z"));
         verify(figurineStorePricingRepository, never()).save(any());
+        verify(storeListingDeduplicator).remember(any(StoreListing.class), eq(existingPricing));
+        verify(priceHistory).record(List.of(new Observation(existing.getId(), new BigDecimal("120.00"),
+                new BigDecimal("10.00"), Instant.parse("2025-03-11T12:30:45Z"))));
         verifyNoInteractions(figurineService);
     }
 
+    @Test
+    void processStorePricing_shouldSkipDatabase_whenListingIsUnchanged() {
+        StoreListing listing = storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries", "Aries",
+                new BigDecimal("120.00"), null, "USD", ListingStatus.IN_STOCK, false);
+        when(storeListingDeduplicator.absorb(listing)).thenReturn(true);
+
+        service.processStorePricing(listing);
+
+        verify(storeListingDeduplicator, never()).remember(any(), any());
+        verifyNoInteractions(cacheManager, unmatchedFigurineListingRepository, figurineStoreRepository,
+                figurineStorePricingRepository, figurineService);
+    }
+
     @Test
     void processStorePricing_shouldCreateMatchedMappingAndPricingWhenFigurineMatches() {
         Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
@@ -150,6 +180,7 @@ class FigurineStoreServiceTest {
         when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredTrue(store, "Original Aries"))
                 .thenReturn(Optional.empty());
         when(figurineStoreRepository.findByStoreAndOriginalName(store, "Original Aries")).thenReturn(Optional.empty());
+        when(figurineMatchMemo.generation(LineUpType.MYTH_CLOTH)).thenReturn(4L);
         when(figurineService.findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Aries"))
                 .thenReturn(Optional.of(figurine));
         when(figurineStoreRepository.findByFigurineAndStoreAndOriginalName(figurine, store, "Original Aries"))
@@ -182,6 +213,83 @@ class FigurineStoreServiceTest {
         assertThat(pricingCaptor.getValue().getCurrentPrice()).isEqualByComparingTo(new BigDecimal("120.00"));
         assertThat(pricingCaptor.getValue().getDiscount()).isEqualByComparingTo(new BigDecimal("10.00"));
         assertThat(pricingCaptor.getValue().getCheckedAt()).isEqualTo(Instant.parse("2025-03-11T12:30:45Z"));
+        verify(figurineMatchMemo).record(store, LineUpType.MYTH_CLOTH, "Aries", 7L, 4L);
+        verify(storeListingDeduplicator).remember(any(StoreListing.class), eq(pricingCaptor.getValue()));
+    }
+
+    @Test
+    void processStorePricing_shouldReuseRecordedMatch_whenListingNameWasMatchedBefore() {
+        Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+        Figurine figurine = figurine(7L, "Aries");
+
+        mockStoreCache(store);
+        when(figurineStoreMapper.toStore(new CachedStores(1L, "MYTH_SUPPLIES"))).thenReturn(store);
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredTrue(store, "Original Aries"))
+                .thenReturn(Optional.empty());
+        when(figurineStoreRepository.findByStoreAndOriginalName(store, "Original Aries")).thenReturn(Optional.empty());
+        when(figurineMatchMemo.find(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(new MatchDecision(7L)));
+        when(figurineRepository.findById(7L)).thenReturn(Optional.of(figurine));
+        when(figurineStoreRepository.findByFigurineAndStoreAndOriginalName(figurine, store, "Original Aries"))
+                .thenReturn(Optional.empty());
+        when(figurineStoreRepository.save(any(FigurineStore.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(figurineStorePricingRepository.findByFigurineStoreAndCurrentPrice(any(FigurineStore.class),
+                eq(new BigDecimal("120.00")))).thenReturn(Optional.empty());
+
+        service.processStorePricing(storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries",
+                "Aries", new BigDecimal("120.00"), new BigDecimal("10.00"), "USD", ListingStatus.IN_STOCK, true));
+
+        ArgumentCaptor<FigurineStore> figurineStoreCaptor = ArgumentCaptor.forClass(FigurineStore.class);
+        verify(figurineStoreRepository).save(figurineStoreCaptor.capture());
+        assertThat(figurineStoreCaptor.getValue().getFigurine()).isEqualTo(figurine);
+        verify(figurineStorePricingRepository).save(any(FigurineStorePricing.class));
+        verifyNoInteractions(figurineService);
+        verify(figurineMatchMemo, never()).record(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void processStorePricing_shouldMatchAgain_whenRecordedFigurineNoLongerExists() {
+        Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+
+        mockStoreCache(store);
+        when(figurineStoreMapper.toStore(new CachedStores(1L, "MYTH_SUPPLIES"))).thenReturn(store);
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredTrue(store, "Original Aries"))
+                .thenReturn(Optional.empty());
+        when(figurineStoreRepository.findByStoreAndOriginalName(store, "Original Aries")).thenReturn(Optional.empty());
+        when(figurineMatchMemo.find(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(new MatchDecision(7L)));
+        when(figurineRepository.findById(7L)).thenReturn(Optional.empty());
+        when(figurineService.findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Aries")).thenReturn(Optional.empty());
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredFalse(store, "Original Aries"))
+                .thenReturn(Optional.empty());
+
+        service.processStorePricing(storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries",
+                "Aries", new BigDecimal("120.00"), new BigDecimal("10.00"), "USD", ListingStatus.IN_STOCK, true));
+
+        verify(figurineMatchMemo).record(store, LineUpType.MYTH_CLOTH, "Aries", null, 0L);
+        verify(unmatchedFigurineListingRepository).save(any(FigurineStoreUnmatched.class));
+    }
+
+    @Test
+    void processStorePricing_shouldCreateUnmatchedListing_whenListingNameWasNotMatchedBefore() {
+        Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+
+        mockStoreCache(store);
+        when(figurineStoreMapper.toStore(new CachedStores(1L, "MYTH_SUPPLIES"))).thenReturn(store);
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredTrue(store, "Original Aries"))
+                .thenReturn(Optional.empty());
+        when(figurineStoreRepository.findByStoreAndOriginalName(store, "Original Aries")).thenReturn(Optional.empty());
+        when(figurineMatchMemo.find(store, LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(new MatchDecision(null)));
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredFalse(store, "Original Aries"))
+                .thenReturn(Optional.empty());
+
+        service.processStorePricing(storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries",
+                "Aries", new BigDecimal("120.00"), new BigDecimal("10.00"), "USD", ListingStatus.IN_STOCK, true));
+
+        verify(unmatchedFigurineListingRepository).save(any(FigurineStoreUnmatched.class));
+        verifyNoInteractions(figurineService, figurineRepository);
     }
 
     @Test
@@ -223,6 +331,7 @@ class FigurineStoreServiceTest {
             assertThat(unmatchedCaptor.getValue().isIgnored()).isFalse();
             assertThat(construction.constructed()).hasSize(1);
             assertThat(construction.constructed().getFirst().isIgnored()).isFalse();
+            verify(figurineMatchMemo).record(store, LineUpType.MYTH_CLOTH, "Aries", null, 0L);
         }
     }
 
@@ -236,6 +345,120 @@ class FigurineStoreServiceTest {
                 .isInstanceOf(IllegalArgumentException.class).hasMessage("Store not found for code: MYTH_SUPPLIES");
     }
 
+    @Test
+    void processStorePricings_shouldResolveBatchWithSetBasedQueries() {
+        Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+        Figurine figurine = figurine(7L, "Aries");
+        FigurineStore mapping = figurineStore(figurine, store, "Original Aries", "Aries", ListingStatus.OUT_OF_STOCK,
+                false);
+        mapping.setId(8L);
+        FigurineStorePricing pricing = pricing(mapping, new BigDecimal("120.00"), null,
+                Instant.parse("2025-01-01T00:00:00Z"));
+        FigurineStoreUnmatched ignored = unmatchedListing(store, "Original Taurus", "Taurus", new BigDecimal("80.00"),
+                null, true);
+
+        mockStoreCache(store);
+        when(figurineStoreMapper.toStore(new CachedStores(1L, "MYTH_SUPPLIES"))).thenReturn(store);
+        when(unmatchedFigurineListingRepository.findByStoreIdInAndOriginalNameInAndIgnoredTrue(Set.of(1L),
+                Set.of("Original Aries", "Original Taurus", "Original Leo"))).thenReturn(List.of(ignored));
+        when(figurineStoreRepository.findByStoreIdInAndOriginalNameIn(Set.of(1L),
+                Set.of("Original Aries", "Original Taurus", "Original Leo"))).thenReturn(List.of(mapping));
+        when(figurineStorePricingRepository.findByFigurineStoreIn(any())).thenReturn(List.of(pricing));
+        when(figurineService.findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Leo")).thenReturn(Optional.empty());
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredFalse(store, "Original Leo"))
+                .thenReturn(Optional.empty());
+
+        service.processStorePricings(List.of(
+                storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries", "Aries",
+                        new BigDecimal("120.0"), new BigDecimal("10.00"), "USD", ListingStatus.IN_STOCK, true),
+                storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Taurus", "Taurus",
+                        new BigDecimal("80.00"), null, "USD", ListingStatus.IN_STOCK, false),
+                storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Leo", "Leo",
+                        new BigDecimal("90.00"), null, "USD", ListingStatus.IN_STOCK, false)));
+
+        assertThat(mapping.getStatus()).isEqualTo(ListingStatus.IN_STOCK);
+        assertThat(mapping.isPreorder()).isTrue();
+        assertThat(pricing.getDiscount()).isEqualByComparingTo(new BigDecimal("10.00"));
+        assertThat(pricing.getCheckedAt()).isEqualTo(Instant.parse("2025-03-11T12:30:45Z"));
+        verify(figurineStorePricingRepository, never()).save(any(FigurineStorePricing.class));
+        verify(figurineStoreRepository, never()).findByStoreAndOriginalName(any(), any());
+        verify(figurineService, never()).findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Taurus");
+
+        ArgumentCaptor<FigurineStoreUnmatched> unmatchedCaptor = ArgumentCaptor.forClass(FigurineStoreUnmatched.class);
+        verify(unmatchedFigurineListingRepository).save(unmatchedCaptor.capture());
+        assertThat(unmatchedCaptor.getValue().getOriginalName()).isEqualTo("Original Leo");
+        verify(figurineMatchMemo).record(store, LineUpType.MYTH_CLOTH, "Leo", null, 0L);
+    }
+
+    @Test
+    void processStorePricings_shouldReuseCreatedMappingAndPricing_whenListingRepeatsInBatch() {
+        Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+        Figurine figurine = figurine(7L, "Aries");
+
+        mockStoreCache(store);
+        when(figurineStoreMapper.toStore(new CachedStores(1L, "MYTH_SUPPLIES"))).thenReturn(store);
+        when(unmatchedFigurineListingRepository.findByStoreIdInAndOriginalNameInAndIgnoredTrue(Set.of(1L),
+                Set.of("Original Aries"))).thenReturn(List.of());
+        when(figurineStoreRepository.findByStoreIdInAndOriginalNameIn(Set.of(1L), Set.of("Original Aries")))
+                .thenReturn(List.of());
+        when(figurineService.findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Aries"))
+                .thenReturn(Optional.of(figurine));
+        when(figurineStoreRepository.save(any(FigurineStore.class))).thenAnswer(invocation -> {
+            FigurineStore saved = invocation.getArgument(0);
+            saved.setId(8L);
+            return saved;
+        });
+
+        StoreListing listing = storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries", "Aries",
+                new BigDecimal("120.00"), new BigDecimal("10.00"), "USD", ListingStatus.IN_STOCK, true);
+        service.processStorePricings(List.of(listing, listing));
+
+        ArgumentCaptor<FigurineStore> figurineStoreCaptor = ArgumentCaptor.forClass(FigurineStore.class);
+        verify(figurineStoreRepository).save(figurineStoreCaptor.capture());
+        assertThat(figurineStoreCaptor.getValue().getFigurine()).isEqualTo(figurine);
+        assertThat(figurineStoreCaptor.getValue().getOriginalName()).isEqualTo("Original Aries");
+        verify(figurineStorePricingRepository, times(1)).save(any(FigurineStorePricing.class));
+        verify(figurineStorePricingRepository, never()).findByFigurineStoreIn(any());
+        verify(figurineService, times(1)).findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Aries");
+        Observation observation = new Observation(8L, new BigDecimal("120.00"), new BigDecimal("10.00"),
+                listing.checkedAt());
+        verify(priceHistory).record(List.of(observation, observation));
+    }
+
+    @Test
+    void processStorePricings_shouldSkipAbsorbedListings_beforeQueryingDatabase() {
+        Store store = store(1L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+        StoreListing unchanged = storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Taurus",
+                "Taurus", new BigDecimal("80.00"), null, "USD", ListingStatus.IN_STOCK, false);
+        StoreListing unseen = storeListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Leo", "Leo",
+                new BigDecimal("90.00"), null, "USD", ListingStatus.IN_STOCK, false);
+
+        when(storeListingDeduplicator.absorb(any(StoreListing.class)))
+                .thenAnswer(invocation -> unchanged.equals(invocation.getArgument(0)));
+        mockStoreCache(store);
+        when(figurineStoreMapper.toStore(new CachedStores(1L, "MYTH_SUPPLIES"))).thenReturn(store);
+        when(unmatchedFigurineListingRepository.findByStoreIdInAndOriginalNameInAndIgnoredTrue(Set.of(1L),
+                Set.of("Original Leo"))).thenReturn(List.of());
+        when(figurineStoreRepository.findByStoreIdInAndOriginalNameIn(Set.of(1L), Set.of("Original Leo")))
+                .thenReturn(List.of());
+        when(figurineService.findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Leo")).thenReturn(Optional.empty());
+        when(unmatchedFigurineListingRepository.findByStoreAndOriginalNameAndIgnoredFalse(store, "Original Leo"))
+                .thenReturn(Optional.empty());
+
+        service.processStorePricings(List.of(unchanged, unseen));
+
+        verify(figurineService, never()).findBestMatchingFigurine(LineUpType.MYTH_CLOTH, "Taurus");
+        verify(storeListingDeduplicator, never()).remember(any(), any());
+    }
+
+    @Test
+    void processStorePricings_shouldDoNothing_whenBatchIsEmpty() {
+        service.processStorePricings(List.of());
+
+        verifyNoInteractions(cacheManager, unmatchedFigurineListingRepository, figurineStoreRepository,
+                figurineStorePricingRepository);
+    }
+
     @Test
     void retrieveMatchedFigurineListingSummary_shouldReturnStoreSummariesAndCountFigurines() {
         Store first = store(1L, "A Store", "A_STORE", "USD");
@@ -322,6 +545,9 @@ class FigurineStoreServiceTest {
         assertThat(captor.getValue().getNormalizedName()).isEqualTo("Aries");
         verify(figurineStorePricingRepository).deleteAll(List.of(pricing));
         verify(figurineStoreRepository).delete(figurineStore);
+        verify(figurineMatchMemo).forget(store, LineUpType.MYTH_CLOTH, "Aries");
+        verify(storeListingDeduplicator).forget("MYTH_SUPPLIES", "Original Aries");
+        verify(priceHistory).forget(figurineStore.getId());
     }
 
     @Test
@@ -453,6 +679,8 @@ class FigurineStoreServiceTest {
         verify(unmatchedFigurineListingRepository).delete(unmatched);
         verify(figurineStoreRepository).save(any(FigurineStore.class));
         verify(figurineStorePricingRepository).save(any(FigurineStorePricing.class));
+        verify(figurineMatchMemo).record(store, LineUpType.MYTH_CLOTH, "Aries", 7L);
+        verify(storeListingDeduplicator).forget("MYTH_SUPPLIES", "Original Aries");
     }
 
     @Test
@@ -551,7 +779,8 @@ class FigurineStoreServiceTest {
         when(currencyService.convert(new BigDecimal("100.00"), "USD", "JPY")).thenReturn(new BigDecimal("10000.00"));
         when(currencyService.convert(new BigDecimal("200.00"), "EUR", "JPY")).thenReturn(new BigDecimal("30000.00"));
 
-        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, null, Currency.getInstance("JPY"));
+        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, null, Currency.getInstance("JPY"),
+                null);
 
         assertThat(result.currency()).isEqualTo("JPY");
         assertThat(result.prices()).extracting(FigurineStoreHistoricalPriceResp::checkedAt)
@@ -572,7 +801,8 @@ class FigurineStoreServiceTest {
         when(storeRepository.findById(3L)).thenReturn(Optional.of(store));
         when(figurineStoreRepository.findByFigurineAndStore(figurine, store)).thenReturn(List.of(listing));
 
-        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"));
+        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"),
+                null);
 
         assertThat(result.currency()).isEqualTo("USD");
         assertThat(result.prices()).singleElement()
@@ -595,7 +825,8 @@ class FigurineStoreServiceTest {
         when(figurineStoreRepository.findByFigurineAndStore(figurine, store)).thenReturn(List.of(listing));
         when(currencyService.convert(new BigDecimal("150.00"), "USD", "USD")).thenReturn(new BigDecimal("150.00"));
 
-        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("USD"));
+        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("USD"),
+                null);
 
         assertThat(result.currency()).isEqualTo("USD");
         assertThat(result.prices()).singleElement()
@@ -603,11 +834,79 @@ class FigurineStoreServiceTest {
         verify(currencyService).convert(new BigDecimal("150.00"), "USD", "USD");
     }
 
+    @Test
+    void retrieveHistoricalPrices_shouldReturnPriceRuns_whenRawResolutionIsRequested() {
+        Figurine figurine = figurine(42L, "Aries");
+        Store store = store(3L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+        FigurineStore listing = figurineStore(figurine, store, "Original Aries", "Aries", ListingStatus.IN_STOCK,
+                false);
+        listing.setId(8L);
+
+        PriceObservation earlier = run(8L, "150.00", "2025-03-01T12:00:00Z", "2025-03-05T12:00:00Z");
+        PriceObservation latest = run(8L, "120.00", "2025-03-05T18:00:00Z", "2025-03-11T12:00:00Z");
+
+        when(figurineRepository.findById(42L)).thenReturn(Optional.of(figurine));
+        when(storeRepository.findById(3L)).thenReturn(Optional.of(store));
+        when(figurineStoreRepository.findByFigurineAndStore(figurine, store)).thenReturn(List.of(listing));
+        when(priceHistory.runs(Set.of(8L))).thenReturn(List.of(latest, earlier));
+
+        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("JPY"),
+                PriceResolution.RAW);
+
+        assertThat(result.currency()).isEqualTo("USD");
+        assertThat(result.prices()).extracting(FigurineStoreHistoricalPriceResp::since)
+                .containsExactly(Instant.parse("2025-03-05T18:00:00Z"), Instant.parse("2025-03-01T12:00:00Z"));
+        assertThat(result.prices().getFirst().checkedAt()).isEqualTo(Instant.parse("2025-03-11T12:00:00Z"));
+        assertThat(result.prices().getFirst().minPrice()).isNull();
+        verify(priceHistory, never()).rollups(any(), any());
+        verifyNoInteractions(currencyService);
+    }
+
+    @Test
+    void retrieveHistoricalPrices_shouldReturnConvertedRollups_whenDayResolutionIsRequested() {
+        Figurine figurine = figurine(42L, "Aries");
+        Store store = store(3L, "Myth Supplies", "MYTH_SUPPLIES", "USD");
+        FigurineStore listing = figurineStore(figurine, store, "Original Aries", "Aries", ListingStatus.IN_STOCK,
+                false);
+        listing.setId(8L);
+
+        PriceRollup rollup = new PriceRollup();
+        rollup.setFigurineStoreId(8L);
+        rollup.setResolution(PriceResolution.DAY);
+        rollup.setPeriodStart(Instant.parse("2025-03-11T00:00:00Z"));
+        rollup.setMinPrice(new BigDecimal("100.00"));
+        rollup.setMaxPrice(new BigDecimal("130.00"));
+        rollup.setPriceSum(new BigDecimal("350.00"));
+        rollup.setSamples(3);
+        rollup.setLastPrice(new BigDecimal("120.00"));
+        rollup.setLastSeenAt(Instant.parse("2025-03-11T18:00:00Z"));
+
+        when(figurineRepository.findById(42L)).thenReturn(Optional.of(figurine));
+        when(figurineStoreRepository.findByFigurine(figurine)).thenReturn(List.of(listing));
+        when(priceHistory.rollups(Set.of(8L), PriceResolution.DAY)).thenReturn(List.of(rollup));
+        when(currencyService.convert(any(BigDecimal.class), eq("USD"), eq("EUR")))
+                .thenAnswer(invocation -> invocation.<BigDecimal>getArgument(0).multiply(new BigDecimal("2")));
+
+        FigurineStoreHistoricalResp result = service.retrieveHistoricalPrices(42L, null, Currency.getInstance("EUR"),
+                PriceResolution.DAY);
+
+        assertThat(result.currency()).isEqualTo("EUR");
+        assertThat(result.prices()).singleElement().satisfies(price -> {
+            assertThat(price.storeName()).isEqualTo("Myth Supplies");
+            assertThat(price.since()).isEqualTo(Instant.parse("2025-03-11T00:00:00Z"));
+            assertThat(price.checkedAt()).isEqualTo(Instant.parse("2025-03-11T18:00:00Z"));
+            assertThat(price.price()).isEqualByComparingTo(new BigDecimal("240.00"));
+            assertThat(price.minPrice()).isEqualByComparingTo(new BigDecimal("200.00"));
+            assertThat(price.maxPrice()).isEqualByComparingTo(new BigDecimal("260.00"));
+            assertThat(price.averagePrice()).isEqualByComparingTo(new BigDecimal("233.34"));
+        });
+    }
+
     @Test
     void retrieveHistoricalPrices_shouldThrowWhenFigurineIsMissing() {
         when(figurineRepository.findById(42L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.retrieveHistoricalPrices(42L, null, Currency.getInstance("USD")))
+        assertThatThrownBy(() -> service.retrieveHistoricalPrices(42L, null, Currency.getInstance("USD"), null))
                 .isInstanceOf(FigurineNotFoundException.class).hasMessage("Figurine with id 42 was not found");
     }
 
@@ -617,10 +916,19 @@ class FigurineStoreServiceTest {
         when(figurineRepository.findById(42L)).thenReturn(Optional.of(figurine));
         when(storeRepository.findById(3L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("USD")))
+        assertThatThrownBy(() -> service.retrieveHistoricalPrices(42L, 3L, Currency.getInstance("USD"), null))
                 .isInstanceOf(StoreNotFoundException.class).hasMessageContaining("Store with id 3 was not found");
     }
 
+    private PriceObservation run(Long figurineStoreId, String price, String firstSeenAt, String lastSeenAt) {
+        PriceObservation run = new PriceObservation();
+        run.setFigurineStoreId(figurineStoreId);
+        run.setPrice(new BigDecimal(price));
+        run.setFirstSeenAt(Instant.parse(firstSeenAt));
+        run.setLastSeenAt(Instant.parse(lastSeenAt));
+        return run;
+    }
+
     private void mockStoreCache(Store store) {
         when(cacheManager.getCache("stores")).thenReturn(cache);
         doReturn(null).when(cache).get("store", List.class);
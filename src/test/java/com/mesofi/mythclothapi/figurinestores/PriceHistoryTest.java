@@ -0,0 +1,218 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import static com.mesofi.mythclothapi.figurinestores.PriceHistory.RUNS_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mesofi.mythclothapi.figurinestores.PriceHistory.Observation;
+import com.mesofi.mythclothapi.figurinestores.config.PriceHistoryProperties;
+import com.mesofi.mythclothapi.figurinestores.model.PriceObservation;
+import com.mesofi.mythclothapi.figurinestores.model.PriceResolution;
+import com.mesofi.mythclothapi.figurinestores.model.PriceRollup;
+import com.mesofi.mythclothapi.figurinestores.repository.PriceObservationRepository;
+import com.mesofi.mythclothapi.figurinestores.repository.PriceRollupRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PriceHistoryTest {
+
+    private static final Instant SEEN_AT = Instant.parse("2025-03-11T12:00:00Z");
+    private static final Instant DAY = Instant.parse("2025-03-11T00:00:00Z");
+    private static final Instant WEEK = Instant.parse("2025-03-10T00:00:00Z");
+
+    private final PriceObservationRepository observationRepository = mock(PriceObservationRepository.class);
+    private final PriceRollupRepository rollupRepository = mock(PriceRollupRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PriceHistory priceHistory = new PriceHistory(observationRepository, rollupRepository,
+            new PriceHistoryProperties(), meterRegistry);
+
+    private final List<PriceObservation> savedRuns = new ArrayList<>();
+    private final List<PriceRollup> savedRollups = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(observationRepository.save(any(PriceObservation.class))).thenAnswer(invocation -> {
+            savedRuns.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(rollupRepository.save(any(PriceRollup.class))).thenAnswer(invocation -> {
+            savedRollups.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+    }
+
+    @Test
+    void periodStart_shouldTruncateToUtcDayAndMondayOfWeek() {
+        Instant sunday = Instant.parse("2025-03-16T23:59:59Z");
+
+        assertThat(PriceResolution.RAW.periodStart(sunday)).isEqualTo(sunday);
+        assertThat(PriceResolution.DAY.periodStart(sunday)).isEqualTo(Instant.parse("2025-03-16T00:00:00Z"));
+        assertThat(PriceResolution.WEEK.periodStart(sunday)).isEqualTo(WEEK);
+        assertThat(PriceResolution.WEEK.periodStart(WEEK)).isEqualTo(WEEK);
+    }
+
+    @Test
+    void record_shouldAppendRunAndOpenRollups_whenListingHasNoHistory() {
+        priceHistory.record(List.of(observation("120.00", null, SEEN_AT)));
+
+        assertThat(savedRuns).singleElement().satisfies(run -> {
+            assertThat(run.getFigurineStoreId()).isEqualTo(8L);
+            assertThat(run.getPrice()).isEqualByComparingTo("120.00");
+            assertThat(run.getFirstSeenAt()).isEqualTo(SEEN_AT);
+            assertThat(run.getLastSeenAt()).isEqualTo(SEEN_AT);
+            assertThat(run.isLatest()).isTrue();
+        });
+        assertThat(savedRollups).extracting(PriceRollup::getResolution, PriceRollup::getPeriodStart)
+                .containsExactlyInAnyOrder(tuple(PriceResolution.DAY, DAY), tuple(PriceResolution.WEEK, WEEK));
+        assertThat(savedRollups).allSatisfy(rollup -> assertThat(rollup.getSamples()).isEqualTo(1));
+        assertThat(meterRegistry.counter(RUNS_METRIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    void record_shouldExtendLatestRun_whenPriceIsUnchanged() {
+        PriceObservation latest = run("120.00", "5.00", SEEN_AT.minusSeconds(3600));
+        when(observationRepository.findByFigurineStoreIdInAndLatestTrue(Set.of(8L))).thenReturn(List.of(latest));
+
+        priceHistory.record(List.of(observation("120.000", "5", SEEN_AT)));
+
+        assertThat(savedRuns).isEmpty();
+        assertThat(latest.getLastSeenAt()).isEqualTo(SEEN_AT);
+        assertThat(latest.isLatest()).isTrue();
+        assertThat(meterRegistry.counter(RUNS_METRIC).count()).isZero();
+    }
+
+    @Test
+    void record_shouldCloseLatestRun_whenPriceOrDiscountChanged() {
+        PriceObservation latest = run("120.00", null, SEEN_AT.minusSeconds(3600));
+        when(observationRepository.findByFigurineStoreIdInAndLatestTrue(Set.of(8L))).thenReturn(List.of(latest));
+
+        priceHistory.record(List.of(observation("120.00", "10.00", SEEN_AT),
+                observation("110.00", "10.00", SEEN_AT.plusSeconds(60))));
+
+        assertThat(latest.isLatest()).isFalse();
+        assertThat(latest.getLastSeenAt()).isEqualTo(SEEN_AT.minusSeconds(3600));
+        assertThat(savedRuns).extracting(PriceObservation::getPrice, PriceObservation::isLatest)
+                .containsExactly(tuple(new BigDecimal("120.00"), false), tuple(new BigDecimal("110.00"), true));
+        assertThat(meterRegistry.counter(RUNS_METRIC).count()).isEqualTo(2);
+    }
+
+    @Test
+    void record_shouldIgnoreObservation_whenOlderThanLatestRun() {
+        PriceObservation latest = run("120.00", null, SEEN_AT);
+        when(observationRepository.findByFigurineStoreIdInAndLatestTrue(Set.of(8L))).thenReturn(List.of(latest));
+
+        priceHistory.record(List.of(observation("90.00", null, SEEN_AT.minusSeconds(60))));
+
+        assertThat(savedRuns).isEmpty();
+        assertThat(savedRollups).isEmpty();
+        assertThat(latest.isLatest()).isTrue();
+        assertThat(latest.getPrice()).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    void record_shouldAddEveryObservationToRollups_withMinimumMaximumAndSum() {
+        priceHistory.record(List.of(observation("120.00", null, SEEN_AT),
+                observation("120.00", null, SEEN_AT.plusSeconds(60)),
+                observation("100.00", null, SEEN_AT.plusSeconds(120)),
+                observation("130.00", null, SEEN_AT.plusSeconds(180))));
+
+        assertThat(savedRollups).hasSize(2).allSatisfy(rollup -> {
+            assertThat(rollup.getMinPrice()).isEqualByComparingTo("100.00");
+            assertThat(rollup.getMaxPrice()).isEqualByComparingTo("130.00");
+            assertThat(rollup.getPriceSum()).isEqualByComparingTo("470.00");
+            assertThat(rollup.getSamples()).isEqualTo(4);
+            assertThat(rollup.getLastPrice()).isEqualByComparingTo("130.00");
+            assertThat(rollup.getLastSeenAt()).isEqualTo(SEEN_AT.plusSeconds(180));
+        });
+    }
+
+    @Test
+    void record_shouldDoNothing_whenThereAreNoObservations() {
+        priceHistory.record(List.of());
+
+        verifyNoInteractions(observationRepository, rollupRepository);
+    }
+
+    @Test
+    void extend_shouldExtendLatestRunsAndRollupsOfDayAndWeek() {
+        priceHistory.extend(List.of(8L, 9L), SEEN_AT);
+
+        verify(observationRepository).extendLatest(eq(List.of(8L, 9L)), eq(SEEN_AT), any());
+        verify(rollupRepository).extendLastSeen(eq(List.of(8L, 9L)), eq(DAY), eq(WEEK), eq(SEEN_AT), any());
+    }
+
+    @Test
+    void runs_shouldNotQuery_whenThereAreNoListings() {
+        assertThat(priceHistory.runs(List.of())).isEmpty();
+        assertThat(priceHistory.rollups(List.of(), PriceResolution.WEEK)).isEmpty();
+
+        verify(observationRepository, never())
+                .findByFigurineStoreIdInAndLastSeenAtGreaterThanEqualOrderByFirstSeenAtDesc(anyCollection(), any());
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void rollups_shouldReadWeeklyRollupsWithinTheirRetention() {
+        Instant before = Instant.now();
+
+        priceHistory.rollups(List.of(8L), PriceResolution.WEEK);
+
+        verify(rollupRepository)
+                .findByFigurineStoreIdInAndResolutionAndPeriodStartGreaterThanEqualOrderByPeriodStartDesc(
+                        eq(List.of(8L)), eq(PriceResolution.WEEK),
+                        argThat(since -> since.equals(PriceResolution.WEEK.periodStart(since))
+                                && since.isBefore(before.minus(Duration.ofDays(1818)))));
+    }
+
+    @Test
+    void purge_shouldDeleteHistoryPastRetentionAndOrphans() {
+        Instant before = Instant.now();
+
+        priceHistory.purge();
+
+        verify(observationRepository).deleteEndedBefore(argThat(
+                cutoff -> !cutoff.isBefore(before.minus(Duration.ofDays(90))) && cutoff.isBefore(before)));
+        verify(rollupRepository).deleteStartedBefore(eq(PriceResolution.DAY),
+                argThat(cutoff -> cutoff.equals(PriceResolution.DAY.periodStart(cutoff))
+                        && cutoff.isBefore(before.minus(Duration.ofDays(729)))));
+        verify(rollupRepository).deleteStartedBefore(eq(PriceResolution.WEEK),
+                argThat(cutoff -> cutoff.equals(PriceResolution.WEEK.periodStart(cutoff))
+                        && cutoff.isBefore(before.minus(Duration.ofDays(1818)))));
+        verify(observationRepository).deleteOrphans();
+        verify(rollupRepository).deleteOrphans();
+    }
+
+    private static Observation observation(String price, String discount, Instant seenAt) {
+        return new Observation(8L, new BigDecimal(price), discount == null ? null : new BigDecimal(discount), seenAt);
+    }
+
+    private static PriceObservation run(String price, String discount, Instant seenAt) {
+        PriceObservation run = new PriceObservation();
+        run.setFigurineStoreId(8L);
+        run.setPrice(new BigDecimal(price));
+        run.setDiscount(discount == null ? null : new BigDecimal(discount));
+        run.setFirstSeenAt(seenAt);
+        run.setLastSeenAt(seenAt);
+        run.setLatest(true);
+        return run;
+    }
+}
@@ -0,0 +1,315 @@
+package com.mesofi.mythclothapi.figurinestores;
+
+import static com.mesofi.mythclothapi.figurinestores.StoreListingDeduplicator.FLUSHED_METRIC;
+import static com.mesofi.mythclothapi.figurinestores.StoreListingDeduplicator.FLUSH_CHUNK_SIZE;
+import static com.mesofi.mythclothapi.figurinestores.StoreListingDeduplicator.REQUESTS_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurines.model.Figurine;
+import com.mesofi.mythclothapi.figurinestores.config.ListingDedupProperties;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineStore;
+import com.mesofi.mythclothapi.figurinestores.model.FigurineStorePricing;
+import com.mesofi.mythclothapi.figurinestores.repository.FigurineStorePricingRepository;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StoreListingDeduplicatorTest {
+
+    private static final Instant CHECKED_AT = Instant.parse("2025-03-11T12:00:00Z");
+
+    private final FigurineStorePricingRepository repository = mock(FigurineStorePricingRepository.class);
+    private final PriceHistory priceHistory = mock(PriceHistory.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object> published = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher = published::add;
+    private final StoreListingDeduplicator deduplicator = deduplicator(true);
+
+    @Test
+    void absorb_shouldCountUnseen_whenListingWasNeverProcessed() {
+        assertThat(deduplicator.absorb(listing("999.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT)))
+                .isFalse();
+
+        assertThat(requests("unseen")).isEqualTo(1);
+    }
+
+    @Test
+    void absorb_shouldAbsorbListing_whenListingIsUnchanged() {
+        deduplicator.remember(listing("999.99", "10", ListingStatus.IN_STOCK, true, CHECKED_AT), pricing(7L));
+
+        assertThat(deduplicator.absorb(listing("999.990", "10.00", ListingStatus.IN_STOCK, true,
+                CHECKED_AT.plusSeconds(60)))).isTrue();
+
+        assertThat(requests("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    void absorb_shouldProcessListing_whenPriceDiscountStatusOrPreorderChanged() {
+        deduplicator.remember(listing("999.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT), pricing(7L));
+
+        assertThat(deduplicator.absorb(listing("899.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT))).isFalse();
+        assertThat(deduplicator.absorb(listing("999.99", "10", ListingStatus.IN_STOCK, false, CHECKED_AT)))
+                .isFalse();
+        assertThat(deduplicator.absorb(listing("999.99", null, ListingStatus.OUT_OF_STOCK, false, CHECKED_AT)))
+                .isFalse();
+        assertThat(deduplicator.absorb(listing("999.99", null, ListingStatus.IN_STOCK, true, CHECKED_AT))).isFalse();
+
+        assertThat(requests("changed")).isEqualTo(4);
+        deduplicator.flush();
+        verify(repository, never()).advanceCheckedAt(anyCollection(), any(), any());
+    }
+
+    @Test
+    void absorb_shouldProcessListing_whenDayChanged() {
+        deduplicator.remember(listing("999.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT), pricing(7L));
+
+        assertThat(deduplicator.absorb(listing("999.99", null, ListingStatus.IN_STOCK, false,
+                Instant.parse("2025-03-12T00:00:00Z")))).isFalse();
+
+        assertThat(requests("changed")).isEqualTo(1);
+    }
+
+    @Test
+    void absorb_shouldProcessListing_whenDisabled() {
+        StoreListingDeduplicator disabled = deduplicator(false);
+        StoreListing listing = listing("999.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT);
+        disabled.remember(listing, pricing(7L));
+
+        assertThat(disabled.absorb(listing)).isFalse();
+        assertThat(requests("unseen") + requests("duplicate")).isZero();
+    }
+
+    @Test
+    void remember_shouldRememberListing_onlyOnceTransactionCommits() {
+        StoreListing listing = listing("999.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            deduplicator.remember(listing, pricing(7L));
+            assertThat(deduplicator.absorb(listing)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(deduplicator.absorb(listing)).isTrue();
+    }
+
+    @Test
+    void absorb_shouldRecordNothing_whenTransactionRollsBack() {
+        StoreListing listing = listing("Aries", "999.99", CHECKED_AT);
+        deduplicator.remember(listing, pricing(7L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(deduplicator.absorb(listing)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        deduplicator.flush();
+
+        verify(repository, never()).advanceCheckedAt(anyCollection(), any(), any());
+        assertThat(requests("duplicate")).isZero();
+    }
+
+    @Test
+    void forget_shouldPublishListingChange_forEveryNodeToForgetIt() {
+        StoreListing listing = listing("999.99", null, ListingStatus.IN_STOCK, false, CHECKED_AT);
+        deduplicator.remember(listing, pricing(7L));
+
+        deduplicator.forget(StoreName.MYTH_SUPPLIES.name(), listing.originalProductName());
+
+        assertThat(published)
+                .containsExactly(new StoreListingChangedEvent(StoreName.MYTH_SUPPLIES.name(), "Original Aries"));
+        assertThat(deduplicator.absorb(listing)).isTrue();
+    }
+
+    @Test
+    void onStoreListingChanged_shouldProcessListingAgain() {
+        StoreListing aries = listing("Aries", "999.99", CHECKED_AT);
+        StoreListing taurus = listing("Taurus", "999.99", CHECKED_AT);
+        deduplicator.remember(aries, pricing(7L));
+        deduplicator.remember(taurus, pricing(8L));
+
+        deduplicator.onStoreListingChanged(
+                new StoreListingChangedEvent(StoreName.MYTH_SUPPLIES.name(), aries.originalProductName()));
+
+        assertThat(deduplicator.absorb(aries)).isFalse();
+        assertThat(deduplicator.absorb(taurus)).isTrue();
+    }
+
+    @Test
+    void onCatalogChanged_shouldProcessListingsOfChangedFigurineOnly() {
+        StoreListing aries = listing("Aries", "999.99", CHECKED_AT);
+        StoreListing taurus = listing("Taurus", "999.99", CHECKED_AT);
+        deduplicator.remember(aries, pricing(7L));
+        deduplicator.remember(taurus, pricing(8L));
+
+        deduplicator.onCatalogChanged(new FigurineCatalogChangedEvent(700L, Set.of(2L), false));
+
+        assertThat(deduplicator.absorb(aries)).isFalse();
+        assertThat(deduplicator.absorb(taurus)).isTrue();
+    }
+
+    @Test
+    void onCatalogChanged_shouldProcessEveryListingAgain_whenSeveralFigurinesChanged() {
+        StoreListing aries = listing("Aries", "999.99", CHECKED_AT);
+        StoreListing taurus = listing("Taurus", "999.99", CHECKED_AT);
+        deduplicator.remember(aries, pricing(7L));
+        deduplicator.remember(taurus, pricing(8L));
+
+        deduplicator.onCatalogChanged(new FigurineCatalogChangedEvent(null));
+
+        assertThat(deduplicator.absorb(aries)).isFalse();
+        assertThat(deduplicator.absorb(taurus)).isFalse();
+    }
+
+    @Test
+    void flush_shouldAdvanceLatestCheckTimeOfEachPricing_withOneUpdatePerCheckTime() {
+        StoreListing aries = listing("Aries", "999.99", CHECKED_AT);
+        StoreListing taurus = listing("Taurus", "999.99", CHECKED_AT);
+        deduplicator.remember(aries, pricing(7L));
+        deduplicator.remember(taurus, pricing(8L));
+        Instant latest = CHECKED_AT.plusSeconds(120);
+        deduplicator.absorb(listing("Aries", "999.99", latest));
+        deduplicator.absorb(listing("Aries", "999.99", CHECKED_AT.plusSeconds(60)));
+        deduplicator.absorb(listing("Taurus", "999.99", latest));
+        when(repository.advanceCheckedAt(anyCollection(), eq(latest), any())).thenReturn(2);
+
+        deduplicator.flush();
+        deduplicator.flush();
+
+        ArgumentCaptor<Collection<Long>> ids = idsCaptor();
+        verify(repository, times(1)).advanceCheckedAt(ids.capture(), eq(latest), any());
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(7L, 8L);
+        ArgumentCaptor<Collection<Long>> figurineStoreIds = idsCaptor();
+        verify(priceHistory, times(1)).extend(figurineStoreIds.capture(), eq(latest));
+        assertThat(figurineStoreIds.getValue()).containsExactlyInAnyOrder(70L, 80L);
+        assertThat(meterRegistry.counter(FLUSHED_METRIC).count()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_shouldSplitUpdates_whenManyPricingsShareCheckTime() {
+        for (long id = 1; id <= FLUSH_CHUNK_SIZE + 1; id++) {
+            StoreListing listing = listing("Aries " + id, "999.99", CHECKED_AT);
+            deduplicator.remember(listing, pricing(id));
+            deduplicator.absorb(listing);
+        }
+
+        deduplicator.flush();
+
+        ArgumentCaptor<Collection<Long>> ids = idsCaptor();
+        verify(repository, times(2)).advanceCheckedAt(ids.capture(), eq(CHECKED_AT), any());
+        assertThat(ids.getAllValues()).extracting(Collection::size).containsExactlyInAnyOrder(FLUSH_CHUNK_SIZE, 1);
+    }
+
+    @Test
+    void flush_shouldKeepCheckTimes_whenUpdateFails() {
+        StoreListing listing = listing("Aries", "999.99", CHECKED_AT);
+        deduplicator.remember(listing, pricing(7L));
+        deduplicator.absorb(listing);
+        when(repository.advanceCheckedAt(anyCollection(), eq(CHECKED_AT), any()))
+                .thenThrow(new QueryTimeoutException("timeout")).thenReturn(1);
+
+        deduplicator.flush();
+        deduplicator.flush();
+
+        ArgumentCaptor<Collection<Long>> ids = idsCaptor();
+        verify(repository, times(2)).advanceCheckedAt(ids.capture(), eq(CHECKED_AT), any());
+        assertThat(ids.getAllValues()).containsExactly(List.of(7L), List.of(7L));
+        verify(priceHistory, times(1)).extend(List.of(70L), CHECKED_AT);
+        assertThat(meterRegistry.counter(FLUSHED_METRIC).count()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_shouldRollBackChunkAndKeepCheckTimes_whenPriceHistoryFails() {
+        StoreListing listing = listing("Aries", "999.99", CHECKED_AT);
+        deduplicator.remember(listing, pricing(7L));
+        deduplicator.absorb(listing);
+        when(repository.advanceCheckedAt(anyCollection(), eq(CHECKED_AT), any())).thenReturn(1);
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(priceHistory).extend(anyCollection(),
+                eq(CHECKED_AT));
+
+        deduplicator.flush();
+        deduplicator.flush();
+
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(repository, times(2)).advanceCheckedAt(eq(List.of(7L)), eq(CHECKED_AT), any());
+        assertThat(meterRegistry.counter(FLUSHED_METRIC).count()).isEqualTo(1);
+    }
+
+    private StoreListingDeduplicator deduplicator(boolean enabled) {
+        ListingDedupProperties properties = new ListingDedupProperties();
+        properties.setEnabled(enabled);
+        return new StoreListingDeduplicator(repository, priceHistory, cacheManager, eventPublisher,
+                transactionManager, meterRegistry, properties);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter(REQUESTS_METRIC, "result", result).count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Long>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static FigurineStorePricing pricing(Long id) {
+        Figurine figurine = new Figurine();
+        figurine.setId(id * 100);
+        FigurineStore figurineStore = new FigurineStore();
+        figurineStore.setId(id * 10);
+        figurineStore.setFigurine(figurine);
+        FigurineStorePricing pricing = new FigurineStorePricing();
+        pricing.setId(id);
+        pricing.setFigurineStore(figurineStore);
+        return pricing;
+    }
+
+    private static StoreListing listing(String name, String price, Instant checkedAt) {
+        return new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original " + name, name, null,
+                "https://example.com/" + name, new BigDecimal(price), null, null, Currency.getInstance("USD"),
+                ListingStatus.IN_STOCK, false, checkedAt);
+    }
+
+    private static StoreListing listing(String price, String discount, ListingStatus status, boolean preorder,
+            Instant checkedAt) {
+        return new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries", "Aries", null,
+                "https://example.com/aries", new BigDecimal(price),
+                discount == null ? null : new BigDecimal(discount), null, Currency.getInstance("USD"), status,
+                preorder, checkedAt);
+    }
+}
@@ -0,0 +1,133 @@
+package com.mesofi.mythclothapi.messaging.invalidation;
+
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames.CACHE_INVALIDATION_EXCHANGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
+import com.mesofi.mythclothapi.figurines.FigurineCatalogChangedEvent;
+import com.mesofi.mythclothapi.figurinestores.StoreListingChangedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheInvalidationBroadcasterTest {
+
+    /** In-process stand-in of the fanout exchange, delivering to every node. */
+    private final AmqpTemplate exchange = mock(AmqpTemplate.class);
+    private final List<Node> nodes = new ArrayList<>();
+    private int sent;
+
+    private Node node1;
+    private Node node2;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            sent++;
+            CacheInvalidationMessage message = invocation.getArgument(2);
+            nodes.forEach(node -> node.broadcaster.onMessage(message));
+            return null;
+        }).when(exchange).convertAndSend(eq(CACHE_INVALIDATION_EXCHANGE), anyString(), any(Object.class));
+
+        node1 = new Node(exchange);
+        node2 = new Node(exchange);
+        nodes.addAll(List.of(node1, node2));
+    }
+
+    @Test
+    void onFigurineCatalogChanged_shouldReplayEventOnOtherNodesOnly() {
+        FigurineCatalogChangedEvent event = new FigurineCatalogChangedEvent(10L, Set.of(1L, 2L), false);
+
+        node1.broadcaster.onFigurineCatalogChanged(event);
+
+        assertThat(sent).isEqualTo(1);
+        assertThat(node1.replayed).isEmpty();
+        assertThat(node2.replayed).containsExactly(event);
+        assertThat(node2.meterRegistry.get(CacheInvalidationBroadcaster.LAG_METRIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onCatalogChanged_shouldReplayCachesToEvict() {
+        CatalogChangedEvent event = new CatalogChangedEvent("stores", Set.of("stores"));
+
+        node2.broadcaster.onCatalogChanged(event);
+
+        assertThat(node1.replayed).containsExactly(event);
+        assertThat(node2.replayed).isEmpty();
+    }
+
+    @Test
+    void onStoreListingChanged_shouldReplayListingToForget() {
+        StoreListingChangedEvent event = new StoreListingChangedEvent("MYTH_SUPPLIES", "Original Aries");
+
+        node1.broadcaster.onStoreListingChanged(event);
+
+        assertThat(node1.replayed).isEmpty();
+        assertThat(node2.replayed).containsExactly(event);
+    }
+
+    @Test
+    void onMessage_shouldNotBroadcastReplayedEventsAgain() {
+        node1.broadcaster.onFigurineCatalogChanged(new FigurineCatalogChangedEvent(null));
+
+        assertThat(sent).isEqualTo(1);
+        assertThat(node2.replayed).containsExactly(new FigurineCatalogChangedEvent(null));
+    }
+
+    @Test
+    void onFigurineCatalogChanged_shouldCountFailure_whenBrokerIsUnavailable() {
+        AmqpTemplate unavailable = mock(AmqpTemplate.class);
+        doThrow(new AmqpConnectException(new RuntimeException("refused"))).when(unavailable)
+                .convertAndSend(anyString(), anyString(), any(Object.class));
+        Node node = new Node(unavailable);
+
+        node.broadcaster.onFigurineCatalogChanged(new FigurineCatalogChangedEvent(null));
+
+        assertThat(node.meterRegistry.get(CacheInvalidationBroadcaster.FAILURES_METRIC).counter().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * A node whose application events are dispatched synchronously to its own
+     * broadcaster, as Spring does when no transaction is active.
+     */
+    private static final class Node {
+
+        private final List<Object> replayed = new ArrayList<>();
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final CacheInvalidationBroadcaster broadcaster;
+
+        Node(AmqpTemplate exchange) {
+            ApplicationEventPublisher publisher = event -> {
+                replayed.add(event);
+                switch (event) {
+                    case FigurineCatalogChangedEvent figurine -> broadcaster().onFigurineCatalogChanged(figurine);
+                    case CatalogChangedEvent catalog -> broadcaster().onCatalogChanged(catalog);
+                    case StoreListingChangedEvent listing -> broadcaster().onStoreListingChanged(listing);
+                    default -> {
+                    }
+                }
+            };
+            this.broadcaster = new CacheInvalidationBroadcaster(exchange, publisher, meterRegistry);
+        }
+
+        private CacheInvalidationBroadcaster broadcaster() {
+            return broadcaster;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames.CRAWLER_DEAD_LETTER_EXCHANGE;
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.QueueNames.CRAWLER_QUEUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class BatchMessageConsumerTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BatchMessageConsumer consumer;
+
+    @Mock
+    private FigurineStoreService figurineStoreService;
+
+    @Mock
+    private AmqpTemplate amqpTemplate;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new BatchMessageConsumer(figurineStoreService, new StoreListingMessageConverter(meterRegistry),
+                meterRegistry, amqpTemplate);
+    }
+
+    @Test
+    void handleEvents_shouldProcessListingsInOneBatch_whenMessagesAreValid() {
+        consumer.handleEvents(List.of(message(payload("Aries")), message(payload("Taurus"))));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoreListing>> captor = ArgumentCaptor.forClass(List.class);
+        verify(figurineStoreService).processStorePricings(captor.capture());
+        assertThat(captor.getValue()).extracting(StoreListing::productName).containsExactly("Aries", "Taurus");
+        verify(figurineStoreService, never()).processStorePricing(any());
+
+        assertThat(listings()).isEqualTo(2);
+        assertThat(meterRegistry.timer(MessageConsumer.PROCESSING_METRIC, "mode", "batch").count()).isEqualTo(1);
+    }
+
+    @Test
+    void handleEvents_shouldDiscardMalformedMessages() {
+        Map<String, Object> malformed = payload("Gemini");
+        malformed.put("status", "UNKNOWN");
+
+        consumer.handleEvents(List.of(message(payload("Aries")), message(malformed)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoreListing>> captor = ArgumentCaptor.forClass(List.class);
+        verify(figurineStoreService).processStorePricings(captor.capture());
+        assertThat(captor.getValue()).extracting(StoreListing::productName).containsExactly("Aries");
+        assertThat(listings()).isEqualTo(1);
+        assertThat(meterRegistry.counter(StoreListingMessageConverter.MALFORMED_METRIC, "reason", "unreadable")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void handleEvents_shouldDoNothing_whenNoMessageIsValid() {
+        Message malformed = new Message("{".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+        consumer.handleEvents(List.of(malformed));
+
+        verifyNoInteractions(figurineStoreService);
+        assertThat(listings()).isZero();
+    }
+
+    @Test
+    void handleEvents_shouldProcessListingsOneAtATimeAndDeadLetterFailures_whenBatchFails() {
+        doThrow(new IllegalStateException("constraint violation")).when(figurineStoreService)
+                .processStorePricings(anyList());
+        doAnswer(invocation -> {
+            if (invocation.<StoreListing>getArgument(0).productName().equals("Taurus")) {
+                throw new IllegalArgumentException("Store not found");
+            }
+            return null;
+        }).when(figurineStoreService).processStorePricing(any());
+
+        Message taurus = message(payload("Taurus"));
+
+        consumer.handleEvents(List.of(message(payload("Aries")), taurus, message(payload("Gemini"))));
+
+        ArgumentCaptor<StoreListing> captor = ArgumentCaptor.forClass(StoreListing.class);
+        verify(figurineStoreService, times(3)).processStorePricing(captor.capture());
+        assertThat(captor.getAllValues()).extracting(StoreListing::productName).containsExactly("Aries", "Taurus",
+                "Gemini");
+        assertThat(listings()).isEqualTo(2);
+        verify(amqpTemplate).send(CRAWLER_DEAD_LETTER_EXCHANGE, CRAWLER_QUEUE, taurus);
+    }
+
+    private double listings() {
+        return meterRegistry.counter(MessageConsumer.LISTINGS_METRIC, "mode", "batch").count();
+    }
+
+    private static Message message(Map<String, Object> payload) {
+        return new Message(MAPPER.writeValueAsBytes(payload), new MessageProperties());
+    }
+
+    private static Map<String, Object> payload(String productName) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("store", "MYTH_SUPPLIES");
+        payload.put("lineUp", "MYTH_CLOTH");
+        payload.put("originalProductName", "Original " + productName);
+        payload.put("productName", productName);
+        payload.put("productImageUrl", "https://example.com/" + productName + ".jpg");
+        payload.put("productUrl", "https://example.com/" + productName);
+        payload.put("price", "999.99");
+        payload.put("discount", 10);
+        payload.put("discountedPrice", 899.99);
+        payload.put("currency", "USD");
+        payload.put("status", "IN_STOCK");
+        payload.put("preorder", false);
+        payload.put("checkedAt", "2025-03-11T12:30:45Z");
+        return payload;
+    }
+}
@@ -6,13 +6,10 @@ import static org.mockito.Mockito.verify;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Currency;
-import java.util.HashMap;
-import java.util.Map;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,50 +19,34 @@ import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
 import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
 import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class MessageConsumerTest {
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private MessageConsumer consumer;
 
     @Mock
     private FigurineStoreService figurineStoreService;
 
-    @Test
-    void handleEvent_shouldConvertPayloadAndProcessStorePricing() {
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("store", "MYTH_SUPPLIES");
-        payload.put("lineUp", "MYTH_CLOTH");
-        payload.put("originalProductName", "Original Aries");
-        payload.put("productName", "Aries");
-        payload.put("productImageUrl", "https://example.com/aries.jpg");
-        payload.put("productUrl", "https://example.com/aries");
-        payload.put("price", "999.99");
-        payload.put("discount", 10);
-        payload.put("discountedPrice", "899.99");
-        payload.put("currency", "USD");
-        payload.put("status", "IN_STOCK");
-        payload.put("preorder", true);
-        payload.put("checkedAt", "2025-03-11T12:30:45Z");
+    @BeforeEach
+    void setUp() {
+        consumer = new MessageConsumer(figurineStoreService, meterRegistry);
+    }
 
-        consumer.handleEvent(payload);
+    @Test
+    void handleEvent_shouldProcessStorePricing() {
+        StoreListing listing = new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH, "Original Aries",
+                "Aries", "https://example.com/aries.jpg", "https://example.com/aries", new BigDecimal("999.99"),
+                new BigDecimal("10"), new BigDecimal("899.99"), Currency.getInstance("USD"), ListingStatus.IN_STOCK,
+                true, Instant.parse("2025-03-11T12:30:45Z"));
 
-        ArgumentCaptor<StoreListing> captor = ArgumentCaptor.forClass(StoreListing.class);
-        verify(figurineStoreService).processStorePricing(captor.capture());
+        consumer.handleEvent(listing);
 
-        StoreListing listing = captor.getValue();
-        assertThat(listing.store()).isEqualTo(StoreName.MYTH_SUPPLIES);
-        assertThat(listing.lineUp()).isEqualTo(LineUpType.MYTH_CLOTH);
-        assertThat(listing.originalProductName()).isEqualTo("Original Aries");
-        assertThat(listing.productName()).isEqualTo("Aries");
-        assertThat(listing.productImageUrl()).isEqualTo("https://example.com/aries.jpg");
-        assertThat(listing.productUrl()).isEqualTo("https://example.com/aries");
-        assertThat(listing.price()).isEqualByComparingTo(new BigDecimal("999.99"));
-        assertThat(listing.discount()).isEqualByComparingTo(new BigDecimal("10"));
-        assertThat(listing.discountedPrice()).isEqualByComparingTo(new BigDecimal("899.99"));
-        assertThat(listing.currency()).isEqualTo(Currency.getInstance("USD"));
-        assertThat(listing.status()).isEqualTo(ListingStatus.IN_STOCK);
-        assertThat(listing.preorder()).isTrue();
-        assertThat(listing.checkedAt()).isEqualTo(Instant.parse("2025-03-11T12:30:45Z"));
+        verify(figurineStoreService).processStorePricing(listing);
+        assertThat(meterRegistry.counter(MessageConsumer.LISTINGS_METRIC, "mode", "single").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer(MessageConsumer.PROCESSING_METRIC, "mode", "single").count()).isEqualTo(1);
     }
 }
@@ -0,0 +1,188 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import static com.mesofi.mythclothapi.messaging.RabbitMQConfig.ExchangeNames.CRAWLER_PARTITION_EXCHANGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.mesofi.mythclothapi.figurinestores.FigurineStoreService;
+import com.mesofi.mythclothapi.messaging.PricingConsumerProperties;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedMessageConsumerTest {
+
+    private static final int PARTITIONS = 8;
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StoreListingMessageConverter messageConverter = new StoreListingMessageConverter(meterRegistry);
+
+    private PartitionedMessageConsumer consumer;
+
+    @Mock
+    private FigurineStoreService figurineStoreService;
+
+    @Mock
+    private AmqpTemplate amqpTemplate;
+
+    @BeforeEach
+    void setUp() {
+        PricingConsumerProperties properties = new PricingConsumerProperties();
+        properties.getPartitioning().setPartitions(PARTITIONS);
+        consumer = new PartitionedMessageConsumer(figurineStoreService, amqpTemplate, messageConverter, meterRegistry,
+                properties);
+    }
+
+    @Test
+    void route_shouldSendMessageToPartitionOfStoreProduct() {
+        Message message = message(payload("Aries"));
+
+        consumer.route(message);
+
+        int partition = PartitionedMessageConsumer.partitionOf(StoreName.MYTH_SUPPLIES, "Original Aries", PARTITIONS);
+        verify(amqpTemplate).send(CRAWLER_PARTITION_EXCHANGE, String.valueOf(partition), message);
+        verifyNoInteractions(figurineStoreService);
+    }
+
+    @Test
+    void route_shouldSendListingsOfSameOriginalProductNameToSamePartition() {
+        Map<String, Object> first = payload("Aries");
+        Map<String, Object> second = payload("Aries");
+        second.put("productName", "Aries (Revival)");
+        second.put("price", "899.99");
+        second.put("checkedAt", "2025-03-12T12:30:45Z");
+
+        consumer.route(message(first));
+        consumer.route(message(second));
+
+        ArgumentCaptor<String> routingKeys = ArgumentCaptor.forClass(String.class);
+        verify(amqpTemplate, times(2)).send(eq(CRAWLER_PARTITION_EXCHANGE), routingKeys.capture(),
+                any(Message.class));
+        assertThat(routingKeys.getAllValues()).hasSize(2).containsOnly(routingKeys.getAllValues().getFirst());
+    }
+
+    @Test
+    void route_shouldPartitionByNormalizedName_whenOriginalProductNameIsMissing() {
+        Map<String, Object> payload = payload("Aries");
+        payload.remove("originalProductName");
+        Message message = message(payload);
+
+        consumer.route(message);
+
+        int partition = PartitionedMessageConsumer.partitionOf(StoreName.MYTH_SUPPLIES, "Aries", PARTITIONS);
+        verify(amqpTemplate).send(CRAWLER_PARTITION_EXCHANGE, String.valueOf(partition), message);
+    }
+
+    @Test
+    void route_shouldDiscardMessage_whenStoreIsUnknown() {
+        Map<String, Object> malformed = payload("Aries");
+        malformed.put("store", "UNKNOWN");
+
+        consumer.route(message(malformed));
+
+        verifyNoInteractions(amqpTemplate);
+        assertThat(meterRegistry.counter(StoreListingMessageConverter.MALFORMED_METRIC, "reason", "unreadable")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void route_shouldDiscardMessage_whenBodyIsNotJson() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+
+        consumer.route(new Message("not json".getBytes(StandardCharsets.UTF_8), properties));
+
+        verifyNoInteractions(amqpTemplate);
+    }
+
+    @Test
+    void route_shouldRequeueMessage_whenPartitionIsUnreachable() {
+        doThrow(new AmqpConnectException(new IllegalStateException("connection refused"))).when(amqpTemplate)
+                .send(anyString(), anyString(), any(Message.class));
+
+        assertThatThrownBy(() -> consumer.route(message(payload("Aries"))))
+                .isInstanceOf(ImmediateRequeueAmqpException.class).hasMessageStartingWith("Unable to route");
+    }
+
+    @Test
+    void handleEvent_shouldProcessListingAndRecordThroughput() {
+        StoreListing listing = messageConverter.fromMessage(message(payload("Aries")));
+
+        consumer.handleEvent(listing);
+
+        verify(figurineStoreService).processStorePricing(listing);
+        assertThat(meterRegistry.counter(MessageConsumer.LISTINGS_METRIC, "mode", "partitioned").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.timer(MessageConsumer.PROCESSING_METRIC, "mode", "partitioned").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void partitionOf_shouldSpreadStoreProductsOverAllPartitions() {
+        Set<Integer> partitions = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            int partition = PartitionedMessageConsumer.partitionOf(StoreName.values()[i % StoreName.values().length],
+                    "Product " + i, PARTITIONS);
+            assertThat(partition).isBetween(0, PARTITIONS - 1);
+            partitions.add(partition);
+        }
+        assertThat(partitions).hasSize(PARTITIONS);
+    }
+
+    @Test
+    void partitionOf_shouldAcceptMissingProductName() {
+        assertThat(PartitionedMessageConsumer.partitionOf(StoreName.JUNGLE, null, PARTITIONS)).isBetween(0,
+                PARTITIONS - 1);
+    }
+
+    private static Message message(Map<String, Object> payload) {
+        return new Message(MAPPER.writeValueAsBytes(payload), new MessageProperties());
+    }
+
+    private static Map<String, Object> payload(String productName) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("store", "MYTH_SUPPLIES");
+        payload.put("lineUp", "MYTH_CLOTH");
+        payload.put("originalProductName", "Original " + productName);
+        payload.put("productName", productName);
+        payload.put("productImageUrl", "https://example.com/" + productName + ".jpg");
+        payload.put("productUrl", "https://example.com/" + productName);
+        payload.put("price", "999.99");
+        payload.put("discount", 10);
+        payload.put("discountedPrice", 899.99);
+        payload.put("currency", "USD");
+        payload.put("status", "IN_STOCK");
+        payload.put("preorder", false);
+        payload.put("checkedAt", "2025-03-11T12:30:45Z");
+        return payload;
+    }
+}
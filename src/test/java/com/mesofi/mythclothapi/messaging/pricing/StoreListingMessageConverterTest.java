@@ -0,0 +1,142 @@
+package com.mesofi.mythclothapi.messaging.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Currency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.mesofi.mythclothapi.catalogs.model.LineUpType;
+import com.mesofi.mythclothapi.messaging.pricing.model.ListingStatus;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreListing;
+import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StoreListingMessageConverterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StoreListingMessageConverter converter = new StoreListingMessageConverter(meterRegistry);
+
+    @Test
+    void fromMessage_shouldBindEveryField() {
+        StoreListing listing = converter.fromMessage(message("""
+                {"store": "MYTH_SUPPLIES", "lineUp": "MYTH_CLOTH", "originalProductName": "Original Aries",
+                 "productName": "Aries", "productImageUrl": "https://example.com/aries.jpg",
+                 "productUrl": "https://example.com/aries", "price": "999.99", "discount": 10,
+                 "discountedPrice": 899.99, "currency": "USD", "status": "IN_STOCK", "preorder": true,
+                 "checkedAt": "2025-03-11T12:30:45Z"}
+                """));
+
+        assertThat(listing).isEqualTo(new StoreListing(StoreName.MYTH_SUPPLIES, LineUpType.MYTH_CLOTH,
+                "Original Aries", "Aries", "https://example.com/aries.jpg", "https://example.com/aries",
+                new BigDecimal("999.99"), new BigDecimal("10"), new BigDecimal("899.99"), Currency.getInstance("USD"),
+                ListingStatus.IN_STOCK, true, Instant.parse("2025-03-11T12:30:45Z")));
+        assertThat(malformed("unreadable") + malformed("incomplete")).isZero();
+    }
+
+    @Test
+    void fromMessage_shouldParsePricesExactly_whenPricesAreJsonNumbers() {
+        StoreListing listing = converter.fromMessage(message(json("\"price\": 0.1, \"discountedPrice\": 19999.99")));
+
+        assertThat(listing.price()).isEqualTo(new BigDecimal("0.1"));
+        assertThat(listing.discountedPrice()).isEqualTo(new BigDecimal("19999.99"));
+        assertThat(listing.discount()).isNull();
+    }
+
+    @Test
+    void fromMessage_shouldIgnoreUnknownProperties() {
+        StoreListing listing = converter.fromMessage(message(json("\"price\": 10, \"crawlerVersion\": \"2.1\"")));
+
+        assertThat(listing.price()).isEqualTo(new BigDecimal("10"));
+    }
+
+    @Test
+    void fromMessage_shouldRejectAndCount_whenEnumIsUnknown() {
+        Message message = message(json("\"price\": 10").replace("IN_STOCK", "SOLD"));
+
+        assertThatThrownBy(() -> converter.fromMessage(message)).isInstanceOf(MessageConversionException.class)
+                .hasMessageStartingWith("Unreadable store listing");
+        assertThat(malformed("unreadable")).isEqualTo(1);
+    }
+
+    @Test
+    void fromMessage_shouldRejectAndCount_whenBodyIsNotJson() {
+        Message message = message("not json");
+
+        assertThatThrownBy(() -> converter.fromMessage(message)).isInstanceOf(MessageConversionException.class);
+        assertThat(malformed("unreadable")).isEqualTo(1);
+    }
+
+    @Test
+    void fromMessage_shouldRejectAndCount_whenPreorderIsNull() {
+        Message message = message(json("\"price\": 10").replace("\"preorder\": false", "\"preorder\": null"));
+
+        assertThatThrownBy(() -> converter.fromMessage(message)).isInstanceOf(MessageConversionException.class);
+        assertThat(malformed("unreadable")).isEqualTo(1);
+    }
+
+    @Test
+    void fromMessage_shouldRejectAndCount_whenRequiredFieldIsMissing() {
+        Message message = message(json("\"price\": 10").replace("\"lineUp\": \"MYTH_CLOTH\", ", ""));
+
+        assertThatThrownBy(() -> converter.fromMessage(message)).isInstanceOf(MessageConversionException.class)
+                .hasMessageStartingWith("Incomplete store listing");
+        assertThat(malformed("incomplete")).isEqualTo(1);
+    }
+
+    @Test
+    void fromMessage_shouldRejectAndCount_whenBodyIsNull() {
+        Message message = message("null");
+
+        assertThatThrownBy(() -> converter.fromMessage(message)).isInstanceOf(MessageConversionException.class)
+                .hasMessageStartingWith("Incomplete store listing");
+        assertThat(malformed("incomplete")).isEqualTo(1);
+    }
+
+    @Test
+    void toMessage_shouldProduceMessageReadBack() {
+        StoreListing listing = new StoreListing(StoreName.JUNGLE, LineUpType.APPENDIX, "Original Taurus", "Taurus",
+                null, "https://example.com/taurus", new BigDecimal("12000"), null, null, Currency.getInstance("JPY"),
+                ListingStatus.OUT_OF_STOCK, false, Instant.parse("2025-03-11T12:30:45Z"));
+
+        Message message = converter.toMessage(listing, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(message.getMessageProperties().getContentLength()).isEqualTo(message.getBody().length);
+        assertThat(converter.fromMessage(message)).isEqualTo(listing);
+    }
+
+    @Test
+    void toMessage_shouldReject_whenObjectIsNotAStoreListing() {
+        MessageProperties properties = new MessageProperties();
+
+        assertThatThrownBy(() -> converter.toMessage("Aries", properties))
+                .isInstanceOf(MessageConversionException.class);
+    }
+
+    private double malformed(String reason) {
+        return meterRegistry.counter(StoreListingMessageConverter.MALFORMED_METRIC, "reason", reason).count();
+    }
+
+    private static String json(String prices) {
+        return """
+                {"store": "MYTH_SUPPLIES", "lineUp": "MYTH_CLOTH", "originalProductName": "Original Aries",
+                 "productName": "Aries", "productUrl": "https://example.com/aries", %s, "currency": "USD",
+                 "status": "IN_STOCK", "preorder": false, "checkedAt": "2025-03-11T12:30:45Z"}
+                """.formatted(prices);
+    }
+
+    private static Message message(String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
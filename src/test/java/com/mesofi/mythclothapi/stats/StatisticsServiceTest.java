@@ -6,12 +6,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -151,7 +155,7 @@ class StatisticsServiceTest {
         shaka.setAnniversary(anniversary);
         shaka.setCurrentReleaseStatus(RELEASED);
 
-        when(repository.findAll(EMPTY_FILTER)).thenReturn(List.of(shun, ikki, shaka));
+        stubScan(List.of(shun, ikki, shaka));
         when(lineUpRepository.findAll()).thenReturn(List.of(bronze, gold));
         when(seriesRepository.findAll()).thenReturn(List.of(series));
         when(groupRepository.findAll()).thenReturn(List.of(group));
@@ -236,8 +240,8 @@ class StatisticsServiceTest {
         announced.setCurrentReleaseStatus(ANNOUNCED);
         announced.setDistributors(List.of(distributor(LocalDate.of(2025, 1, 1), 5000.0, CurrencyCode.JPY)));
 
-        when(repository.findAll(EMPTY_FILTER))
-                .thenReturn(List.of(primaryHigh, secondaryHigh, tiedHigh, cheap, missingPrice, announced));
+        stubScan(List.of(primaryHigh, secondaryHigh, tiedHigh, cheap, missingPrice, announced));
+        stubFindAllById(List.of(primaryHigh, secondaryHigh, tiedHigh, cheap, missingPrice, announced));
         when(currencyConversionService.convert(any(BigDecimal.class), eq("USD"), eq("JPY")))
                 .thenReturn(new BigDecimal("2400.00"));
 
@@ -251,6 +255,36 @@ class StatisticsServiceTest {
         assertThat(year2024.highestPriceFigurines().name()).isEqualTo("Tied High");
         assertThat(year2024.lowestPriceFigurines().name()).isEqualTo("Cheap");
         assertThat(year2024.releaseCount()).isEqualTo(4);
+        verify(repository).findAllById(Set.of(103L, 104L));
+    }
+
+    @Test
+    void retrieveYearlyReleasePrices_shouldBuildPriceReferencesOfFinalPicksOnly_whenOthersHaveNoImages() {
+        LineUp bronze = lineUp(1L, "Bronze");
+
+        Figurine briefHigh = figurine(201L, "Brief High", bronze, null);
+        briefHigh.setCurrentReleaseStatus(RELEASED);
+        briefHigh.setDistributors(List.of(distributor(LocalDate.of(2024, 2, 10), 2000.0, CurrencyCode.JPY)));
+
+        Figurine finalHigh = figurine(202L, "Final High", bronze, "https://img/final-high.jpg");
+        finalHigh.setCurrentReleaseStatus(RELEASED);
+        finalHigh.setDistributors(List.of(distributor(LocalDate.of(2024, 3, 10), 3000.0, CurrencyCode.JPY)));
+
+        Figurine finalLow = figurine(203L, "Final Low", bronze, null);
+        finalLow.setCurrentReleaseStatus(RELEASED);
+        finalLow.setDistributors(List.of(distributor(LocalDate.of(2024, 4, 10), 1000.0, CurrencyCode.JPY)));
+
+        stubScan(List.of(briefHigh, finalHigh, finalLow));
+        stubFindAllById(List.of(briefHigh, finalHigh, finalLow));
+
+        List<YearReleasePriceResp> result = service.retrieveYearlyReleasePrices(EMPTY_FILTER);
+
+        YearReleasePriceResp year2024 = result.getFirst();
+        assertThat(year2024.highestPriceFigurines().name()).isEqualTo("Final High");
+        assertThat(year2024.highestPriceFigurines().url()).isEqualTo("https://img/final-high.jpg");
+        assertThat(year2024.lowestPriceFigurines().name()).isEqualTo("Final Low");
+        assertThat(year2024.lowestPriceFigurines().url()).isEmpty();
+        verify(repository).findAllById(Set.of(202L, 203L));
     }
 
     private com.mesofi.mythclothapi.figurines.repository.projection.FigurineReleaseYearSummaryProjection projection(
@@ -311,6 +345,28 @@ class StatisticsServiceTest {
         return anniversary;
     }
 
+    /** Delivers the figurines in chunks of two, like a chunked repository scan. */
+    @SuppressWarnings("unchecked")
+    private void stubScan(List<Figurine> figurines) {
+        doAnswer(invocation -> {
+            Consumer<List<Figurine>> chunkConsumer = invocation.getArgument(1);
+            for (int from = 0; from < figurines.size(); from += 2) {
+                chunkConsumer.accept(figurines.subList(from, Math.min(from + 2, figurines.size())));
+            }
+            return (long) figurines.size();
+        }).when(repository).scan(eq(EMPTY_FILTER), any(Consumer.class));
+    }
+
+    /** Returns the figurines whose identifiers are requested. */
+    private void stubFindAllById(List<Figurine> figurines) {
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            Set<Long> requested = new HashSet<>();
+            ids.forEach(requested::add);
+            return figurines.stream().filter(figurine -> requested.contains(figurine.getId())).toList();
+        });
+    }
+
     private FigurineDistributor distributor(LocalDate releaseDate) {
         FigurineDistributor distributor = new FigurineDistributor();
         distributor.setReleaseDate(releaseDate);
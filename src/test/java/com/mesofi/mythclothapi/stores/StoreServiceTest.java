@@ -11,13 +11,16 @@ import java.net.URI;
 import java.util.Currency;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.mesofi.mythclothapi.catalogs.CatalogChangedEvent;
 import com.mesofi.mythclothapi.messaging.pricing.model.StoreName;
 import com.mesofi.mythclothapi.stores.dto.StoreReq;
 import com.mesofi.mythclothapi.stores.dto.StoreResp;
@@ -33,6 +36,8 @@ class StoreServiceTest {
     private StoreRepository repository;
     @Mock
     private StoreMapper mapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     void createStore_shouldMapSaveAndReturnResponse() {
@@ -51,6 +56,7 @@ class StoreServiceTest {
         verify(mapper).toStore(request);
         verify(repository).save(mapped);
         verify(mapper).toStoreResp(saved);
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent("stores", Set.of(StoreService.STORE_CACHE)));
     }
 
     @Test
@@ -159,6 +165,7 @@ class StoreServiceTest {
                 .hasMessageContaining("Store with id 9 was not found");
 
         verify(repository).findById(9L);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     private StoreReq createRequest(String name, StoreName storeName, String country, boolean active) {